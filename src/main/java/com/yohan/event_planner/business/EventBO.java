@@ -1,26 +1,56 @@
 package com.yohan.event_planner.business;
 
+import com.yohan.event_planner.business.change.EventChange;
+import com.yohan.event_planner.business.change.EventChangeSet;
+import com.yohan.event_planner.business.change.EventChangeToken;
+import com.yohan.event_planner.business.change.EventChangeType;
+import com.yohan.event_planner.business.change.EventSnapshot;
 import com.yohan.event_planner.business.handler.EventPatchHandler;
+import com.yohan.event_planner.business.availability.IntervalMerger;
+import com.yohan.event_planner.business.availability.TimeSlot;
+import com.yohan.event_planner.business.index.IntervalTree;
+import com.yohan.event_planner.business.pagination.EventCursor;
+import com.yohan.event_planner.business.pagination.EventPage;
+import com.yohan.event_planner.business.recurrence.EventSchedule;
 import com.yohan.event_planner.dto.EventCreateDTO;
 import com.yohan.event_planner.dto.EventUpdateDTO;
+import com.yohan.event_planner.exception.ConflictException;
+import com.yohan.event_planner.exception.ErrorCode;
 import com.yohan.event_planner.exception.EventNotFoundException;
+import com.yohan.event_planner.exception.HasErrorCode;
+import com.yohan.event_planner.exception.InvalidRecurrenceException;
+import com.yohan.event_planner.exception.InvalidTimeException;
+import com.yohan.event_planner.exception.SyncTokenExpiredException;
 import com.yohan.event_planner.mapper.EventMapper;
 import com.yohan.event_planner.domain.Day;
 import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.EventChangeLogEntry;
+import com.yohan.event_planner.domain.RecurrenceRule;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.repository.EventChangeLogRepository;
 import com.yohan.event_planner.repository.EventRepository;
+import com.yohan.event_planner.repository.projection.EventDayLinkView;
+import com.yohan.event_planner.repository.projection.EventIntervalView;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import com.yohan.event_planner.repository.projection.EventTimeView;
+import com.yohan.event_planner.repository.projection.RecurringSeriesView;
 import com.yohan.event_planner.service.DayService;
 import com.yohan.event_planner.service.EventScheduleService;
 import com.yohan.event_planner.validation.EventValidator;
 import com.yohan.event_planner.validation.utils.ValidationUtils;
 
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Business Object (Service) responsible for handling
@@ -31,29 +61,53 @@ public class EventBO {
 
     private static final Logger logger = LoggerFactory.getLogger(EventBO.class);
 
+    /**
+     * Bounds used for an open-ended listing; well outside any stored event but valid in every database.
+     */
+    private static final ZonedDateTime EARLIEST = ZonedDateTime.of(1, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final ZonedDateTime LATEST = ZonedDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final Comparator<BatchCandidate> BATCH_ORDER = Comparator
+            .comparing(BatchCandidate::startTimeUtc)
+            .thenComparing(BatchCandidate::endTimeUtc)
+            .thenComparingInt(BatchCandidate::index);
+
     private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final UserBO userBO;
     private final DayService dayService;
     private final EventScheduleService eventScheduleService;
     private final EventValidator eventValidator;
     private final EventMapper eventMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventChangeLogRepository changeLogRepository;
 
     /**
      * Constructs an EventBO with required dependencies.
      *
      * @param eventRepository       repository for Event persistence
+     * @param entityManager         entity manager used to release streamed events
+     * @param userBO                business object used to lock a creator's schedule during writes
      * @param dayService            service for Day entity management
      * @param eventScheduleService  service for event-day scheduling logic
      * @param eventValidator        validator for event business rules
      * @param eventMapper           mapper for converting DTOs to entities
+     * @param eventPublisher        publisher for {@link EventChange} notifications
+     * @param changeLogRepository   repository for the change log read by incremental sync
      */
-    public EventBO(EventRepository eventRepository, DayService dayService,
-                   EventScheduleService eventScheduleService, EventValidator eventValidator,
-                   EventMapper eventMapper) {
+    public EventBO(EventRepository eventRepository, EntityManager entityManager, UserBO userBO,
+                   DayService dayService, EventScheduleService eventScheduleService,
+                   EventValidator eventValidator, EventMapper eventMapper,
+                   ApplicationEventPublisher eventPublisher, EventChangeLogRepository changeLogRepository) {
         this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.userBO = userBO;
         this.dayService = dayService;
         this.eventScheduleService = eventScheduleService;
         this.eventValidator = eventValidator;
         this.eventMapper = eventMapper;
+        this.eventPublisher = eventPublisher;
+        this.changeLogRepository = changeLogRepository;
     }
 
     @Transactional(readOnly = true)
@@ -63,22 +117,203 @@ public class EventBO {
         return eventRepository.findById(eventId);
     }
 
+    /**
+     * Retrieves the summary of an event, reading only the columns of its row.
+     *
+     * @param eventId the ID of the event; must be non-null and positive
+     * @return the event summary, or empty if no such event exists
+     */
+    @Transactional(readOnly = true)
+    public Optional<EventSummaryView> getSummaryById(Long eventId) {
+        ValidationUtils.requireValidId(eventId, "Event ID");
+        logger.debug("Fetching summary of event with ID {}", eventId);
+        return eventRepository.findSummaryById(eventId);
+    }
+
+    /**
+     * Retrieves the summaries of the given events in one query.
+     *
+     * @param eventIds the IDs of the events
+     * @return the summaries of the events that exist, in no particular order
+     */
     @Transactional(readOnly = true)
-    public List<Event> getByDayId(Long dayId) {
+    public List<EventSummaryView> getSummariesByIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        logger.debug("Fetching summaries of {} events", eventIds.size());
+        return eventRepository.findSummariesByIds(eventIds);
+    }
+
+    /**
+     * Retrieves the summaries of all events created by the given user, reading only the columns
+     * of their rows. Recurring events are not expanded.
+     *
+     * @param creatorId the ID of the user; must be non-null and positive
+     * @return the summaries of the user's events, in no particular order
+     */
+    @Transactional(readOnly = true)
+    public List<EventSummaryView> getSummariesByCreatorId(Long creatorId) {
+        ValidationUtils.requireValidId(creatorId, "Creator ID");
+        logger.debug("Fetching summaries of all events of user ID {}", creatorId);
+        return eventRepository.findSummariesByCreatorId(creatorId);
+    }
+
+    /**
+     * Retrieves the summaries of the events on the given day. With span-based day membership,
+     * the day's date and owner select the events by time range instead of by join rows.
+     *
+     * @param dayId the ID of the day
+     * @return the event summaries on the day; empty if the day does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<EventSummaryView> getByDayId(Long dayId) {
         ValidationUtils.requireValidId(dayId, "Day ID");
         logger.debug("Fetching events for day ID {}", dayId);
-        return eventRepository.findByDays_Id(dayId);
+        if (!eventScheduleService.isSpanMembership()) {
+            return eventRepository.findSummariesByDayId(dayId);
+        }
+        return dayService.getDayById(dayId)
+                .map(day -> getByCreatorAndDate(day.getCreator().getId(), day.getDate()))
+                .orElseGet(List::of);
+    }
+
+    /**
+     * Retrieves the summaries of a user's events on the given UTC date. With span-based day
+     * membership the events are selected by time range, so no Day row is needed; otherwise they
+     * are those linked to the user's day for the date.
+     *
+     * @param creatorId the ID of the user; must be non-null and positive
+     * @param date      the UTC date
+     * @return the event summaries on the date
+     */
+    @Transactional(readOnly = true)
+    public List<EventSummaryView> getByCreatorAndDate(Long creatorId, LocalDate date) {
+        ValidationUtils.requireValidId(creatorId, "Creator ID");
+        logger.debug("Fetching events of user ID {} on {}", creatorId, date);
+        if (!eventScheduleService.isSpanMembership()) {
+            return eventRepository.findSummariesByCreatorIdAndDayDate(creatorId, date);
+        }
+        // Day dates are UTC dates, as when days are linked to events
+        ZonedDateTime start = date.atStartOfDay(ZoneOffset.UTC);
+        ZonedDateTime end = start.plusDays(1);
+        return expandOccurrences(eventRepository.findSummariesByCreatorIdAndRange(creatorId, start, end), start, end);
+    }
+
+    /**
+     * Passes every event created by a user to {@code action}, in start-time order, without
+     * holding them all in memory: events are read from a database cursor and each one is
+     * detached from the persistence context once {@code action} has returned.
+     * <p>
+     * Recurring events are passed once, as their series. {@code action} must not keep
+     * lazy associations of the events it receives.
+     *
+     * @param creatorId the ID of the user; must be non-null and positive
+     * @param action    the callback receiving each event
+     * @return the number of events passed to {@code action}
+     */
+    @Transactional(readOnly = true)
+    public long forEachByCreatorId(Long creatorId, Consumer<Event> action) {
+        ValidationUtils.requireValidId(creatorId, "Creator ID");
+        logger.debug("Streaming events created by user ID {}", creatorId);
+        long count = 0;
+        try (Stream<Event> events = eventRepository.streamByCreatorId(creatorId)) {
+            Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                Event event = iterator.next();
+                action.accept(event);
+                entityManager.detach(event);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the IDs of the days linked to the given events, in one query for the whole list.
+     * Expanded occurrences have no day links of their own and are skipped, as are all events when
+     * day membership is derived from event spans, in which case no query is made.
+     *
+     * @param events the event summaries
+     * @return the linked day IDs by event ID, ordered by date; events without links are absent
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<Long>> getDayIds(Collection<EventSummaryView> events) {
+        if (eventScheduleService.isSpanMembership()) {
+            return Map.of();
+        }
+        Set<Long> eventIds = new HashSet<>();
+        for (EventSummaryView event : events) {
+            if (!event.occurrence()) {
+                eventIds.add(event.id());
+            }
+        }
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<Long>> dayIds = new HashMap<>();
+        for (EventDayLinkView link : eventRepository.findDayLinks(eventIds)) {
+            dayIds.computeIfAbsent(link.eventId(), id -> new ArrayList<>()).add(link.dayId());
+        }
+        return dayIds;
     }
 
+    /**
+     * Retrieves one page of the summaries of the events created by a user, ordered by start time and ID.
+     * <p>
+     * Pages are addressed by keyset rather than offset: the query seeks directly to the position
+     * after {@code after}, so every page costs the same however deep into the history it is.
+     * Recurring events appear once, at the start of their series.
+     *
+     * @param creatorId the ID of the user; must be non-null and positive
+     * @param from      inclusive lower bound on start time, or null for no bound
+     * @param to        exclusive upper bound on start time, or null for no bound
+     * @param after     the position after which the page starts, or null for the first page
+     * @param limit     the maximum number of events in the page; must be positive
+     * @return the page, with a cursor to the next page if more events follow
+     */
     @Transactional(readOnly = true)
-    public List<Event> getByCreatorId(Long creatorId) {
+    public EventPage getPageByCreatorId(Long creatorId, ZonedDateTime from, ZonedDateTime to,
+                                        EventCursor after, int limit) {
         ValidationUtils.requireValidId(creatorId, "Creator ID");
-        logger.debug("Fetching events created by user ID {}", creatorId);
-        return eventRepository.findByCreatorId(creatorId);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+
+        ZonedDateTime afterStart;
+        long afterId;
+        if (after != null) {
+            afterStart = after.startTime();
+            afterId = after.id();
+        } else {
+            // Event IDs are positive, so (from, 0) includes events starting exactly at 'from'
+            afterStart = from != null ? from.withZoneSameInstant(ZoneOffset.UTC) : EARLIEST;
+            afterId = 0L;
+        }
+        ZonedDateTime before = to != null ? to.withZoneSameInstant(ZoneOffset.UTC) : LATEST;
+
+        logger.debug("Fetching page of up to {} events for user ID {} after ({}, {}) before {}",
+                limit, creatorId, afterStart, afterId, before);
+        List<EventSummaryView> events = eventRepository.findSummaryPageByCreatorId(creatorId, afterStart, afterId,
+                before, Limit.of(limit + 1));
+        if (events.size() <= limit) {
+            return new EventPage(events, null);
+        }
+        List<EventSummaryView> page = events.subList(0, limit);
+        return new EventPage(page, EventCursor.after(page.get(limit - 1)));
     }
 
+    /**
+     * Retrieves the summaries of the events taking place on the given date in the user's timezone.
+     * Recurring events are expanded to their occurrences on that date
+     * (see {@link EventSummaryView#toOccurrence}).
+     *
+     * @param date     the local date
+     * @param userZone the user's timezone, defining when the date starts and ends
+     * @return the events and occurrences overlapping the date, ordered by start time
+     */
     @Transactional(readOnly = true)
-    public List<Event> getEventsByDate(LocalDate date, ZoneId userZone) {
+    public List<EventSummaryView> getEventsByDate(LocalDate date, ZoneId userZone) {
         ZonedDateTime startOfDay = date.atStartOfDay(userZone);
         ZonedDateTime endOfDay = startOfDay.plusDays(1).minusNanos(1);
         ZonedDateTime startOfDayUtc = startOfDay.withZoneSameInstant(ZoneOffset.UTC);
@@ -87,7 +322,187 @@ public class EventBO {
         logger.debug("Fetching events for date {} in zone {}, UTC range {} to {}",
                 date, userZone, startOfDayUtc, endOfDayUtc);
 
-        return eventRepository.findByDateRange(startOfDayUtc, endOfDayUtc);
+        List<EventSummaryView> events = eventRepository.findSummariesByDateRange(startOfDayUtc, endOfDayUtc);
+        return expandOccurrences(events, startOfDayUtc, startOfDay.plusDays(1).withZoneSameInstant(ZoneOffset.UTC));
+    }
+
+    /**
+     * Retrieves the summaries of a user's events overlapping the half-open range {@code [from, to)} in a single
+     * creator-scoped query. Recurring events are expanded to their occurrences within the range,
+     * as in {@link #getEventsByDate}.
+     *
+     * @param creatorId the ID of the user; must be non-null and positive
+     * @param from      the inclusive start of the range
+     * @param to        the exclusive end of the range
+     * @return the events and occurrences overlapping the range, ordered by start time
+     */
+    @Transactional(readOnly = true)
+    public List<EventSummaryView> getEventsInRange(Long creatorId, ZonedDateTime from, ZonedDateTime to) {
+        ValidationUtils.requireValidId(creatorId, "Creator ID");
+        ZonedDateTime fromUtc = from.withZoneSameInstant(ZoneOffset.UTC);
+        ZonedDateTime toUtc = to.withZoneSameInstant(ZoneOffset.UTC);
+
+        logger.debug("Fetching events for user ID {} in UTC range {} to {}", creatorId, fromUtc, toUtc);
+
+        List<EventSummaryView> events = eventRepository.findSummariesByCreatorIdAndRange(creatorId, fromUtc, toUtc);
+        return expandOccurrences(events, fromUtc, toUtc);
+    }
+
+    /**
+     * Reads a user's change log after the given position and reduces it to the net change per event.
+     * <p>
+     * Created and updated events are returned in their current state, so an event changed several
+     * times in the run appears once. An event whose last entry in the run is a delete, or which was
+     * deleted by an entry after the run, is reported as deleted. The run is limited to {@code limit}
+     * log entries; the client resumes from {@link EventChangeSet#next()}.
+     * <p>
+     * The oldest retained entry is checked after the run is read, so a prune committed in between
+     * is noticed rather than silently skipping the pruned entries.
+     *
+     * @param creatorId the ID of the user; must be non-null and positive
+     * @param since     the position of the last change the client has applied
+     * @param limit     the maximum number of log entries to read; must be positive
+     * @return the net changes, with the position to resume from
+     * @throws SyncTokenExpiredException if entries after {@code since} have been pruned from the log
+     */
+    @Transactional(readOnly = true)
+    public EventChangeSet getChangesSince(Long creatorId, EventChangeToken since, int limit) {
+        ValidationUtils.requireValidId(creatorId, "Creator ID");
+        if (limit < 1) {
+            throw new IllegalArgumentException("Change limit must be positive");
+        }
+
+        logger.debug("Fetching up to {} changes for user ID {} after change {}", limit, creatorId, since.changeId());
+        List<EventChangeLogEntry> entries = changeLogRepository.findByCreatorIdAndIdGreaterThanOrderById(
+                creatorId, since.changeId(), Limit.of(limit + 1));
+        Long oldestId = changeLogRepository.findOldestId();
+        if (oldestId != null && since.changeId() < oldestId - 1) {
+            throw new SyncTokenExpiredException(since.changeId());
+        }
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+        if (entries.isEmpty()) {
+            return new EventChangeSet(List.of(), List.of(), since, false);
+        }
+
+        // Later entries of the same event replace earlier ones, moving it to the end
+        Map<Long, EventChangeType> lastChanges = new LinkedHashMap<>();
+        for (EventChangeLogEntry entry : entries) {
+            lastChanges.remove(entry.getEventId());
+            lastChanges.put(entry.getEventId(), entry.getType());
+        }
+        List<Long> liveIds = new ArrayList<>();
+        lastChanges.forEach((eventId, type) -> {
+            if (type != EventChangeType.DELETED) {
+                liveIds.add(eventId);
+            }
+        });
+        Map<Long, EventSummaryView> current = new HashMap<>();
+        if (!liveIds.isEmpty()) {
+            for (EventSummaryView view : eventRepository.findSummariesByIds(liveIds)) {
+                current.put(view.id(), view);
+            }
+        }
+
+        List<EventSummaryView> changed = new ArrayList<>(current.size());
+        List<Long> deleted = new ArrayList<>();
+        for (Long eventId : lastChanges.keySet()) {
+            EventSummaryView view = current.get(eventId);
+            if (view != null) {
+                changed.add(view);
+            } else {
+                deleted.add(eventId);
+            }
+        }
+        EventChangeToken next = new EventChangeToken(entries.get(entries.size() - 1).getId());
+        return new EventChangeSet(changed, deleted, next, hasMore);
+    }
+
+    /**
+     * Returns the position of a user's latest change, from which a client that has just read the
+     * full calendar can start syncing incrementally. The position must be read <em>before</em> the
+     * calendar, so that writes committed in between are replayed rather than missed.
+     * <p>
+     * A user without retained changes gets the position of the latest change of any user, so their
+     * token stays within the retained log instead of pointing before its pruned part.
+     *
+     * @param creatorId the ID of the user; must be non-null and positive
+     * @return the position after the user's latest change
+     */
+    @Transactional(readOnly = true)
+    public EventChangeToken getLatestChangeToken(Long creatorId) {
+        ValidationUtils.requireValidId(creatorId, "Creator ID");
+        Long latestId = changeLogRepository.findLatestIdByCreatorId(creatorId);
+        if (latestId == null) {
+            latestId = changeLogRepository.findLatestId();
+        }
+        return latestId != null ? new EventChangeToken(latestId) : EventChangeToken.START;
+    }
+
+    /**
+     * Computes the periods within {@code [from, to)} in which the user has at least one event,
+     * merging overlapping and adjacent events.
+     * <p>
+     * One-off events are streamed from the database in start order as bare time spans and merged
+     * in a single pass together with the expanded occurrences of recurring events, so no event
+     * entities are loaded.
+     *
+     * @param creatorId the ID of the user
+     * @param from      the inclusive start of the window
+     * @param to        the exclusive end of the window
+     * @return the disjoint busy periods, clipped to the window and ordered by start, in UTC
+     */
+    @Transactional(readOnly = true)
+    public List<TimeSlot> getBusyIntervals(Long creatorId, ZonedDateTime from, ZonedDateTime to) {
+        return getCombinedBusyIntervals(List.of(creatorId), List.of(), from, to);
+    }
+
+    /**
+     * Computes the periods within {@code [from, to)} in which at least one of the users is busy.
+     * <p>
+     * Each user contributes a start-ordered stream of one-off events and a sorted list of recurring
+     * occurrences; all of them, plus any extra sources such as off-hours, are combined in a single
+     * k-way merge, so memory stays proportional to the number of sources rather than events.
+     *
+     * @param creatorIds   the IDs of the users
+     * @param extraSources additional start-ordered busy sources
+     * @param from         the inclusive start of the window
+     * @param to           the exclusive end of the window
+     * @return the disjoint busy periods, clipped to the window and ordered by start, in UTC
+     */
+    @Transactional(readOnly = true)
+    public List<TimeSlot> getCombinedBusyIntervals(Collection<Long> creatorIds, List<Iterator<TimeSlot>> extraSources,
+                                                   ZonedDateTime from, ZonedDateTime to) {
+        List<Stream<EventTimeView>> streams = new ArrayList<>(creatorIds.size());
+        try {
+            List<Iterator<TimeSlot>> sources = new ArrayList<>(extraSources);
+            for (Long creatorId : creatorIds) {
+                ValidationUtils.requireValidId(creatorId, "Creator ID");
+                sources.add(recurringOccurrences(creatorId, from, to).iterator());
+
+                Stream<EventTimeView> times = eventRepository.streamTimesInRange(creatorId, from, to);
+                streams.add(times);
+                sources.add(times.map(view -> new TimeSlot(view.startTime(), view.endTime())).iterator());
+            }
+            return IntervalMerger.mergeSorted(sources, from, to);
+        } finally {
+            streams.forEach(Stream::close);
+        }
+    }
+
+    private List<TimeSlot> recurringOccurrences(Long creatorId, ZonedDateTime from, ZonedDateTime to) {
+        List<TimeSlot> occurrences = new ArrayList<>();
+        for (RecurringSeriesView series : eventRepository.findRecurringSeriesInRange(creatorId, from, to)) {
+            EventSchedule schedule = EventSchedule.of(series.startTime().withZoneSameInstant(series.timezone()),
+                    series.endTime(), series.recurrence());
+            for (EventSchedule.Occurrence occurrence : schedule.occurrencesBetween(from, to)) {
+                occurrences.add(new TimeSlot(occurrence.start(), occurrence.end()));
+            }
+        }
+        occurrences.sort(Comparator.comparing(TimeSlot::start));
+        return occurrences;
     }
 
     @Transactional
@@ -107,12 +522,19 @@ public class EventBO {
                 });
 
         logger.info("Deleting event with ID {}", eventId);
+        userBO.lockSchedule(event.getCreator().getId());
+        EventSnapshot before = EventSnapshot.of(event);
         eventRepository.delete(event);
+        recordChange(EventChange.deleted(before));
     }
 
     /**
      * Creates a new event based on the provided DTO and associates it with the creator.
      * Validates event timing and conflicts before persisting.
+     * <p>
+     * The creator's schedule is locked through {@link UserBO#lockSchedule} before the conflict check,
+     * so two concurrent creates for the same user cannot both pass it, while creates for different
+     * users proceed in parallel.
      *
      * @param dto     the event creation data transfer object; must be non-null and valid
      * @param creator the user creating the event; must be non-null
@@ -130,16 +552,27 @@ public class EventBO {
 
         eventValidator.validateStartBeforeEnd(startTimeUtc, endTimeUtc);
 
-        Set<Day> days = eventScheduleService.prepareEventDays(
-                startTimeUtc.toLocalDate(),
-                endTimeUtc.toLocalDate(),
-                creator
-        );
+        // Serializes conflict check and insert against other writes to the same calendar
+        userBO.lockSchedule(creator.getId());
 
-        for (Day day : days) {
-            eventValidator.validateNoConflicts(startTimeUtc, endTimeUtc, null, day);
+        RecurrenceRule recurrence = EventMapper.toRecurrenceRule(dto.recurrence());
+        if (recurrence == null) {
+            eventValidator.validateNoOverlappingEvents(creator.getId(), startTimeUtc, endTimeUtc, null);
+        } else {
+            eventValidator.validateRecurrence(recurrence, dto.startTime(), dto.endTime());
+            eventValidator.validateNoOverlappingOccurrences(creator.getId(),
+                    EventSchedule.of(dto.startTime(), dto.endTime(), recurrence), null);
         }
 
+        // Only the first occurrence is linked to days; later occurrences are expanded on read
+        Set<Day> days = eventScheduleService.isSpanMembership()
+                ? Set.of()
+                : eventScheduleService.prepareEventDays(
+                        startTimeUtc.toLocalDate(),
+                        endTimeUtc.toLocalDate(),
+                        creator
+                );
+
         Event event = eventMapper.toEntity(dto, dto.startTime().getZone(), creator);
 
         // Explicitly set timezone from startTime's zone
@@ -148,12 +581,109 @@ public class EventBO {
         for (Day day : days) {
             event.addDay(day);
         }
+        refreshSeriesEnd(event);
 
         Event saved = eventRepository.save(event);
         logger.info("Event '{}' created with ID {}", dto.name(), saved.getId());
+        recordChange(EventChange.created(EventSnapshot.of(saved)));
         return saved;
     }
 
+    /**
+     * Creates several events for the same creator in a single transaction.
+     * <p>
+     * Items are validated individually and rejected items do not prevent the others from
+     * being created. The accepted items are determined as follows:
+     * <ol>
+     *   <li>items whose start is not before their end are rejected;</li>
+     *   <li>the remaining items are sorted once by start time;</li>
+     *   <li>the creator's stored events in the batch's overall time range are loaded with one
+     *       range query into an {@link IntervalTree}, and items overlapping them are rejected;</li>
+     *   <li>a sweep line over the sorted items rejects any item overlapping an earlier accepted one.</li>
+     * </ol>
+     * Recurring items are checked after the one-off items: each one individually against stored events
+     * (see {@link EventValidator#validateNoOverlappingOccurrences}), then against the accepted items.
+     * Days for all accepted items are then prepared in bulk and the events are saved together,
+     * allowing Hibernate to batch the inserts.
+     *
+     * @param dtos    the events to create; must be non-null
+     * @param creator the user creating the events; must be non-null
+     * @return one result per submitted item, in submission order
+     */
+    @Transactional
+    public List<BatchItemResult> createEvents(List<EventCreateDTO> dtos, User creator) {
+        logger.info("Creating batch of {} events for user ID {}", dtos.size(), creator.getId());
+
+        BatchItemResult[] results = new BatchItemResult[dtos.size()];
+        List<BatchCandidate> candidates = new ArrayList<>(dtos.size());
+
+        for (int i = 0; i < dtos.size(); i++) {
+            EventCreateDTO dto = dtos.get(i);
+            ZonedDateTime startTimeUtc = dto.startTime().withZoneSameInstant(ZoneOffset.UTC);
+            ZonedDateTime endTimeUtc = dto.endTime().withZoneSameInstant(ZoneOffset.UTC);
+            try {
+                eventValidator.validateStartBeforeEnd(startTimeUtc, endTimeUtc);
+                RecurrenceRule recurrence = EventMapper.toRecurrenceRule(dto.recurrence());
+                if (recurrence != null) {
+                    eventValidator.validateRecurrence(recurrence, dto.startTime(), dto.endTime());
+                }
+                candidates.add(new BatchCandidate(i, dto, startTimeUtc, endTimeUtc,
+                        EventSchedule.of(dto.startTime(), dto.endTime(), recurrence)));
+            } catch (InvalidTimeException e) {
+                results[i] = BatchItemResult.rejected(i, e);
+            } catch (InvalidRecurrenceException e) {
+                results[i] = BatchItemResult.rejected(i, e);
+            }
+        }
+
+        candidates.sort(BATCH_ORDER);
+        if (!candidates.isEmpty()) {
+            userBO.lockSchedule(creator.getId());
+        }
+        List<BatchCandidate> accepted = sweepBatch(candidates, creator, results);
+
+        boolean linkDays = !accepted.isEmpty() && !eventScheduleService.isSpanMembership();
+        Set<LocalDate> dates = new HashSet<>();
+        if (linkDays) {
+            for (BatchCandidate candidate : accepted) {
+                LocalDate end = candidate.endTimeUtc().toLocalDate();
+                for (LocalDate d = candidate.startTimeUtc().toLocalDate(); !d.isAfter(end); d = d.plusDays(1)) {
+                    dates.add(d);
+                }
+            }
+        }
+        Map<LocalDate, Day> daysByDate = dates.isEmpty()
+                ? Map.of()
+                : eventScheduleService.prepareDaysForDates(dates, creator);
+
+        List<Event> events = new ArrayList<>(accepted.size());
+        for (BatchCandidate candidate : accepted) {
+            EventCreateDTO dto = candidate.dto();
+            Event event = eventMapper.toEntity(dto, dto.startTime().getZone(), creator);
+            event.setTimezone(dto.startTime().getZone());
+            LocalDate end = candidate.endTimeUtc().toLocalDate();
+            if (linkDays) {
+                for (LocalDate d = candidate.startTimeUtc().toLocalDate(); !d.isAfter(end); d = d.plusDays(1)) {
+                    event.addDay(daysByDate.get(d));
+                }
+            }
+            refreshSeriesEnd(event);
+            events.add(event);
+        }
+
+        List<Event> saved = eventRepository.saveAll(events);
+        for (int i = 0; i < saved.size(); i++) {
+            Event event = saved.get(i);
+            int index = accepted.get(i).index();
+            results[index] = BatchItemResult.created(index, event);
+            recordChange(EventChange.created(EventSnapshot.of(event)));
+        }
+
+        logger.info("Batch for user ID {} finished: {} created, {} rejected",
+                creator.getId(), saved.size(), dtos.size() - saved.size());
+        return Arrays.asList(results);
+    }
+
     /**
      * Updates an existing event with new data provided in the DTO.
      * Applies partial updates and manages associations with days.
@@ -175,13 +705,16 @@ public class EventBO {
                 });
 
         logger.info("Updating event with ID {}", eventId);
+        userBO.lockSchedule(existingEvent.getCreator().getId());
+        EventSnapshot before = EventSnapshot.of(existingEvent);
 
         EventPatchHandler.PatchResult patchResult = EventPatchHandler.applyPatch(
                 existingEvent,
                 eventUpdateDTO,
                 eventValidator,
                 dayService,
-                existingEvent.getCreator()
+                existingEvent.getCreator(),
+                !eventScheduleService.isSpanMembership()
         );
 
         if (patchResult.isUpdated()) {
@@ -204,15 +737,215 @@ public class EventBO {
                     existingEvent.addDay(dayToAdd);
                 }
 
-                dayService.saveAllDays(newDays);
+                if (!newDays.isEmpty()) {
+                    dayService.saveAllDays(newDays);
+                }
             }
+            refreshSeriesEnd(existingEvent);
 
             Event saved = eventRepository.save(existingEvent);
             logger.info("Event with ID {} saved after update", eventId);
+            recordChange(EventChange.updated(before, EventSnapshot.of(saved)));
             return saved;
         } else {
             logger.info("No changes detected for event ID {}; skipping update", eventId);
             return existingEvent;
         }
     }
+
+    /**
+     * Walks the start-ordered one-off candidates once, rejecting those that overlap a stored event
+     * or an earlier accepted candidate, then checks the recurring candidates. Rejections are
+     * recorded in {@code results}.
+     *
+     * @return the accepted candidates, one-off candidates first, each group ordered by start time
+     */
+    private List<BatchCandidate> sweepBatch(List<BatchCandidate> candidates, User creator,
+                                            BatchItemResult[] results) {
+        List<BatchCandidate> singles = new ArrayList<>(candidates.size());
+        List<BatchCandidate> recurring = new ArrayList<>();
+        for (BatchCandidate candidate : candidates) {
+            (candidate.schedule().isRecurring() ? recurring : singles).add(candidate);
+        }
+
+        List<BatchCandidate> accepted = new ArrayList<>(candidates.size());
+        if (!singles.isEmpty()) {
+            IntervalTree<EventIntervalView> stored = loadStoredIntervals(creator.getId(), singles);
+            List<Event> storedSeries = eventRepository.findRecurringInRange(creator.getId(),
+                    singles.get(0).startTimeUtc(), maxEnd(singles), null);
+            List<EventSchedule> storedSchedules = storedSeries.stream().map(EventSchedule::of).toList();
+
+            // Among accepted candidates, the one ending last; sorted order guarantees it started no later
+            BatchCandidate latestEnding = null;
+            for (BatchCandidate candidate : singles) {
+                ConflictException storedConflict = findStoredConflict(candidate, stored, storedSeries, storedSchedules);
+                if (storedConflict != null) {
+                    results[candidate.index()] = BatchItemResult.rejected(candidate.index(), storedConflict);
+                } else if (latestEnding != null && candidate.startTimeUtc().isBefore(latestEnding.endTimeUtc())) {
+                    results[candidate.index()] = BatchItemResult.rejected(candidate.index(),
+                            ConflictException.withBatchItem(latestEnding.index(), latestEnding.dto().name(),
+                                    latestEnding.startTimeUtc(), latestEnding.endTimeUtc()));
+                } else {
+                    accepted.add(candidate);
+                    if (latestEnding == null || candidate.endTimeUtc().isAfter(latestEnding.endTimeUtc())) {
+                        latestEnding = candidate;
+                    }
+                }
+            }
+        }
+
+        for (BatchCandidate candidate : recurring) {
+            try {
+                eventValidator.validateNoOverlappingOccurrences(creator.getId(), candidate.schedule(), null);
+            } catch (ConflictException e) {
+                results[candidate.index()] = BatchItemResult.rejected(candidate.index(), e);
+                continue;
+            }
+            ConflictException batchConflict = null;
+            for (BatchCandidate other : accepted) {
+                Optional<EventSchedule.Occurrence> overlap = candidate.schedule().firstOverlap(other.schedule());
+                if (overlap.isPresent()) {
+                    batchConflict = ConflictException.withBatchItem(other.index(), other.dto().name(),
+                            overlap.get().start(), overlap.get().end());
+                    break;
+                }
+            }
+            if (batchConflict != null) {
+                results[candidate.index()] = BatchItemResult.rejected(candidate.index(), batchConflict);
+            } else {
+                accepted.add(candidate);
+            }
+        }
+        return accepted;
+    }
+
+    private ConflictException findStoredConflict(BatchCandidate candidate, IntervalTree<EventIntervalView> stored,
+                                                 List<Event> storedSeries, List<EventSchedule> storedSchedules) {
+        Optional<EventIntervalView> single = stored.findFirstOverlap(
+                toEpochNanos(candidate.startTimeUtc()), toEpochNanos(candidate.endTimeUtc()), null);
+        if (single.isPresent()) {
+            EventIntervalView conflict = single.get();
+            return new ConflictException(conflict.id(), conflict.name(), conflict.startTime(), conflict.endTime());
+        }
+        for (int i = 0; i < storedSchedules.size(); i++) {
+            Optional<EventSchedule.Occurrence> occurrence = storedSchedules.get(i)
+                    .firstOccurrenceBetween(candidate.startTimeUtc(), candidate.endTimeUtc());
+            if (occurrence.isPresent()) {
+                Event series = storedSeries.get(i);
+                return new ConflictException(series.getId(), series.getName(),
+                        occurrence.get().start(), occurrence.get().end());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Loads the creator's stored events within the overall time range of the candidates
+     * with a single range query.
+     */
+    private IntervalTree<EventIntervalView> loadStoredIntervals(Long creatorId, List<BatchCandidate> candidates) {
+        ZonedDateTime rangeStart = candidates.get(0).startTimeUtc();
+        ZonedDateTime rangeEnd = maxEnd(candidates);
+
+        List<EventIntervalView> views = eventRepository.findOverlapping(
+                creatorId, rangeStart, rangeEnd, null, Limit.unlimited());
+        logger.debug("Loaded {} stored events between {} and {} for batch conflict checks",
+                views.size(), rangeStart, rangeEnd);
+
+        IntervalTree<EventIntervalView> tree = new IntervalTree<>();
+        for (EventIntervalView view : views) {
+            long start = toEpochNanos(view.startTime());
+            long end = toEpochNanos(view.endTime());
+            if (start < end) {
+                tree.insert(view.id(), start, end, view);
+            }
+        }
+        return tree;
+    }
+
+    private static ZonedDateTime maxEnd(List<BatchCandidate> candidates) {
+        ZonedDateTime end = candidates.get(0).endTimeUtc();
+        for (BatchCandidate candidate : candidates) {
+            if (candidate.endTimeUtc().isAfter(end)) {
+                end = candidate.endTimeUtc();
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Expands recurring events to their occurrences within {@code [from, to)}; one-off events are kept as is.
+     */
+    private List<EventSummaryView> expandOccurrences(List<EventSummaryView> events, ZonedDateTime from,
+                                                     ZonedDateTime to) {
+        List<EventSummaryView> result = new ArrayList<>(events.size());
+        for (EventSummaryView event : events) {
+            if (!event.isRecurring()) {
+                result.add(event);
+                continue;
+            }
+            ZoneId zone = event.timezone() != null ? event.timezone() : event.startTime().getZone();
+            EventSchedule schedule = EventSchedule.of(event.startTime().withZoneSameInstant(zone), event.endTime(),
+                    event.recurrence());
+            for (EventSchedule.Occurrence occurrence : schedule.occurrencesBetween(from, to)) {
+                result.add(event.toOccurrence(occurrence.start(), occurrence.end()));
+            }
+        }
+        result.sort(Comparator.comparing(EventSummaryView::startTime));
+        return result;
+    }
+
+    /**
+     * Keeps the stored end of a recurring series in step with its rule and first occurrence.
+     */
+    private static void refreshSeriesEnd(Event event) {
+        event.setSeriesEndTime(event.isRecurring()
+                ? EventSchedule.of(event).getSeriesEndUtc().orElse(null)
+                : null);
+    }
+
+    /**
+     * Appends the change to the change log within the current transaction, then publishes it.
+     * Every caller holds the creator's schedule lock, so a user's log entries are numbered in
+     * commit order and a client resuming after one entry never skips an earlier-committed one.
+     */
+    private void recordChange(EventChange change) {
+        changeLogRepository.save(new EventChangeLogEntry(change.eventId(), change.creatorId(), change.type(),
+                ZonedDateTime.now(ZoneOffset.UTC)));
+        eventPublisher.publishEvent(change);
+    }
+
+    private static long toEpochNanos(ZonedDateTime dateTime) {
+        return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(), 1_000_000_000L), dateTime.getNano());
+    }
+
+    /**
+     * A batch item that passed per-item validation, with its times normalized to UTC.
+     */
+    private record BatchCandidate(int index, EventCreateDTO dto, ZonedDateTime startTimeUtc,
+                                  ZonedDateTime endTimeUtc, EventSchedule schedule) {
+    }
+
+    /**
+     * Outcome of a single item of {@link #createEvents(List, User)}.
+     *
+     * @param index     the position of the item in the submitted batch
+     * @param event     the persisted event, or null if the item was rejected
+     * @param errorCode the reason for rejection, or null if the item was created
+     * @param message   a human-readable rejection message, or null if the item was created
+     */
+    public record BatchItemResult(int index, Event event, ErrorCode errorCode, String message) {
+
+        static BatchItemResult created(int index, Event event) {
+            return new BatchItemResult(index, event, null, null);
+        }
+
+        static <E extends RuntimeException & HasErrorCode> BatchItemResult rejected(int index, E reason) {
+            return new BatchItemResult(index, null, reason.getErrorCode(), reason.getMessage());
+        }
+
+        public boolean isCreated() {
+            return event != null;
+        }
+    }
 }
@@ -5,7 +5,11 @@ import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.exception.ErrorCode;
 import com.yohan.event_planner.exception.RoleException;
 import com.yohan.event_planner.repository.RoleRepository;
+import com.yohan.event_planner.security.TokenGenerations;
+import com.yohan.event_planner.security.UserDetailsCache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -19,18 +23,29 @@ import java.util.Optional;
 public class RoleBO {
 
     private final RoleRepository roleRepository;
+    private final TokenGenerations tokenGenerations;
+    private final UserDetailsCache userDetailsCache;
 
-    public RoleBO(RoleRepository roleRepository) {
+    public RoleBO(RoleRepository roleRepository, TokenGenerations tokenGenerations,
+                  UserDetailsCache userDetailsCache) {
         this.roleRepository = roleRepository;
+        this.tokenGenerations = tokenGenerations;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
      * Adds a user to the given role and synchronizes the bidirectional association.
+     * The role names in the user's issued tokens and cached principal become stale.
+     * <p>
+     * Must be called within the transaction that persists the managed role and user, so the
+     * incremented token generation is written with the change and the cached generation and
+     * principal are dropped again once it commits.
      *
      * @param role the role to add the user to; must not be null
      * @param user the user to add; must not be null
      * @throws IllegalArgumentException if either role or user is null
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void addUserToRole(Role role, User user) {
         if (role == null) {
             throw new IllegalArgumentException("Role cannot be null");
@@ -41,15 +56,22 @@ public class RoleBO {
 
         role.getUsers().add(user);
         user.getRoles().add(role);
+        invalidateIdentity(user);
     }
 
     /**
      * Removes a user from the given role and synchronizes the bidirectional association.
+     * The role names in the user's issued tokens and cached principal become stale.
+     * <p>
+     * Must be called within the transaction that persists the managed role and user, so the
+     * incremented token generation is written with the change and the cached generation and
+     * principal are dropped again once it commits.
      *
      * @param role the role to remove the user from; must not be null
      * @param user the user to remove; must not be null
      * @throws IllegalArgumentException if either role or user is null
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void removeUserFromRole(Role role, User user) {
         if (role == null) {
             throw new IllegalArgumentException("Role cannot be null");
@@ -60,6 +82,7 @@ public class RoleBO {
 
         role.getUsers().remove(user);
         user.getRoles().remove(role);
+        invalidateIdentity(user);
     }
 
     /**
@@ -120,4 +143,12 @@ public class RoleBO {
         }
         return roleRepository.save(role);
     }
+
+    private void invalidateIdentity(User user) {
+        user.incrementTokenGeneration();
+        if (user.getId() != null) {
+            tokenGenerations.invalidate(user.getId());
+            userDetailsCache.invalidate(user.getId());
+        }
+    }
 }
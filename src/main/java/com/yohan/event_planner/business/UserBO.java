@@ -1,5 +1,6 @@
 package com.yohan.event_planner.business;
 
+import com.yohan.event_planner.business.change.CalendarVersions;
 import com.yohan.event_planner.business.handler.UserPatchHandler;
 import com.yohan.event_planner.domain.PasswordVO;
 import com.yohan.event_planner.domain.User;
@@ -9,15 +10,21 @@ import com.yohan.event_planner.exception.UserNotFoundException;
 import com.yohan.event_planner.exception.UsernameException;
 import com.yohan.event_planner.exception.PasswordException;
 import com.yohan.event_planner.repository.UserRepository;
+import com.yohan.event_planner.security.TokenGenerations;
+import com.yohan.event_planner.security.UserDetailsCache;
 import com.yohan.event_planner.validation.utils.ValidationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -33,6 +40,9 @@ public class UserBO {
     private final UserRepository userRepository;
     private final UserPatchHandler userPatchHandler;
     private final PasswordEncoder passwordEncoder;
+    private final CalendarVersions calendarVersions;
+    private final TokenGenerations tokenGenerations;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * Constructs a UserBO with required dependencies.
@@ -40,12 +50,20 @@ public class UserBO {
      * @param userRepository   repository for User persistence
      * @param userPatchHandler handler responsible for applying partial updates to User entities
      * @param passwordEncoder  encoder used to hash user passwords
+     * @param calendarVersions versions bumped on profile changes, invalidating the user's ETags
+     * @param tokenGenerations current token generations, invalidated when the claims of issued tokens go stale
+     * @param userDetailsCache cached principals, invalidated whenever a user changes
      */
     @Autowired
-    public UserBO(UserRepository userRepository, UserPatchHandler userPatchHandler, PasswordEncoder passwordEncoder) {
+    public UserBO(UserRepository userRepository, UserPatchHandler userPatchHandler, PasswordEncoder passwordEncoder,
+                  CalendarVersions calendarVersions, TokenGenerations tokenGenerations,
+                  UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
         this.userPatchHandler = userPatchHandler;
         this.passwordEncoder = passwordEncoder;
+        this.calendarVersions = calendarVersions;
+        this.tokenGenerations = tokenGenerations;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
@@ -60,6 +78,37 @@ public class UserBO {
         return userRepository.findById(userId);
     }
 
+    /**
+     * Checks whether a user with the given identifier exists, without loading it.
+     *
+     * @param userId the ID of the user; must be non-null and positive
+     * @return true if the user exists
+     * @throws IllegalArgumentException if userId is null or invalid
+     */
+    public boolean existsById(Long userId) {
+        ValidationUtils.requireValidId(userId, "User ID");
+        return userRepository.existsById(userId);
+    }
+
+    /**
+     * Locks the given user's schedule for the rest of the caller's transaction.
+     * <p>
+     * Writes that check a user's events for conflicts take this lock first, so two such
+     * writes for the same user run one after the other while writes for different users
+     * never wait on each other.
+     *
+     * @param userId the ID of the user whose schedule to lock; must be non-null and positive
+     * @throws UserNotFoundException    if no user with the given ID exists
+     * @throws IllegalArgumentException if userId is null or invalid
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockSchedule(Long userId) {
+        ValidationUtils.requireValidId(userId, "User ID");
+        if (userRepository.lockById(userId).isEmpty()) {
+            throw new UserNotFoundException(userId);
+        }
+    }
+
     /**
      * Retrieves all users matching the given first and last name, case-insensitively.
      *
@@ -136,12 +185,26 @@ public class UserBO {
             return new UserNotFoundException(userId);
         });
 
+        String previousUsername = existingUser.getUsername();
+        ZoneId previousTimezone = existingUser.getTimezone();
         boolean isUpdated = userPatchHandler.applyPatch(existingUser, updatedUser);
 
         if (isUpdated) {
             existingUser.setUpdatedDate(ZonedDateTime.now(existingUser.getTimezone()));
+            // Issued tokens carry the username and timezone
+            boolean claimsChanged = !Objects.equals(previousUsername, existingUser.getUsername())
+                    || !Objects.equals(previousTimezone, existingUser.getTimezone());
+            if (claimsChanged) {
+                existingUser.incrementTokenGeneration();
+            }
             logger.info("User updated successfully with ID: {}", userId);
-            return userRepository.save(existingUser);
+            User saved = userRepository.save(existingUser);
+            calendarVersions.bump(userId);
+            userDetailsCache.invalidate(userId);
+            if (claimsChanged) {
+                tokenGenerations.invalidate(userId);
+            }
+            return saved;
         } else {
             logger.info("No updates applied to user with ID: {}", userId);
             return existingUser;
@@ -168,9 +231,13 @@ public class UserBO {
 
         user.setEnabled(enabled);
         user.setUpdatedDate(ZonedDateTime.now(user.getTimezone()));
+        user.incrementTokenGeneration();
         logger.info("User with ID: {} is now {}", userId, enabled ? "enabled" : "disabled");
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userDetailsCache.invalidate(userId);
+        tokenGenerations.invalidate(userId);
+        return saved;
     }
 
     /**
@@ -182,6 +249,9 @@ public class UserBO {
     public void deleteById(Long userId) {
         ValidationUtils.requireValidId(userId, "User ID");
         userRepository.deleteById(userId);
+        calendarVersions.bump(userId);
+        userDetailsCache.invalidate(userId);
+        tokenGenerations.invalidate(userId);
         logger.info("Deleted user with ID: {}", userId);
     }
 }
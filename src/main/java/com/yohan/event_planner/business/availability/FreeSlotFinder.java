@@ -0,0 +1,51 @@
+package com.yohan.event_planner.business.availability;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Finds the gaps between merged busy periods.
+ */
+public final class FreeSlotFinder {
+
+    private FreeSlotFinder() {
+    }
+
+    /**
+     * Returns the free periods within {@code [from, to)} of at least {@code minDuration},
+     * given the disjoint busy periods ordered by start, e.g. from {@link IntervalMerger#mergeSorted}.
+     *
+     * @param busy        the disjoint busy periods, ordered by start
+     * @param from        the inclusive start of the window
+     * @param to          the exclusive end of the window
+     * @param minDuration the minimum length of a returned slot
+     * @param maxResults  the maximum number of slots to return
+     * @return the earliest free slots, ordered by start, in UTC
+     */
+    public static List<TimeSlot> findFree(Iterator<TimeSlot> busy, ZonedDateTime from, ZonedDateTime to,
+                                          Duration minDuration, int maxResults) {
+        List<TimeSlot> free = new ArrayList<>();
+        ZonedDateTime cursor = from;
+        while (free.size() < maxResults && cursor.isBefore(to)) {
+            ZonedDateTime gapEnd = to;
+            ZonedDateTime nextCursor = to;
+            if (busy.hasNext()) {
+                TimeSlot next = busy.next();
+                gapEnd = next.start().isBefore(to) ? next.start() : to;
+                nextCursor = next.end();
+            }
+            if (gapEnd.isAfter(cursor) && Duration.between(cursor, gapEnd).compareTo(minDuration) >= 0) {
+                free.add(new TimeSlot(cursor.withZoneSameInstant(ZoneOffset.UTC),
+                        gapEnd.withZoneSameInstant(ZoneOffset.UTC)));
+            }
+            if (nextCursor.isAfter(cursor)) {
+                cursor = nextCursor;
+            }
+        }
+        return free;
+    }
+}
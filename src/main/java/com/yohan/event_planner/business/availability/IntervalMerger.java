@@ -0,0 +1,79 @@
+package com.yohan.event_planner.business.availability;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Merges start-ordered interval sources into disjoint busy periods.
+ * <p>
+ * Sources are consumed lazily in a single pass: only the head of each source is held in memory,
+ * so a source may be backed by a database cursor. Overlapping and adjacent intervals are coalesced.
+ */
+public final class IntervalMerger {
+
+    private IntervalMerger() {
+    }
+
+    /**
+     * Performs a k-way merge of the given sources, each ordered by start, and coalesces the result.
+     * Intervals are clipped to {@code [from, to)} and returned in UTC.
+     *
+     * @param sources the interval sources, each ordered by start time
+     * @param from    the inclusive start of the window
+     * @param to      the exclusive end of the window
+     * @return the disjoint, non-adjacent intervals covered by any source, ordered by start
+     */
+    public static List<TimeSlot> mergeSorted(List<? extends Iterator<TimeSlot>> sources,
+                                             ZonedDateTime from, ZonedDateTime to) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                Comparator.comparing((Head head) -> head.slot().start()));
+        for (Iterator<TimeSlot> source : sources) {
+            if (source.hasNext()) {
+                heads.add(new Head(source.next(), source));
+            }
+        }
+
+        List<TimeSlot> merged = new ArrayList<>();
+        ZonedDateTime currentStart = null;
+        ZonedDateTime currentEnd = null;
+        while (!heads.isEmpty()) {
+            Head head = heads.poll();
+            if (head.source().hasNext()) {
+                heads.add(new Head(head.source().next(), head.source()));
+            }
+
+            ZonedDateTime start = head.slot().start().isBefore(from) ? from : head.slot().start();
+            ZonedDateTime end = head.slot().end().isAfter(to) ? to : head.slot().end();
+            if (!start.isBefore(end)) {
+                continue;
+            }
+            if (currentEnd != null && !start.isAfter(currentEnd)) {
+                if (end.isAfter(currentEnd)) {
+                    currentEnd = end;
+                }
+            } else {
+                if (currentEnd != null) {
+                    merged.add(utc(currentStart, currentEnd));
+                }
+                currentStart = start;
+                currentEnd = end;
+            }
+        }
+        if (currentEnd != null) {
+            merged.add(utc(currentStart, currentEnd));
+        }
+        return merged;
+    }
+
+    private static TimeSlot utc(ZonedDateTime start, ZonedDateTime end) {
+        return new TimeSlot(start.withZoneSameInstant(ZoneOffset.UTC), end.withZoneSameInstant(ZoneOffset.UTC));
+    }
+
+    private record Head(TimeSlot slot, Iterator<TimeSlot> source) {
+    }
+}
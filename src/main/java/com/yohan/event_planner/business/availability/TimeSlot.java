@@ -0,0 +1,12 @@
+package com.yohan.event_planner.business.availability;
+
+import java.time.ZonedDateTime;
+
+/**
+ * A half-open time interval {@code [start, end)}, used for busy and free periods.
+ *
+ * @param start the inclusive start
+ * @param end   the exclusive end
+ */
+public record TimeSlot(ZonedDateTime start, ZonedDateTime end) {
+}
@@ -0,0 +1,86 @@
+package com.yohan.event_planner.business.availability;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Daily working hours in a timezone, optionally restricted to some weekdays.
+ *
+ * @param start    the local start of the working day
+ * @param end      the local end of the working day; must be after {@code start}
+ * @param zone     the timezone the hours are expressed in
+ * @param weekdays the working weekdays; empty means every day
+ */
+public record WorkingHours(LocalTime start, LocalTime end, ZoneId zone, Set<DayOfWeek> weekdays) {
+
+    public WorkingHours {
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("Working hours must start before they end");
+        }
+        weekdays = weekdays == null ? Set.of() : Set.copyOf(weekdays);
+    }
+
+    /**
+     * Returns the periods outside working hours that overlap {@code [from, to)}, ordered by start,
+     * computed lazily one day at a time so they can be merged like any other busy source.
+     *
+     * @param from the inclusive start of the window
+     * @param to   the exclusive end of the window
+     * @return an iterator over the off-hours periods
+     */
+    public Iterator<TimeSlot> offHoursBetween(ZonedDateTime from, ZonedDateTime to) {
+        LocalDate firstDate = from.withZoneSameInstant(zone).toLocalDate();
+        LocalDate lastDate = to.withZoneSameInstant(zone).toLocalDate();
+        return new Iterator<>() {
+            // End of the working period of the previous working day; off hours start there
+            private ZonedDateTime offStart = firstDate.atStartOfDay(zone);
+            private LocalDate date = firstDate;
+            private TimeSlot next = advance();
+
+            private TimeSlot advance() {
+                while (!date.isAfter(lastDate.plusDays(1))) {
+                    LocalDate current = date;
+                    date = date.plusDays(1);
+                    if (!weekdays.isEmpty() && !weekdays.contains(current.getDayOfWeek())) {
+                        continue;
+                    }
+                    ZonedDateTime workStart = current.atTime(start).atZone(zone);
+                    ZonedDateTime offEnd = workStart;
+                    ZonedDateTime previousOffStart = offStart;
+                    offStart = current.atTime(end).atZone(zone);
+                    if (previousOffStart.isBefore(offEnd)) {
+                        return new TimeSlot(previousOffStart, offEnd);
+                    }
+                }
+                if (offStart != null) {
+                    // Everything after the last working period
+                    TimeSlot tail = new TimeSlot(offStart, lastDate.plusDays(2).atStartOfDay(zone));
+                    offStart = null;
+                    return tail;
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public TimeSlot next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                TimeSlot current = next;
+                next = advance();
+                return current;
+            }
+        };
+    }
+}
@@ -0,0 +1,261 @@
+package com.yohan.event_planner.business.cache;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.change.EventChange;
+import com.yohan.event_planner.business.change.EventSnapshot;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import com.yohan.event_planner.service.DayService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Read-through cache in front of the single-event and per-day reads of {@link EventBO}.
+ * <p>
+ * Entries are bounded by {@code events.cache.max-size} per cache and expire after
+ * {@code events.cache.ttl}. The caches are keyed as follows:
+ * <ul>
+ *   <li>event summaries and linked day IDs by event ID;</li>
+ *   <li>the events of a day by (user, UTC date), with day IDs resolved to that key once, since a
+ *       day's owner and date never change;</li>
+ *   <li>the date view by (date, timezone), as it is not scoped to a user.</li>
+ * </ul>
+ * Every committed event write evicts the written event and exactly the day entries it affected,
+ * before and after the write: the UTC dates spanned by a one-off event, or every date from the
+ * series start onwards for a recurring one, whose later occurrences cannot be enumerated.
+ * The day IDs resolved to those day entries are dropped with them, as the write may have removed
+ * or recreated the days. Date-view entries are evicted when their window overlaps the same times.
+ */
+@Component
+public class EventReadCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventReadCache.class);
+
+    /**
+     * Key of the events of one user's day.
+     *
+     * @param creatorId the ID of the user owning the day
+     * @param date      the UTC date of the day
+     */
+    record DayKey(Long creatorId, LocalDate date) {
+    }
+
+    /**
+     * Key of the date view, the events of all users on a date in the given timezone.
+     *
+     * @param date the local date
+     * @param zone the timezone in which the date starts and ends
+     */
+    record DateKey(LocalDate date, ZoneId zone) {
+
+        ZonedDateTime startUtc() {
+            return date.atStartOfDay(zone).withZoneSameInstant(ZoneOffset.UTC);
+        }
+
+        ZonedDateTime endUtc() {
+            return date.plusDays(1).atStartOfDay(zone).withZoneSameInstant(ZoneOffset.UTC);
+        }
+    }
+
+    private final EventBO eventBO;
+    private final DayService dayService;
+
+    private final ExpiringCache<Long, EventSummaryView> summaries;
+    private final ExpiringCache<Long, List<Long>> dayIds;
+    private final ExpiringCache<Long, DayKey> dayKeys;
+    private final ExpiringCache<DayKey, List<EventSummaryView>> days;
+    private final ExpiringCache<DateKey, List<EventSummaryView>> dates;
+
+    /**
+     * Constructs the cache.
+     *
+     * @param eventBO    the business object answering cache misses
+     * @param dayService service used to resolve day IDs to their owner and date
+     * @param maxSize    the maximum number of entries of each cache
+     * @param ttl        how long an entry is served before it is reloaded
+     */
+    public EventReadCache(EventBO eventBO, DayService dayService,
+                          @Value("${events.cache.max-size:10000}") int maxSize,
+                          @Value("${events.cache.ttl:PT5M}") Duration ttl) {
+        this.eventBO = eventBO;
+        this.dayService = dayService;
+        this.summaries = new ExpiringCache<>(maxSize, ttl);
+        this.dayIds = new ExpiringCache<>(maxSize, ttl);
+        this.dayKeys = new ExpiringCache<>(maxSize, ttl);
+        this.days = new ExpiringCache<>(maxSize, ttl);
+        this.dates = new ExpiringCache<>(maxSize, ttl);
+    }
+
+    /**
+     * Cached {@link EventBO#getSummaryById}. Missing events are not cached.
+     *
+     * @param eventId the ID of the event
+     * @return the event summary, or empty if no such event exists
+     */
+    public Optional<EventSummaryView> getSummaryById(Long eventId) {
+        return Optional.ofNullable(summaries.get(eventId, id -> eventBO.getSummaryById(id).orElse(null)));
+    }
+
+    /**
+     * Cached {@link EventBO#getDayIds}; only the events not yet cached are queried, in one batch.
+     *
+     * @param events the event summaries
+     * @return the linked day IDs by event ID, ordered by date; events without links are absent
+     */
+    public Map<Long, List<Long>> getDayIds(Collection<EventSummaryView> events) {
+        Map<Long, EventSummaryView> stored = new LinkedHashMap<>();
+        for (EventSummaryView event : events) {
+            if (!event.occurrence()) {
+                stored.putIfAbsent(event.id(), event);
+            }
+        }
+        if (stored.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<Long>> cached = dayIds.getAll(stored.keySet(), missing -> {
+            List<EventSummaryView> toLoad = new ArrayList<>(missing.size());
+            for (Long id : missing) {
+                toLoad.add(stored.get(id));
+            }
+            Map<Long, List<Long>> links = eventBO.getDayIds(toLoad);
+            Map<Long, List<Long>> loaded = new HashMap<>();
+            // Events without links are remembered too, so they are not queried again
+            for (Long id : missing) {
+                loaded.put(id, List.copyOf(links.getOrDefault(id, List.of())));
+            }
+            return loaded;
+        });
+        cached.values().removeIf(List::isEmpty);
+        return cached;
+    }
+
+    /**
+     * Cached {@link EventBO#getByDayId}, shared by all requests for the same user's date.
+     *
+     * @param dayId the ID of the day
+     * @return the event summaries on the day; empty if the day does not exist
+     */
+    public List<EventSummaryView> getByDayId(Long dayId) {
+        DayKey key = getDayKey(dayId);
+        if (key == null) {
+            return List.of();
+        }
+        return days.get(key, k -> List.copyOf(eventBO.getByDayId(dayId)));
+    }
+
+    /**
+     * Cached {@link EventBO#getByCreatorAndDate}, sharing its entries with {@link #getByDayId}.
+     *
+     * @param creatorId the ID of the user owning the day
+     * @param date      the UTC date of the day
+     * @return the event summaries on the day
+     */
+    public List<EventSummaryView> getByCreatorAndDate(Long creatorId, LocalDate date) {
+        return days.get(new DayKey(creatorId, date),
+                key -> List.copyOf(eventBO.getByCreatorAndDate(key.creatorId(), key.date())));
+    }
+
+    /**
+     * Resolves the owner of a day, from the cache once the day has been looked up.
+     *
+     * @param dayId the ID of the day
+     * @return the ID of the user owning the day, or null if the day does not exist
+     */
+    public Long getDayOwnerId(Long dayId) {
+        DayKey key = getDayKey(dayId);
+        return key != null ? key.creatorId() : null;
+    }
+
+    /**
+     * Cached {@link EventBO#getEventsByDate}.
+     *
+     * @param date     the local date
+     * @param userZone the timezone defining when the date starts and ends
+     * @return the events and occurrences overlapping the date, ordered by start time
+     */
+    public List<EventSummaryView> getEventsByDate(LocalDate date, ZoneId userZone) {
+        return dates.get(new DateKey(date, userZone), key -> List.copyOf(eventBO.getEventsByDate(key.date(), key.zone())));
+    }
+
+    /**
+     * Evicts the entries affected by a committed event write. Runs before other listeners, so
+     * anything they announce is already visible through the cache.
+     *
+     * @param change the committed change
+     */
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onEventChange(EventChange change) {
+        logger.debug("Evicting cached reads for {} of event ID {}", change.type(), change.eventId());
+        summaries.invalidate(change.eventId());
+        dayIds.invalidate(change.eventId());
+        evictSpan(change.before());
+        evictSpan(change.after());
+    }
+
+    /**
+     * @return the counters of each cache, by cache name
+     */
+    public Map<String, ExpiringCache.CacheStats> stats() {
+        Map<String, ExpiringCache.CacheStats> stats = new LinkedHashMap<>();
+        stats.put("eventSummaries", summaries.stats());
+        stats.put("eventDayIds", dayIds.stats());
+        stats.put("dayKeys", dayKeys.stats());
+        stats.put("dayEvents", days.stats());
+        stats.put("dateEvents", dates.stats());
+        return stats;
+    }
+
+    private DayKey getDayKey(Long dayId) {
+        return dayKeys.get(dayId, id -> dayService.getDayById(id)
+                .map(day -> new DayKey(day.getCreator().getId(), day.getDate()))
+                .orElse(null));
+    }
+
+    private void evictSpan(EventSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        Long creatorId = snapshot.creatorId();
+        ZonedDateTime start = snapshot.startTime().withZoneSameInstant(ZoneOffset.UTC);
+        ZonedDateTime end = snapshot.endTime().withZoneSameInstant(ZoneOffset.UTC);
+
+        if (snapshot.recurring()) {
+            LocalDate first = start.toLocalDate();
+            Predicate<DayKey> affected = key -> key.creatorId().equals(creatorId) && !key.date().isBefore(first);
+            days.invalidateIf(affected);
+            dayKeys.invalidateIfValue(affected);
+            dates.invalidateIf(key -> key.endUtc().isAfter(start));
+            return;
+        }
+
+        Set<DayKey> affected = new HashSet<>();
+        for (LocalDate d = start.toLocalDate(); !d.isAfter(end.toLocalDate()); d = d.plusDays(1)) {
+            DayKey key = new DayKey(creatorId, d);
+            days.invalidate(key);
+            affected.add(key);
+        }
+        dayKeys.invalidateIfValue(affected::contains);
+        dates.invalidateIf(key -> key.startUtc().isBefore(end) && key.endUtc().isAfter(start));
+    }
+}
@@ -0,0 +1,340 @@
+package com.yohan.event_planner.business.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe read-through cache bounded by entry count and time to live.
+ * <p>
+ * Reads take no lock: entries live in a {@link ConcurrentHashMap}, and a hit only records the
+ * time of its access on the entry. Inserting beyond {@code maxSize} evicts approximately the least
+ * recently used entries, a sixteenth of the cache at a time so the scan that finds them is paid
+ * once per many inserts; entries older than the TTL are dropped when next read. Values are loaded
+ * outside the lock, so a slow load does not block other readers.
+ * <p>
+ * A load that overlaps an invalidation of its key is returned to its caller but not stored: the
+ * value may have been read before the write that triggered the invalidation, and storing it would
+ * undo it. Loads of other keys are unaffected. Storing, invalidating and the bookkeeping of loads
+ * in flight share one lock, so an invalidation is never lost between a load's check and its store.
+ * Null values are never stored.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class ExpiringCache<K, V> {
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(V value, long expiresAt, long lastAccess) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+
+        private boolean isLive(long now) {
+            return expiresAt - now > 0;
+        }
+    }
+
+    /**
+     * Loads in flight for one key; {@code stamp} advances whenever the key is invalidated, so a load
+     * can tell whether it overlapped an invalidation.
+     */
+    private static final class Pending {
+        private long stamp;
+        private int loaders;
+    }
+
+    private final int maxSize;
+    private final int evictionBatch;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, Pending> pending = new HashMap<>();
+    private final Object lock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache using {@link System#nanoTime()} as its clock.
+     *
+     * @param maxSize the maximum number of entries; must be positive
+     * @param ttl     how long an entry stays valid after it was loaded; must be positive
+     */
+    public ExpiringCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache with the given clock.
+     *
+     * @param maxSize  the maximum number of entries; must be positive
+     * @param ttl      how long an entry stays valid after it was loaded; must be positive
+     * @param nanoTime the source of monotonic time in nanoseconds
+     */
+    public ExpiringCache(int maxSize, Duration ttl, LongSupplier nanoTime) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        this.maxSize = maxSize;
+        this.evictionBatch = Math.max(1, maxSize / 16);
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Returns the cached value for the key, loading and storing it on a miss.
+     *
+     * @param key    the key
+     * @param loader computes the value on a miss; may return null, which is passed through uncached
+     * @return the cached or loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = lookup(key, nanoTime.getAsLong());
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long stamp;
+        synchronized (lock) {
+            stamp = beginLoad(key);
+        }
+
+        V value = null;
+        try {
+            value = loader.apply(key);
+        } finally {
+            synchronized (lock) {
+                if (endLoad(key, stamp) && value != null) {
+                    store(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cached values for several keys, loading all missing ones with a single call.
+     *
+     * @param keys   the keys
+     * @param loader computes the values of the missing keys; keys it leaves out are absent from the result
+     * @return the cached and loaded values by key
+     */
+    public Map<K, V> getAll(Collection<? extends K> keys, Function<? super Set<K>, ? extends Map<K, V>> loader) {
+        Map<K, V> result = new HashMap<>();
+        Set<K> missing = new HashSet<>();
+        long now = nanoTime.getAsLong();
+        for (K key : keys) {
+            V cached = lookup(key, now);
+            if (cached != null) {
+                hits.increment();
+                result.put(key, cached);
+            } else if (missing.add(key)) {
+                misses.increment();
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        Map<K, Long> stamps = new HashMap<>();
+        synchronized (lock) {
+            missing.forEach(key -> stamps.put(key, beginLoad(key)));
+        }
+
+        Map<K, V> loaded = Map.of();
+        try {
+            loaded = loader.apply(missing);
+        } finally {
+            synchronized (lock) {
+                for (Map.Entry<K, Long> stamp : stamps.entrySet()) {
+                    V value = loaded.get(stamp.getKey());
+                    if (endLoad(stamp.getKey(), stamp.getValue()) && value != null) {
+                        store(stamp.getKey(), value);
+                    }
+                }
+            }
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * Returns the cached value for the key without loading it. Does not count as a hit or miss.
+     *
+     * @param key the key
+     * @return the cached value, or null if absent or expired
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && entry.isLive(nanoTime.getAsLong()) ? entry.value : null;
+    }
+
+    /**
+     * Removes the entry for the key, if present.
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        synchronized (lock) {
+            Pending load = pending.get(key);
+            if (load != null) {
+                load.stamp++;
+            }
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes every entry whose key matches the predicate.
+     *
+     * @param predicate selects the keys to remove
+     */
+    public void invalidateIf(Predicate<? super K> predicate) {
+        synchronized (lock) {
+            pending.forEach((key, load) -> {
+                if (predicate.test(key)) {
+                    load.stamp++;
+                }
+            });
+            entries.keySet().removeIf(predicate);
+        }
+    }
+
+    /**
+     * Removes every entry whose value matches the predicate, for entries found by what they hold
+     * rather than by key. Loads in flight have no value to test yet, so none of them is stored.
+     *
+     * @param predicate selects the values to remove
+     */
+    public void invalidateIfValue(Predicate<? super V> predicate) {
+        synchronized (lock) {
+            pending.values().forEach(load -> load.stamp++);
+            entries.values().removeIf(entry -> predicate.test(entry.value));
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        synchronized (lock) {
+            pending.values().forEach(load -> load.stamp++);
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return the hit, miss and eviction counters and the current size; read without stopping
+     * concurrent access, so the figures may be slightly out of step with each other
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    /**
+     * Returns the live value for the key, recording the access, or null after dropping an expired entry.
+     */
+    private V lookup(K key, long now) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isLive(now)) {
+            entry.lastAccess = now;
+            return entry.value;
+        }
+        if (entries.remove(key, entry)) {
+            evictions.increment();
+        }
+        return null;
+    }
+
+    /**
+     * Registers a load of the key; must be called holding the lock.
+     *
+     * @return the key's invalidation stamp when the load started
+     */
+    private long beginLoad(K key) {
+        Pending load = pending.computeIfAbsent(key, k -> new Pending());
+        load.loaders++;
+        return load.stamp;
+    }
+
+    /**
+     * Unregisters a load of the key; must be called holding the lock.
+     *
+     * @return true if the key was not invalidated while the load ran
+     */
+    private boolean endLoad(K key, long stamp) {
+        Pending load = pending.get(key);
+        boolean current = load.stamp == stamp;
+        if (--load.loaders == 0) {
+            pending.remove(key);
+        }
+        return current;
+    }
+
+    /**
+     * Stores a loaded value; must be called holding the lock.
+     */
+    private void store(K key, V value) {
+        long now = nanoTime.getAsLong();
+        entries.put(key, new Entry<>(value, now + ttlNanos, now));
+        if (entries.size() > maxSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Drops the {@code evictionBatch} entries accessed longest ago in one pass; must be called
+     * holding the lock.
+     */
+    private void evictLeastRecentlyUsed() {
+        // Max-heap on access time, holding the oldest entries seen so far
+        PriorityQueue<Map.Entry<K, Entry<V>>> oldest = new PriorityQueue<>(evictionBatch + 1,
+                Comparator.comparingLong((Map.Entry<K, Entry<V>> e) -> e.getValue().lastAccess).reversed());
+        for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+            oldest.add(Map.entry(candidate.getKey(), candidate.getValue()));
+            if (oldest.size() > evictionBatch) {
+                oldest.poll();
+            }
+        }
+        for (Map.Entry<K, Entry<V>> victim : oldest) {
+            if (entries.remove(victim.getKey(), victim.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Counters of a cache since it was created.
+     *
+     * @param hits      reads answered from the cache
+     * @param misses    reads that had to load the value
+     * @param evictions entries dropped because the cache was full or the entry had expired
+     * @param size      the current number of entries
+     */
+    public record CacheStats(long hits, long misses, long evictions, int size) {
+    }
+}
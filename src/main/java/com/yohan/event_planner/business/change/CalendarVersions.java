@@ -0,0 +1,118 @@
+package com.yohan.event_planner.business.change;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing version of each user's calendar, used to derive ETags for
+ * conditional GETs without touching the database.
+ * <p>
+ * A user's version is bumped after every committed event write ({@link EventChange}) and every
+ * profile change. A global version, bumped alongside, covers views spanning all users. Versions
+ * are kept in memory and start from zero; every tag also carries an epoch chosen at startup, so
+ * tags issued before a restart never match afterwards.
+ * <p>
+ * Versions only see the writes committed through this instance. Like the cached reads the tags
+ * label, which other instances cannot evict either, they are exact on a single instance only:
+ * every tag also carries the current {@code events.cache.ttl} window, so a write committed
+ * through another instance is reflected by this one's tags, and served from its cache, within
+ * two windows at most.
+ * <p>
+ * Callers must read the tag <em>before</em> reading the data it describes: the version is only
+ * bumped once the write is committed and cached reads are evicted, so a stale tag can at worst
+ * label fresh data, never the other way round.
+ */
+@Component
+public class CalendarVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final long windowMillis;
+    private final Clock clock;
+
+    /**
+     * Constructs the versions using the system clock.
+     *
+     * @param ttl how long cached reads are kept; tags change at least this often
+     */
+    @Autowired
+    public CalendarVersions(@Value("${events.cache.ttl:PT5M}") Duration ttl) {
+        this(ttl, Clock.systemUTC());
+    }
+
+    CalendarVersions(Duration ttl, Clock clock) {
+        if (ttl.toMillis() < 1) {
+            throw new IllegalArgumentException("Tag window must be positive");
+        }
+        this.windowMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * @param userId the ID of the user
+     * @return the current version of the user's calendar; zero if it has not changed since startup
+     */
+    public long getVersion(Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version != null ? version.get() : 0L;
+    }
+
+    /**
+     * @return the number of calendar changes of any user since startup
+     */
+    public long getGlobalVersion() {
+        return globalVersion.get();
+    }
+
+    /**
+     * Records a change to the user's calendar or profile.
+     *
+     * @param userId the ID of the user
+     */
+    public void bump(Long userId) {
+        versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+        globalVersion.incrementAndGet();
+    }
+
+    /**
+     * Bumps the version of the changed event's owner once the write is committed. Ordered after
+     * the eviction of cached reads, so a new tag is never served with cached data older than it,
+     * and before change notifications are pushed to clients.
+     *
+     * @param change the committed change
+     */
+    @TransactionalEventListener
+    @Order(0)
+    public void onEventChange(EventChange change) {
+        bump(change.creatorId());
+    }
+
+    /**
+     * @param userId the ID of the user
+     * @return a strong ETag for representations derived from the user's calendar or profile
+     */
+    public String getETag(Long userId) {
+        return "\"" + epoch + "-u" + userId + "-" + getVersion(userId) + "." + currentWindow() + "\"";
+    }
+
+    /**
+     * @return a strong ETag for representations spanning the calendars of all users
+     */
+    public String getGlobalETag() {
+        return "\"" + epoch + "-g" + getGlobalVersion() + "." + currentWindow() + "\"";
+    }
+
+    private long currentWindow() {
+        return clock.millis() / windowMillis;
+    }
+}
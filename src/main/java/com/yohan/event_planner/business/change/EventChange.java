@@ -0,0 +1,44 @@
+package com.yohan.event_planner.business.change;
+
+/**
+ * Application event published by {@code EventBO} for every event write.
+ * <p>
+ * Listeners should subscribe with {@code @TransactionalEventListener} so they only observe
+ * committed changes.
+ *
+ * @param type   the kind of write
+ * @param before the event state before the write; null for {@link EventChangeType#CREATED}
+ * @param after  the event state after the write; null for {@link EventChangeType#DELETED}
+ */
+public record EventChange(
+        EventChangeType type,
+        EventSnapshot before,
+        EventSnapshot after
+) {
+
+    public static EventChange created(EventSnapshot after) {
+        return new EventChange(EventChangeType.CREATED, null, after);
+    }
+
+    public static EventChange updated(EventSnapshot before, EventSnapshot after) {
+        return new EventChange(EventChangeType.UPDATED, before, after);
+    }
+
+    public static EventChange deleted(EventSnapshot before) {
+        return new EventChange(EventChangeType.DELETED, before, null);
+    }
+
+    /**
+     * @return the ID of the changed event
+     */
+    public Long eventId() {
+        return after != null ? after.id() : before.id();
+    }
+
+    /**
+     * @return the ID of the user who owns the changed event
+     */
+    public Long creatorId() {
+        return after != null ? after.creatorId() : before.creatorId();
+    }
+}
@@ -0,0 +1,98 @@
+package com.yohan.event_planner.business.change;
+
+import com.yohan.event_planner.repository.EventChangeLogRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the event change log from growing without bound by deleting its entries older than
+ * {@code events.change-log.retention}, every {@code events.change-log.prune-interval}.
+ * <p>
+ * The latest entry is always kept, even when it is older than the retention period, so the oldest
+ * retained ID keeps marking where the pruned part of the log ends. Clients syncing from a token
+ * before that point can no longer be served incrementally and are told to resync.
+ */
+@Component
+public class EventChangeLogRetention {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventChangeLogRetention.class);
+
+    private final EventChangeLogRepository changeLogRepository;
+    private final Duration retention;
+    private final Clock clock;
+    private final ScheduledExecutorService pruner;
+
+    /**
+     * Constructs the retention job and schedules its runs.
+     *
+     * @param changeLogRepository the change log to prune
+     * @param retention           how long entries are kept
+     * @param pruneInterval       the interval between prune runs
+     */
+    @Autowired
+    public EventChangeLogRetention(EventChangeLogRepository changeLogRepository,
+                                   @Value("${events.change-log.retention:P30D}") Duration retention,
+                                   @Value("${events.change-log.prune-interval:PT1H}") Duration pruneInterval) {
+        this(changeLogRepository, retention, Clock.systemUTC());
+        pruner.scheduleWithFixedDelay(this::pruneSafely, pruneInterval.toMillis(), pruneInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    EventChangeLogRetention(EventChangeLogRepository changeLogRepository, Duration retention, Clock clock) {
+        if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("Change log retention must be positive");
+        }
+        this.changeLogRepository = changeLogRepository;
+        this.retention = retention;
+        this.clock = clock;
+        this.pruner = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("event-change-log-pruner").daemon().factory());
+    }
+
+    /**
+     * Deletes the log entries written before the retention period, keeping at least the latest one.
+     *
+     * @return the number of deleted entries
+     */
+    public int prune() {
+        ZonedDateTime cutoff = ZonedDateTime.now(clock).minus(retention);
+        Long boundary = changeLogRepository.findFirstIdChangedSince(cutoff);
+        if (boundary == null) {
+            boundary = changeLogRepository.findLatestId();
+            if (boundary == null) {
+                return 0;
+            }
+        }
+        int deleted = changeLogRepository.deleteByIdLessThan(boundary);
+        logger.info("Pruned {} change log entries before change {}", deleted, boundary);
+        return deleted;
+    }
+
+    private void pruneSafely() {
+        try {
+            prune();
+        } catch (RuntimeException e) {
+            // A failed run must not cancel the schedule; the next run retries
+            logger.warn("Pruning the change log failed", e);
+        }
+    }
+
+    /**
+     * Stops the scheduled prune runs.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pruner.shutdownNow();
+    }
+}
@@ -0,0 +1,21 @@
+package com.yohan.event_planner.business.change;
+
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+
+import java.util.List;
+
+/**
+ * The net effect of a run of a user's change log entries, at most one per event.
+ *
+ * @param changed the current state of the events created or updated in the run, in order of their last change
+ * @param deleted the IDs of the events deleted in the run, whether or not they were created in it
+ * @param next    the position after the last entry of the run, to resume from
+ * @param hasMore true if entries follow the run, so the client should fetch again from {@code next}
+ */
+public record EventChangeSet(
+        List<EventSummaryView> changed,
+        List<Long> deleted,
+        EventChangeToken next,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,55 @@
+package com.yohan.event_planner.business.change;
+
+import com.yohan.event_planner.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a user's event change log: the ID of the last log entry a client has applied.
+ * Changes are read strictly after this position.
+ * <p>
+ * Clients only see the {@linkplain #encode() encoded} form, an opaque URL-safe token.
+ *
+ * @param changeId the ID of the last log entry seen; 0 before the first entry
+ */
+public record EventChangeToken(long changeId) {
+
+    private static final String PREFIX = "c:";
+
+    /**
+     * The position before any change.
+     */
+    public static final EventChangeToken START = new EventChangeToken(0L);
+
+    /**
+     * @return the opaque token representing this position
+     */
+    public String encode() {
+        String raw = PREFIX + changeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @param token the opaque change token
+     * @return the decoded position
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static EventChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidCursorException(token);
+            }
+            long changeId = Long.parseLong(raw.substring(PREFIX.length()));
+            if (changeId < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new EventChangeToken(changeId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
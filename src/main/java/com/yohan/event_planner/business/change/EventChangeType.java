@@ -0,0 +1,10 @@
+package com.yohan.event_planner.business.change;
+
+/**
+ * Kind of write applied to an event.
+ */
+public enum EventChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,48 @@
+package com.yohan.event_planner.business.change;
+
+import com.yohan.event_planner.domain.Event;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Immutable copy of the event state relevant to change listeners.
+ * <p>
+ * Snapshots are taken inside the writing transaction so listeners that run after commit
+ * never touch a managed entity.
+ *
+ * @param id          the event ID
+ * @param creatorId   the ID of the user who owns the event
+ * @param name        the event name
+ * @param description the event description (may be null)
+ * @param startTime   the event start time (UTC)
+ * @param endTime     the event end time (UTC); for a recurring event, the end of its first occurrence
+ * @param recurring   true if the event repeats, so it also takes place after {@code endTime}
+ */
+public record EventSnapshot(
+        Long id,
+        Long creatorId,
+        String name,
+        String description,
+        ZonedDateTime startTime,
+        ZonedDateTime endTime,
+        boolean recurring
+) {
+
+    /**
+     * Captures the current state of the given event.
+     *
+     * @param event the event to copy; must not be null
+     * @return the snapshot
+     */
+    public static EventSnapshot of(Event event) {
+        return new EventSnapshot(
+                event.getId(),
+                event.getCreator() != null ? event.getCreator().getId() : null,
+                event.getName(),
+                event.getDescription(),
+                event.getStartTime(),
+                event.getEndTime(),
+                event.isRecurring()
+        );
+    }
+}
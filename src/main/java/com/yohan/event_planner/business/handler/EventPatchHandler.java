@@ -1,15 +1,20 @@
 package com.yohan.event_planner.business.handler;
 
+import com.yohan.event_planner.business.recurrence.EventSchedule;
+import com.yohan.event_planner.domain.RecurrenceRule;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.dto.EventUpdateDTO;
 import com.yohan.event_planner.domain.Day;
 import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.mapper.EventMapper;
+import com.yohan.event_planner.service.DayService;
 import com.yohan.event_planner.validation.EventValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -44,7 +49,8 @@ public class EventPatchHandler {
 
     /**
      * Applies patch updates from EventUpdateDTO to an existing Event.
-     * Validates time fields and checks for conflicts.
+     * Validates time fields and checks for conflicts. A provided recurrence rule replaces the
+     * event's rule and is checked for conflicts like a time change.
      * Returns PatchResult containing whether the event was changed and new days for replacement.
      *
      * @param existingEvent The event to update
@@ -58,6 +64,27 @@ public class EventPatchHandler {
                                          EventValidator eventValidator,
                                          com.yohan.event_planner.service.DayService dayService,
                                          User creator) {
+        return applyPatch(existingEvent, eventUpdateDTO, eventValidator, dayService, creator, true);
+    }
+
+    /**
+     * Applies patch updates like {@link #applyPatch(Event, EventUpdateDTO, EventValidator, DayService, User)}.
+     * When {@code linkDays} is false, a time change fetches no days and reports an empty day set,
+     * so the event ends up linked to no Day rows.
+     *
+     * @param existingEvent The event to update
+     * @param eventUpdateDTO DTO containing patch updates (nullable fields)
+     * @param eventValidator Validator for business rules
+     * @param dayService Service to fetch days related to the event
+     * @param creator The user who owns the event (needed to get/create days)
+     * @param linkDays whether the event is linked to a Day row for every date it covers
+     * @return PatchResult indicating if update occurred and new days set
+     */
+    public static PatchResult applyPatch(Event existingEvent, EventUpdateDTO eventUpdateDTO,
+                                         EventValidator eventValidator,
+                                         DayService dayService,
+                                         User creator,
+                                         boolean linkDays) {
         boolean isUpdated = false;
         Set<Day> newDays = null;
 
@@ -75,6 +102,24 @@ public class EventPatchHandler {
         boolean startChanged = eventUpdateDTO.startTime() != null && !eventUpdateDTO.startTime().equals(existingEvent.getStartTime());
         boolean endChanged = eventUpdateDTO.endTime() != null && !eventUpdateDTO.endTime().equals(existingEvent.getEndTime());
 
+        RecurrenceRule newRecurrence = eventUpdateDTO.recurrence() != null
+                ? EventMapper.toRecurrenceRule(eventUpdateDTO.recurrence())
+                : existingEvent.getRecurrence();
+        boolean recurrenceChanged = eventUpdateDTO.recurrence() != null
+                && !newRecurrence.equals(existingEvent.getRecurrence());
+
+        if (recurrenceChanged && !(startChanged || endChanged)) {
+            // Rule-only change: keep the times, re-check the series in the event's timezone
+            ZonedDateTime start = existingEvent.getStartTime().withZoneSameInstant(existingEvent.getTimezone());
+            eventValidator.validateRecurrence(newRecurrence, start, existingEvent.getEndTime());
+            eventValidator.validateNoOverlappingOccurrences(creator.getId(),
+                    EventSchedule.of(start, existingEvent.getEndTime(), newRecurrence), existingEvent.getId());
+
+            existingEvent.setRecurrence(newRecurrence);
+            logger.info("Event recurrence updated to {} every {}", newRecurrence.getFrequency(), newRecurrence.getInterval());
+            isUpdated = true;
+        }
+
         if (startChanged || endChanged) {
             if (newStartInput == null || newEndInput == null) {
                 throw new IllegalArgumentException("Start time and end time must not be null when updating event times");
@@ -86,14 +131,22 @@ public class EventPatchHandler {
             // Validate start < end (UTC)
             eventValidator.validateStartBeforeEnd(newStartUtc, newEndUtc);
 
-            // Get or create days based on UTC local dates
-            newDays = dayService.getOrCreateAllDaysBetween(newStartUtc.toLocalDate(), newEndUtc.toLocalDate(), creator);
-
-            // Validate no conflicts (UTC)
-            for (Day day : newDays) {
-                eventValidator.validateNoConflicts(newStartUtc, newEndUtc, existingEvent.getId(), day);
+            // Validate no conflicts (UTC) before touching any Day rows
+            if (newRecurrence == null) {
+                eventValidator.validateNoOverlappingEvents(creator.getId(), newStartUtc, newEndUtc, existingEvent.getId());
+            } else {
+                // Recurrence is evaluated in the timezone of the new start time
+                eventValidator.validateRecurrence(newRecurrence, newStartInput, newEndInput);
+                eventValidator.validateNoOverlappingOccurrences(creator.getId(),
+                        EventSchedule.of(newStartInput, newEndInput, newRecurrence), existingEvent.getId());
+                existingEvent.setRecurrence(newRecurrence);
             }
 
+            // Get or create days based on UTC local dates
+            newDays = linkDays
+                    ? dayService.getOrCreateAllDaysBetween(newStartUtc.toLocalDate(), newEndUtc.toLocalDate(), creator)
+                    : Collections.emptySet();
+
             // Update Event fields in memory only
             existingEvent.setStartTime(newStartUtc);
             existingEvent.setEndTime(newEndUtc);
@@ -0,0 +1,238 @@
+package com.yohan.event_planner.business.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Augmented interval tree over half-open intervals {@code [start, end)} identified by a unique ID.
+ * <p>
+ * Implemented as a treap ordered by {@code (start, id)}, where every node also tracks the
+ * maximum end of its subtree. This allows overlap queries in O(log n + k), where k is the
+ * number of reported intervals, and inserts/removals in expected O(log n).
+ * <p>
+ * Bounds are plain {@code long} values (typically epoch nanoseconds) so the tree stays free of
+ * any time-zone handling. This class is not thread-safe; callers must synchronize access.
+ *
+ * @param <T> the payload type attached to each interval
+ */
+public class IntervalTree<T> {
+
+    private static final class Node<T> {
+        final long id;
+        final long start;
+        final long end;
+        final int priority;
+        final T value;
+        long maxEnd;
+        Node<T> left;
+        Node<T> right;
+
+        Node(long id, long start, long end, int priority, T value) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+
+    private final Map<Long, Node<T>> nodesById = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+
+    /**
+     * Inserts an interval, replacing any existing interval with the same ID.
+     *
+     * @param id    the unique identifier of the interval
+     * @param start the inclusive start bound
+     * @param end   the exclusive end bound; must be greater than {@code start}
+     * @param value the payload to attach to the interval
+     * @throws IllegalArgumentException if {@code start} is not before {@code end}
+     */
+    public void insert(long id, long start, long end, T value) {
+        if (start >= end) {
+            throw new IllegalArgumentException("Interval start must be before end");
+        }
+        remove(id);
+        Node<T> node = new Node<>(id, start, end, random.nextInt(), value);
+        root = insert(root, node);
+        nodesById.put(id, node);
+    }
+
+    /**
+     * Removes the interval with the given ID, if present.
+     *
+     * @param id the identifier of the interval to remove
+     * @return true if an interval was removed, false otherwise
+     */
+    public boolean remove(long id) {
+        Node<T> existing = nodesById.remove(id);
+        if (existing == null) {
+            return false;
+        }
+        root = remove(root, existing.start, existing.id);
+        return true;
+    }
+
+    /**
+     * Finds any interval overlapping {@code [start, end)}, ignoring the interval with {@code excludeId}.
+     * Among overlapping intervals, the one with the smallest start is returned.
+     *
+     * @param start     the inclusive start of the query range
+     * @param end       the exclusive end of the query range
+     * @param excludeId the ID to skip (useful for updates); may be null
+     * @return the payload of the first overlapping interval, or empty if none overlaps
+     */
+    public Optional<T> findFirstOverlap(long start, long end, Long excludeId) {
+        Node<T> found = findFirstOverlap(root, start, end, excludeId);
+        return found == null ? Optional.empty() : Optional.of(found.value);
+    }
+
+    /**
+     * Collects all intervals overlapping {@code [start, end)}, ordered by start.
+     *
+     * @param start the inclusive start of the query range
+     * @param end   the exclusive end of the query range
+     * @return the payloads of all overlapping intervals
+     */
+    public List<T> findOverlapping(long start, long end) {
+        List<T> result = new ArrayList<>();
+        collectOverlapping(root, start, end, result);
+        return result;
+    }
+
+    /**
+     * @return the number of intervals stored in the tree
+     */
+    public int size() {
+        return nodesById.size();
+    }
+
+    /**
+     * Removes all intervals from the tree.
+     */
+    public void clear() {
+        nodesById.clear();
+        root = null;
+    }
+
+    // --- Treap operations ---
+
+    private Node<T> insert(Node<T> node, Node<T> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.start, newNode.id, node) < 0) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> remove(Node<T> node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = remove(node.right, start, id);
+            } else {
+                node = rotateLeft(node);
+                node.left = remove(node.left, start, id);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> findFirstOverlap(Node<T> node, long start, long end, Long excludeId) {
+        if (node == null || node.maxEnd <= start) {
+            return null;
+        }
+        Node<T> found = findFirstOverlap(node.left, start, end, excludeId);
+        if (found != null) {
+            return found;
+        }
+        if (node.start >= end) {
+            // Everything to the right starts even later
+            return null;
+        }
+        if (node.end > start && (excludeId == null || node.id != excludeId)) {
+            return node;
+        }
+        return findFirstOverlap(node.right, start, end, excludeId);
+    }
+
+    private void collectOverlapping(Node<T> node, long start, long end, List<T> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, result);
+        if (node.start >= end) {
+            return;
+        }
+        if (node.end > start) {
+            result.add(node.value);
+        }
+        collectOverlapping(node.right, start, end, result);
+    }
+
+    private static <T> int compare(long start, long id, Node<T> node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <T> void update(Node<T> node) {
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+}
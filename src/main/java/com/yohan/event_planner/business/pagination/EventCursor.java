@@ -0,0 +1,61 @@
+package com.yohan.event_planner.business.pagination;
+
+import com.yohan.event_planner.exception.InvalidCursorException;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset position in a start-ordered event listing: the {@code (startTime, id)} of the last
+ * event of a page. The next page starts strictly after this position.
+ * <p>
+ * Clients only see the {@linkplain #encode() encoded} form, an opaque URL-safe token.
+ *
+ * @param startTime the UTC start time of the last event returned
+ * @param id        the ID of the last event returned
+ */
+public record EventCursor(ZonedDateTime startTime, long id) {
+
+    /**
+     * @param event the last event of a page
+     * @return the cursor positioned after the given event
+     */
+    public static EventCursor after(EventSummaryView event) {
+        return new EventCursor(event.startTime().withZoneSameInstant(ZoneOffset.UTC), event.id());
+    }
+
+    /**
+     * @return the opaque token representing this cursor
+     */
+    public String encode() {
+        Instant instant = startTime.toInstant();
+        String raw = instant.getEpochSecond() + ":" + instant.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3) {
+                throw new InvalidCursorException(token);
+            }
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new EventCursor(instant.atZone(ZoneOffset.UTC), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
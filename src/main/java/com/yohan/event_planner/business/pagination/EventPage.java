@@ -0,0 +1,14 @@
+package com.yohan.event_planner.business.pagination;
+
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated event listing.
+ *
+ * @param events     the events of this page, ordered by start time and ID
+ * @param nextCursor the position after the last event, or null if this is the last page
+ */
+public record EventPage(List<EventSummaryView> events, EventCursor nextCursor) {
+}
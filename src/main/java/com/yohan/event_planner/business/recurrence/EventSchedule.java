@@ -0,0 +1,455 @@
+package com.yohan.event_planner.business.recurrence;
+
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurrenceFrequency;
+import com.yohan.event_planner.domain.RecurrenceRule;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The time slots taken by an event: a single interval for a one-off event, or the occurrences
+ * generated by its {@link RecurrenceRule}.
+ * <p>
+ * Occurrences are computed arithmetically from the rule and only within the window a caller asks
+ * for, so neither reads nor conflict checks materialize a whole series. Recurrence is evaluated in
+ * local time of the event's timezone: every occurrence starts at the first occurrence's local time
+ * and lasts the first occurrence's duration.
+ * <p>
+ * Instances are immutable and not tied to a persistence context.
+ */
+public final class EventSchedule {
+
+    /**
+     * Stand-in upper bound for open-ended series in range queries.
+     */
+    public static final ZonedDateTime OPEN_END = ZonedDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    /**
+     * Cycle checked when comparing two open-ended rules whose combined pattern is not a simple
+     * multiple of days (monthly rules, or rules in different timezones): four years covers every
+     * month length, a leap day and each daylight saving transition.
+     */
+    static final int FALLBACK_CYCLE_DAYS = 4 * 366;
+
+    /**
+     * Furthest past the start of their shared span that two schedules are compared. It covers the
+     * fallback cycle with a year to spare; exception dates and occurrences beyond it are ignored.
+     */
+    public static final int MAX_COMPARISON_DAYS = FALLBACK_CYCLE_DAYS + 366;
+
+    private final ZoneId zone;
+    private final LocalDate firstDate;
+    private final LocalTime localStartTime;
+    private final Duration duration;
+    private final RecurrenceRule rule;
+    private final ZonedDateTime firstStartUtc;
+    private final ZonedDateTime firstEndUtc;
+
+    /**
+     * Date of the last occurrence, or null if the series is unbounded.
+     */
+    private final LocalDate lastDate;
+
+    private EventSchedule(ZonedDateTime start, ZonedDateTime end, RecurrenceRule rule) {
+        this.zone = start.getZone();
+        this.firstDate = start.toLocalDate();
+        this.localStartTime = start.toLocalTime();
+        this.duration = Duration.between(start, end);
+        this.rule = rule;
+        this.firstStartUtc = start.withZoneSameInstant(ZoneOffset.UTC);
+        this.firstEndUtc = end.withZoneSameInstant(ZoneOffset.UTC);
+        this.lastDate = rule == null ? firstDate : resolveLastDate();
+    }
+
+    /**
+     * Creates the schedule of a one-off event.
+     *
+     * @param start the start time
+     * @param end   the end time
+     * @return the schedule consisting of the single interval {@code [start, end)}
+     */
+    public static EventSchedule single(ZonedDateTime start, ZonedDateTime end) {
+        return new EventSchedule(start, end, null);
+    }
+
+    /**
+     * Creates the schedule of an event whose first occurrence is {@code [start, end)}.
+     *
+     * @param start the start time of the first occurrence, in the event's timezone
+     * @param end   the end time of the first occurrence
+     * @param rule  the recurrence rule; null for a one-off event
+     * @return the schedule
+     */
+    public static EventSchedule of(ZonedDateTime start, ZonedDateTime end, RecurrenceRule rule) {
+        return new EventSchedule(start, end, rule);
+    }
+
+    /**
+     * Creates the schedule of a stored event, evaluating its rule in the event's timezone.
+     *
+     * @param event the event
+     * @return the event's schedule
+     */
+    public static EventSchedule of(Event event) {
+        ZoneId zone = event.getTimezone() != null ? event.getTimezone() : event.getStartTime().getZone();
+        return new EventSchedule(event.getStartTime().withZoneSameInstant(zone), event.getEndTime(),
+                event.getRecurrence());
+    }
+
+    /**
+     * @return true if the schedule is generated by a recurrence rule
+     */
+    public boolean isRecurring() {
+        return rule != null;
+    }
+
+    public RecurrenceRule getRule() {
+        return rule;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public ZonedDateTime getFirstStartUtc() {
+        return firstStartUtc;
+    }
+
+    public ZonedDateTime getFirstEndUtc() {
+        return firstEndUtc;
+    }
+
+    /**
+     * Returns the end of the last occurrence (UTC).
+     *
+     * @return the series end, or empty if the series never ends
+     */
+    public Optional<ZonedDateTime> getSeriesEndUtc() {
+        if (rule == null) {
+            return Optional.of(firstEndUtc);
+        }
+        if (lastDate == null) {
+            return Optional.empty();
+        }
+        return Optional.of(occurrenceOn(lastDate).end());
+    }
+
+    /**
+     * Lists the occurrences overlapping {@code [from, to)}, ordered by start.
+     *
+     * @param from the inclusive start of the window
+     * @param to   the exclusive end of the window
+     * @return the overlapping occurrences
+     */
+    public List<Occurrence> occurrencesBetween(ZonedDateTime from, ZonedDateTime to) {
+        List<Occurrence> result = new ArrayList<>();
+        forEachOccurrenceBetween(from, to, occurrence -> {
+            result.add(occurrence);
+            return false;
+        });
+        return result;
+    }
+
+    /**
+     * Finds the earliest occurrence overlapping {@code [from, to)}.
+     *
+     * @param from the inclusive start of the window
+     * @param to   the exclusive end of the window
+     * @return the first overlapping occurrence, or empty if none overlaps
+     */
+    public Optional<Occurrence> firstOccurrenceBetween(ZonedDateTime from, ZonedDateTime to) {
+        Occurrence[] found = new Occurrence[1];
+        forEachOccurrenceBetween(from, to, occurrence -> {
+            found[0] = occurrence;
+            return true;
+        });
+        return Optional.ofNullable(found[0]);
+    }
+
+    /**
+     * Finds an occurrence of {@code other} that overlaps an occurrence of this schedule.
+     * <p>
+     * Occurrences of this schedule are generated only within the span both schedules share, and each
+     * one is tested against {@code other} by date arithmetic. When both series are open-ended, the
+     * span is limited to one cycle of their combined pattern, extended past the last exception date
+     * so that skipped dates cannot hide a conflict in a later cycle. The span never exceeds
+     * {@link #MAX_COMPARISON_DAYS}.
+     *
+     * @param other the schedule to compare with
+     * @return the first conflicting occurrence of {@code other}, or empty if the schedules never overlap
+     */
+    public Optional<Occurrence> firstOverlap(EventSchedule other) {
+        ZonedDateTime from = max(firstStartUtc, other.firstStartUtc);
+        ZonedDateTime to = min(getSeriesEndUtc().orElse(OPEN_END), other.getSeriesEndUtc().orElse(OPEN_END));
+        ZonedDateTime horizon = from.plusDays(comparisonHorizonDays(other));
+        if (to.isAfter(horizon)) {
+            to = horizon;
+        }
+        // Occurrences of either schedule starting before 'from' may still reach into the shared span
+        ZonedDateTime windowStart = min(from.minus(other.duration), from.minus(duration));
+
+        Occurrence[] found = new Occurrence[1];
+        ZonedDateTime windowEnd = to;
+        forEachOccurrenceBetween(windowStart, windowEnd, occurrence -> {
+            Optional<Occurrence> conflict = other.firstOccurrenceBetween(occurrence.start(), occurrence.end());
+            conflict.ifPresent(c -> found[0] = c);
+            return conflict.isPresent();
+        });
+        return Optional.ofNullable(found[0]);
+    }
+
+    /**
+     * Checks whether the given local date carries an occurrence.
+     *
+     * @param date the local date in the event's timezone
+     * @return true if an occurrence starts on {@code date}
+     */
+    public boolean occursOn(LocalDate date) {
+        if (rule == null) {
+            return date.equals(firstDate);
+        }
+        if (date.isBefore(firstDate) || (lastDate != null && date.isAfter(lastDate))) {
+            return false;
+        }
+        return matchesPattern(date) && !rule.getExceptions().contains(date);
+    }
+
+    // --- Internals ---
+
+    @FunctionalInterface
+    private interface OccurrenceVisitor {
+        /**
+         * @return true to stop the iteration
+         */
+        boolean visit(Occurrence occurrence);
+    }
+
+    private void forEachOccurrenceBetween(ZonedDateTime from, ZonedDateTime to, OccurrenceVisitor visitor) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        if (rule == null) {
+            if (firstStartUtc.isBefore(to) && firstEndUtc.isAfter(from)) {
+                visitor.visit(new Occurrence(firstStartUtc, firstEndUtc));
+            }
+            return;
+        }
+
+        // An occurrence overlapping the window starts after (from - duration); one extra day of slack
+        // absorbs daylight saving shifts between the local start time and the instant.
+        LocalDate startDate = from.minus(duration).withZoneSameInstant(zone).toLocalDate().minusDays(1);
+        LocalDate endDate = to.withZoneSameInstant(zone).toLocalDate();
+        if (startDate.isBefore(firstDate)) {
+            startDate = firstDate;
+        }
+        if (lastDate != null && endDate.isAfter(lastDate)) {
+            endDate = lastDate;
+        }
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!occursOn(date)) {
+                continue;
+            }
+            Occurrence occurrence = occurrenceOn(date);
+            if (!occurrence.start().isBefore(to)) {
+                return;
+            }
+            if (occurrence.end().isAfter(from) && visitor.visit(occurrence)) {
+                return;
+            }
+        }
+    }
+
+    private Occurrence occurrenceOn(LocalDate date) {
+        ZonedDateTime start = ZonedDateTime.of(date, localStartTime, zone);
+        return new Occurrence(start.withZoneSameInstant(ZoneOffset.UTC),
+                start.plus(duration).withZoneSameInstant(ZoneOffset.UTC));
+    }
+
+    /**
+     * Tests the rule's frequency pattern, ignoring series bounds and exceptions.
+     */
+    private boolean matchesPattern(LocalDate date) {
+        int interval = rule.getInterval();
+        return switch (rule.getFrequency()) {
+            case DAILY -> ChronoUnit.DAYS.between(firstDate, date) % interval == 0;
+            case WEEKLY -> weekDays().contains(date.getDayOfWeek())
+                    && ChronoUnit.WEEKS.between(weekStart(firstDate), weekStart(date)) % interval == 0;
+            case MONTHLY -> date.getDayOfMonth() == firstDate.getDayOfMonth()
+                    && ChronoUnit.MONTHS.between(YearMonth.from(firstDate), YearMonth.from(date)) % interval == 0;
+        };
+    }
+
+    private LocalDate resolveLastDate() {
+        if (rule.getCount() != null) {
+            // Exceptions still count towards COUNT, so only the pattern is followed here
+            int remaining = rule.getCount();
+            LocalDate date = firstDate;
+            LocalDate last = firstDate;
+            while (remaining > 0) {
+                if (matchesPattern(date)) {
+                    last = date;
+                    remaining--;
+                }
+                date = nextCandidate(date);
+            }
+            return last;
+        }
+        if (rule.getUntil() != null) {
+            return lastPatternDateUntil(rule.getUntil());
+        }
+        return null;
+    }
+
+    /**
+     * Finds the last date on or before {@code until} matching the pattern, ignoring exceptions.
+     * <p>
+     * The last period of the rule starting on or before {@code until} is computed directly, so the
+     * cost does not depend on the interval or on how far {@code until} lies; only periods without a
+     * matching date (months lacking the day, or a partial week) are stepped back over.
+     */
+    private LocalDate lastPatternDateUntil(LocalDate until) {
+        if (until.isBefore(firstDate)) {
+            return firstDate;
+        }
+        int interval = rule.getInterval();
+        return switch (rule.getFrequency()) {
+            case DAILY -> firstDate.plusDays(ChronoUnit.DAYS.between(firstDate, until) / interval * interval);
+            case WEEKLY -> lastWeeklyDateUntil(until, interval);
+            case MONTHLY -> lastMonthlyDateUntil(until, interval);
+        };
+    }
+
+    private LocalDate lastWeeklyDateUntil(LocalDate until, int interval) {
+        LocalDate firstWeek = weekStart(firstDate);
+        for (long period = ChronoUnit.WEEKS.between(firstWeek, weekStart(until)) / interval; period >= 0; period--) {
+            LocalDate week = firstWeek.plusWeeks(period * interval);
+            LocalDate weekEnd = week.plusDays(6);
+            for (LocalDate date = weekEnd.isAfter(until) ? until : weekEnd;
+                 !date.isBefore(week) && !date.isBefore(firstDate); date = date.minusDays(1)) {
+                if (weekDays().contains(date.getDayOfWeek())) {
+                    return date;
+                }
+            }
+        }
+        return firstDate;
+    }
+
+    private LocalDate lastMonthlyDateUntil(LocalDate until, int interval) {
+        YearMonth firstMonth = YearMonth.from(firstDate);
+        int dayOfMonth = firstDate.getDayOfMonth();
+        for (long period = ChronoUnit.MONTHS.between(firstMonth, YearMonth.from(until)) / interval;
+             period >= 0; period--) {
+            YearMonth month = firstMonth.plusMonths(period * interval);
+            if (month.isValidDay(dayOfMonth) && !month.atDay(dayOfMonth).isAfter(until)) {
+                return month.atDay(dayOfMonth);
+            }
+        }
+        return firstDate;
+    }
+
+    /**
+     * Returns the next date worth testing against the pattern after {@code date}.
+     */
+    private LocalDate nextCandidate(LocalDate date) {
+        if (rule.getFrequency() == RecurrenceFrequency.DAILY) {
+            return date.plusDays(rule.getInterval());
+        }
+        if (rule.getFrequency() == RecurrenceFrequency.MONTHLY && date.getDayOfMonth() == firstDate.getDayOfMonth()) {
+            // Jump to the same day in the following month (or the last day if shorter); the pattern check
+            // rejects months without the day and the months in between
+            return date.plusMonths(1);
+        }
+        return date.plusDays(1);
+    }
+
+    private Set<DayOfWeek> weekDays() {
+        Set<DayOfWeek> byDays = rule.getByDays();
+        return byDays.isEmpty() ? Set.of(firstDate.getDayOfWeek()) : byDays;
+    }
+
+    private long comparisonHorizonDays(EventSchedule other) {
+        long slackDays = Math.max(duration.toDays(), other.duration.toDays()) + 2;
+        if (!isRecurring() || !other.isRecurring()) {
+            // A one-off event bounds the shared span by itself
+            return MAX_COMPARISON_DAYS;
+        }
+        long cycle = cycleDays(other);
+        LocalDate latestException = latestException(rule, other.rule);
+        long exceptionSpan = latestException == null ? 0
+                : Math.max(0, ChronoUnit.DAYS.between(max(firstStartUtc, other.firstStartUtc).toLocalDate(),
+                latestException));
+        return Math.min(exceptionSpan + cycle + slackDays, MAX_COMPARISON_DAYS);
+    }
+
+    private long cycleDays(EventSchedule other) {
+        Long mine = periodDays();
+        Long theirs = other.periodDays();
+        if (mine == null || theirs == null || !zone.getRules().equals(other.zone.getRules())) {
+            return FALLBACK_CYCLE_DAYS;
+        }
+        long lcm = mine / gcd(mine, theirs) * theirs;
+        return Math.min(lcm, FALLBACK_CYCLE_DAYS);
+    }
+
+    /**
+     * @return the length in days after which the pattern repeats, or null for month-based rules
+     */
+    private Long periodDays() {
+        return switch (rule.getFrequency()) {
+            case DAILY -> (long) rule.getInterval();
+            case WEEKLY -> 7L * rule.getInterval();
+            case MONTHLY -> null;
+        };
+    }
+
+    private static LocalDate latestException(RecurrenceRule a, RecurrenceRule b) {
+        LocalDate latest = null;
+        for (RecurrenceRule r : List.of(a, b)) {
+            for (LocalDate date : r.getExceptions()) {
+                if (latest == null || date.isAfter(latest)) {
+                    latest = date;
+                }
+            }
+        }
+        return latest;
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static ZonedDateTime max(ZonedDateTime a, ZonedDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static ZonedDateTime min(ZonedDateTime a, ZonedDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * A single occurrence of an event, with UTC bounds.
+     *
+     * @param start the start of the occurrence (inclusive)
+     * @param end   the end of the occurrence (exclusive)
+     */
+    public record Occurrence(ZonedDateTime start, ZonedDateTime end) {
+    }
+}
@@ -0,0 +1,280 @@
+package com.yohan.event_planner.business.search;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.cache.ExpiringCache;
+import com.yohan.event_planner.business.change.EventChange;
+import com.yohan.event_planner.business.change.EventSnapshot;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Per-user index of distinct event names, suggesting completions of a typed prefix without
+ * querying the database.
+ * <p>
+ * Names are compared case- and accent-insensitively with whitespace collapsed, and kept in an
+ * array sorted by that key, so the names sharing a prefix are one contiguous run found by binary
+ * search. Indexes are built and kept like those of {@link EventSearchIndex}: on a user's first
+ * request, for at most {@code events.names.ttl}, for at most {@code events.names.max-users} users,
+ * and updated in place from committed event writes.
+ */
+@Component
+public class EventNameIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Comparator<Name> RANKING = Comparator.comparingInt(Name::count).reversed()
+            .thenComparing(Name::latest, Comparator.reverseOrder())
+            .thenComparing(Name::key);
+
+    /**
+     * Folds a name or prefix to the form names are compared in.
+     *
+     * @param text the name or prefix
+     * @return the folded text without leading whitespace and with inner whitespace collapsed
+     */
+    static String key(String text) {
+        return WHITESPACE.matcher(SearchTokenizer.fold(text)).replaceAll(" ").stripLeading();
+    }
+
+    /**
+     * One distinct name: the events bearing it and the spelling of the latest of them.
+     */
+    static final class Name {
+
+        private final String key;
+        private final LongPostings eventIds = new LongPostings();
+        private String display;
+        private Instant latest = Instant.MIN;
+
+        Name(String key) {
+            this.key = key;
+        }
+
+        String key() {
+            return key;
+        }
+
+        int count() {
+            return eventIds.size();
+        }
+
+        Instant latest() {
+            return latest;
+        }
+    }
+
+    /**
+     * What the index keeps of an event.
+     *
+     * @param id    the event ID
+     * @param name  the event name as entered
+     * @param start the start of the event, ranking its name by recency
+     */
+    record Document(long id, String name, Instant start) {
+    }
+
+    /**
+     * The distinct names of one user's events, guarded by a read-write lock.
+     */
+    static final class UserNames {
+
+        private static final Name[] EMPTY = new Name[0];
+
+        private Name[] names = EMPTY;
+        private int size;
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void put(Document document) {
+            lock.writeLock().lock();
+            try {
+                removeUnlocked(document.id());
+                documents.put(document.id(), document);
+                String key = key(document.name()).strip();
+                int index = indexOf(key);
+                Name name;
+                if (index >= 0) {
+                    name = names[index];
+                } else {
+                    name = new Name(key);
+                    insertAt(-index - 1, name);
+                }
+                name.eventIds.add(document.id());
+                if (name.display == null || !document.start().isBefore(name.latest)) {
+                    name.latest = document.start();
+                    name.display = document.name().strip();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long eventId) {
+            lock.writeLock().lock();
+            try {
+                removeUnlocked(eventId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeUnlocked(long eventId) {
+            Document previous = documents.remove(eventId);
+            if (previous == null) {
+                return;
+            }
+            int index = indexOf(key(previous.name()).strip());
+            Name name = names[index];
+            name.eventIds.remove(eventId);
+            if (name.eventIds.isEmpty()) {
+                removeAt(index);
+            } else if (previous.start().equals(name.latest)) {
+                // The latest event is gone; the next latest now gives the name its rank and spelling
+                name.latest = Instant.MIN;
+                for (long id : name.eventIds.toArray()) {
+                    Document remaining = documents.get(id);
+                    if (!remaining.start().isBefore(name.latest)) {
+                        name.latest = remaining.start();
+                        name.display = remaining.name().strip();
+                    }
+                }
+            }
+        }
+
+        List<String> suggest(String prefix, int limit) {
+            lock.readLock().lock();
+            try {
+                int from = indexOf(prefix);
+                if (from < 0) {
+                    from = -from - 1;
+                }
+                // Min-heap of the best names so far; its head is the first to drop
+                PriorityQueue<Name> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+                for (int i = from; i < size && names[i].key.startsWith(prefix); i++) {
+                    if (best.size() < limit) {
+                        best.add(names[i]);
+                    } else if (RANKING.compare(names[i], best.peek()) < 0) {
+                        best.poll();
+                        best.add(names[i]);
+                    }
+                }
+                List<Name> ranked = new ArrayList<>(best);
+                ranked.sort(RANKING);
+                List<String> suggestions = new ArrayList<>(ranked.size());
+                for (Name name : ranked) {
+                    suggestions.add(name.display);
+                }
+                return suggestions;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private int indexOf(String key) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = names[mid].key.compareTo(key);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertAt(int index, Name name) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, Math.max(8, size * 2));
+            }
+            System.arraycopy(names, index, names, index + 1, size - index);
+            names[index] = name;
+            size++;
+        }
+
+        private void removeAt(int index) {
+            System.arraycopy(names, index + 1, names, index, size - index - 1);
+            names[--size] = null;
+        }
+    }
+
+    private final EventBO eventBO;
+    private final ExpiringCache<Long, UserNames> indexes;
+
+    /**
+     * Constructs the index.
+     *
+     * @param eventBO  the business object loading a user's events when their index is built
+     * @param maxUsers the maximum number of users whose index is kept
+     * @param ttl      how long a user's index is kept before it is rebuilt
+     */
+    public EventNameIndex(EventBO eventBO,
+                          @Value("${events.names.max-users:1000}") int maxUsers,
+                          @Value("${events.names.ttl:PT30M}") Duration ttl) {
+        this.eventBO = eventBO;
+        this.indexes = new ExpiringCache<>(maxUsers, ttl);
+    }
+
+    /**
+     * Suggests the user's distinct event names starting with the prefix, compared case- and
+     * accent-insensitively. Names borne by more events come first, then names used by later events.
+     *
+     * @param creatorId the ID of the user
+     * @param prefix    the typed prefix; an empty prefix matches every name
+     * @param limit     the maximum number of names
+     * @return the suggested names, each spelled as on its latest event, best first
+     */
+    public List<String> suggest(Long creatorId, String prefix, int limit) {
+        return indexes.get(creatorId, this::build).suggest(key(prefix), limit);
+    }
+
+    /**
+     * Applies a committed event write to the owner's index, if it is built.
+     *
+     * @param change the committed change
+     */
+    @TransactionalEventListener
+    @Order(0)
+    public void onEventChange(EventChange change) {
+        UserNames index = indexes.getIfPresent(change.creatorId());
+        if (index == null) {
+            // Discards a concurrent build that may have read the data before this write
+            indexes.invalidate(change.creatorId());
+            return;
+        }
+        EventSnapshot after = change.after();
+        if (after == null) {
+            index.remove(change.eventId());
+        } else {
+            index.put(new Document(after.id(), after.name(), after.startTime().toInstant()));
+        }
+    }
+
+    private UserNames build(Long creatorId) {
+        UserNames index = new UserNames();
+        for (EventSummaryView event : eventBO.getSummariesByCreatorId(creatorId)) {
+            index.put(new Document(event.id(), event.name(), event.startTime().toInstant()));
+        }
+        return index;
+    }
+}
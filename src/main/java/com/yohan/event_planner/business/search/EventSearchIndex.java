@@ -0,0 +1,248 @@
+package com.yohan.event_planner.business.search;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.cache.ExpiringCache;
+import com.yohan.event_planner.business.change.EventChange;
+import com.yohan.event_planner.business.change.EventSnapshot;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-user inverted index over event names and descriptions, answering searches without
+ * scanning the events table.
+ * <p>
+ * A user's index is built from their events on their first search and kept for
+ * {@code events.search.ttl}; at most {@code events.search.max-users} indexes are kept, least
+ * recently used first out. Each term maps to the sorted IDs of the events containing it; a query
+ * matches the events containing all of its terms, found by intersecting those arrays smallest first.
+ * <p>
+ * Committed event writes are applied to a built index in place. A write committed while the
+ * index is being built discards the build instead, so it is never stored without the write.
+ */
+@Component
+public class EventSearchIndex {
+
+    /**
+     * Weight of a term occurrence in the event name, relative to one in the description.
+     */
+    static final int NAME_WEIGHT = 3;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Hit::startTime, Comparator.reverseOrder())
+            .thenComparingLong(Hit::eventId);
+
+    /**
+     * A matching event with its relevance.
+     *
+     * @param eventId   the ID of the event
+     * @param score     the relevance; higher is better
+     * @param startTime the start of the event, breaking ties in favour of later events
+     */
+    public record Hit(long eventId, double score, Instant startTime) {
+    }
+
+    /**
+     * What the index keeps of an event: its term weights and time span.
+     *
+     * @param id      the event ID
+     * @param weights the weighted number of occurrences of each term
+     * @param start   the start of the event
+     * @param end     the end of the event, or null for a recurring event
+     */
+    record Document(long id, Map<String, Integer> weights, Instant start, Instant end) {
+
+        static Document of(Long id, String name, String description, ZonedDateTime start, ZonedDateTime end,
+                           boolean recurring) {
+            Map<String, Integer> weights = new HashMap<>();
+            for (String term : SearchTokenizer.tokenize(name)) {
+                weights.merge(term, NAME_WEIGHT, Integer::sum);
+            }
+            for (String term : SearchTokenizer.tokenize(description)) {
+                weights.merge(term, 1, Integer::sum);
+            }
+            // Later occurrences of a series are not enumerated; it may match any range after its start
+            return new Document(id, Map.copyOf(weights), start.toInstant(), recurring ? null : end.toInstant());
+        }
+
+        boolean overlaps(Instant from, Instant to) {
+            return (to == null || start.isBefore(to)) && (from == null || end == null || end.isAfter(from));
+        }
+    }
+
+    /**
+     * The index of one user's events, guarded by a read-write lock.
+     */
+    static final class UserIndex {
+
+        private final Map<String, LongPostings> postings = new HashMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void put(Document document) {
+            lock.writeLock().lock();
+            try {
+                removeUnlocked(document.id());
+                documents.put(document.id(), document);
+                for (String term : document.weights().keySet()) {
+                    postings.computeIfAbsent(term, t -> new LongPostings()).add(document.id());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long eventId) {
+            lock.writeLock().lock();
+            try {
+                removeUnlocked(eventId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeUnlocked(long eventId) {
+            Document previous = documents.remove(eventId);
+            if (previous == null) {
+                return;
+            }
+            for (String term : previous.weights().keySet()) {
+                LongPostings ids = postings.get(term);
+                if (ids != null && ids.remove(eventId) && ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+
+        List<Hit> search(Collection<String> terms, Instant from, Instant to, int limit) {
+            lock.readLock().lock();
+            try {
+                List<LongPostings> lists = new ArrayList<>(terms.size());
+                for (String term : terms) {
+                    LongPostings ids = postings.get(term);
+                    if (ids == null) {
+                        return List.of();
+                    }
+                    lists.add(ids);
+                }
+                lists.sort(Comparator.comparingInt(LongPostings::size));
+                long[] candidates = lists.get(0).toArray();
+                for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                    candidates = lists.get(i).retainAll(candidates);
+                }
+
+                int total = documents.size();
+                Map<String, Double> idf = new HashMap<>();
+                for (String term : terms) {
+                    idf.put(term, Math.log(1.0 + (double) total / postings.get(term).size()));
+                }
+                List<Hit> hits = new ArrayList<>();
+                for (long id : candidates) {
+                    Document document = documents.get(id);
+                    if (!document.overlaps(from, to)) {
+                        continue;
+                    }
+                    double score = 0;
+                    for (String term : terms) {
+                        score += document.weights().get(term) * idf.get(term);
+                    }
+                    hits.add(new Hit(id, score, document.start()));
+                }
+                hits.sort(RANKING);
+                return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    private final EventBO eventBO;
+    private final ExpiringCache<Long, UserIndex> indexes;
+
+    /**
+     * Constructs the index.
+     *
+     * @param eventBO  the business object loading a user's events when their index is built
+     * @param maxUsers the maximum number of users whose index is kept
+     * @param ttl      how long a user's index is kept before it is rebuilt
+     */
+    public EventSearchIndex(EventBO eventBO,
+                            @Value("${events.search.max-users:1000}") int maxUsers,
+                            @Value("${events.search.ttl:PT30M}") Duration ttl) {
+        this.eventBO = eventBO;
+        this.indexes = new ExpiringCache<>(maxUsers, ttl);
+    }
+
+    /**
+     * Finds the user's events whose name or description contains every term of the query,
+     * optionally restricted to events overlapping {@code [from, to)}.
+     * <p>
+     * Hits are ranked by the summed weight of the query terms in each event, name occurrences
+     * counting {@value #NAME_WEIGHT} times as much as description ones, each term weighted by how
+     * rare it is among the user's events; ties go to the later event.
+     *
+     * @param creatorId the ID of the user
+     * @param query     the search text
+     * @param from      inclusive lower bound on the event span, or null for no bound
+     * @param to        exclusive upper bound on the event span, or null for no bound
+     * @param limit     the maximum number of hits
+     * @return the best hits, best first; empty if the query has no terms
+     */
+    public List<Hit> search(Long creatorId, String query, ZonedDateTime from, ZonedDateTime to, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        UserIndex index = indexes.get(creatorId, this::build);
+        return index.search(terms, from != null ? from.toInstant() : null, to != null ? to.toInstant() : null, limit);
+    }
+
+    /**
+     * Applies a committed event write to the owner's index, if it is built. Ordered before change
+     * notifications are pushed, so notified clients find the new state.
+     *
+     * @param change the committed change
+     */
+    @TransactionalEventListener
+    @Order(0)
+    public void onEventChange(EventChange change) {
+        UserIndex index = indexes.getIfPresent(change.creatorId());
+        if (index == null) {
+            // Discards a concurrent build that may have read the data before this write
+            indexes.invalidate(change.creatorId());
+            return;
+        }
+        EventSnapshot after = change.after();
+        if (after == null) {
+            index.remove(change.eventId());
+        } else {
+            index.put(Document.of(after.id(), after.name(), after.description(), after.startTime(),
+                    after.endTime(), after.recurring()));
+        }
+    }
+
+    private UserIndex build(Long creatorId) {
+        UserIndex index = new UserIndex();
+        for (EventSummaryView event : eventBO.getSummariesByCreatorId(creatorId)) {
+            index.put(Document.of(event.id(), event.name(), event.description(), event.startTime(),
+                    event.endTime(), event.isRecurring()));
+        }
+        return index;
+    }
+}
@@ -0,0 +1,91 @@
+package com.yohan.event_planner.business.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted set of event IDs backed by a primitive array, used as the postings list of one term.
+ * Not thread-safe.
+ */
+final class LongPostings {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @param id the ID to add
+     * @return true if the ID was not present
+     */
+    boolean add(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return false;
+        }
+        int insertAt = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+
+    /**
+     * @param id the ID to remove
+     * @return true if the ID was present
+     */
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        if (ids.length > INITIAL_CAPACITY && size < ids.length / 4) {
+            ids = Arrays.copyOf(ids, Math.max(INITIAL_CAPACITY, ids.length / 2));
+        }
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return a copy of the IDs, in ascending order
+     */
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Keeps the IDs of {@code candidates} that are also in this set, in a single merge pass.
+     *
+     * @param candidates IDs in ascending order
+     * @return the common IDs, in ascending order
+     */
+    long[] retainAll(long[] candidates) {
+        long[] common = new long[Math.min(candidates.length, size)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < candidates.length && j < size) {
+            if (candidates[i] < ids[j]) {
+                i++;
+            } else if (candidates[i] > ids[j]) {
+                j++;
+            } else {
+                common[count++] = candidates[i];
+                i++;
+                j++;
+            }
+        }
+        return count == common.length ? common : Arrays.copyOf(common, count);
+    }
+}
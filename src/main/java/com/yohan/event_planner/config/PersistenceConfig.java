@@ -0,0 +1,37 @@
+package com.yohan.event_planner.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for JPA/Hibernate settings.
+ *
+ * <p>
+ * Enables JDBC batching so that bulk writes such as batch event creation are sent to the
+ * database in groups of statements instead of one round trip per row. Values configured
+ * explicitly under {@code spring.jpa.properties} take precedence over these defaults.
+ * </p>
+ */
+@Configuration
+public class PersistenceConfig {
+
+    /**
+     * JDBC batch size; matches the allocation size of the event ID sequence.
+     */
+    static final int JDBC_BATCH_SIZE = 50;
+
+    /**
+     * Registers default Hibernate batching properties.
+     *
+     * @return the customizer applying the batching defaults
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", JDBC_BATCH_SIZE);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
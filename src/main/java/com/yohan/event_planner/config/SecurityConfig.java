@@ -1,7 +1,10 @@
 package com.yohan.event_planner.config;
 
+import com.yohan.event_planner.security.BoundedPasswordEncoder;
 import com.yohan.event_planner.security.JwtAuthFilter;
 import com.yohan.event_planner.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,10 +13,11 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 /**
  * Configuration class for Spring Security.
  *
@@ -49,13 +53,21 @@ public class SecurityConfig {
     }
 
     /**
-     * Defines the password encoder bean using BCrypt hashing algorithm.
+     * Defines the password encoder bean using BCrypt hashing algorithm, run on a bounded executor
+     * so that logins and registrations cannot take every core from other requests.
      *
-     * @return BCryptPasswordEncoder instance for password hashing and verification
+     * @param threads       the number of passwords hashed at once ({@code security.password-hashing.threads});
+     *                      0 for half the available processors
+     * @param queueCapacity the number of calls allowed to wait ({@code security.password-hashing.queue-capacity})
+     * @param retryAfter    the delay suggested to rejected clients ({@code security.password-hashing.retry-after})
+     * @return BCrypt encoder instance for password hashing and verification
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(@Value("${security.password-hashing.threads:0}") int threads,
+                                                  @Value("${security.password-hashing.queue-capacity:32}") int queueCapacity,
+                                                  @Value("${security.password-hashing.retry-after:PT2S}") Duration retryAfter) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, retryAfter);
     }
 
     /**
@@ -78,6 +90,7 @@ public class SecurityConfig {
      *   <li>CSRF disabled for stateless JWT security</li>
      *   <li>Stateless session management</li>
      *   <li>Public access to authentication endpoints under /api/auth/**</li>
+     *   <li>No second authorization of async dispatches, whose request was authorized when it started</li>
      *   <li>Authentication required for all other endpoints</li>
      *   <li>Registers the JWT authentication filter to run before UsernamePasswordAuthenticationFilter</li>
      * </ul>
@@ -94,6 +107,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))  // No sessions
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()  // Public endpoints like login and register
+                        // Async dispatches continue requests already authorized, such as event streams
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()                 // All other endpoints require authentication
                 )
                 .userDetailsService(customUserDetailsService)   // Use custom UserDetailsService
@@ -1,7 +1,10 @@
 package com.yohan.event_planner.controller;
 
 import com.yohan.event_planner.dto.UserLoginDTO;
+import com.yohan.event_planner.security.CustomUserDetails;
 import com.yohan.event_planner.security.JwtService;
+import com.yohan.event_planner.security.LoginThrottle;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -27,7 +30,8 @@ import java.util.Map;
  *
  * <p>
  * The controller leverages Spring Security's AuthenticationManager to authenticate credentials
- * and JwtService to generate JWT tokens.
+ * and JwtService to generate JWT tokens. Attempts are rate limited per client IP and username by
+ * {@link LoginThrottle} before any credentials are checked.
  * </p>
  */
 @RestController
@@ -36,17 +40,21 @@ public class AuthenticationController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
+    private final LoginThrottle loginThrottle;
 
     /**
      * Constructs the AuthenticationController with required dependencies.
      *
      * @param authenticationManager the Spring Security AuthenticationManager to perform authentication
      * @param jwtService the service responsible for generating and validating JWT tokens
+     * @param loginThrottle the rate limit of login attempts
      */
     @Autowired
-    public AuthenticationController(AuthenticationManager authenticationManager, JwtService jwtService) {
+    public AuthenticationController(AuthenticationManager authenticationManager, JwtService jwtService,
+                                    LoginThrottle loginThrottle) {
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
+        this.loginThrottle = loginThrottle;
     }
 
     /**
@@ -57,10 +65,17 @@ public class AuthenticationController {
      * and returns the token in a JSON map.</p>
      *
      * @param loginDTO the login data transfer object containing username and password
+     * @param request  the current request, identifying the client IP
      * @return ResponseEntity containing a JSON object with the JWT token under the key "token"
+     * @throws com.yohan.event_planner.exception.TooManyAttemptsException if the client IP or username
+     *         made too many recent attempts
      */
     @PostMapping("/login")
-    public ResponseEntity<Map<String, String>> login(@Valid @RequestBody UserLoginDTO loginDTO) {
+    public ResponseEntity<Map<String, String>> login(@Valid @RequestBody UserLoginDTO loginDTO,
+                                                     HttpServletRequest request) {
+        // Refuse abusive clients before paying for a password check
+        loginThrottle.check(request.getRemoteAddr(), loginDTO.getUsername());
+
         // Authenticate the username and password using AuthenticationManager
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginDTO.getUsername(), loginDTO.getPassword())
@@ -69,11 +84,11 @@ public class AuthenticationController {
         // Set the authenticated principal in the SecurityContext
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // Extract the authenticated username from UserDetails
-        String username = ((UserDetails) authentication.getPrincipal()).getUsername();
-
-        // Generate JWT token using the username
-        String jwtToken = jwtService.generateToken(username);
+        // Generate JWT token, with the user's identity claims when the full user is at hand
+        Object principal = authentication.getPrincipal();
+        String jwtToken = principal instanceof CustomUserDetails userDetails
+                ? jwtService.generateToken(userDetails.getUser())
+                : jwtService.generateToken(((UserDetails) principal).getUsername());
 
         // Return the token in a JSON response
         return ResponseEntity.ok(Map.of("token", jwtToken));
@@ -0,0 +1,42 @@
+package com.yohan.event_planner.controller;
+
+import com.yohan.event_planner.dto.CommonSlotsRequestDTO;
+import com.yohan.event_planner.dto.CommonSlotsResponseDTO;
+import com.yohan.event_planner.service.AvailabilityService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for availability searches across several users' schedules.
+ */
+@RestController
+@RequestMapping("/api/availability")
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    /**
+     * Constructor for dependency injection of AvailabilityService.
+     *
+     * @param availabilityService the service computing availability
+     */
+    public AvailabilityController(AvailabilityService availabilityService) {
+        this.availabilityService = availabilityService;
+    }
+
+    /**
+     * Finds time slots in which all given users are free for at least the requested duration,
+     * optionally within working hours.
+     *
+     * @param request validated DTO with the users, window, minimum duration and working hours
+     * @return ResponseEntity with the CommonSlotsResponseDTO and HTTP status 200 OK
+     */
+    @PostMapping("/common-slots")
+    public ResponseEntity<CommonSlotsResponseDTO> findCommonSlots(@Valid @RequestBody CommonSlotsRequestDTO request) {
+        return ResponseEntity.ok(availabilityService.findCommonSlots(request));
+    }
+}
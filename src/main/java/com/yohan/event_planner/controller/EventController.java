@@ -1,21 +1,36 @@
 package com.yohan.event_planner.controller;
 
-import com.yohan.event_planner.domain.PasswordVO;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.CacheStatsDTO;
+import com.yohan.event_planner.dto.EventBatchCreateDTO;
+import com.yohan.event_planner.dto.EventBatchResponseDTO;
+import com.yohan.event_planner.dto.EventChangesDTO;
 import com.yohan.event_planner.dto.EventCreateDTO;
+import com.yohan.event_planner.dto.EventFields;
+import com.yohan.event_planner.dto.EventPageDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventUpdateDTO;
 
-import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.security.AuthenticatedUserProvider;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.yohan.event_planner.service.EventService;
+import com.yohan.event_planner.service.EventStreamService;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 
@@ -28,41 +43,65 @@ import java.util.List;
 @RequestMapping("/api/events")
 public class EventController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final EventService eventService;
+    private final EventStreamService eventStreamService;
+    private final AuthenticatedUserProvider authenticatedUserProvider;
 
     /**
      * Constructs the EventController with required EventService.
      *
-     * @param eventService the service layer for event operations
+     * @param eventService              the service layer for event operations
+     * @param eventStreamService        the service pushing event changes to open streams
+     * @param authenticatedUserProvider provider of the authenticated user making the request
      */
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, EventStreamService eventStreamService,
+                           AuthenticatedUserProvider authenticatedUserProvider) {
         this.eventService = eventService;
+        this.eventStreamService = eventStreamService;
+        this.authenticatedUserProvider = authenticatedUserProvider;
     }
 
     /**
      * Creates a new event based on the provided EventCreateDTO.
-     *
-     * Note: Currently uses a temporary dummy user. This will be replaced
-     * by authenticated user information once security is implemented.
+     * The authenticated user becomes the creator of the event.
      *
      * @param eventCreateDTO the DTO containing event creation data
      * @return ResponseEntity containing the created EventResponseDTO and HTTP status 201 Created
      */
     @PostMapping
     public ResponseEntity<EventResponseDTO> createEvent(@Valid @RequestBody EventCreateDTO eventCreateDTO) {
-        EventResponseDTO response = eventService.createEvent(eventCreateDTO, getTemporaryDummyUser());
+        EventResponseDTO response = eventService.createEvent(eventCreateDTO, authenticatedUserProvider.getCurrentUser());
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates several events for the authenticated user in a single transaction.
+     *
+     * Items violating business rules (invalid times, overlaps with stored events or with
+     * other items of the batch) are rejected individually and reported in the response.
+     *
+     * @param batchCreateDTO the DTO containing the events to create
+     * @return ResponseEntity containing an EventBatchResponseDTO with one result per item and HTTP status 200 OK
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<EventBatchResponseDTO> createEvents(@Valid @RequestBody EventBatchCreateDTO batchCreateDTO) {
+        EventBatchResponseDTO response = eventService.createEvents(batchCreateDTO, authenticatedUserProvider.getCurrentUser());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Retrieves an event by its unique identifier.
      *
-     * @param id the ID of the event to retrieve
+     * @param id     the ID of the event to retrieve
+     * @param fields optional comma-separated list of response fields (see {@link EventFields})
      * @return ResponseEntity containing the EventResponseDTO and HTTP status 200 OK
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponseDTO> getEvent(@PathVariable Long id) {
-        EventResponseDTO response = eventService.getById(id);
+    public ResponseEntity<EventResponseDTO> getEvent(@PathVariable Long id,
+                                                     @RequestParam(required = false) String fields) {
+        EventResponseDTO response = eventService.getById(id, EventFields.parse(fields));
         return ResponseEntity.ok(response);
     }
 
@@ -95,64 +134,241 @@ public class EventController {
     }
 
     /**
-     * Retrieves all events created by a specific user.
+     * Retrieves the events created by a specific user, one page at a time, ordered by start time.
      *
      * @param userId the ID of the user whose events to retrieve
-     * @return ResponseEntity containing a list of EventResponseDTOs and HTTP status 200 OK
+     * @param from   optional ISO-8601 lower bound on start time (inclusive)
+     * @param to     optional ISO-8601 upper bound on start time (exclusive)
+     * @param cursor the {@code nextCursor} returned with the previous page; omitted for the first page
+     * @param limit  the maximum number of events per page, between 1 and 200
+     * @param fields optional comma-separated list of response fields (see {@link EventFields})
+     * @param request the current request, checked against the user's calendar ETag
+     * @return ResponseEntity containing an EventPageDTO and HTTP status 200 OK,
+     * or null after answering 304 Not Modified if the calendar has not changed
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<EventResponseDTO>> getMyEvents(@PathVariable Long userId) {
-        List<EventResponseDTO> events = eventService.getByUserId(userId);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<EventPageDTO> getMyEvents(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200) int limit,
+            @RequestParam(required = false) String fields,
+            WebRequest request
+    ) {
+        EventFields selected = EventFields.parse(fields);
+        String eTag = eventService.getCalendarETag(userId);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        EventPageDTO page = eventService.getByUserId(userId, from, to, cursor, limit, selected);
+        return ResponseEntity.ok().eTag(eTag).body(page);
+    }
+
+    /**
+     * Exports all events created by a specific user as newline-delimited JSON
+     * ({@code application/x-ndjson}), one event per line.
+     * The response is streamed while the events are read, so exports of any size use constant memory.
+     * Restricted to administrators, as it returns any user's full calendar.
+     *
+     * @param userId the ID of the user whose events to export
+     * @return ResponseEntity streaming the events and HTTP status 200 OK
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/user/{userId}/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEvents(@PathVariable Long userId) {
+        StreamingResponseBody body = out -> eventService.exportByUserId(userId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
     }
 
     /**
      * Retrieves all events associated with a specific day.
      *
-     * @param dayId the ID of the day to filter events by
-     * @return ResponseEntity containing a list of EventResponseDTOs and HTTP status 200 OK
+     * @param dayId   the ID of the day to filter events by
+     * @param fields  optional comma-separated list of response fields (see {@link EventFields})
+     * @param request the current request, checked against the calendar ETag of the day's owner
+     * @return ResponseEntity containing a list of EventResponseDTOs and HTTP status 200 OK,
+     * or null after answering 304 Not Modified if the calendar has not changed
      */
     @GetMapping("/day/{dayId}")
-    public ResponseEntity<List<EventResponseDTO>> getEventsByDay(@PathVariable Long dayId) {
-        List<EventResponseDTO> events = eventService.getByDayId(dayId);
+    public ResponseEntity<List<EventResponseDTO>> getEventsByDay(@PathVariable Long dayId,
+                                                                 @RequestParam(required = false) String fields,
+                                                                 WebRequest request) {
+        EventFields selected = EventFields.parse(fields);
+        // Unknown days have no owner and hence no ETag
+        String eTag = eventService.getDayETag(dayId);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+        List<EventResponseDTO> events = eventService.getByDayId(dayId, selected);
+        return eTag != null ? ResponseEntity.ok().eTag(eTag).body(events) : ResponseEntity.ok(events);
+    }
+
+    /**
+     * Retrieves the authenticated user's events on a UTC date. Unlike {@code /day/{dayId}}, this
+     * needs no Day record, which only exists for some dates when day membership is span-based.
+     *
+     * @param date    ISO-8601 UTC date (e.g., "2025-05-16")
+     * @param fields  optional comma-separated list of response fields (see {@link EventFields})
+     * @param request the current request, checked against the user's calendar ETag
+     * @return ResponseEntity containing a list of EventResponseDTOs and HTTP status 200 OK,
+     * or null after answering 304 Not Modified if the calendar has not changed
+     */
+    @GetMapping("/day")
+    public ResponseEntity<List<EventResponseDTO>> getEventsByDayDate(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String fields,
+            WebRequest request
+    ) {
+        User user = authenticatedUserProvider.getCurrentUser();
+        EventFields selected = EventFields.parse(fields);
+        String eTag = eventService.getCalendarETag(user.getId());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        List<EventResponseDTO> events = eventService.getByDay(user, date, selected);
+        return ResponseEntity.ok().eTag(eTag).body(events);
+    }
+
+    /**
+     * Retrieves the hit, miss and eviction counters of the event read caches. Restricted to administrators.
+     *
+     * @return ResponseEntity containing one entry per cache and HTTP status 200 OK
+     */
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(eventService.getCacheStats());
+    }
+
+    /**
+     * Retrieves the authenticated user's events overlapping a time range, such as a week or month view.
+     *
+     * @param from   ISO-8601 start of the range (inclusive)
+     * @param to     ISO-8601 end of the range (exclusive); at most 366 days after {@code from}
+     * @param fields  optional comma-separated list of response fields (see {@link EventFields})
+     * @param request the current request, checked against the user's calendar ETag
+     * @return ResponseEntity containing a list of EventResponseDTOs ordered by start time and HTTP status 200 OK,
+     * or null after answering 304 Not Modified if the calendar has not changed
+     */
+    @GetMapping("/range")
+    public ResponseEntity<List<EventResponseDTO>> getEventsInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+            @RequestParam(required = false) String fields,
+            WebRequest request
+    ) {
+        // Invalid requests are rejected even when the calendar has not changed
+        EventFields selected = EventFields.parse(fields);
+        eventService.validateRange(from, to);
+        User user = authenticatedUserProvider.getCurrentUser();
+        String eTag = eventService.getCalendarETag(user.getId());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        List<EventResponseDTO> events = eventService.getByRange(user, from, to, selected);
+        return ResponseEntity.ok().eTag(eTag).body(events);
+    }
+
+    /**
+     * Retrieves the changes to the authenticated user's events since a sync token, so offline-capable
+     * clients can resync without downloading their full calendar.
+     * <p>
+     * Called without {@code since}, it returns no changes and the token to start syncing from; the
+     * client then downloads its calendar once and syncs from that token afterwards. A token older
+     * than the change log's retention is answered with 410 Gone; the client starts over without one.
+     *
+     * @param since the {@code nextToken} of the previous sync; omitted to obtain the initial token
+     * @param limit the maximum number of changes to read, between 1 and 1000; while {@code hasMore}
+     *              is true, the client should sync again with {@code nextToken}
+     * @return ResponseEntity containing an EventChangesDTO and HTTP status 200 OK
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<EventChangesDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(1000) int limit
+    ) {
+        EventChangesDTO changes = eventService.getChanges(authenticatedUserProvider.getCurrentUser(), since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Searches the authenticated user's events by the words of their name and description.
+     *
+     * @param q     the search text; every word must occur in a matching event, ignoring case and accents
+     * @param from  optional ISO-8601 lower bound (inclusive) on the event span
+     * @param to    optional ISO-8601 upper bound (exclusive) on the event span
+     * @param limit the maximum number of results, between 1 and 100
+     * @return ResponseEntity containing a list of EventResponseDTOs, most relevant first, and HTTP status 200 OK
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<EventResponseDTO>> searchEvents(
+            @RequestParam @NotBlank @Size(max = 200) String q,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit
+    ) {
+        List<EventResponseDTO> events = eventService.search(authenticatedUserProvider.getCurrentUser(), q, from, to,
+                limit);
         return ResponseEntity.ok(events);
     }
 
+    /**
+     * Suggests completions of a partially typed event name from the authenticated user's event names.
+     *
+     * @param prefix the typed prefix, matched ignoring case and accents
+     * @param limit  the maximum number of names, between 1 and 50
+     * @return ResponseEntity containing the distinct suggested names, best first, and HTTP status 200 OK
+     */
+    @GetMapping("/names")
+    public ResponseEntity<List<String>> suggestEventNames(
+            @RequestParam @Size(max = 200) String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit
+    ) {
+        List<String> names = eventService.suggestNames(authenticatedUserProvider.getCurrentUser(), prefix, limit);
+        return ResponseEntity.ok(names);
+    }
+
+    /**
+     * Opens a server-sent event stream notifying the authenticated user of every committed create,
+     * update and delete of their events, as {@code event-change} events carrying an
+     * {@link com.yohan.event_planner.dto.EventChangeNotificationDTO}. The stream replaces polling:
+     * clients fetch the new state through {@code /changes} when notified, and after reconnecting.
+     *
+     * @return the emitter streaming the notifications
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges() {
+        return eventStreamService.subscribe(authenticatedUserProvider.getCurrentUser().getId());
+    }
+
     /**
      * Retrieves all events occurring on a specific date.
      *
      * @param dateIso ISO-8601 formatted date string (e.g., "2025-05-16")
+     * @param fields  optional comma-separated list of response fields (see {@link EventFields})
+     * @param request the current request, checked against the ETag covering all calendars
      * @return ResponseEntity containing a list of EventResponseDTOs and HTTP status 200 OK,
-     * or HTTP 400 Bad Request if the date format is invalid
+     * HTTP 400 Bad Request if the date format is invalid,
+     * or null after answering 304 Not Modified if no calendar has changed
      */
     @GetMapping("/date")
-    public ResponseEntity<List<EventResponseDTO>> getEventsByDate(@RequestParam("date") String dateIso) {
+    public ResponseEntity<List<EventResponseDTO>> getEventsByDate(@RequestParam("date") String dateIso,
+                                                                  @RequestParam(required = false) String fields,
+                                                                  WebRequest request) {
         try {
             LocalDate date = LocalDate.parse(dateIso);
-            List<EventResponseDTO> events = eventService.getByDate(date);
-            return ResponseEntity.ok(events);
+            EventFields selected = EventFields.parse(fields);
+            String eTag = eventService.getAllCalendarsETag();
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            List<EventResponseDTO> events = eventService.getByDate(date, selected);
+            return ResponseEntity.ok().eTag(eTag).body(events);
         } catch (DateTimeParseException e) {
             return ResponseEntity.badRequest().build();
         }
     }
-
-    /**
-     * Temporary helper method to return a dummy user.
-     * This should be replaced by the actual authenticated user
-     * once JWT-based authentication is implemented.
-     *
-     * @return a dummy User instance for testing purposes
-     */
-    private User getTemporaryDummyUser() {
-        PasswordEncoder encoder = new BCryptPasswordEncoder();
-        PasswordVO passwordVO = new PasswordVO("dummypassword", encoder);
-        return new User(
-                "dummy",
-                passwordVO,
-                "dummy@email.com",
-                ZoneId.of("UTC"),
-                "Dummy",
-                "Smith"
-        );
-    }
 }
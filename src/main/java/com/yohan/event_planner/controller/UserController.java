@@ -1,18 +1,27 @@
 package com.yohan.event_planner.controller;
 
+import com.yohan.event_planner.dto.CacheStatsDTO;
+import com.yohan.event_planner.dto.FreeBusyResponseDTO;
+import com.yohan.event_planner.dto.PasswordHashingStatsDTO;
 import com.yohan.event_planner.dto.UserCreateDTO;
 import com.yohan.event_planner.dto.UserResponseDTO;
 import com.yohan.event_planner.dto.UserUpdateDTO;
 import com.yohan.event_planner.exception.RoleNotFoundException;
 import com.yohan.event_planner.domain.Role;
+import com.yohan.event_planner.service.AvailabilityService;
 import com.yohan.event_planner.service.RoleService;
 import com.yohan.event_planner.service.UserService;
 
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,16 +34,20 @@ public class UserController {
 
     private final UserService userService;
     private final RoleService roleService;
+    private final AvailabilityService availabilityService;
 
     /**
-     * Constructor for dependency injection of UserService and RoleService.
+     * Constructor for dependency injection of UserService, RoleService and AvailabilityService.
      *
-     * @param userService the service handling user business logic
-     * @param roleService the service handling role lookups
+     * @param userService         the service handling user business logic
+     * @param roleService         the service handling role lookups
+     * @param availabilityService the service computing users' free/busy information
      */
-    public UserController(UserService userService, RoleService roleService) {
+    public UserController(UserService userService, RoleService roleService,
+                          AvailabilityService availabilityService) {
         this.userService = userService;
         this.roleService = roleService;
+        this.availabilityService = availabilityService;
     }
 
     /**
@@ -59,16 +72,63 @@ public class UserController {
         return new ResponseEntity<>(createdUser, HttpStatus.CREATED);
     }
 
+    /**
+     * Retrieves the hit, miss and eviction counters of the cache of principals loaded by username.
+     * Restricted to administrators.
+     *
+     * @return ResponseEntity containing one entry per cache and HTTP status 200 OK
+     */
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(userService.getCacheStats());
+    }
+
+    /**
+     * Retrieves the queue depth and hashing times of the password hashing executor. Restricted to
+     * administrators.
+     *
+     * @return ResponseEntity containing the executor's counters and HTTP status 200 OK
+     */
+    @GetMapping("/password-hashing/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PasswordHashingStatsDTO> getPasswordHashingStats() {
+        return ResponseEntity.ok(userService.getPasswordHashingStats());
+    }
+
     /**
      * Retrieves a user by their ID.
      *
-     * @param id the ID of the user to retrieve
-     * @return ResponseEntity with the UserResponseDTO and HTTP status 200 OK
+     * @param id      the ID of the user to retrieve
+     * @param request the current request, checked against the user's ETag
+     * @return ResponseEntity with the UserResponseDTO and HTTP status 200 OK,
+     * or null after answering 304 Not Modified if the user has not changed
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponseDTO> getUser(@PathVariable Long id) {
+    public ResponseEntity<UserResponseDTO> getUser(@PathVariable Long id, WebRequest request) {
+        String eTag = userService.getUserETag(id);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         UserResponseDTO user = userService.getUserById(id);
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok().eTag(eTag).body(user);
+    }
+
+    /**
+     * Retrieves a user's busy periods within a window, merged across overlapping and adjacent events.
+     *
+     * @param id   the ID of the user
+     * @param from ISO-8601 start of the window (inclusive), e.g. "2025-05-20T00:00:00Z"
+     * @param to   ISO-8601 end of the window (exclusive)
+     * @return ResponseEntity with the FreeBusyResponseDTO and HTTP status 200 OK
+     */
+    @GetMapping("/{id}/freebusy")
+    public ResponseEntity<FreeBusyResponseDTO> getFreeBusy(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to
+    ) {
+        return ResponseEntity.ok(availabilityService.getFreeBusy(id, from, to));
     }
 
     /**
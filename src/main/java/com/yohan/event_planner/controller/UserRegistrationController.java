@@ -12,6 +12,8 @@ import com.yohan.event_planner.exception.RoleNotFoundException;
 import com.yohan.event_planner.exception.UsernameException;
 import com.yohan.event_planner.repository.RoleRepository;
 import com.yohan.event_planner.repository.UserRepository;
+import com.yohan.event_planner.security.LoginThrottle;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -26,6 +28,7 @@ import java.time.ZoneId;
  * Controller responsible for user registration endpoint.
  *
  * This controller handles incoming requests to create a new user account,
+ * rate limiting them per client IP and username with {@link LoginThrottle},
  * validating the input, ensuring uniqueness of username and email,
  * hashing the password, assigning default roles, and persisting the user entity.
  *
@@ -40,14 +43,17 @@ public class UserRegistrationController {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final LoginThrottle loginThrottle;
 
     @Autowired
     public UserRegistrationController(UserRepository userRepository,
                                       RoleRepository roleRepository,
-                                      PasswordEncoder passwordEncoder) {
+                                      PasswordEncoder passwordEncoder,
+                                      LoginThrottle loginThrottle) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.loginThrottle = loginThrottle;
     }
 
     /**
@@ -60,12 +66,18 @@ public class UserRegistrationController {
      * (excluding sensitive information like password).
      *
      * @param userCreateDTO the incoming user registration data transfer object
+     * @param request       the current request, identifying the client IP
      * @return 201 Created with {@link UserRegistrationResponseDTO} containing success message and user info,
      *         or 409 Conflict if username/email exists.
      * @throws RoleNotFoundException if default role "ROLE_USER" is not found in the database
+     * @throws com.yohan.event_planner.exception.TooManyAttemptsException if the client IP or username
+     *         made too many recent attempts
      */
     @PostMapping("/register")
-    public ResponseEntity<UserRegistrationResponseDTO> registerUser(@Valid @RequestBody UserCreateDTO userCreateDTO) {
+    public ResponseEntity<UserRegistrationResponseDTO> registerUser(@Valid @RequestBody UserCreateDTO userCreateDTO,
+                                                                    HttpServletRequest request) {
+        loginThrottle.check(request.getRemoteAddr(), userCreateDTO.username());
+
         if (userRepository.findByUsername(userCreateDTO.username()).isPresent()) {
             throw new UsernameException(ErrorCode.DUPLICATE_USERNAME, userCreateDTO.username());
         }
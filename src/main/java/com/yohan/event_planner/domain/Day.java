@@ -3,6 +3,7 @@ package com.yohan.event_planner.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -10,7 +11,7 @@ import java.util.Set;
 
 /**
  * Represents a calendar day that can be associated with multiple events.
- * Each Day has a unique date and belongs to a specific creator (user).
+ * Each Day belongs to a specific creator (user), who has at most one Day per date.
  * Days can be archived to indicate they are no longer active.
  */
 @Entity
@@ -24,10 +25,10 @@ public class Day {
     private Long id;
 
     /**
-     * The unique date this Day represents.
+     * The date this Day represents, unique per creator.
      */
     @NotNull(message = "Date cannot be null")
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private LocalDate date;
 
     /**
@@ -56,6 +57,8 @@ public class Day {
     /**
      * Whether this day is archived (no longer active).
      */
+    @ColumnDefault("false")
+    @Column(nullable = false)
     private boolean archived = false;
 
     /**
@@ -0,0 +1,40 @@
+package com.yohan.event_planner.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Stores a set of {@link DayOfWeek} values as a comma-separated column, e.g. {@code MONDAY,WEDNESDAY}.
+ */
+@Converter
+public class DayOfWeekSetConverter implements AttributeConverter<Set<DayOfWeek>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Set<DayOfWeek> days) {
+        if (days == null || days.isEmpty()) {
+            return null;
+        }
+        return days.stream()
+                .sorted()
+                .map(DayOfWeek::name)
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public Set<DayOfWeek> convertToEntityAttribute(String column) {
+        // Null keeps an embedding rule without this attribute distinguishable from no rule at all
+        if (column == null || column.isBlank()) {
+            return null;
+        }
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : column.split(",")) {
+            days.add(DayOfWeek.valueOf(day.trim()));
+        }
+        return days;
+    }
+}
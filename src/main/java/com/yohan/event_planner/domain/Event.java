@@ -14,6 +14,12 @@ import java.util.Set;
  * Represents an event with a name, start and end times, associated days, description,
  * creator user, and timezone information.
  *
+ * Recurrence:
+ *
+ *   An event may carry a {@link RecurrenceRule}. Its {@code startTime} and {@code endTime} then describe
+ *       the first occurrence, and {@code seriesEndTime} the end of the last occurrence (null if the series
+ *       never ends). Further occurrences are not stored; reads expand them from the rule.
+ *
  * Timezone handling:
  *
  *   The event's {@code timezone} always reflects the timezone of the {@code startTime}.
@@ -24,11 +30,19 @@ import java.util.Set;
  *
  */
 @Entity
-@Table(name = "events")
+@Table(
+        name = "events",
+        indexes = @Index(name = "idx_events_creator_start_end", columnList = "creator_id, start_time, end_time")
+)
 public class Event {
 
+    /**
+     * Sequence-generated so that inserts can be batched; IDENTITY columns force
+     * Hibernate to execute each insert immediately to obtain the key.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Event name cannot be blank")
@@ -63,6 +77,19 @@ public class Event {
     @Column(nullable = false)
     private ZoneId timezone;
 
+    /**
+     * How the event repeats, or null for a one-off event.
+     */
+    @Embedded
+    private RecurrenceRule recurrence;
+
+    /**
+     * End of the last occurrence of a recurring event (UTC), or null if the series is unbounded
+     * or the event does not recur. Kept alongside the rule so that range queries can skip ended series.
+     */
+    @Column(name = "series_end_time")
+    private ZonedDateTime seriesEndTime;
+
     /**
      * Default constructor for JPA.
      */
@@ -174,4 +201,27 @@ public class Event {
     public void setTimezone(ZoneId timezone) {
         this.timezone = timezone;
     }
+
+    public RecurrenceRule getRecurrence() {
+        return recurrence;
+    }
+
+    public void setRecurrence(RecurrenceRule recurrence) {
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * @return true if this event has a recurrence rule
+     */
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    public ZonedDateTime getSeriesEndTime() {
+        return seriesEndTime;
+    }
+
+    public void setSeriesEndTime(ZonedDateTime seriesEndTime) {
+        this.seriesEndTime = seriesEndTime;
+    }
 }
@@ -0,0 +1,88 @@
+package com.yohan.event_planner.domain;
+
+import com.yohan.event_planner.business.change.EventChangeType;
+import jakarta.persistence.*;
+
+import java.time.ZonedDateTime;
+
+/**
+ * One row of the log of event writes, read by clients syncing their calendar incrementally.
+ * <p>
+ * Rows are inserted in the transaction of the write they record and never updated. They only
+ * reference the event and its owner by ID, so the row of a deleted event survives as its tombstone
+ * until the row is pruned with the rest of the log's oldest end.
+ */
+@Entity
+@Table(
+        name = "event_change_log",
+        indexes = {
+                @Index(name = "idx_event_change_log_creator_id", columnList = "creator_id, id"),
+                @Index(name = "idx_event_change_log_changed_at", columnList = "changed_at")
+        }
+)
+public class EventChangeLogEntry {
+
+    /**
+     * Drawn from the sequence one value at a time: pooled blocks handed to different application
+     * instances would let a later write of a user get a lower ID than an earlier one, and clients
+     * resuming after the earlier ID would miss it.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_change_seq")
+    @SequenceGenerator(name = "event_change_seq", sequenceName = "event_change_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "creator_id", nullable = false)
+    private Long creatorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EventChangeType type;
+
+    @Column(name = "changed_at", nullable = false)
+    private ZonedDateTime changedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    protected EventChangeLogEntry() {
+    }
+
+    /**
+     * Constructs a log entry.
+     *
+     * @param eventId   the ID of the written event
+     * @param creatorId the ID of the user owning the event
+     * @param type      the kind of write
+     * @param changedAt when the write happened
+     */
+    public EventChangeLogEntry(Long eventId, Long creatorId, EventChangeType type, ZonedDateTime changedAt) {
+        this.eventId = eventId;
+        this.creatorId = creatorId;
+        this.type = type;
+        this.changedAt = changedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getCreatorId() {
+        return creatorId;
+    }
+
+    public EventChangeType getType() {
+        return type;
+    }
+
+    public ZonedDateTime getChangedAt() {
+        return changedAt;
+    }
+}
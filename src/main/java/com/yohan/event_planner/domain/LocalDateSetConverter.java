@@ -0,0 +1,41 @@
+package com.yohan.event_planner.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Stores a set of {@link LocalDate} values as a comma-separated column of ISO-8601 dates,
+ * e.g. {@code 2025-05-20,2025-06-03}.
+ */
+@Converter
+public class LocalDateSetConverter implements AttributeConverter<Set<LocalDate>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Set<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return null;
+        }
+        return dates.stream()
+                .sorted()
+                .map(LocalDate::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public Set<LocalDate> convertToEntityAttribute(String column) {
+        // Null keeps an embedding rule without this attribute distinguishable from no rule at all
+        if (column == null || column.isBlank()) {
+            return null;
+        }
+        Set<LocalDate> dates = new TreeSet<>();
+        for (String date : column.split(",")) {
+            dates.add(LocalDate.parse(date.trim()));
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,10 @@
+package com.yohan.event_planner.domain;
+
+/**
+ * Frequencies supported by a {@link RecurrenceRule}, modelled after the RFC 5545 {@code FREQ} values.
+ */
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY
+}
@@ -0,0 +1,126 @@
+package com.yohan.event_planner.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Value Object describing how an {@link Event} repeats, modelled after a subset of RFC 5545 RRULE.
+ * <p>
+ * The event's own start and end times define the first occurrence; every further occurrence
+ * starts at the same local time, in the event's timezone, on each date matching the rule:
+ * <ul>
+ *   <li>{@code DAILY}: every {@code interval} days;</li>
+ *   <li>{@code WEEKLY}: on {@code byDays} (or the first occurrence's weekday) every {@code interval} weeks;</li>
+ *   <li>{@code MONTHLY}: on the first occurrence's day of month every {@code interval} months,
+ *       skipping months that do not have that day.</li>
+ * </ul>
+ * A series ends after the {@code until} date (inclusive) or after {@code count} occurrences, or never
+ * if neither is set. Dates listed in {@code exceptions} (local dates in the event's timezone) are skipped;
+ * as in RFC 5545, skipped dates still count towards {@code count}.
+ * </p>
+ * <p>
+ * Occurrences are never stored; they are expanded on demand for the window a query asks for.
+ * </p>
+ */
+@Embeddable
+public class RecurrenceRule {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence_frequency", length = 10)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "recurrence_interval")
+    private Integer interval;
+
+    @Convert(converter = DayOfWeekSetConverter.class)
+    @Column(name = "recurrence_by_days", length = 30)
+    private Set<DayOfWeek> byDays;
+
+    @Column(name = "recurrence_until")
+    private LocalDate until;
+
+    @Column(name = "recurrence_count")
+    private Integer count;
+
+    @Convert(converter = LocalDateSetConverter.class)
+    @Column(name = "recurrence_exceptions", length = 4000)
+    private Set<LocalDate> exceptions;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    protected RecurrenceRule() {
+    }
+
+    /**
+     * Constructs a recurrence rule.
+     *
+     * @param frequency  how often the event repeats; must not be null
+     * @param interval   the number of frequency units between occurrences; defaults to 1 if null
+     * @param byDays     the weekdays of a weekly rule; may be null or empty
+     * @param until      the last date (inclusive) an occurrence may fall on; may be null
+     * @param count      the total number of occurrences; may be null
+     * @param exceptions the dates on which no occurrence takes place; may be null
+     */
+    public RecurrenceRule(RecurrenceFrequency frequency, Integer interval, Set<DayOfWeek> byDays,
+                          LocalDate until, Integer count, Set<LocalDate> exceptions) {
+        this.frequency = Objects.requireNonNull(frequency, "frequency");
+        this.interval = interval == null ? 1 : interval;
+        this.byDays = byDays == null || byDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(byDays);
+        this.until = until;
+        this.count = count;
+        this.exceptions = exceptions == null ? new TreeSet<>() : new TreeSet<>(exceptions);
+    }
+
+    public RecurrenceFrequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval == null ? 1 : interval;
+    }
+
+    public Set<DayOfWeek> getByDays() {
+        return byDays == null ? Collections.emptySet() : Collections.unmodifiableSet(byDays);
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public Set<LocalDate> getExceptions() {
+        return exceptions == null ? Collections.emptySet() : Collections.unmodifiableSet(exceptions);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RecurrenceRule that)) return false;
+        return frequency == that.frequency
+                && getInterval() == that.getInterval()
+                && getByDays().equals(that.getByDays())
+                && Objects.equals(until, that.until)
+                && Objects.equals(count, that.count)
+                && getExceptions().equals(that.getExceptions());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, getInterval(), getByDays(), until, count, getExceptions());
+    }
+}
@@ -71,6 +71,14 @@ public class User {
     @Column(nullable = false)
     private ZoneId timezone;
 
+    /**
+     * Incremented whenever the identity details carried by the user's tokens go stale:
+     * username, timezone, roles or enabled state. A token issued under an older generation
+     * is no longer trusted on its claims alone.
+     */
+    @Column(name = "token_generation", nullable = false)
+    private long tokenGeneration;
+
     @Transient
     private PasswordVO passwordVO;
 
@@ -105,6 +113,24 @@ public class User {
         this.lastName = lastName;
     }
 
+    /**
+     * Creates a detached reference to a stored user from identity details held outside the
+     * database, such as token claims. Only the ID, username and timezone are set; the reference
+     * can associate other entities with the user but must never be saved itself.
+     *
+     * @param id       the ID of the stored user
+     * @param username the username
+     * @param timezone the user's time zone
+     * @return the reference
+     */
+    public static User reference(Long id, String username, ZoneId timezone) {
+        User user = new User();
+        user.id = id;
+        user.username = username;
+        user.timezone = timezone;
+        return user;
+    }
+
     // --- Roles related methods ---
 
     /**
@@ -239,6 +265,17 @@ public class User {
         this.enabled = enabled;
     }
 
+    public long getTokenGeneration() {
+        return tokenGeneration;
+    }
+
+    /**
+     * Marks the identity details in the user's issued tokens as stale.
+     */
+    public void incrementTokenGeneration() {
+        tokenGeneration++;
+    }
+
     public ZoneId getTimezone() {
         return timezone;
     }
@@ -0,0 +1,13 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Counters of one read cache since application start.
+ *
+ * @param name      the cache name
+ * @param hits      reads answered from the cache
+ * @param misses    reads that went to the database
+ * @param evictions entries dropped because the cache was full or the entry had expired
+ * @param size      the current number of entries
+ */
+public record CacheStatsDTO(String name, long hits, long misses, long evictions, int size) {
+}
@@ -0,0 +1,45 @@
+package com.yohan.event_planner.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * Request DTO for finding time slots in which all given users are free.
+ *
+ * @param userIds            the users who must all be available; at most 20
+ * @param from               the inclusive start of the search window
+ * @param to                 the exclusive end of the search window
+ * @param minDurationMinutes the minimum slot length in minutes
+ * @param workingHours       optional working hours the slots must fall within
+ * @param maxResults         the maximum number of slots to return; defaults to 50
+ */
+public record CommonSlotsRequestDTO(
+
+        @NotEmpty(message = "At least one user ID is required")
+        @Size(max = 20, message = "At most 20 users can be searched at once")
+        Set<@NotNull Long> userIds,
+
+        @NotNull(message = "Window start is required")
+        ZonedDateTime from,
+
+        @NotNull(message = "Window end is required")
+        ZonedDateTime to,
+
+        @NotNull(message = "Minimum duration is required")
+        @Min(1) @Max(1440)
+        Integer minDurationMinutes,
+
+        @Valid
+        WorkingHoursDTO workingHours,
+
+        @Min(1) @Max(500)
+        Integer maxResults
+) {
+}
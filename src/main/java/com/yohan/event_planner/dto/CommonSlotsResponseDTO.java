@@ -0,0 +1,16 @@
+package com.yohan.event_planner.dto;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Response DTO listing the time slots in which all requested users are free.
+ *
+ * @param userIds the users the slots were computed for
+ * @param slots   the free slots, ordered by start, in UTC
+ */
+public record CommonSlotsResponseDTO(
+        Set<Long> userIds,
+        List<TimeSlotDTO> slots
+) {
+}
@@ -0,0 +1,25 @@
+package com.yohan.event_planner.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object used when creating several events in a single request,
+ * e.g. when importing a timetable or a conference agenda.
+ *
+ * Each item is validated like a single {@link EventCreateDTO}; business rule violations
+ * (invalid time ranges, conflicts) are reported per item rather than failing the request.
+ *
+ * @param events the events to create; must contain between 1 and 500 items
+ */
+public record EventBatchCreateDTO(
+
+        @NotEmpty(message = "Batch must contain at least one event")
+        @Size(max = 500, message = "Batch must contain at most 500 events")
+        List<@NotNull(message = "Batch items cannot be null") @Valid EventCreateDTO> events
+
+) {}
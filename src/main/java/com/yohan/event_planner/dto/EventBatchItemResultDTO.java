@@ -0,0 +1,18 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Data Transfer Object describing the outcome of a single item of a batch event creation.
+ *
+ * @param index     the position of the item in the submitted batch
+ * @param created   whether the item was persisted
+ * @param event     the created event, or null if the item was rejected
+ * @param errorCode the error code explaining the rejection, or null if the item was created
+ * @param message   a human-readable rejection reason, or null if the item was created
+ */
+public record EventBatchItemResultDTO(
+        int index,
+        boolean created,
+        EventResponseDTO event,
+        String errorCode,
+        String message
+) {}
@@ -0,0 +1,16 @@
+package com.yohan.event_planner.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object representing the response of a batch event creation.
+ *
+ * @param createdCount  the number of events that were persisted
+ * @param rejectedCount the number of items that were rejected
+ * @param results       one result per submitted item, in submission order
+ */
+public record EventBatchResponseDTO(
+        int createdCount,
+        int rejectedCount,
+        List<EventBatchItemResultDTO> results
+) {}
@@ -0,0 +1,27 @@
+package com.yohan.event_planner.dto;
+
+import com.yohan.event_planner.business.change.EventChangeType;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Notification pushed to a user's event stream after one of their events was written.
+ * <p>
+ * It only identifies the change; clients fetch the new state through the changes endpoint,
+ * which also covers notifications missed while disconnected.
+ *
+ * @param type      the kind of write
+ * @param eventId   the ID of the written event
+ * @param startTime the start of the event after the write, or before it for a delete (UTC)
+ * @param endTime   the end of the event after the write, or before it for a delete (UTC); for a
+ *                  recurring event, the end of its first occurrence
+ * @param recurring true if the event repeats after {@code endTime}
+ */
+public record EventChangeNotificationDTO(
+        EventChangeType type,
+        Long eventId,
+        ZonedDateTime startTime,
+        ZonedDateTime endTime,
+        boolean recurring
+) {
+}
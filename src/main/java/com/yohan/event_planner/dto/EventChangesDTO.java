@@ -0,0 +1,19 @@
+package com.yohan.event_planner.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for the changes to a user's events since a sync token.
+ *
+ * @param changed   the current state of the events created or updated since the token
+ * @param deleted   the IDs of the events deleted since the token
+ * @param nextToken opaque token to pass as {@code since} on the next sync
+ * @param hasMore   true if further changes are pending, to be fetched right away with {@code nextToken}
+ */
+public record EventChangesDTO(
+        List<EventResponseDTO> changed,
+        List<Long> deleted,
+        String nextToken,
+        boolean hasMore
+) {
+}
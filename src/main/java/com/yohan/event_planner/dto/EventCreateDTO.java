@@ -1,6 +1,7 @@
 package com.yohan.event_planner.dto;
 
 import java.time.ZonedDateTime;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -15,6 +16,7 @@ import jakarta.validation.constraints.Size;
  * @param startTime   the start time of the event; must not be null, includes timezone info
  * @param endTime     the end time of the event; must not be null, includes timezone info
  * @param description optional description of the event; max 255 characters
+ * @param recurrence  optional recurrence rule; the start and end times then describe the first occurrence
  */
 public record EventCreateDTO(
 
@@ -29,6 +31,17 @@ public record EventCreateDTO(
         ZonedDateTime endTime,
 
         @Size(max = 255, message = "Description must be less than 255 characters")
-        String description
+        String description,
 
-) {}
+        @Valid
+        RecurrenceRuleDTO recurrence
+
+) {
+
+    /**
+     * Creates a DTO for a one-off event.
+     */
+    public EventCreateDTO(String name, ZonedDateTime startTime, ZonedDateTime endTime, String description) {
+        this(name, startTime, endTime, description, null);
+    }
+}
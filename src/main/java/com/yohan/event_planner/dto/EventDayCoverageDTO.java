@@ -0,0 +1,16 @@
+package com.yohan.event_planner.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Compact form of the days an event spans: the first and last UTC date, both inclusive,
+ * instead of one day ID per date.
+ *
+ * @param firstDate the UTC date the event starts on
+ * @param lastDate  the UTC date the event ends on
+ */
+public record EventDayCoverageDTO(
+        LocalDate firstDate,
+        LocalDate lastDate
+) {
+}
@@ -0,0 +1,29 @@
+package com.yohan.event_planner.dto;
+
+import java.time.ZonedDateTime;
+
+/**
+ * One line of a user's event export.
+ * Times are exported in UTC together with the event's own timezone, so no user context is needed
+ * to interpret them; day links are not exported because they follow from the times.
+ *
+ * @param id          the unique identifier of the event
+ * @param name        the name/title of the event
+ * @param description the description of the event, or null
+ * @param startTime   the event start time in UTC
+ * @param endTime     the event end time in UTC
+ * @param timezone    the timezone the event was scheduled in
+ * @param creatorId   the unique identifier of the user who created the event
+ * @param recurrence  the recurrence rule of the event's series, or null for a one-off event
+ */
+public record EventExportDTO(
+        Long id,
+        String name,
+        String description,
+        ZonedDateTime startTime,
+        ZonedDateTime endTime,
+        String timezone,
+        Long creatorId,
+        RecurrenceRuleDTO recurrence
+) {
+}
@@ -0,0 +1,90 @@
+package com.yohan.event_planner.dto;
+
+import com.yohan.event_planner.exception.InvalidFieldsException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The fields of {@link EventResponseDTO} a client asked for with the {@code fields} request parameter,
+ * e.g. {@code fields=name,startTime,endTime,dayCoverage}.
+ * <p>
+ * Fields that are not selected are left null and omitted from the response, and the associations
+ * behind them are not loaded. The event ID is always included.
+ *
+ * @param fields the selected fields
+ */
+public record EventFields(Set<Field> fields) {
+
+    /**
+     * The fields returned when no {@code fields} parameter is given: everything except the compact
+     * day coverage, which clients request explicitly, usually instead of {@link Field#DAY_IDS}.
+     */
+    public static final EventFields DEFAULT = new EventFields(EnumSet.complementOf(EnumSet.of(Field.DAY_COVERAGE)));
+
+    /**
+     * A selectable field of {@link EventResponseDTO}, named as in the JSON response.
+     */
+    public enum Field {
+        ID("id"),
+        NAME("name"),
+        DESCRIPTION("description"),
+        START_TIME("startTime"),
+        END_TIME("endTime"),
+        CREATOR_ID("creatorId"),
+        DAY_IDS("dayIds"),
+        DAY_COVERAGE("dayCoverage"),
+        RECURRENCE("recurrence");
+
+        private final String jsonName;
+
+        Field(String jsonName) {
+            this.jsonName = jsonName;
+        }
+
+        public String getJsonName() {
+            return jsonName;
+        }
+    }
+
+    public EventFields {
+        EnumSet<Field> copy = EnumSet.of(Field.ID);
+        copy.addAll(fields);
+        fields = Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * Parses a comma-separated list of field names.
+     *
+     * @param fields the value of the {@code fields} parameter; null or blank selects {@link #DEFAULT}
+     * @return the selected fields
+     * @throws InvalidFieldsException if a name does not match any {@link Field}
+     */
+    public static EventFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return DEFAULT;
+        }
+        EnumSet<Field> selected = EnumSet.noneOf(Field.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(Field.values())
+                    .filter(field -> field.getJsonName().equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidFieldsException(trimmed)));
+        }
+        return new EventFields(selected);
+    }
+
+    /**
+     * @param field the field
+     * @return true if the field is selected
+     */
+    public boolean includes(Field field) {
+        return fields.contains(field);
+    }
+}
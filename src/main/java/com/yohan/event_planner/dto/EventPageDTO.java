@@ -0,0 +1,15 @@
+package com.yohan.event_planner.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for one page of a user's events.
+ *
+ * @param events     the events of this page, ordered by start time
+ * @param nextCursor opaque cursor to pass as {@code cursor} to fetch the next page, or null on the last page
+ */
+public record EventPageDTO(
+        List<EventResponseDTO> events,
+        String nextCursor
+) {
+}
@@ -1,24 +1,54 @@
 package com.yohan.event_planner.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.ZonedDateTime;
 import java.util.List;
 
 /**
  * Data Transfer Object representing an Event response.
  * Used to transfer event data from the backend to clients.
+ * <p>
+ * Read endpoints may return only the fields selected with {@link EventFields}; fields that were
+ * not selected, and other null fields, are omitted from the JSON.
  *
- * @param id         the unique identifier of the event
- * @param name       the name/title of the event
- * @param startTime  the event start time with timezone information (stored in UTC)
- * @param endTime    the event end time with timezone information (stored in UTC)
- * @param creatorId  the unique identifier of the user who created the event
- * @param dayIds     the list of IDs representing the days associated with this event
+ * @param id          the unique identifier of the event
+ * @param name        the name/title of the event
+ * @param description the description of the event, or null
+ * @param startTime   the event start time with timezone information (stored in UTC)
+ * @param endTime     the event end time with timezone information (stored in UTC)
+ * @param creatorId   the unique identifier of the user who created the event
+ * @param dayIds      the list of IDs representing the days associated with this event
+ * @param dayCoverage the first and last date the event spans, a compact alternative to {@code dayIds}
+ * @param recurrence  the recurrence rule of the event's series, or null for a one-off event; for an
+ *                    expanded occurrence, {@code startTime} and {@code endTime} are those of the occurrence
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record EventResponseDTO(
         Long id,
         String name,
+        String description,
         ZonedDateTime startTime,
         ZonedDateTime endTime,
         Long creatorId,
-        List<Long> dayIds
-) {}
+        List<Long> dayIds,
+        EventDayCoverageDTO dayCoverage,
+        RecurrenceRuleDTO recurrence
+) {
+
+    /**
+     * Creates a response with day IDs and a recurrence rule but no description or coverage.
+     */
+    public EventResponseDTO(Long id, String name, ZonedDateTime startTime, ZonedDateTime endTime,
+                            Long creatorId, List<Long> dayIds, RecurrenceRuleDTO recurrence) {
+        this(id, name, null, startTime, endTime, creatorId, dayIds, null, recurrence);
+    }
+
+    /**
+     * Creates a response for a one-off event.
+     */
+    public EventResponseDTO(Long id, String name, ZonedDateTime startTime, ZonedDateTime endTime,
+                            Long creatorId, List<Long> dayIds) {
+        this(id, name, startTime, endTime, creatorId, dayIds, null);
+    }
+}
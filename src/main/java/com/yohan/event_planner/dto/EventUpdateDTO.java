@@ -1,6 +1,7 @@
 package com.yohan.event_planner.dto;
 
 import com.yohan.event_planner.domain.Event;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Size;
 import java.time.ZonedDateTime;
 
@@ -22,6 +23,7 @@ import java.time.ZonedDateTime;
  * @param description optional new description for the event
  * @param startTime   optional new start time with timezone info
  * @param endTime     optional new end time with timezone info
+ * @param recurrence  optional recurrence rule replacing the event's current rule, e.g. to add exceptions
  */
 public record EventUpdateDTO(
 
@@ -33,5 +35,16 @@ public record EventUpdateDTO(
 
         ZonedDateTime startTime,
 
-        ZonedDateTime endTime
-) {}
+        ZonedDateTime endTime,
+
+        @Valid
+        RecurrenceRuleDTO recurrence
+) {
+
+    /**
+     * Creates a DTO that leaves the event's recurrence unchanged.
+     */
+    public EventUpdateDTO(String name, String description, ZonedDateTime startTime, ZonedDateTime endTime) {
+        this(name, description, startTime, endTime, null);
+    }
+}
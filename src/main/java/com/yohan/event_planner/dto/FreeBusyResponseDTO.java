@@ -0,0 +1,20 @@
+package com.yohan.event_planner.dto;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for a user's free/busy information within a window.
+ *
+ * @param userId the ID of the user
+ * @param from   the inclusive start of the window
+ * @param to     the exclusive end of the window
+ * @param busy   the merged busy periods within the window, ordered by start
+ */
+public record FreeBusyResponseDTO(
+        Long userId,
+        ZonedDateTime from,
+        ZonedDateTime to,
+        List<TimeSlotDTO> busy
+) {
+}
@@ -0,0 +1,19 @@
+package com.yohan.event_planner.dto;
+
+/**
+ * Load of the password hashing executor and time spent hashing since application start.
+ *
+ * @param threads             the number of passwords hashed or checked at once
+ * @param activeThreads       the number of threads hashing right now
+ * @param queueDepth          the number of logins and registrations waiting for a thread
+ * @param queueCapacity       the number allowed to wait before further ones are rejected
+ * @param completed           hashes and checks that ran
+ * @param rejected            hashes and checks rejected with 503 because the queue was full
+ * @param meanHashMillis      the mean time spent hashing, in milliseconds
+ * @param maxHashMillis       the longest time spent hashing, in milliseconds
+ * @param meanQueueWaitMillis the mean time spent waiting for a thread, in milliseconds
+ */
+public record PasswordHashingStatsDTO(int threads, int activeThreads, int queueDepth, int queueCapacity,
+                                      long completed, long rejected,
+                                      double meanHashMillis, double maxHashMillis, double meanQueueWaitMillis) {
+}
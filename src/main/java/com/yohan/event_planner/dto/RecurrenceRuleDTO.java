@@ -0,0 +1,46 @@
+package com.yohan.event_planner.dto;
+
+import com.yohan.event_planner.domain.RecurrenceFrequency;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Data Transfer Object describing how an event repeats, following a subset of RFC 5545 RRULE.
+ *
+ * The event's start and end times describe the first occurrence. Further occurrences start at the
+ * same local time in the event's timezone.
+ *
+ * @param frequency  DAILY, WEEKLY or MONTHLY; required
+ * @param interval   number of frequency units between occurrences; defaults to 1
+ * @param byDays     weekdays of a weekly rule; defaults to the first occurrence's weekday
+ * @param until      last date (inclusive) on which an occurrence may start; optional
+ * @param count      total number of occurrences; optional, mutually exclusive with {@code until}
+ * @param exceptions dates on which an occurrence is skipped, in the event's timezone; optional
+ */
+public record RecurrenceRuleDTO(
+
+        @NotNull(message = "Recurrence frequency cannot be null")
+        RecurrenceFrequency frequency,
+
+        @Min(value = 1, message = "Recurrence interval must be at least 1")
+        @Max(value = 99, message = "Recurrence interval must be at most 99")
+        Integer interval,
+
+        Set<DayOfWeek> byDays,
+
+        LocalDate until,
+
+        @Min(value = 1, message = "Recurrence count must be at least 1")
+        @Max(value = 1000, message = "Recurrence count must be at most 1000")
+        Integer count,
+
+        @Size(max = 366, message = "A recurrence rule can have at most 366 exceptions")
+        Set<LocalDate> exceptions
+
+) {}
@@ -0,0 +1,12 @@
+package com.yohan.event_planner.dto;
+
+import java.time.ZonedDateTime;
+
+/**
+ * A half-open time interval {@code [start, end)} returned by availability endpoints.
+ *
+ * @param start the inclusive start, in UTC
+ * @param end   the exclusive end, in UTC
+ */
+public record TimeSlotDTO(ZonedDateTime start, ZonedDateTime end) {
+}
@@ -0,0 +1,32 @@
+package com.yohan.event_planner.dto;
+
+import com.yohan.event_planner.validation.ValidZoneId;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * Daily working hours used to restrict availability searches.
+ *
+ * @param start    the local start of the working day, e.g. "09:00"
+ * @param end      the local end of the working day; must be after {@code start}
+ * @param timezone the timezone ID the hours are expressed in (e.g., "Europe/Berlin")
+ * @param weekdays the working weekdays; null or empty means every day
+ */
+public record WorkingHoursDTO(
+
+        @NotNull(message = "Working hours start is required")
+        LocalTime start,
+
+        @NotNull(message = "Working hours end is required")
+        LocalTime end,
+
+        @NotNull(message = "Working hours timezone is required")
+        @ValidZoneId(message = "Invalid timezone provided")
+        String timezone,
+
+        Set<DayOfWeek> weekdays
+) {
+}
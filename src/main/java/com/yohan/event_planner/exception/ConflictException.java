@@ -29,6 +29,42 @@ public class ConflictException extends RuntimeException implements HasErrorCode
         this.errorCode = ErrorCode.EVENT_CONFLICT;
     }
 
+    /**
+     * Constructs a new {@code ConflictException} from the details of the conflicting event,
+     * for callers that do not hold a loaded {@link Event} entity.
+     *
+     * @param id        the ID of the conflicting event
+     * @param name      the name of the conflicting event
+     * @param startTime the start time of the conflicting event
+     * @param endTime   the end time of the conflicting event
+     */
+    public ConflictException(Long id, String name, ZonedDateTime startTime, ZonedDateTime endTime) {
+        super(buildMessage(id, name, startTime, endTime));
+        this.errorCode = ErrorCode.EVENT_CONFLICT;
+    }
+
+    private ConflictException(String message) {
+        super(message);
+        this.errorCode = ErrorCode.EVENT_CONFLICT;
+    }
+
+    /**
+     * Creates a {@code ConflictException} for an event that overlaps another item of the same
+     * batch request, which has no ID yet and is identified by its position instead.
+     *
+     * @param index     the position of the conflicting item in the batch
+     * @param name      the name of the conflicting item
+     * @param startTime the start time of the conflicting item
+     * @param endTime   the end time of the conflicting item
+     * @return the exception describing the conflict
+     */
+    public static ConflictException withBatchItem(int index, String name, ZonedDateTime startTime, ZonedDateTime endTime) {
+        return new ConflictException("Event conflicts with batch item " + index + ": " +
+                name + " (" +
+                formatDateTime(startTime) + " - " +
+                formatDateTime(endTime) + ")");
+    }
+
     /**
      * Returns the {@link ErrorCode} associated with this conflict exception.
      *
@@ -46,10 +82,15 @@ public class ConflictException extends RuntimeException implements HasErrorCode
      * @return a human-readable error message
      */
     private static String buildMessage(Event existingEvent) {
-        return "Event conflicts with existing event (ID: " + existingEvent.getId() + "): " +
-                existingEvent.getName() + " (" +
-                formatDateTime(existingEvent.getStartTime()) + " - " +
-                formatDateTime(existingEvent.getEndTime()) + ")";
+        return buildMessage(existingEvent.getId(), existingEvent.getName(),
+                existingEvent.getStartTime(), existingEvent.getEndTime());
+    }
+
+    private static String buildMessage(Long id, String name, ZonedDateTime startTime, ZonedDateTime endTime) {
+        return "Event conflicts with existing event (ID: " + id + "): " +
+                name + " (" +
+                formatDateTime(startTime) + " - " +
+                formatDateTime(endTime) + ")";
     }
 
     private static String formatDateTime(ZonedDateTime dateTime) {
@@ -31,12 +31,21 @@ public enum ErrorCode {
     // Event related errors
     EVENT_CONFLICT,
     INVALID_EVENT_TIME,
+    INVALID_RECURRENCE_RULE,
+    INVALID_TIME_RANGE,
+    SCHEDULE_BUSY,
 
     // ROle related errors
     DUPLICATE_ROLE,
     INVALID_ROLE_NAME,
 
     // Generic errors
+    ACCESS_DENIED,
+    INVALID_CURSOR,
+    SYNC_TOKEN_EXPIRED,
+    INVALID_FIELDS,
     VALIDATION_FAILED,
+    PASSWORD_HASHING_BUSY,
+    TOO_MANY_ATTEMPTS,
     UNKNOWN_ERROR
 }
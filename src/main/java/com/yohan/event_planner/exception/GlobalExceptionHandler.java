@@ -2,16 +2,26 @@ package com.yohan.event_planner.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
 import java.util.stream.Collectors;
 
+import static com.yohan.event_planner.exception.ErrorCode.ACCESS_DENIED;
+import static com.yohan.event_planner.exception.ErrorCode.SCHEDULE_BUSY;
 import static com.yohan.event_planner.exception.ErrorCode.UNKNOWN_ERROR;
+import static com.yohan.event_planner.exception.ErrorCode.VALIDATION_FAILED;
 
 /**
  * Centralized handler for exceptions thrown in REST controllers.
@@ -33,6 +43,52 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex);
     }
 
+    /**
+     * Handles InvalidRecurrenceException, thrown when a recurrence rule is inconsistent with its event.
+     */
+    @ExceptionHandler(InvalidRecurrenceException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRecurrenceException(InvalidRecurrenceException ex) {
+        logger.warn("InvalidRecurrenceException: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex);
+    }
+
+    /**
+     * Handles InvalidTimeRangeException, thrown when a requested query window is invalid.
+     */
+    @ExceptionHandler(InvalidTimeRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTimeRangeException(InvalidTimeRangeException ex) {
+        logger.warn("InvalidTimeRangeException: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex);
+    }
+
+    /**
+     * Handles InvalidCursorException, thrown when a pagination cursor cannot be decoded.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        logger.warn("InvalidCursorException: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex);
+    }
+
+    /**
+     * Handles SyncTokenExpiredException, thrown when the changes since a sync token have been pruned
+     * from the change log. Answers 410 so the client drops its copy and downloads the calendar again.
+     */
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleSyncTokenExpiredException(SyncTokenExpiredException ex) {
+        logger.warn("SyncTokenExpiredException: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.GONE, ex);
+    }
+
+    /**
+     * Handles InvalidFieldsException, thrown when a field selection names an unknown field.
+     */
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFieldsException(InvalidFieldsException ex) {
+        logger.warn("InvalidFieldsException: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex);
+    }
+
     /**
      * Handles ConflictException, for scheduling conflicts such as overlapping events.
      */
@@ -42,6 +98,37 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.CONFLICT, ex);
     }
 
+    /**
+     * Handles PessimisticLockingFailureException, thrown when a user's schedule lock could not be
+     * acquired in time because other writes to the same calendar are in progress.
+     */
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handlePessimisticLockingFailureException(PessimisticLockingFailureException ex) {
+        logger.warn("PessimisticLockingFailureException: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT,
+                "The calendar is being modified by another request, please retry", SCHEDULE_BUSY.name());
+    }
+
+    /**
+     * Handles PasswordHashingBusyException, thrown when logins and registrations arrive faster
+     * than passwords can be hashed. Answers 503 with a Retry-After header in whole seconds.
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusyException(PasswordHashingBusyException ex) {
+        logger.warn("PasswordHashingBusyException: {}", ex.getMessage());
+        return buildRetryAfterResponse(HttpStatus.SERVICE_UNAVAILABLE, ex, ex.getRetryAfter());
+    }
+
+    /**
+     * Handles TooManyAttemptsException, thrown when a client or username exceeds its login or
+     * registration rate. Answers 429 with a Retry-After header in whole seconds.
+     */
+    @ExceptionHandler(TooManyAttemptsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyAttemptsException(TooManyAttemptsException ex) {
+        logger.warn("TooManyAttemptsException: {}", ex.getMessage());
+        return buildRetryAfterResponse(HttpStatus.TOO_MANY_REQUESTS, ex, ex.getRetryAfter());
+    }
+
     /**
      * Handles username-related exceptions (duplicates, invalid length, etc.).
      * All username issues are represented by {@link UsernameException}.
@@ -105,6 +192,29 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, errorMessages, null);
     }
 
+    /**
+     * Handles missing, malformed or out-of-bounds request parameters, such as an unparsable date-time.
+     */
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class,
+            HandlerMethodValidationException.class})
+    public ResponseEntity<ErrorResponse> handleRequestParameterExceptions(Exception ex) {
+        logger.warn("Invalid request parameter: {}", ex.getMessage());
+        String message = ex instanceof MethodArgumentTypeMismatchException mismatch
+                ? "Invalid value for parameter '" + mismatch.getName() + "'"
+                : ex.getMessage();
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, message, VALIDATION_FAILED.name());
+    }
+
+    /**
+     * Handles AccessDeniedException, thrown when an authenticated user calls an endpoint
+     * restricted to another role.
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
+        logger.warn("AccessDeniedException: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.FORBIDDEN, "Access denied", ACCESS_DENIED.name());
+    }
+
     /**
      * Catch-all handler for any unexpected, unhandled exceptions.
      * Logs the full stack trace and returns a generic error message.
@@ -130,6 +240,22 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(status, message, errorCode);
     }
 
+    /**
+     * Utility method to construct an {@link ErrorResponse} from exceptions implementing {@link HasErrorCode},
+     * telling the client when to retry.
+     *
+     * @param status the HTTP status to return
+     * @param ex the exception thrown
+     * @param retryAfter how long the client should wait, rounded up to whole seconds
+     * @return a ResponseEntity containing the {@link ErrorResponse} and a Retry-After header
+     */
+    private ResponseEntity<ErrorResponse> buildRetryAfterResponse(HttpStatus status, Exception ex, Duration retryAfter) {
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(buildErrorResponse(status, ex).getBody());
+    }
+
     /**
      * Utility method to construct an {@link ErrorResponse} from a plain message without an error code.
      *
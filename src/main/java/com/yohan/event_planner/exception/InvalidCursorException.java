@@ -0,0 +1,30 @@
+package com.yohan.event_planner.exception;
+
+/**
+ * Exception thrown when a pagination cursor supplied by a client cannot be decoded.
+ * Associates the error with {@link ErrorCode#INVALID_CURSOR}.
+ */
+public class InvalidCursorException extends RuntimeException implements HasErrorCode {
+
+    private final ErrorCode errorCode;
+
+    /**
+     * Constructs a new {@code InvalidCursorException} for the given token.
+     *
+     * @param cursor the malformed cursor token
+     */
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+        this.errorCode = ErrorCode.INVALID_CURSOR;
+    }
+
+    /**
+     * Returns the {@link ErrorCode} associated with this cursor exception.
+     *
+     * @return the error code indicating the invalid cursor
+     */
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,30 @@
+package com.yohan.event_planner.exception;
+
+/**
+ * Exception thrown when a {@code fields} request parameter names a field that does not exist.
+ * Associates the error with {@link ErrorCode#INVALID_FIELDS}.
+ */
+public class InvalidFieldsException extends RuntimeException implements HasErrorCode {
+
+    private final ErrorCode errorCode;
+
+    /**
+     * Constructs a new {@code InvalidFieldsException} for the given field name.
+     *
+     * @param field the unknown field name
+     */
+    public InvalidFieldsException(String field) {
+        super("Unknown field: " + field);
+        this.errorCode = ErrorCode.INVALID_FIELDS;
+    }
+
+    /**
+     * Returns the {@link ErrorCode} associated with this fields exception.
+     *
+     * @return the error code indicating the invalid field selection
+     */
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,31 @@
+package com.yohan.event_planner.exception;
+
+/**
+ * Exception thrown when an event's recurrence rule is invalid, for example when its
+ * bounds are contradictory or its occurrences would overlap each other.
+ * Associates the error with {@link ErrorCode#INVALID_RECURRENCE_RULE}.
+ */
+public class InvalidRecurrenceException extends RuntimeException implements HasErrorCode {
+
+    private final ErrorCode errorCode;
+
+    /**
+     * Constructs a new {@code InvalidRecurrenceException} with the given reason.
+     *
+     * @param reason a human-readable description of what is wrong with the rule
+     */
+    public InvalidRecurrenceException(String reason) {
+        super("Invalid recurrence rule: " + reason);
+        this.errorCode = ErrorCode.INVALID_RECURRENCE_RULE;
+    }
+
+    /**
+     * Returns the {@link ErrorCode} associated with this recurrence validation exception.
+     *
+     * @return the error code indicating the invalid recurrence rule
+     */
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
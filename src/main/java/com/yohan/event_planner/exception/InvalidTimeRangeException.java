@@ -0,0 +1,31 @@
+package com.yohan.event_planner.exception;
+
+/**
+ * Exception thrown when a requested query window is invalid, for example when it is empty
+ * or longer than the maximum supported length.
+ * Associates the error with {@link ErrorCode#INVALID_TIME_RANGE}.
+ */
+public class InvalidTimeRangeException extends RuntimeException implements HasErrorCode {
+
+    private final ErrorCode errorCode;
+
+    /**
+     * Constructs a new {@code InvalidTimeRangeException} with the given reason.
+     *
+     * @param reason a human-readable description of what is wrong with the window
+     */
+    public InvalidTimeRangeException(String reason) {
+        super("Invalid time range: " + reason);
+        this.errorCode = ErrorCode.INVALID_TIME_RANGE;
+    }
+
+    /**
+     * Returns the {@link ErrorCode} associated with this time range exception.
+     *
+     * @return the error code indicating the invalid time range
+     */
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,44 @@
+package com.yohan.event_planner.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a password cannot be hashed or checked because the password hashing
+ * executor is saturated, so the client should retry later.
+ * Associates the error with {@link ErrorCode#PASSWORD_HASHING_BUSY}.
+ */
+public class PasswordHashingBusyException extends RuntimeException implements HasErrorCode {
+
+    private final ErrorCode errorCode;
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new {@code PasswordHashingBusyException}.
+     *
+     * @param retryAfter how long the client should wait before retrying
+     */
+    public PasswordHashingBusyException(Duration retryAfter) {
+        super("Too many password checks in progress, please retry later");
+        this.errorCode = ErrorCode.PASSWORD_HASHING_BUSY;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns how long the client should wait before retrying.
+     *
+     * @return the suggested retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Returns the {@link ErrorCode} associated with this exception.
+     *
+     * @return the error code indicating the saturated hashing executor
+     */
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,31 @@
+package com.yohan.event_planner.exception;
+
+/**
+ * Exception thrown when a change sync token points before the oldest retained change log entry,
+ * so the changes since it can no longer be replayed and the client has to download its calendar again.
+ * Associates the error with {@link ErrorCode#SYNC_TOKEN_EXPIRED}.
+ */
+public class SyncTokenExpiredException extends RuntimeException implements HasErrorCode {
+
+    private final ErrorCode errorCode;
+
+    /**
+     * Constructs a new {@code SyncTokenExpiredException} for the given log position.
+     *
+     * @param changeId the position the client tried to sync from
+     */
+    public SyncTokenExpiredException(long changeId) {
+        super("Sync token for change " + changeId + " has expired; resync the full calendar");
+        this.errorCode = ErrorCode.SYNC_TOKEN_EXPIRED;
+    }
+
+    /**
+     * Returns the {@link ErrorCode} associated with this sync token exception.
+     *
+     * @return the error code indicating the expired sync token
+     */
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,44 @@
+package com.yohan.event_planner.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a login or registration is refused because its client IP or username
+ * made too many recent attempts.
+ * Associates the error with {@link ErrorCode#TOO_MANY_ATTEMPTS}.
+ */
+public class TooManyAttemptsException extends RuntimeException implements HasErrorCode {
+
+    private final ErrorCode errorCode;
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new {@code TooManyAttemptsException}.
+     *
+     * @param retryAfter how long until another attempt is allowed
+     */
+    public TooManyAttemptsException(Duration retryAfter) {
+        super("Too many attempts, please retry later");
+        this.errorCode = ErrorCode.TOO_MANY_ATTEMPTS;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns how long until another attempt is allowed.
+     *
+     * @return the suggested retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Returns the {@link ErrorCode} associated with this exception.
+     *
+     * @return the error code indicating too many attempts
+     */
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
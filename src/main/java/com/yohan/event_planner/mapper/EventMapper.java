@@ -1,16 +1,25 @@
 package com.yohan.event_planner.mapper;
 
 import com.yohan.event_planner.dto.EventCreateDTO;
+import com.yohan.event_planner.dto.EventDayCoverageDTO;
+import com.yohan.event_planner.dto.EventExportDTO;
+import com.yohan.event_planner.dto.EventFields;
+import com.yohan.event_planner.dto.EventFields.Field;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventUpdateDTO;
+import com.yohan.event_planner.dto.RecurrenceRuleDTO;
 import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurrenceRule;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
 import org.mapstruct.*;
 
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -31,22 +40,83 @@ public interface EventMapper {
      * @return the converted EventResponseDTO, or null if the event parameter is null
      */
     default EventResponseDTO toDto(Event event, ZoneId userZone) {
+        return toDto(event, userZone, EventFields.DEFAULT);
+    }
+
+    /**
+     * Converts an {@link Event} entity to an {@link EventResponseDTO} holding only the selected fields.
+     * The event's {@code days} collection is only loaded when {@link Field#DAY_IDS} is selected.
+     *
+     * @param event    the Event entity to convert; may be null
+     * @param userZone the ZoneId representing the user's time zone for time conversion
+     * @param fields   the fields to populate; the others are left null
+     * @return the converted EventResponseDTO, or null if the event parameter is null
+     */
+    default EventResponseDTO toDto(Event event, ZoneId userZone, EventFields fields) {
         if (event == null) {
             return null;
         }
 
-        List<Long> dayIds = event.getDays() == null ? List.of() :
-                event.getDays().stream()
-                        .map(day -> day.getId())
-                        .collect(Collectors.toList());
+        List<Long> dayIds = !fields.includes(Field.DAY_IDS) ? null :
+                event.getDays() == null ? List.of() :
+                        event.getDays().stream()
+                                .map(day -> day.getId())
+                                .collect(Collectors.toList());
 
         return new EventResponseDTO(
+                event.getId(),
+                fields.includes(Field.NAME) ? event.getName() : null,
+                fields.includes(Field.DESCRIPTION) ? event.getDescription() : null,
+                fields.includes(Field.START_TIME) ? convertToZone(event.getStartTime(), userZone) : null,
+                fields.includes(Field.END_TIME) ? convertToZone(event.getEndTime(), userZone) : null,
+                fields.includes(Field.CREATOR_ID) ? event.getCreator().getId() : null,
+                dayIds,
+                fields.includes(Field.DAY_COVERAGE) ? toDayCoverage(event.getStartTime(), event.getEndTime()) : null,
+                fields.includes(Field.RECURRENCE) ? toRecurrenceRuleDto(event.getRecurrence()) : null
+        );
+    }
+
+    /**
+     * Converts an {@link EventSummaryView} to an {@link EventResponseDTO} holding only the selected fields,
+     * converting start and end times to the provided user's time zone.
+     *
+     * @param event    the event summary to convert; must not be null
+     * @param dayIds   the IDs of the days linked to the event; ignored unless {@link Field#DAY_IDS} is selected
+     * @param userZone the ZoneId representing the user's time zone for time conversion
+     * @param fields   the fields to populate; the others are left null
+     * @return the converted EventResponseDTO
+     */
+    default EventResponseDTO toDto(EventSummaryView event, List<Long> dayIds, ZoneId userZone, EventFields fields) {
+        return new EventResponseDTO(
+                event.id(),
+                fields.includes(Field.NAME) ? event.name() : null,
+                fields.includes(Field.DESCRIPTION) ? event.description() : null,
+                fields.includes(Field.START_TIME) ? convertToZone(event.startTime(), userZone) : null,
+                fields.includes(Field.END_TIME) ? convertToZone(event.endTime(), userZone) : null,
+                fields.includes(Field.CREATOR_ID) ? event.creatorId() : null,
+                fields.includes(Field.DAY_IDS) ? dayIds : null,
+                fields.includes(Field.DAY_COVERAGE) ? toDayCoverage(event.startTime(), event.endTime()) : null,
+                fields.includes(Field.RECURRENCE) ? toRecurrenceRuleDto(event.recurrence()) : null
+        );
+    }
+
+    /**
+     * Converts an {@link Event} entity to an {@link EventExportDTO}, keeping times in UTC.
+     * Only columns of the event row are read, so no association is loaded.
+     *
+     * @param event the Event entity to convert; must not be null
+     * @return the converted EventExportDTO
+     */
+    default EventExportDTO toExportDto(Event event) {
+        return new EventExportDTO(
                 event.getId(),
                 event.getName(),
-                convertToZone(event.getStartTime(), userZone),
-                convertToZone(event.getEndTime(), userZone),
+                event.getDescription(),
+                convertToZone(event.getStartTime(), ZoneOffset.UTC),
+                convertToZone(event.getEndTime(), ZoneOffset.UTC),
+                event.getTimezone() == null ? null : event.getTimezone().getId(),
                 event.getCreator().getId(),
-                dayIds
+                toRecurrenceRuleDto(event.getRecurrence())
         );
     }
 
@@ -64,6 +134,26 @@ public interface EventMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Converts a list of {@link EventSummaryView}s to a list of {@link EventResponseDTO}s,
+     * applying the same time zone conversion and field selection to each event.
+     * Expanded occurrences have no day links of their own and are given an empty day list.
+     *
+     * @param events   list of event summaries; must not be null
+     * @param dayIds   the linked day IDs by event ID; events without an entry have no linked days
+     * @param userZone ZoneId for the user's time zone
+     * @param fields   the fields to populate; the others are left null
+     * @return list of EventResponseDTOs
+     */
+    default List<EventResponseDTO> toDtoList(List<EventSummaryView> events, Map<Long, List<Long>> dayIds,
+                                             ZoneId userZone, EventFields fields) {
+        return events.stream()
+                .map(event -> toDto(event,
+                        event.occurrence() ? List.of() : dayIds.getOrDefault(event.id(), List.of()),
+                        userZone, fields))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Updates an existing {@link Event} entity with non-null fields from an {@link EventUpdateDTO}.
      * Null-valued properties in the DTO are ignored, preventing overwriting existing values with null.
@@ -72,6 +162,8 @@ public interface EventMapper {
      * @param dto   the source EventUpdateDTO containing update data
      */
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "recurrence", ignore = true)
+    @Mapping(target = "seriesEndTime", ignore = true)
     void updateEntity(@MappingTarget Event event, EventUpdateDTO dto);
 
     /**
@@ -88,6 +180,22 @@ public interface EventMapper {
         return original.withZoneSameInstant(targetZone);
     }
 
+    /**
+     * Computes the UTC dates an event spans, matching the days it is linked to.
+     *
+     * @param startTime the event start time; may be null
+     * @param endTime   the event end time; may be null
+     * @return the first and last date spanned, or null if either time is null
+     */
+    default EventDayCoverageDTO toDayCoverage(ZonedDateTime startTime, ZonedDateTime endTime) {
+        if (startTime == null || endTime == null) {
+            return null;
+        }
+        return new EventDayCoverageDTO(
+                startTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDate(),
+                endTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDate());
+    }
+
     /**
      * Converts an {@link EventCreateDTO} to an {@link Event} entity.
      * The event start and end times are normalized to UTC.
@@ -110,7 +218,32 @@ public interface EventMapper {
         );
         event.setDescription(dto.description());
         event.setTimezone(eventTimezone);
+        event.setRecurrence(toRecurrenceRule(dto.recurrence()));
 
         return event;
     }
+
+    /**
+     * Converts a {@link RecurrenceRuleDTO} to a {@link RecurrenceRule} value object.
+     *
+     * @param dto the recurrence rule DTO; may be null
+     * @return the recurrence rule, or null if the DTO is null
+     */
+    static RecurrenceRule toRecurrenceRule(RecurrenceRuleDTO dto) {
+        if (dto == null) return null;
+        return new RecurrenceRule(dto.frequency(), dto.interval(), dto.byDays(), dto.until(), dto.count(),
+                dto.exceptions());
+    }
+
+    /**
+     * Converts a {@link RecurrenceRule} to a {@link RecurrenceRuleDTO}.
+     *
+     * @param rule the recurrence rule; may be null
+     * @return the recurrence rule DTO, or null if the rule is null
+     */
+    default RecurrenceRuleDTO toRecurrenceRuleDto(RecurrenceRule rule) {
+        if (rule == null) return null;
+        return new RecurrenceRuleDTO(rule.getFrequency(), rule.getInterval(), new TreeSet<>(rule.getByDays()),
+                rule.getUntil(), rule.getCount(), new TreeSet<>(rule.getExceptions()));
+    }
 }
@@ -12,9 +12,10 @@ import java.util.Optional;
 
 /**
  * Repository for performing CRUD operations on {@link Day} entities.
+ * Atomic creation of missing days is provided by the {@link DayUpsertRepository} fragment.
  */
 @Repository
-public interface DayRepository extends JpaRepository<Day, Long> {
+public interface DayRepository extends JpaRepository<Day, Long>, DayUpsertRepository {
 
     /**
      * Finds a Day by its date and creator.
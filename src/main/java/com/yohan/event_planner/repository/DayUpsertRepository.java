@@ -0,0 +1,28 @@
+package com.yohan.event_planner.repository;
+
+import com.yohan.event_planner.domain.Day;
+import com.yohan.event_planner.domain.User;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom repository fragment for creating {@link Day} rows atomically.
+ */
+public interface DayUpsertRepository {
+
+    /**
+     * Returns the creator's Days for the given dates, inserting the missing ones.
+     * <p>
+     * Existing and new rows are returned by the same statement ({@code MERGE INTO} on H2,
+     * {@code INSERT ... ON CONFLICT} elsewhere), so concurrent callers never trip over the
+     * {@code (date, creator_id)} unique constraint and no read-then-insert round trip is needed.
+     * Existing rows keep their description and archived flag.
+     *
+     * @param creator the owner of the Days; must be persistent
+     * @param dates   the dates to fetch or create
+     * @return one managed Day per distinct date, in no particular order
+     */
+    List<Day> upsertAll(User creator, Collection<LocalDate> dates);
+}
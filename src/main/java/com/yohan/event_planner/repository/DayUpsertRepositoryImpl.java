@@ -0,0 +1,85 @@
+package com.yohan.event_planner.repository;
+
+import com.yohan.event_planner.domain.Day;
+import com.yohan.event_planner.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Native-SQL implementation of {@link DayUpsertRepository}.
+ * <p>
+ * Dates are sent in chunks of {@link #CHUNK_SIZE} rows, each chunk being a single statement
+ * whose result rows are mapped straight to {@link Day} entities.
+ */
+class DayUpsertRepositoryImpl implements DayUpsertRepository {
+
+    static final int CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Boolean h2;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<Day> upsertAll(User creator, Collection<LocalDate> dates) {
+        List<LocalDate> distinct = new ArrayList<>(new LinkedHashSet<>(dates));
+        List<Day> days = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            List<LocalDate> chunk = distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size()));
+            days.addAll(upsertChunk(creator, chunk));
+        }
+        return days;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Day> upsertChunk(User creator, List<LocalDate> dates) {
+        Query query = entityManager.createNativeQuery(buildSql(dates.size()), Day.class);
+        query.setParameter("creatorId", creator.getId());
+        for (int i = 0; i < dates.size(); i++) {
+            query.setParameter("d" + i, dates.get(i));
+        }
+        return query.getResultList();
+    }
+
+    private String buildSql(int rows) {
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            values.append(i == 0 ? "" : ", ").append("(:d").append(i).append(", :creatorId)");
+        }
+        if (isH2()) {
+            // MERGE ... KEY updates matching rows with their own key values, so FINAL TABLE
+            // yields existing and inserted rows alike while leaving other columns untouched
+            return "SELECT * FROM FINAL TABLE (MERGE INTO days (date, creator_id) KEY (date, creator_id) VALUES "
+                    + values + ")";
+        }
+        // The no-op update makes RETURNING include rows that already existed
+        return "INSERT INTO days (date, creator_id) VALUES " + values
+                + " ON CONFLICT (date, creator_id) DO UPDATE SET archived = days.archived RETURNING *";
+    }
+
+    private boolean isH2() {
+        if (h2 == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect();
+            h2 = dialect instanceof H2Dialect;
+        }
+        return h2;
+    }
+}
@@ -0,0 +1,76 @@
+package com.yohan.event_planner.repository;
+
+import com.yohan.event_planner.domain.EventChangeLogEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Repository for the {@link EventChangeLogEntry} log, appended to on every event write and pruned
+ * from its oldest end.
+ */
+@Repository
+public interface EventChangeLogRepository extends JpaRepository<EventChangeLogEntry, Long> {
+
+    /**
+     * Finds a user's log entries written after the given entry, oldest first.
+     *
+     * @param creatorId the ID of the user owning the changed events
+     * @param afterId   the ID of the last entry already seen; 0 to start from the beginning
+     * @param limit     the maximum number of entries to return
+     * @return the entries, ordered by ID
+     */
+    List<EventChangeLogEntry> findByCreatorIdAndIdGreaterThanOrderById(Long creatorId, Long afterId, Limit limit);
+
+    /**
+     * Finds the ID of a user's latest log entry.
+     *
+     * @param creatorId the ID of the user owning the changed events
+     * @return the ID of the latest entry, or null if the user's events have never changed
+     */
+    @Query("SELECT MAX(c.id) FROM EventChangeLogEntry c WHERE c.creatorId = :creatorId")
+    Long findLatestIdByCreatorId(@Param("creatorId") Long creatorId);
+
+    /**
+     * Finds the ID of the latest log entry of any user.
+     *
+     * @return the ID of the latest entry, or null if the log is empty
+     */
+    @Query("SELECT MAX(c.id) FROM EventChangeLogEntry c")
+    Long findLatestId();
+
+    /**
+     * Finds the ID of the oldest entry still in the log. Entries before it have been pruned.
+     *
+     * @return the ID of the oldest entry, or null if the log is empty
+     */
+    @Query("SELECT MIN(c.id) FROM EventChangeLogEntry c")
+    Long findOldestId();
+
+    /**
+     * Finds the ID of the first log entry written at or after the given time.
+     *
+     * @param cutoff the earliest write time to consider
+     * @return the ID of the first such entry, or null if every entry is older
+     */
+    @Query("SELECT MIN(c.id) FROM EventChangeLogEntry c WHERE c.changedAt >= :cutoff")
+    Long findFirstIdChangedSince(@Param("cutoff") ZonedDateTime cutoff);
+
+    /**
+     * Deletes every log entry before the given one in a single statement.
+     *
+     * @param id the ID of the first entry to keep
+     * @return the number of deleted entries
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EventChangeLogEntry c WHERE c.id < :id")
+    int deleteByIdLessThan(@Param("id") Long id);
+}
@@ -1,13 +1,26 @@
 package com.yohan.event_planner.repository;
 
 import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.repository.projection.EventDayLinkView;
+import com.yohan.event_planner.repository.projection.EventIntervalView;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import com.yohan.event_planner.repository.projection.EventTimeView;
+import com.yohan.event_planner.repository.projection.RecurringSeriesView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Event} entities.
@@ -18,15 +31,76 @@ import java.util.List;
 public interface EventRepository extends JpaRepository<Event, Long> {
 
     /**
-     * Finds all events associated with the given Day ID.
+     * Finds the summary of a single event, without loading its creator or linked days.
      *
-     * This leverages the many-to-many relationship between Event and Day,
-     * assuming Event has a {@code Set<Day> days} field.
+     * @param id the event ID
+     * @return the event summary, or empty if no such event exists
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventSummaryView(" +
+            "e.id, e.name, e.description, e.startTime, e.endTime, e.timezone, e.creator.id, e.recurrence) " +
+            "FROM Event e WHERE e.id = :id")
+    Optional<EventSummaryView> findSummaryById(@Param("id") Long id);
+
+    /**
+     * Finds the summaries of the given events in one query. IDs of events that no longer
+     * exist are ignored.
+     *
+     * @param ids the event IDs
+     * @return the summaries of the existing events, in no particular order
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventSummaryView(" +
+            "e.id, e.name, e.description, e.startTime, e.endTime, e.timezone, e.creator.id, e.recurrence) " +
+            "FROM Event e WHERE e.id IN :ids")
+    List<EventSummaryView> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the summaries of all events created by the given user.
+     *
+     * @param creatorId the ID of the user
+     * @return the summaries of the user's events, in no particular order
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventSummaryView(" +
+            "e.id, e.name, e.description, e.startTime, e.endTime, e.timezone, e.creator.id, e.recurrence) " +
+            "FROM Event e WHERE e.creator.id = :creatorId")
+    List<EventSummaryView> findSummariesByCreatorId(@Param("creatorId") Long creatorId);
+
+    /**
+     * Finds the summaries of all events linked to the given Day ID.
+     *
+     * This leverages the many-to-many relationship between Event and Day; only the event
+     * columns are selected, so neither the creator nor the events' day collections are loaded.
      *
      * @param dayId the ID of the Day entity
-     * @return a list of Events linked to the specified Day ID
+     * @return the summaries of the events linked to the specified Day ID
      */
-    List<Event> findByDays_Id(Long dayId);
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventSummaryView(" +
+            "e.id, e.name, e.description, e.startTime, e.endTime, e.timezone, e.creator.id, e.recurrence) " +
+            "FROM Event e JOIN e.days d WHERE d.id = :dayId")
+    List<EventSummaryView> findSummariesByDayId(@Param("dayId") Long dayId);
+
+    /**
+     * Finds the summaries of all events linked to the given user's Day for a date, without
+     * looking the Day up first.
+     *
+     * @param creatorId the ID of the User owning the day
+     * @param date      the UTC date of the day
+     * @return the summaries of the events linked to the day; empty if the user has no such day
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventSummaryView(" +
+            "e.id, e.name, e.description, e.startTime, e.endTime, e.timezone, e.creator.id, e.recurrence) " +
+            "FROM Event e JOIN e.days d WHERE d.creator.id = :creatorId AND d.date = :date")
+    List<EventSummaryView> findSummariesByCreatorIdAndDayDate(@Param("creatorId") Long creatorId,
+                                                              @Param("date") LocalDate date);
+
+    /**
+     * Finds the day links of the given events in one query, ordered by event and date.
+     *
+     * @param eventIds the IDs of the events
+     * @return one row per linked (event, day) pair
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventDayLinkView(e.id, d.id) " +
+            "FROM Event e JOIN e.days d WHERE e.id IN :eventIds ORDER BY e.id, d.date")
+    List<EventDayLinkView> findDayLinks(@Param("eventIds") Collection<Long> eventIds);
 
     /**
      * Finds all events created by the user with the given creator ID.
@@ -37,17 +111,200 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     List<Event> findByCreatorId(Long creatorId);
 
     /**
-     * Finds all events that overlap with a given date range.
+     * Finds one page of a user's event summaries in {@code (startTime, id)} order, starting strictly after
+     * the keyset position {@code (afterStart, afterId)} and before {@code before}.
+     * Served by the {@code (creator_id, start_time, ...)} index, so the cost does not depend on
+     * how many earlier pages exist.
      *
-     * This query returns events where the event's start time is before the end of the date range
+     * @param creatorId  the ID of the user who owns the events
+     * @param afterStart the start time of the keyset position
+     * @param afterId    the ID of the keyset position; events starting at {@code afterStart} must have a greater ID
+     * @param before     the exclusive upper bound on start time
+     * @param limit      the maximum number of events to return
+     * @return the summaries of the matching events
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventSummaryView(" +
+            "e.id, e.name, e.description, e.startTime, e.endTime, e.timezone, e.creator.id, e.recurrence) " +
+            "FROM Event e WHERE e.creator.id = :creatorId AND e.startTime < :before AND " +
+            "(e.startTime > :afterStart OR (e.startTime = :afterStart AND e.id > :afterId)) " +
+            "ORDER BY e.startTime, e.id")
+    List<EventSummaryView> findSummaryPageByCreatorId(@Param("creatorId") Long creatorId,
+                                                      @Param("afterStart") ZonedDateTime afterStart,
+                                                      @Param("afterId") Long afterId,
+                                                      @Param("before") ZonedDateTime before,
+                                                      Limit limit);
+
+    /**
+     * Streams all events created by a user, ordered by start time and ID.
+     * Rows are fetched from a cursor in chunks of the fetch size and loaded read-only, so callers
+     * that detach each event after use keep memory flat regardless of the number of rows.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @param creatorId the ID of the user who owns the events
+     * @return a stream of the user's events
+     */
+    @Query("SELECT e FROM Event e WHERE e.creator.id = :creatorId ORDER BY e.startTime, e.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Event> streamByCreatorId(@Param("creatorId") Long creatorId);
+
+    /**
+     * Finds the summaries of all events that overlap with a given date range.
+     *
+     * This query returns one-off events where the event's start time is before the end of the date range
      * and the event's end time is after the start of the date range, effectively finding
-     * events that occur at least partially within the given range.
+     * events that occur at least partially within the given range. Recurring events are returned
+     * when their series spans the range; callers expand them to the occurrences inside the range.
      *
      * @param startOfDayUtc the start of the date range (inclusive), as a ZonedDateTime in UTC
      * @param endOfDayUtc   the end of the date range (exclusive), as a ZonedDateTime in UTC
-     * @return a list of Events overlapping with the specified date range
+     * @return the summaries of the events overlapping with the specified date range
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventSummaryView(" +
+            "e.id, e.name, e.description, e.startTime, e.endTime, e.timezone, e.creator.id, e.recurrence) " +
+            "FROM Event e WHERE e.startTime < :endOfDayUtc AND (" +
+            "(e.recurrence.frequency IS NULL AND e.endTime > :startOfDayUtc) OR " +
+            "(e.recurrence.frequency IS NOT NULL AND (e.seriesEndTime IS NULL OR e.seriesEndTime > :startOfDayUtc)))")
+    List<EventSummaryView> findSummariesByDateRange(@Param("startOfDayUtc") ZonedDateTime startOfDayUtc,
+                                                    @Param("endOfDayUtc") ZonedDateTime endOfDayUtc);
+
+    /**
+     * Finds the summaries of a user's events overlapping the half-open range {@code [start, end)},
+     * ordered by start time. As in {@link #findSummariesByDateRange}, recurring events are returned when their series spans the range.
+     * The creator and start-time predicates are served by the {@code (creator_id, start_time, end_time)}
+     * index, so only the user's own events are read.
+     *
+     * @param creatorId the ID of the user who owns the events
+     * @param start     the start of the range (inclusive)
+     * @param end       the end of the range (exclusive)
+     * @return the summaries of the matching events
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventSummaryView(" +
+            "e.id, e.name, e.description, e.startTime, e.endTime, e.timezone, e.creator.id, e.recurrence) " +
+            "FROM Event e WHERE e.creator.id = :creatorId AND e.startTime < :end AND (" +
+            "(e.recurrence.frequency IS NULL AND e.endTime > :start) OR " +
+            "(e.recurrence.frequency IS NOT NULL AND (e.seriesEndTime IS NULL OR e.seriesEndTime > :start))) " +
+            "ORDER BY e.startTime, e.id")
+    List<EventSummaryView> findSummariesByCreatorIdAndRange(@Param("creatorId") Long creatorId,
+                                                            @Param("start") ZonedDateTime start,
+                                                            @Param("end") ZonedDateTime end);
+
+    /**
+     * Retrieves the user's one-off events overlapping {@code [start, end)}, ordered by start time.
+     *
+     * Two events overlap when each one starts before the other ends, so events that merely
+     * touch are not considered overlapping. Recurring events are not considered here;
+     * see {@link #findRecurringInRange}. The predicate is scoped by creator and is served
+     * by the {@code (creator_id, start_time, end_time)} index, so with a limit of one the
+     * query is a single indexed round trip regardless of how many days the candidate spans.
+     * Only the columns needed to describe a conflict are selected, so neither the
+     * creator nor the associated days are loaded.
+     *
+     * @param creatorId the ID of the User whose events are checked
+     * @param start     the candidate start time (inclusive)
+     * @param end       the candidate end time (exclusive)
+     * @param excludeId the ID of an event to ignore; may be null
+     * @param limit     the maximum number of results to return
+     * @return the interval views of the overlapping events
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventIntervalView(e.id, e.name, e.startTime, e.endTime) " +
+            "FROM Event e WHERE e.creator.id = :creatorId " +
+            "AND e.startTime < :end AND e.endTime > :start " +
+            "AND e.recurrence.frequency IS NULL " +
+            "AND (:excludeId IS NULL OR e.id <> :excludeId) " +
+            "ORDER BY e.startTime, e.id")
+    List<EventIntervalView> findOverlapping(@Param("creatorId") Long creatorId,
+                                            @Param("start") ZonedDateTime start,
+                                            @Param("end") ZonedDateTime end,
+                                            @Param("excludeId") Long excludeId,
+                                            Limit limit);
+
+    /**
+     * Streams the user's one-off events overlapping {@code [start, end)}, ordered by start time,
+     * as in {@link #findOverlapping}. The stream is backed by a database cursor, so a caller that
+     * stops at the first match never reads the remaining rows; it must be consumed within a
+     * transaction and closed.
+     *
+     * @param creatorId the ID of the User whose events are checked
+     * @param start     the start of the range (inclusive)
+     * @param end       the end of the range (exclusive)
+     * @param excludeId the ID of an event to ignore; may be null
+     * @return a start-ordered stream of the interval views of the overlapping events
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventIntervalView(e.id, e.name, e.startTime, e.endTime) " +
+            "FROM Event e WHERE e.creator.id = :creatorId " +
+            "AND e.startTime < :end AND e.endTime > :start " +
+            "AND e.recurrence.frequency IS NULL " +
+            "AND (:excludeId IS NULL OR e.id <> :excludeId) " +
+            "ORDER BY e.startTime, e.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<EventIntervalView> streamOverlapping(@Param("creatorId") Long creatorId,
+                                                @Param("start") ZonedDateTime start,
+                                                @Param("end") ZonedDateTime end,
+                                                @Param("excludeId") Long excludeId);
+
+    /**
+     * Retrieves the user's recurring events whose series spans part of {@code [start, end)}:
+     * the first occurrence starts before {@code end} and the series has not ended by {@code start}.
+     *
+     * @param creatorId the ID of the User whose events are checked
+     * @param start     the start of the range (inclusive)
+     * @param end       the end of the range (exclusive)
+     * @param excludeId the ID of an event to ignore; may be null
+     * @return the recurring events active in the range
+     */
+    @Query("SELECT e FROM Event e WHERE e.creator.id = :creatorId " +
+            "AND e.recurrence.frequency IS NOT NULL " +
+            "AND e.startTime < :end AND (e.seriesEndTime IS NULL OR e.seriesEndTime > :start) " +
+            "AND (:excludeId IS NULL OR e.id <> :excludeId)")
+    List<Event> findRecurringInRange(@Param("creatorId") Long creatorId,
+                                     @Param("start") ZonedDateTime start,
+                                     @Param("end") ZonedDateTime end,
+                                     @Param("excludeId") Long excludeId);
+
+    /**
+     * Streams the start and end of the user's one-off events overlapping {@code [start, end)},
+     * ordered by start time. Only the two time columns are read, so no entities or collections
+     * are loaded; the stream is backed by a database cursor and must be consumed within a
+     * transaction and closed.
+     *
+     * @param creatorId the ID of the User whose events are read
+     * @param start     the start of the range (inclusive)
+     * @param end       the end of the range (exclusive)
+     * @return a start-ordered stream of event time spans
+     */
+    @Query("SELECT new com.yohan.event_planner.repository.projection.EventTimeView(e.startTime, e.endTime) " +
+            "FROM Event e WHERE e.creator.id = :creatorId AND e.recurrence.frequency IS NULL " +
+            "AND e.startTime < :end AND e.endTime > :start " +
+            "ORDER BY e.startTime")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<EventTimeView> streamTimesInRange(@Param("creatorId") Long creatorId,
+                                             @Param("start") ZonedDateTime start,
+                                             @Param("end") ZonedDateTime end);
+
+    /**
+     * Retrieves the scheduling fields of the user's recurring events whose series spans part of
+     * {@code [start, end)}, as in {@link #findRecurringInRange}, without loading the entities.
+     *
+     * @param creatorId the ID of the User whose events are read
+     * @param start     the start of the range (inclusive)
+     * @param end       the end of the range (exclusive)
+     * @return the recurring series active in the range
      */
-    @Query("SELECT e FROM Event e WHERE e.startTime < :endOfDayUtc AND e.endTime > :startOfDayUtc")
-    List<Event> findByDateRange(@Param("startOfDayUtc") ZonedDateTime startOfDayUtc,
-                                @Param("endOfDayUtc") ZonedDateTime endOfDayUtc);
+    @Query("SELECT new com.yohan.event_planner.repository.projection.RecurringSeriesView(" +
+            "e.startTime, e.endTime, e.timezone, e.recurrence) " +
+            "FROM Event e WHERE e.creator.id = :creatorId " +
+            "AND e.recurrence.frequency IS NOT NULL " +
+            "AND e.startTime < :end AND (e.seriesEndTime IS NULL OR e.seriesEndTime > :start)")
+    List<RecurringSeriesView> findRecurringSeriesInRange(@Param("creatorId") Long creatorId,
+                                                         @Param("start") ZonedDateTime start,
+                                                         @Param("end") ZonedDateTime end);
 }
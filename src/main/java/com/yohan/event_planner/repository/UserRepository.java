@@ -2,6 +2,8 @@ package com.yohan.event_planner.repository;
 
 import com.yohan.event_planner.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -72,4 +74,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if another user with the email exists, false otherwise
      */
     boolean existsByEmailAndIdNot(String email, Long id);
+
+    /**
+     * Takes a row-level write lock on the user with the given ID until the surrounding
+     * transaction ends. Only the ID is selected, so neither the user nor its roles are loaded.
+     *
+     * @param id the ID of the user to lock
+     * @return the ID if the user exists, or empty if not found
+     */
+    @Query(value = "SELECT id FROM users WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    /**
+     * Reads only the token generation of the user with the given ID.
+     *
+     * @param id the ID of the user
+     * @return the user's token generation, or empty if not found
+     */
+    @Query("SELECT u.tokenGeneration FROM User u WHERE u.id = :id")
+    Optional<Long> findTokenGenerationById(@Param("id") Long id);
 }
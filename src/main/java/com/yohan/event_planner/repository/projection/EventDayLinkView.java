@@ -0,0 +1,10 @@
+package com.yohan.event_planner.repository.projection;
+
+/**
+ * A row of the event-day link table, selected in bulk to attach day IDs to a list of events
+ * without initializing each event's {@code days} collection.
+ *
+ * @param eventId the event ID
+ * @param dayId   the ID of a day the event is linked to
+ */
+public record EventDayLinkView(Long eventId, Long dayId) {}
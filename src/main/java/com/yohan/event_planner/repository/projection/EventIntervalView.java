@@ -0,0 +1,21 @@
+package com.yohan.event_planner.repository.projection;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Lightweight read model of an event's time interval.
+ * <p>
+ * Selected through JPQL constructor expressions so that scheduling checks can work with
+ * event times without hydrating full {@code Event} entities or their associations.
+ *
+ * @param id        the event ID
+ * @param name      the event name
+ * @param startTime the event start time (UTC)
+ * @param endTime   the event end time (UTC)
+ */
+public record EventIntervalView(
+        Long id,
+        String name,
+        ZonedDateTime startTime,
+        ZonedDateTime endTime
+) {}
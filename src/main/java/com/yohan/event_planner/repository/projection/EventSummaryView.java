@@ -0,0 +1,63 @@
+package com.yohan.event_planner.repository.projection;
+
+import com.yohan.event_planner.domain.RecurrenceRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Read model of an event for list responses.
+ * <p>
+ * Selected through JPQL constructor expressions that read only columns of the event row, so
+ * listing events loads neither the creator (and its roles) nor the linked days. Day IDs, where
+ * needed, are fetched separately for a whole list; see {@link EventDayLinkView}.
+ *
+ * @param id          the event ID
+ * @param name        the event name
+ * @param description the event description, or null
+ * @param startTime   the event start time (UTC), or the start of the occurrence
+ * @param endTime     the event end time (UTC), or the end of the occurrence
+ * @param timezone    the event's timezone, in which its recurrence rule is evaluated
+ * @param creatorId   the ID of the user who created the event
+ * @param recurrence  the recurrence rule, or null for a one-off event
+ * @param occurrence  true if this is an expanded occurrence of a recurring event rather than the stored row
+ */
+public record EventSummaryView(
+        Long id,
+        String name,
+        String description,
+        ZonedDateTime startTime,
+        ZonedDateTime endTime,
+        ZoneId timezone,
+        Long creatorId,
+        RecurrenceRule recurrence,
+        boolean occurrence
+) {
+
+    /**
+     * Creates the view of a stored event; used by the repository's constructor expressions.
+     */
+    public EventSummaryView(Long id, String name, String description, ZonedDateTime startTime,
+                            ZonedDateTime endTime, ZoneId timezone, Long creatorId, RecurrenceRule recurrence) {
+        this(id, name, description, startTime, endTime, timezone, creatorId, recurrence, false);
+    }
+
+    /**
+     * @return true if the event repeats according to a recurrence rule
+     */
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Creates the view of one occurrence of this recurring event, keeping its ID and rule.
+     *
+     * @param occurrenceStart the start of the occurrence
+     * @param occurrenceEnd   the end of the occurrence
+     * @return the occurrence view
+     */
+    public EventSummaryView toOccurrence(ZonedDateTime occurrenceStart, ZonedDateTime occurrenceEnd) {
+        return new EventSummaryView(id, name, description, occurrenceStart, occurrenceEnd, timezone, creatorId,
+                recurrence, true);
+    }
+}
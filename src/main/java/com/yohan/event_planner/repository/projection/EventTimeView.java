@@ -0,0 +1,12 @@
+package com.yohan.event_planner.repository.projection;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Start and end of an event, for reads that only need its time span.
+ *
+ * @param startTime the event start time, in UTC
+ * @param endTime   the event end time, in UTC
+ */
+public record EventTimeView(ZonedDateTime startTime, ZonedDateTime endTime) {
+}
@@ -0,0 +1,19 @@
+package com.yohan.event_planner.repository.projection;
+
+import com.yohan.event_planner.domain.RecurrenceRule;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * The scheduling fields of a recurring event, enough to expand its occurrences without
+ * loading the entity.
+ *
+ * @param startTime  the start of the first occurrence, in UTC
+ * @param endTime    the end of the first occurrence, in UTC
+ * @param timezone   the event's timezone, in which the rule is evaluated
+ * @param recurrence the recurrence rule
+ */
+public record RecurringSeriesView(ZonedDateTime startTime, ZonedDateTime endTime, ZoneId timezone,
+                                  RecurrenceRule recurrence) {
+}
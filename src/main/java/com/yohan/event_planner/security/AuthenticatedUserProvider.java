@@ -0,0 +1,35 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.domain.User;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the domain {@link User} behind the current request's authentication.
+ *
+ * <p>
+ * The user is read from the {@link CustomUserDetails} principal placed in the
+ * {@link SecurityContextHolder} by {@link JwtAuthFilter}, so no additional lookup is performed.
+ * When the request was authenticated from token claims, the user is a {@link User#reference}
+ * with only its ID, username and timezone set.
+ * </p>
+ */
+@Component
+public class AuthenticatedUserProvider {
+
+    /**
+     * Returns the authenticated user of the current request.
+     *
+     * @return the authenticated domain user
+     * @throws AuthenticationCredentialsNotFoundException if the request is not authenticated
+     */
+    public User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            throw new AuthenticationCredentialsNotFoundException("No authenticated user in security context");
+        }
+        return userDetails.getUser();
+    }
+}
@@ -0,0 +1,172 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.exception.PasswordHashingBusyException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Password encoder running a deliberately slow delegate, such as BCrypt, on a dedicated bounded
+ * executor instead of the calling request thread.
+ * <p>
+ * At most {@code threads} passwords are hashed or checked at once, so a burst of logins cannot
+ * take every core from other requests. Up to {@code queueCapacity} more wait their turn; beyond
+ * that a call fails at once with a {@link PasswordHashingBusyException}, answered as 503 with a
+ * Retry-After header. The calling thread waits for its own result, so callers see the usual
+ * synchronous {@link PasswordEncoder} contract.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final Duration retryAfter;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    /**
+     * Creates the encoder and starts its threads.
+     *
+     * @param delegate      the encoder doing the hashing
+     * @param threads       the number of passwords hashed or checked at once; must be positive
+     * @param queueCapacity the number of calls allowed to wait for a thread; must be positive
+     * @param retryAfter    the delay suggested to clients whose call was rejected
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration retryAfter) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Hashing threads and queue capacity must be positive");
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.queueCapacity = queueCapacity;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws PasswordHashingBusyException if the executor's queue is full
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws PasswordHashingBusyException if the executor's queue is full
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only inspects the encoded password, so it runs on the calling thread.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * @return a snapshot of the executor's load and of the time spent hashing and waiting
+     */
+    public Stats stats() {
+        long count = completed.sum();
+        return new Stats(
+                executor.getMaximumPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity,
+                count,
+                rejected.sum(),
+                Duration.ofNanos(count == 0 ? 0 : hashNanos.sum() / count),
+                Duration.ofNanos(maxHashNanos.get()),
+                Duration.ofNanos(count == 0 ? 0 : waitNanos.sum() / count));
+    }
+
+    /**
+     * Stops the executor once queued calls have run; later calls are rejected.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Supplier<T> hashing) {
+        long submitted = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                long started = System.nanoTime();
+                try {
+                    return hashing.get();
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    waitNanos.add(started - submitted);
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulateAndGet(elapsed, Math::max);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException(retryAfter);
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Counters of the encoder since it was created.
+     *
+     * @param threads         the number of passwords hashed or checked at once
+     * @param activeThreads   the number of threads hashing right now
+     * @param queueDepth      the number of calls waiting for a thread
+     * @param queueCapacity   the number of calls allowed to wait
+     * @param completed       calls that ran
+     * @param rejected        calls rejected because the queue was full
+     * @param meanHashTime    the mean time spent hashing per call
+     * @param maxHashTime     the longest time spent hashing a single call
+     * @param meanQueueWait   the mean time a call waited for a thread
+     */
+    public record Stats(int threads, int activeThreads, int queueDepth, int queueCapacity,
+                        long completed, long rejected,
+                        Duration meanHashTime, Duration maxHashTime, Duration meanQueueWait) {
+    }
+}
@@ -1,11 +1,13 @@
 package com.yohan.event_planner.security;
 
+import com.yohan.event_planner.domain.Role;
 import com.yohan.event_planner.domain.User;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 
 /**
  * Adapter class that implements Spring Security's {@link UserDetails} interface,
@@ -15,27 +17,49 @@ import java.util.Collections;
 public class CustomUserDetails implements UserDetails {
 
     private final User user;
+    private final List<GrantedAuthority> authorities;
 
     /**
-     * Constructs a new {@code CustomUserDetails} instance wrapping the provided {@link User}.
+     * Constructs a new {@code CustomUserDetails} instance wrapping the provided {@link User},
+     * granting one authority per role of the user.
      *
      * @param user the domain user entity
      */
     public CustomUserDetails(User user) {
+        this(user, user.getRoles().stream().map(Role::getName).toList());
+    }
+
+    /**
+     * Constructs a new {@code CustomUserDetails} instance for a user known from token claims,
+     * granting one authority per role name.
+     *
+     * @param user      the user, typically a {@link User#reference} built from the claims
+     * @param roleNames the names of the user's roles
+     */
+    public CustomUserDetails(User user, Collection<String> roleNames) {
         this.user = user;
+        this.authorities = roleNames.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
     }
 
     /**
-     * Returns the authorities granted to the user.
-     * <p>
-     * Currently returns an empty list as no roles or authorities are implemented yet.
+     * Returns the wrapped domain user.
+     *
+     * @return the domain user entity
+     */
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Returns the authorities granted to the user, one per role name.
      *
      * @return the authorities granted to the user
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // TODO: Map user roles to GrantedAuthority objects when roles are added
-        return Collections.emptyList();
+        return authorities;
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.yohan.event_planner.security;
 
+import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.service.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,20 +9,29 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * JWT Authentication Filter that intercepts every HTTP request to validate
  * the JWT token from the Authorization header.
  *
  * <p>
- * This filter extracts the JWT token from the Authorization header, validates it,
- * loads the user details, and sets the Spring Security authentication context
- * so that the request is treated as authenticated.
+ * This filter extracts the JWT token from the Authorization header, verifies it once,
+ * resolves the user details, and sets the Spring Security authentication context
+ * so that the request is treated as authenticated. A malformed, forged or expired
+ * token, or one naming a missing or disabled user, leaves the request unauthenticated.
+ * </p>
+ *
+ * <p>
+ * A token carrying identity claims issued under the user's current token generation is
+ * trusted without a database query. Any other token, including one whose claims went stale
+ * after a change to the user, is resolved by loading the user.
  * </p>
  *
  * <p>
@@ -33,16 +43,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenGenerations tokenGenerations;
 
     /**
      * Constructs the filter with required dependencies.
      *
-     * @param jwtService service to handle JWT operations like validation and extracting claims
+     * @param jwtService service verifying tokens into their claims
      * @param userDetailsService service to load user-specific data from the database
+     * @param tokenGenerations current token generations, deciding whether identity claims can be trusted
      */
-    public JwtAuthFilter(JwtService jwtService, CustomUserDetailsService userDetailsService) {
+    public JwtAuthFilter(JwtService jwtService, CustomUserDetailsService userDetailsService,
+                         TokenGenerations tokenGenerations) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.tokenGenerations = tokenGenerations;
     }
 
     /**
@@ -62,8 +76,6 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         // Retrieve the Authorization header from the request
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String username;
 
         // If no Authorization header or it does not start with "Bearer ", just continue filter chain
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -71,19 +83,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Extract the JWT token by removing the "Bearer " prefix
-        jwt = authHeader.substring(7);
+        // Verify the JWT token, without the "Bearer " prefix, once for the whole request
+        Optional<VerifiedToken> token = jwtService.verify(authHeader.substring(7));
 
-        // Extract the username from the JWT token
-        username = jwtService.extractUsername(jwt);
+        // Proceed if the token is valid and SecurityContext has no authentication yet
+        if (token.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolveUser(token.get());
 
-        // Proceed if username exists and SecurityContext has no authentication yet
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            // Load user details from database
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-            // Validate the token against the username extracted from UserDetails
-            if (jwtService.isTokenValid(jwt, userDetails.getUsername())) {
+            if (userDetails != null) {
                 // Create an authentication token and set it into the SecurityContext
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -102,4 +109,26 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         // Continue with the filter chain
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Resolves the principal of a verified token. Identity claims issued under the user's current
+     * token generation are trusted as they are; otherwise the user is loaded from the database.
+     *
+     * @param token the verified token
+     * @return the principal, or null if the user no longer exists or is disabled
+     */
+    private UserDetails resolveUser(VerifiedToken token) {
+        if (token.hasIdentity() && tokenGenerations.isCurrent(token.userId(), token.generation())) {
+            User user = User.reference(token.userId(), token.username(), token.timezone());
+            return new CustomUserDetails(user, token.roles());
+        }
+        try {
+            UserDetails userDetails = token.userId() != null
+                    ? userDetailsService.loadUserById(token.userId())
+                    : userDetailsService.loadUserByUsername(token.username());
+            return userDetails.isEnabled() ? userDetails : null;
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
 }
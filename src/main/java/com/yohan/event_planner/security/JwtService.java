@@ -1,37 +1,91 @@
 package com.yohan.event_planner.security;
 
+import com.yohan.event_planner.business.cache.ExpiringCache;
+import com.yohan.event_planner.domain.Role;
+import com.yohan.event_planner.domain.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Service responsible for generating and validating JWT tokens using JJWT version 0.12.6.
  *
  * <p>This service handles both creation and validation of tokens using a Base64-encoded secret key.
+ * The key and the parser are built once, and {@link #verify} parses and checks a token a single time
+ * into a {@link VerifiedToken}. Verified tokens are cached by a digest of the token until they expire,
+ * so repeated requests with the same token skip the signature check entirely.
  * Expired tokens are gracefully handled inside service methods.</p>
+ *
+ * <p>With {@code jwt.claims-auth.enabled}, tokens generated for a {@link User} also carry the user's ID,
+ * role names, timezone and token generation, and {@link #verify} returns them, letting
+ * {@link JwtAuthFilter} authenticate requests without loading the user.</p>
  */
 @Service
 public class JwtService {
 
     /**
-     * Base64-encoded secret key used for signing and validating JWTs.
-     * Configure this in application.properties or application.yml under 'jwt.secret'.
+     * Key of a cached token: the first 128 bits of its SHA-256 digest, so the cache holds no
+     * usable credentials.
      */
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private record TokenDigest(long high, long low) {
+    }
+
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLES_CLAIM = "roles";
+    static final String TIMEZONE_CLAIM = "tz";
+    static final String GENERATION_CLAIM = "gen";
+
+    private final long jwtExpirationMillis;
+    private final boolean claimsAuthentication;
+    private final Clock clock;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final ExpiringCache<TokenDigest, VerifiedToken> verifiedTokens;
 
     /**
-     * JWT expiration time in milliseconds.
-     * Configure this in application properties under 'jwt.expirationMillis'.
+     * Constructs the service using the system clock.
+     *
+     * @param jwtSecret            Base64-encoded secret key used for signing and validating JWTs ({@code jwt.secret})
+     * @param jwtExpirationMillis  JWT expiration time in milliseconds ({@code jwt.expirationMillis})
+     * @param cacheSize            the maximum number of verified tokens kept ({@code jwt.cache.max-size})
+     * @param claimsAuthentication whether tokens carry and expose identity claims ({@code jwt.claims-auth.enabled})
      */
-    @Value("${jwt.expirationMillis}")
-    private long jwtExpirationMillis;
+    @Autowired
+    public JwtService(@Value("${jwt.secret}") String jwtSecret,
+                      @Value("${jwt.expirationMillis}") long jwtExpirationMillis,
+                      @Value("${jwt.cache.max-size:10000}") int cacheSize,
+                      @Value("${jwt.claims-auth.enabled:true}") boolean claimsAuthentication) {
+        this(jwtSecret, jwtExpirationMillis, cacheSize, claimsAuthentication, Clock.systemUTC());
+    }
+
+    JwtService(String jwtSecret, long jwtExpirationMillis, int cacheSize, boolean claimsAuthentication, Clock clock) {
+        this.jwtExpirationMillis = jwtExpirationMillis;
+        this.claimsAuthentication = claimsAuthentication;
+        this.clock = clock;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .clock(() -> Date.from(clock.instant()))
+                .build();
+        // No token outlives its expiration time, so neither does its cache entry
+        this.verifiedTokens = new ExpiringCache<>(cacheSize, Duration.ofMillis(jwtExpirationMillis));
+    }
 
     /**
      * Generates a signed JWT token for the specified username.
@@ -41,105 +95,143 @@ public class JwtService {
      * @return the compact JWT string
      */
     public String generateToken(String username) {
+        Instant now = clock.instant();
         return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMillis))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .subject(username)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusMillis(jwtExpirationMillis)))
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
     /**
-     * Extracts the username (subject) claim from the JWT token.
-     * Returns null if the token is expired or invalid.
+     * Generates a signed JWT token for the user. With identity claims enabled, the token also
+     * carries the user's ID, role names, timezone and current token generation.
      *
-     * @param token the JWT string
-     * @return the username (subject) stored in the token, or null if token is expired or invalid
+     * @param user the authenticated user
+     * @return the compact JWT string
      */
-    public String extractUsername(String token) {
-        try {
-            return extractClaim(token, Claims::getSubject);
-        } catch (ExpiredJwtException e) {
-            return null;
+    public String generateToken(User user) {
+        if (!claimsAuthentication) {
+            return generateToken(user.getUsername());
         }
+        Instant now = clock.instant();
+        List<String> roles = user.getRoles().stream().map(Role::getName).sorted().toList();
+        return Jwts.builder()
+                .subject(user.getUsername())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLES_CLAIM, roles)
+                .claim(TIMEZONE_CLAIM, user.getTimezone().getId())
+                .claim(GENERATION_CLAIM, user.getTokenGeneration())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusMillis(jwtExpirationMillis)))
+                .signWith(signingKey, Jwts.SIG.HS256)
+                .compact();
     }
 
     /**
-     * Validates the token by checking if the username matches and the token is not expired.
+     * Verifies the token's signature and expiry and returns its claims. A token verified before is
+     * answered from the cache until it expires.
      *
-     * @param token    the JWT token to validate
-     * @param username the username expected in the token's subject
-     * @return true if token is valid and not expired, false otherwise
+     * @param token the JWT string
+     * @return the verified claims, or empty if the token is malformed, forged or expired
      */
-    public boolean isTokenValid(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return extractedUsername != null && extractedUsername.equals(username) && !isTokenExpired(token);
+    public Optional<VerifiedToken> verify(String token) {
+        VerifiedToken verified;
+        try {
+            verified = verifiedTokens.get(digest(token), digest -> parse(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (verified == null || verified.isExpired(clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(verified);
     }
 
     /**
-     * Checks whether the JWT token has expired.
-     * Returns true if the token is expired or throws {@code ExpiredJwtException} internally.
+     * Extracts the username (subject) claim from the JWT token.
+     * Returns null if the token is expired.
      *
      * @param token the JWT string
-     * @return true if token expiration date is before current time or explicitly expired
+     * @return the username (subject) stored in the token, or null if token is expired
+     * @throws JwtException if the token is malformed or its signature does not match
      */
-    public boolean isTokenExpired(String token) {
-        try {
-            return extractExpiration(token).before(new Date());
-        } catch (ExpiredJwtException e) {
-            return true;
-        }
+    public String extractUsername(String token) {
+        VerifiedToken verified = parse(token);
+        return verified != null && !verified.isExpired(clock.instant()) ? verified.username() : null;
     }
 
     /**
-     * Extracts the expiration date from the token claims.
+     * Validates the token by checking if the username matches and the token is not expired.
      *
-     * @param token the JWT string
-     * @return the expiration date
-     * @throws ExpiredJwtException if the token is expired
+     * @param token    the JWT token to validate
+     * @param username the username expected in the token's subject
+     * @return true if token is valid and not expired, false otherwise
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(String token, String username) {
+        return verify(token).map(verified -> verified.username().equals(username)).orElse(false);
     }
 
     /**
-     * Extracts a claim from the JWT token using the provided claims resolver function.
+     * Checks whether the JWT token has expired.
      *
-     * @param token          the JWT string
-     * @param claimsResolver function to apply on Claims to extract specific data
-     * @param <T>            the type of the extracted claim
-     * @return the extracted claim value
-     * @throws ExpiredJwtException if the token is expired
+     * @param token the JWT string
+     * @return true if token expiration date is not after the current time
+     * @throws JwtException if the token is malformed or its signature does not match
      */
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public boolean isTokenExpired(String token) {
+        return extractUsername(token) == null;
     }
 
     /**
-     * Parses the JWT token using JJWT 0.12.6 parsing API.
-     * Uses {@code Jwts.parser()}, configures the signing key, builds the parser,
-     * then parses the token and extracts claims.
+     * Parses the token with the prebuilt parser, verifying its signature.
      *
      * @param token the JWT string to parse
-     * @return the JWT claims
-     * @throws JwtException if token is invalid, expired, or signature does not match
+     * @return the claims, with identity claims only if enabled, or null if the token is expired
+     *         or has no subject or expiration
+     * @throws JwtException if token is malformed or signature does not match
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())  // Configure builder with signing key
-                .build()                         // Build JwtParser instance
-                .parseClaimsJws(token)           // Parse token and verify signature
-                .getBody();                      // Extract claims (payload)
+    private VerifiedToken parse(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            return null;
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+        Date issuedAtDate = claims.getIssuedAt();
+        Instant issuedAt = issuedAtDate != null ? issuedAtDate.toInstant() : null;
+        Instant expiresAt = claims.getExpiration().toInstant();
+        if (!claimsAuthentication || !claims.containsKey(USER_ID_CLAIM)) {
+            return new VerifiedToken(claims.getSubject(), issuedAt, expiresAt);
+        }
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        String timezone = claims.get(TIMEZONE_CLAIM, String.class);
+        return new VerifiedToken(claims.getSubject(), issuedAt, expiresAt,
+                longClaim(claims, USER_ID_CLAIM),
+                roles != null ? roles.stream().map(String::valueOf).toList() : List.of(),
+                timezone != null ? ZoneId.of(timezone) : null,
+                longClaim(claims, GENERATION_CLAIM));
     }
 
     /**
-     * Decodes the Base64-encoded secret and returns the signing key used for HS256 algorithm.
-     *
-     * @return the signing Key
+     * Reads a numeric claim, which JSON deserialization yields as an Integer when small enough.
      */
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static Long longClaim(Claims claims, String name) {
+        Number value = claims.get(name, Number.class);
+        return value != null ? value.longValue() : null;
+    }
+
+    private static TokenDigest digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(hash);
+            return new TokenDigest(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.exception.TooManyAttemptsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Rate limit of login and registration attempts, checked before any password is hashed.
+ * <p>
+ * Attempts are limited per client IP and per username with a {@link TokenBucketLimiter} each:
+ * a client IP may make {@code security.login-throttle.ip.burst} attempts at once and one more every
+ * {@code security.login-throttle.ip.refill-interval}, and likewise for a username. Usernames are
+ * compared case-insensitively. Each limiter tracks about {@code security.login-throttle.max-keys} keys.
+ */
+@Component
+public class LoginThrottle {
+
+    private final TokenBucketLimiter clientIps;
+    private final TokenBucketLimiter usernames;
+
+    /**
+     * Constructs the throttle.
+     *
+     * @param ipBurst                the number of attempts a client IP may make at once
+     * @param ipRefillInterval       the time in which a client IP regains one attempt
+     * @param usernameBurst          the number of attempts for a username allowed at once
+     * @param usernameRefillInterval the time in which a username regains one attempt
+     * @param maxKeys                the approximate maximum number of client IPs, and of usernames, tracked
+     */
+    @Autowired
+    public LoginThrottle(@Value("${security.login-throttle.ip.burst:20}") int ipBurst,
+                         @Value("${security.login-throttle.ip.refill-interval:PT3S}") Duration ipRefillInterval,
+                         @Value("${security.login-throttle.username.burst:5}") int usernameBurst,
+                         @Value("${security.login-throttle.username.refill-interval:PT30S}") Duration usernameRefillInterval,
+                         @Value("${security.login-throttle.max-keys:500000}") int maxKeys) {
+        this(new TokenBucketLimiter(ipBurst, ipRefillInterval, maxKeys),
+                new TokenBucketLimiter(usernameBurst, usernameRefillInterval, maxKeys));
+    }
+
+    LoginThrottle(TokenBucketLimiter clientIps, TokenBucketLimiter usernames) {
+        this.clientIps = clientIps;
+        this.usernames = usernames;
+    }
+
+    /**
+     * Counts an attempt from the client IP for the username, refusing it if either is over its rate.
+     *
+     * @param clientIp the address of the client
+     * @param username the username being logged in or registered, or null if missing
+     * @throws TooManyAttemptsException if the client IP or username made too many recent attempts
+     */
+    public void check(String clientIp, String username) {
+        Duration wait = clientIps.tryAcquire(clientIp);
+        if (wait.isZero() && username != null) {
+            wait = usernames.tryAcquire(username.toLowerCase(Locale.ROOT));
+        }
+        if (!wait.isZero()) {
+            throw new TooManyAttemptsException(wait);
+        }
+    }
+}
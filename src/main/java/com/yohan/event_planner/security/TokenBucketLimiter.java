@@ -0,0 +1,142 @@
+package com.yohan.event_planner.security;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token-bucket rate limiter keyed by string, such as a username or client IP.
+ * <p>
+ * Each key may take {@code burst} tokens at once, and regains one every {@code refillInterval}.
+ * A bucket is a single {@link AtomicLong} holding the time at which it will be full again (the
+ * generic cell rate algorithm), so taking a token is one compare-and-set and never blocks.
+ * <p>
+ * Buckets live in a fixed number of independent {@link ConcurrentHashMap} stripes, each bounded
+ * to its share of {@code maxKeys}. A stripe that outgrows its share is swept by one thread while
+ * others carry on: full buckets are dropped first, as they are indistinguishable from absent ones,
+ * then arbitrary buckets until the stripe is a tenth below its share. Dropping a bucket that is
+ * not full forgets that key's recent attempts, which bounds memory under floods of distinct keys
+ * at the cost of a fresh burst for the keys dropped.
+ */
+public class TokenBucketLimiter {
+
+    private static final int STRIPES = 16;
+
+    private static final class Stripe {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicBoolean sweeping = new AtomicBoolean();
+    }
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeysPerStripe;
+    private final LongSupplier nanoTime;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /**
+     * Creates a limiter using {@link System#nanoTime()} as its clock.
+     *
+     * @param burst          the number of tokens a key may take at once; must be positive
+     * @param refillInterval the time in which a key regains one token; must be positive
+     * @param maxKeys        the approximate maximum number of keys tracked; must be at least the number of stripes
+     */
+    public TokenBucketLimiter(int burst, Duration refillInterval, int maxKeys) {
+        this(burst, refillInterval, maxKeys, System::nanoTime);
+    }
+
+    /**
+     * Creates a limiter with the given clock.
+     *
+     * @param burst          the number of tokens a key may take at once; must be positive
+     * @param refillInterval the time in which a key regains one token; must be positive
+     * @param maxKeys        the approximate maximum number of keys tracked; must be at least the number of stripes
+     * @param nanoTime       the source of monotonic time in nanoseconds
+     */
+    public TokenBucketLimiter(int burst, Duration refillInterval, int maxKeys, LongSupplier nanoTime) {
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be positive");
+        }
+        if (refillInterval.isNegative() || refillInterval.isZero()) {
+            throw new IllegalArgumentException("Refill interval must be positive");
+        }
+        if (maxKeys < STRIPES) {
+            throw new IllegalArgumentException("Maximum number of keys must be at least " + STRIPES);
+        }
+        this.intervalNanos = refillInterval.toNanos();
+        this.burstNanos = Math.multiplyExact(intervalNanos, (long) burst);
+        this.maxKeysPerStripe = maxKeys / STRIPES;
+        this.nanoTime = nanoTime;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Takes a token for the key if one is available.
+     *
+     * @param key the key, such as a username or client IP
+     * @return zero if a token was taken, otherwise how long until the key regains one
+     */
+    public Duration tryAcquire(String key) {
+        Stripe stripe = stripes[(key.hashCode() ^ (key.hashCode() >>> 16)) & (STRIPES - 1)];
+        long now = nanoTime.getAsLong();
+        AtomicLong bucket = stripe.buckets.get(key);
+        if (bucket != null) {
+            return take(bucket, now);
+        }
+        bucket = stripe.buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        // Taken before sweeping, so the sweep does not drop the new bucket as full
+        Duration wait = take(bucket, now);
+        if (stripe.buckets.size() > maxKeysPerStripe) {
+            sweep(stripe, now);
+        }
+        return wait;
+    }
+
+    /**
+     * @return the number of keys currently tracked
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    private Duration take(AtomicLong bucket, long now) {
+        while (true) {
+            long fullAt = bucket.get();
+            // A bucket full in the past is simply full now
+            long next = (fullAt - now > 0 ? fullAt : now) + intervalNanos;
+            long ahead = next - now;
+            if (ahead > burstNanos) {
+                return Duration.ofNanos(ahead - burstNanos);
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    private void sweep(Stripe stripe, long now) {
+        if (!stripe.sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            stripe.buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+            int target = maxKeysPerStripe - maxKeysPerStripe / 10;
+            Iterator<AtomicLong> buckets = stripe.buckets.values().iterator();
+            while (stripe.buckets.size() > target && buckets.hasNext()) {
+                buckets.next();
+                buckets.remove();
+            }
+        } finally {
+            stripe.sweeping.set(false);
+        }
+    }
+}
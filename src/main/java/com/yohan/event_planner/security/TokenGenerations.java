@@ -0,0 +1,70 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.business.cache.ExpiringCache;
+import com.yohan.event_planner.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * In-memory map of each user's current token generation, deciding whether the identity claims
+ * of a token can still be trusted without loading the user.
+ * <p>
+ * A user's generation is read from the database on first use, a single column by primary key,
+ * and kept for {@code jwt.generations.ttl}; at most {@code jwt.generations.max-users} users are
+ * kept. Writes that make token claims stale increment the stored generation and call
+ * {@link #invalidate}, so the next check reads the new value. The TTL bounds how long another
+ * instance may keep trusting stale claims.
+ */
+@Component
+public class TokenGenerations {
+
+    private final UserRepository userRepository;
+    private final ExpiringCache<Long, Long> generations;
+
+    /**
+     * Constructs the map.
+     *
+     * @param userRepository the repository reading a user's stored generation
+     * @param maxUsers       the maximum number of users whose generation is kept
+     * @param ttl            how long a generation is kept before it is read again
+     */
+    public TokenGenerations(UserRepository userRepository,
+                            @Value("${jwt.generations.max-users:10000}") int maxUsers,
+                            @Value("${jwt.generations.ttl:PT5M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.generations = new ExpiringCache<>(maxUsers, ttl);
+    }
+
+    /**
+     * @param userId     the ID of the user named by the token
+     * @param generation the generation the token was issued under
+     * @return true if the user exists and no claim-changing write happened since the token was issued
+     */
+    public boolean isCurrent(Long userId, long generation) {
+        Long current = generations.get(userId, id -> userRepository.findTokenGenerationById(id).orElse(null));
+        return current != null && current == generation;
+    }
+
+    /**
+     * Forgets the user's generation after a write that changed it. Called within a transaction,
+     * the generation is forgotten again once it commits, so a read of the old value in between
+     * is not kept.
+     *
+     * @param userId the ID of the user
+     */
+    public void invalidate(Long userId) {
+        generations.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generations.invalidate(userId);
+                }
+            });
+        }
+    }
+}
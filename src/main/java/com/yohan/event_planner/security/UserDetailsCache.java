@@ -0,0 +1,79 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.business.cache.ExpiringCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Cache of the database-backed principals loaded by username, sparing a user query on every
+ * request authenticated without identity claims, and on every login.
+ * <p>
+ * At most {@code users.details-cache.max-size} principals are kept, each for at most
+ * {@code users.details-cache.ttl}. Writes to a user or their roles call {@link #invalidate} with
+ * the user's ID, so the next request loads the user again. Cached principals are shared between
+ * requests, and their users must be treated as read-only.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final ExpiringCache<String, CustomUserDetails> principals;
+
+    /**
+     * Constructs the cache.
+     *
+     * @param maxSize the maximum number of principals kept
+     * @param ttl     how long a principal is kept before it is loaded again
+     */
+    public UserDetailsCache(@Value("${users.details-cache.max-size:10000}") int maxSize,
+                            @Value("${users.details-cache.ttl:PT5M}") Duration ttl) {
+        this.principals = new ExpiringCache<>(maxSize, ttl);
+    }
+
+    /**
+     * Returns the cached principal for the username, loading it on a miss.
+     *
+     * @param username the username
+     * @param loader   loads the principal; may return null for an unknown user, which is not cached
+     * @return the principal, or null if the loader found no user
+     */
+    public CustomUserDetails get(String username, Function<String, CustomUserDetails> loader) {
+        return principals.get(username, loader);
+    }
+
+    /**
+     * Forgets the user's principal after a write to the user or their roles. Called within a
+     * transaction, the principal is forgotten again once it commits, so a load of the old user
+     * in between is not kept.
+     *
+     * @param userId the ID of the user
+     */
+    public void invalidate(Long userId) {
+        forget(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forget(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return the hit, miss and eviction counters of the cache
+     */
+    public ExpiringCache.CacheStats stats() {
+        return principals.stats();
+    }
+
+    private void forget(Long userId) {
+        // Keyed by username, which the write may have changed, so the user is found by ID
+        principals.invalidateIfValue(details -> Objects.equals(details.getUser().getId(), userId));
+    }
+}
@@ -0,0 +1,54 @@
+package com.yohan.event_planner.security;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * The claims of a JWT whose signature has been verified, extracted once so that a request
+ * never parses its token again.
+ * <p>
+ * Tokens issued with identity claims also carry the user's ID, roles, timezone and token
+ * generation, enough to authenticate a request without loading the user; see {@link #hasIdentity()}.
+ *
+ * @param username   the subject of the token
+ * @param issuedAt   when the token was issued, or null if it does not say
+ * @param expiresAt  when the token expires
+ * @param userId     the ID of the user, or null without identity claims
+ * @param roles      the names of the user's roles; empty without identity claims
+ * @param timezone   the user's time zone, or null without identity claims
+ * @param generation the user's token generation when the token was issued, or null without identity claims
+ */
+public record VerifiedToken(String username, Instant issuedAt, Instant expiresAt,
+                            Long userId, List<String> roles, ZoneId timezone, Long generation) {
+
+    public VerifiedToken {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    /**
+     * Creates the claims of a token carrying only its subject.
+     *
+     * @param username  the subject of the token
+     * @param issuedAt  when the token was issued, or null if it does not say
+     * @param expiresAt when the token expires
+     */
+    public VerifiedToken(String username, Instant issuedAt, Instant expiresAt) {
+        this(username, issuedAt, expiresAt, null, List.of(), null, null);
+    }
+
+    /**
+     * @param now the current time
+     * @return true if the token is no longer valid at {@code now}
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * @return true if the token carries the identity claims needed to authenticate without loading the user
+     */
+    public boolean hasIdentity() {
+        return userId != null && timezone != null && generation != null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.dto.CommonSlotsRequestDTO;
+import com.yohan.event_planner.dto.CommonSlotsResponseDTO;
+import com.yohan.event_planner.dto.FreeBusyResponseDTO;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Service interface for availability queries over users' schedules.
+ */
+public interface AvailabilityService {
+
+    /**
+     * Computes the busy periods of a user within a window.
+     *
+     * @param userId the ID of the user
+     * @param from   the inclusive start of the window
+     * @param to     the exclusive end of the window
+     * @return the merged busy periods within the window
+     */
+    FreeBusyResponseDTO getFreeBusy(Long userId, ZonedDateTime from, ZonedDateTime to);
+
+    /**
+     * Finds the time slots within the requested window in which all given users are free,
+     * optionally restricted to working hours.
+     *
+     * @param request the users, window, minimum duration and optional working hours
+     * @return the earliest common free slots
+     */
+    CommonSlotsResponseDTO findCommonSlots(CommonSlotsRequestDTO request);
+}
@@ -0,0 +1,116 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.UserBO;
+import com.yohan.event_planner.business.availability.FreeSlotFinder;
+import com.yohan.event_planner.business.availability.TimeSlot;
+import com.yohan.event_planner.business.availability.WorkingHours;
+import com.yohan.event_planner.dto.CommonSlotsRequestDTO;
+import com.yohan.event_planner.dto.CommonSlotsResponseDTO;
+import com.yohan.event_planner.dto.FreeBusyResponseDTO;
+import com.yohan.event_planner.dto.TimeSlotDTO;
+import com.yohan.event_planner.dto.WorkingHoursDTO;
+import com.yohan.event_planner.exception.InvalidTimeRangeException;
+import com.yohan.event_planner.exception.UserNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Implementation of {@link AvailabilityService}.
+ * Validates the requested window and delegates interval computation to {@link EventBO}.
+ */
+@Service
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    /**
+     * Longest window a single availability query may cover.
+     */
+    static final Duration MAX_WINDOW = Duration.ofDays(366);
+
+    /**
+     * Number of common slots returned when the request does not specify a limit.
+     */
+    static final int DEFAULT_MAX_SLOTS = 50;
+
+    private final EventBO eventBO;
+    private final UserBO userBO;
+
+    public AvailabilityServiceImpl(EventBO eventBO, UserBO userBO) {
+        this.eventBO = eventBO;
+        this.userBO = userBO;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FreeBusyResponseDTO getFreeBusy(Long userId, ZonedDateTime from, ZonedDateTime to) {
+        validateWindow(from, to);
+        if (!userBO.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+
+        ZonedDateTime fromUtc = from.withZoneSameInstant(ZoneOffset.UTC);
+        ZonedDateTime toUtc = to.withZoneSameInstant(ZoneOffset.UTC);
+        List<TimeSlotDTO> busy = toDtos(eventBO.getBusyIntervals(userId, fromUtc, toUtc));
+        return new FreeBusyResponseDTO(userId, fromUtc, toUtc, busy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommonSlotsResponseDTO findCommonSlots(CommonSlotsRequestDTO request) {
+        validateWindow(request.from(), request.to());
+        WorkingHours workingHours = toWorkingHours(request.workingHours());
+        for (Long userId : request.userIds()) {
+            if (!userBO.existsById(userId)) {
+                throw new UserNotFoundException(userId);
+            }
+        }
+
+        ZonedDateTime fromUtc = request.from().withZoneSameInstant(ZoneOffset.UTC);
+        ZonedDateTime toUtc = request.to().withZoneSameInstant(ZoneOffset.UTC);
+        // Off-hours are merged as one more busy source, so the gaps are the common working-time slots
+        List<Iterator<TimeSlot>> extraSources = workingHours == null
+                ? List.of()
+                : List.of(workingHours.offHoursBetween(fromUtc, toUtc));
+
+        List<TimeSlot> busy = eventBO.getCombinedBusyIntervals(request.userIds(), extraSources, fromUtc, toUtc);
+        List<TimeSlot> free = FreeSlotFinder.findFree(busy.iterator(), fromUtc, toUtc,
+                Duration.ofMinutes(request.minDurationMinutes()),
+                request.maxResults() != null ? request.maxResults() : DEFAULT_MAX_SLOTS);
+        return new CommonSlotsResponseDTO(request.userIds(), toDtos(free));
+    }
+
+    private static WorkingHours toWorkingHours(WorkingHoursDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        if (!dto.start().isBefore(dto.end())) {
+            throw new InvalidTimeRangeException("working hours must start before they end");
+        }
+        return new WorkingHours(dto.start(), dto.end(), ZoneId.of(dto.timezone()), dto.weekdays());
+    }
+
+    private static void validateWindow(ZonedDateTime from, ZonedDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidTimeRangeException("'from' must be before 'to'");
+        }
+        if (Duration.between(from, to).compareTo(MAX_WINDOW) > 0) {
+            throw new InvalidTimeRangeException("window must not exceed " + MAX_WINDOW.toDays() + " days");
+        }
+    }
+
+    private static List<TimeSlotDTO> toDtos(List<TimeSlot> slots) {
+        return slots.stream()
+                .map(slot -> new TimeSlotDTO(slot.start(), slot.end()))
+                .toList();
+    }
+}
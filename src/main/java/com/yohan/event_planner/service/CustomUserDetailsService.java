@@ -3,36 +3,38 @@ package com.yohan.event_planner.service;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.repository.UserRepository;
 import com.yohan.event_planner.security.CustomUserDetails;
+import com.yohan.event_planner.security.UserDetailsCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
 /**
  * Service that loads user-specific data for Spring Security authentication.
  *
  * Implements {@link UserDetailsService} to retrieve a {@link UserDetails} by username,
  * wrapping the domain {@link User} entity into a security principal.
- *
+ * Principals loaded by username are kept in the {@link UserDetailsCache}.
  */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     /**
-     * Constructs the service with a {@link UserRepository} dependency.
+     * Constructs the service with its {@link UserRepository} and {@link UserDetailsCache} dependencies.
      *
-     * @param userRepository the repository used to lookup users by username
+     * @param userRepository   the repository used to lookup users by username
+     * @param userDetailsCache the cache of principals loaded by username
      */
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
-     * Locates the user based on the username.
+     * Locates the user based on the username, answering from the cache when possible.
      *
      * @param username the username identifying the user whose data is required
      * @return a fully populated {@link UserDetails} object (never {@code null})
@@ -40,8 +42,24 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        CustomUserDetails details = userDetailsCache.get(username,
+                name -> userRepository.findByUsername(name).map(CustomUserDetails::new).orElse(null));
+        if (details == null) {
+            throw new UsernameNotFoundException("User not found with username: " + username);
+        }
+        return details;
+    }
+
+    /**
+     * Locates the user based on the user ID, always reading the stored user.
+     *
+     * @param userId the ID identifying the user whose data is required
+     * @return a fully populated {@link UserDetails} object (never {@code null})
+     * @throws UsernameNotFoundException if the user could not be found
+     */
+    public UserDetails loadUserById(Long userId) throws UsernameNotFoundException {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
         return new CustomUserDetails(user);
     }
 }
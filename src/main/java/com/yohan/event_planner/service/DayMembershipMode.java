@@ -0,0 +1,22 @@
+package com.yohan.event_planner.service;
+
+/**
+ * How events are associated with the calendar days they cover.
+ * <p>
+ * Selected with the {@code events.day-membership} property; defaults to {@link #LINKED}.
+ */
+public enum DayMembershipMode {
+
+    /**
+     * Every UTC date an event covers gets a {@link com.yohan.event_planner.domain.Day} row and an
+     * {@code event_day} join row, created or rewritten whenever the event is scheduled.
+     */
+    LINKED,
+
+    /**
+     * Day membership is derived from the event's start/end span at read time, so scheduling an event
+     * writes no day or join rows. Day rows only exist for days that carry their own data, such as a
+     * description or the archived flag.
+     */
+    SPAN
+}
@@ -50,6 +50,16 @@ public interface DayService {
      */
     List<Day> getExistingDaysByDates(Collection<LocalDate> dates, User creator);
 
+    /**
+     * Retrieves or creates the Days for the given dates and creator with a single atomic upsert,
+     * so concurrent callers never fail on the per-creator date uniqueness constraint.
+     *
+     * @param dates   the dates to fetch or create
+     * @param creator the owner of the Days
+     * @return one Day per distinct date, in no particular order
+     */
+    List<Day> getOrCreateDays(Collection<LocalDate> dates, User creator);
+
     /**
      * Retrieves or creates all Days within the given date range for the specified creator.
      *
@@ -43,8 +43,7 @@ public class DayServiceImpl implements DayService {
      */
     @Override
     public Day getOrCreateDay(LocalDate date, User creator) {
-        return getDayByDate(date, creator)
-                .orElseGet(() -> dayRepository.save(new Day(date, creator)));
+        return dayRepository.upsertAll(creator, List.of(date)).get(0);
     }
 
     /**
@@ -59,30 +58,23 @@ public class DayServiceImpl implements DayService {
      * {@inheritDoc}
      */
     @Override
-    public Set<Day> getOrCreateAllDaysBetween(LocalDate start, LocalDate end, User creator) {
-        Set<LocalDate> dateSet = new HashSet<>();
-        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
-            dateSet.add(d);
-        }
-
-        List<Day> existingDays = getExistingDaysByDates(dateSet, creator);
-        Set<LocalDate> foundDates = new HashSet<>();
-        for (Day day : existingDays) {
-            foundDates.add(day.getDate());
-        }
-
-        List<Day> missingDays = new ArrayList<>();
-        for (LocalDate date : dateSet) {
-            if (!foundDates.contains(date)) {
-                missingDays.add(new Day(date, creator));
-            }
+    public List<Day> getOrCreateDays(Collection<LocalDate> dates, User creator) {
+        if (dates.isEmpty()) {
+            return new ArrayList<>();
         }
+        return dayRepository.upsertAll(creator, dates);
+    }
 
-        if (!missingDays.isEmpty()) {
-            existingDays.addAll(dayRepository.saveAll(missingDays));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Day> getOrCreateAllDaysBetween(LocalDate start, LocalDate end, User creator) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+            dates.add(d);
         }
-
-        return new HashSet<>(existingDays);
+        return new HashSet<>(getOrCreateDays(dates, creator));
     }
 
     /**
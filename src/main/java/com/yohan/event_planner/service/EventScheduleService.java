@@ -2,6 +2,7 @@ package com.yohan.event_planner.service;
 
 import com.yohan.event_planner.domain.Day;
 import com.yohan.event_planner.domain.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -10,14 +11,27 @@ import java.util.*;
 /**
  * Service that prepares and ensures the existence of Day entities for a given date range,
  * used during event scheduling. Each Day is tied to a specific user.
+ * <p>
+ * Whether scheduling links events to Day rows at all depends on the configured
+ * {@link DayMembershipMode}; callers check {@link #isSpanMembership()} before preparing days.
  */
 @Service
 public class EventScheduleService {
 
     private final DayService dayService;
+    private final DayMembershipMode membershipMode;
 
-    public EventScheduleService(DayService dayService) {
+    public EventScheduleService(DayService dayService,
+                                @Value("${events.day-membership:LINKED}") DayMembershipMode membershipMode) {
         this.dayService = dayService;
+        this.membershipMode = membershipMode;
+    }
+
+    /**
+     * @return true if day membership is derived from event spans, so events are not linked to Day rows
+     */
+    public boolean isSpanMembership() {
+        return membershipMode == DayMembershipMode.SPAN;
     }
 
     /**
@@ -34,24 +48,23 @@ public class EventScheduleService {
         for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
             targetDates.add(d);
         }
+        return new HashSet<>(prepareDaysForDates(targetDates, creator).values());
+    }
 
-        List<Day> existingDays = dayService.getExistingDaysByDates(targetDates, creator);
-        Set<LocalDate> foundDates = new HashSet<>();
-        for (Day day : existingDays) {
-            foundDates.add(day.getDate());
-        }
-
-        List<Day> missingDays = new ArrayList<>();
-        for (LocalDate d : targetDates) {
-            if (!foundDates.contains(d)) {
-                missingDays.add(new Day(d, creator));
-            }
-        }
-
-        if (!missingDays.isEmpty()) {
-            existingDays.addAll(dayService.saveAllDays(missingDays));
+    /**
+     * Retrieves or creates the days for an arbitrary set of dates for the given user,
+     * using one atomic upsert that returns existing and new days alike.
+     * Intended for bulk scheduling, where the dates are not necessarily contiguous.
+     *
+     * @param dates   the dates to prepare
+     * @param creator the user who owns the days
+     * @return the Day objects keyed by date, created or fetched from storage
+     */
+    public Map<LocalDate, Day> prepareDaysForDates(Set<LocalDate> dates, User creator) {
+        Map<LocalDate, Day> daysByDate = new HashMap<>();
+        for (Day day : dayService.getOrCreateDays(dates, creator)) {
+            daysByDate.put(day.getDate(), day);
         }
-
-        return new HashSet<>(existingDays);
+        return daysByDate;
     }
 }
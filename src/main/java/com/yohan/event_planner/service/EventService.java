@@ -1,12 +1,25 @@
 package com.yohan.event_planner.service;
 
+import com.yohan.event_planner.dto.CacheStatsDTO;
+import com.yohan.event_planner.dto.EventBatchCreateDTO;
+import com.yohan.event_planner.dto.EventBatchResponseDTO;
+import com.yohan.event_planner.dto.EventChangesDTO;
 import com.yohan.event_planner.dto.EventCreateDTO;
+import com.yohan.event_planner.dto.EventExportDTO;
+import com.yohan.event_planner.dto.EventFields;
+import com.yohan.event_planner.dto.EventPageDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventUpdateDTO;
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.exception.InvalidCursorException;
+import com.yohan.event_planner.exception.InvalidTimeRangeException;
+import com.yohan.event_planner.exception.SyncTokenExpiredException;
 
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.util.List;
 
 /**
@@ -19,35 +32,166 @@ public interface EventService {
     /**
      * Retrieves a single event by its unique identifier.
      *
-     * @param id the unique ID of the event
+     * @param id     the unique ID of the event
+     * @param fields the response fields to populate
      * @return an {@link EventResponseDTO} representing the event details
      */
-    EventResponseDTO getById(Long id);
+    EventResponseDTO getById(Long id, EventFields fields);
 
     /**
-     * Retrieves all events created by a specific user.
+     * Retrieves one page of the events created by a specific user, ordered by start time.
      *
      * @param userId the unique ID of the user (creator)
-     * @return a list of {@link EventResponseDTO} objects for the user's events
+     * @param from   inclusive lower bound on event start time, or null for no bound
+     * @param to     exclusive upper bound on event start time, or null for no bound
+     * @param cursor the {@code nextCursor} of the previous page, or null for the first page
+     * @param limit  the maximum number of events in the page
+     * @param fields the response fields to populate
+     * @return an {@link EventPageDTO} with the events and the cursor of the next page, if any
      */
-    List<EventResponseDTO> getByUserId(Long userId);
+    EventPageDTO getByUserId(Long userId, ZonedDateTime from, ZonedDateTime to, String cursor, int limit,
+                             EventFields fields);
+
+    /**
+     * Writes every event created by a specific user to {@code out} as newline-delimited JSON,
+     * one {@link EventExportDTO} per line, in start-time order. Events are streamed from the
+     * database and written as they are read, so memory use does not grow with the number of events.
+     *
+     * @param userId the unique ID of the user (creator)
+     * @param out    the stream to write to; flushed but not closed
+     * @return the number of events written
+     * @throws UncheckedIOException if writing to {@code out} fails
+     */
+    long exportByUserId(Long userId, OutputStream out);
 
     /**
      * Retrieves all events associated with a particular day.
      *
-     * @param dayId the unique ID of the day
+     * @param dayId  the unique ID of the day
+     * @param fields the response fields to populate
      * @return a list of {@link EventResponseDTO} objects for the specified day
      */
-    List<EventResponseDTO> getByDayId(Long dayId);
+    List<EventResponseDTO> getByDayId(Long dayId, EventFields fields);
+
+    /**
+     * Retrieves a user's events on a UTC date, the same events as {@link #getByDayId} for the
+     * user's day on that date, whether or not a Day record exists for it.
+     *
+     * @param user   the owner of the events
+     * @param date   the UTC date
+     * @param fields the response fields to populate
+     * @return a list of {@link EventResponseDTO} objects for the date
+     */
+    List<EventResponseDTO> getByDay(User user, LocalDate date, EventFields fields);
+
+    /**
+     * Returns the ETag of the representations derived from a user's calendar, such as
+     * their event pages and range views. It changes with every committed write to the calendar.
+     *
+     * @param userId the ID of the user
+     * @return the current ETag
+     */
+    String getCalendarETag(Long userId);
+
+    /**
+     * Returns the ETag of the event list of a day, derived from its owner's calendar.
+     *
+     * @param dayId the ID of the day
+     * @return the current ETag, or null if the day does not exist
+     */
+    String getDayETag(Long dayId);
+
+    /**
+     * Returns the ETag of the date view, which spans the calendars of all users.
+     *
+     * @return the current ETag
+     */
+    String getAllCalendarsETag();
+
+    /**
+     * Retrieves the hit, miss and eviction counters of the event read caches.
+     *
+     * @return one entry per cache
+     */
+    List<CacheStatsDTO> getCacheStats();
 
     /**
      * Retrieves all events occurring on a specific date.
      * This method typically considers events overlapping that date.
      *
-     * @param date the {@link LocalDate} to query events for
+     * @param date   the {@link LocalDate} to query events for
+     * @param fields the response fields to populate
      * @return a list of {@link EventResponseDTO} objects for the specified date
      */
-    List<EventResponseDTO> getByDate(LocalDate date);
+    List<EventResponseDTO> getByDate(LocalDate date, EventFields fields);
+
+    /**
+     * Retrieves a user's events overlapping the half-open range {@code [from, to)}, such as the
+     * events of a week or month view. Recurring events are expanded to their occurrences in the range.
+     *
+     * @param user   the {@link User} whose events to retrieve
+     * @param from   the inclusive start of the range
+     * @param to     the exclusive end of the range
+     * @param fields the response fields to populate
+     * @return the matching events as {@link EventResponseDTO} objects in the user's timezone, ordered by start time
+     * @throws InvalidTimeRangeException if {@code from} is not before {@code to} or the range exceeds
+     *                                   the maximum length
+     */
+    List<EventResponseDTO> getByRange(User user, ZonedDateTime from, ZonedDateTime to, EventFields fields);
+
+    /**
+     * Validates a range as {@link #getByRange} does, so that callers answering from a cached
+     * representation reject the same requests.
+     *
+     * @param from the inclusive start of the range
+     * @param to   the exclusive end of the range
+     * @throws InvalidTimeRangeException if {@code from} is not before {@code to} or the range exceeds
+     *                                   the maximum length
+     */
+    void validateRange(ZonedDateTime from, ZonedDateTime to);
+
+    /**
+     * Retrieves the net changes to a user's events since a sync token: the current state of each
+     * event created or updated since, and the IDs of the events deleted since.
+     * <p>
+     * Without a token, no changes are returned, only the token of the user's latest change. A client
+     * starting to sync requests this token first, then downloads the full calendar, then syncs from
+     * the token; changes committed in between are replayed, never missed.
+     *
+     * @param user  the {@link User} whose changes to retrieve
+     * @param since the {@code nextToken} of the previous sync, or null to obtain the initial token
+     * @param limit the maximum number of change log entries to read
+     * @return an {@link EventChangesDTO} with the changes in the user's timezone and the token to sync from next
+     * @throws InvalidCursorException if {@code since} is malformed
+     * @throws SyncTokenExpiredException if the changes since {@code since} have been pruned from the log
+     */
+    EventChangesDTO getChanges(User user, String since, int limit);
+
+    /**
+     * Searches a user's events by the words of their name and description. Every word of the query
+     * must occur in a matching event, compared case- and accent-insensitively.
+     *
+     * @param user  the {@link User} whose events to search
+     * @param query the search text
+     * @param from  inclusive lower bound on the event span, or null for no bound
+     * @param to    exclusive upper bound on the event span, or null for no bound
+     * @param limit the maximum number of results
+     * @return the matching events as {@link EventResponseDTO} objects in the user's timezone, most relevant first
+     * @throws InvalidTimeRangeException if both bounds are given and {@code from} is not before {@code to}
+     */
+    List<EventResponseDTO> search(User user, String query, ZonedDateTime from, ZonedDateTime to, int limit);
+
+    /**
+     * Suggests completions of a partially typed event name from the names of a user's events.
+     * Names are matched by prefix, case- and accent-insensitively; names used by more events come
+     * first, then names used by later events.
+     *
+     * @param user   the {@link User} whose event names to suggest
+     * @param prefix the typed prefix
+     * @param limit  the maximum number of names
+     * @return the distinct suggested names, best first
+     */
+    List<String> suggestNames(User user, String prefix, int limit);
 
     /**
      * Creates a new event with the provided event creation data and creator.
@@ -58,6 +202,16 @@ public interface EventService {
      */
     EventResponseDTO createEvent(EventCreateDTO eventCreateDTO, User creator);
 
+    /**
+     * Creates several events for the given creator in a single transaction.
+     * Items that violate business rules are rejected individually; the others are created.
+     *
+     * @param batchCreateDTO the batch of events to create
+     * @param creator the {@link User} who is creating the events
+     * @return an {@link EventBatchResponseDTO} with one result per submitted item
+     */
+    EventBatchResponseDTO createEvents(EventBatchCreateDTO batchCreateDTO, User creator);
+
     /**
      * Updates an existing event identified by ID with the provided update data.
      *
@@ -1,73 +1,290 @@
 package com.yohan.event_planner.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.cache.EventReadCache;
+import com.yohan.event_planner.business.change.CalendarVersions;
+import com.yohan.event_planner.business.change.EventChangeSet;
+import com.yohan.event_planner.business.change.EventChangeToken;
+import com.yohan.event_planner.business.pagination.EventCursor;
+import com.yohan.event_planner.business.pagination.EventPage;
+import com.yohan.event_planner.business.search.EventNameIndex;
+import com.yohan.event_planner.business.search.EventSearchIndex;
+import com.yohan.event_planner.dto.CacheStatsDTO;
+import com.yohan.event_planner.dto.EventBatchCreateDTO;
+import com.yohan.event_planner.dto.EventBatchItemResultDTO;
+import com.yohan.event_planner.dto.EventBatchResponseDTO;
+import com.yohan.event_planner.dto.EventChangesDTO;
 import com.yohan.event_planner.dto.EventCreateDTO;
+import com.yohan.event_planner.dto.EventExportDTO;
+import com.yohan.event_planner.dto.EventFields;
+import com.yohan.event_planner.dto.EventPageDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventUpdateDTO;
 import com.yohan.event_planner.exception.EventNotFoundException;
+import com.yohan.event_planner.exception.InvalidTimeRangeException;
 import com.yohan.event_planner.mapper.EventMapper;
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of {@link EventService}.
  * Delegates event operations to {@link EventBO} and maps entities to DTOs.
+ * Single-event, per-day and per-date reads, and the day IDs of listed events, go through
+ * {@link EventReadCache}.
  */
 @Service
 public class EventServiceImpl implements EventService {
 
+    /**
+     * Longest range accepted by {@link #getByRange}, bounding the number of recurring occurrences expanded.
+     */
+    static final Duration MAX_RANGE = Duration.ofDays(366);
+
+    /**
+     * Number of records {@link #exportByUserId} writes between flushes of the output stream.
+     */
+    static final int EXPORT_FLUSH_INTERVAL = 500;
+
     private final EventBO eventBO;
+    private final EventReadCache eventReadCache;
+    private final CalendarVersions calendarVersions;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventNameIndex eventNameIndex;
     private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
 
-    public EventServiceImpl(EventBO eventBO, EventMapper eventMapper) {
+    public EventServiceImpl(EventBO eventBO, EventReadCache eventReadCache, CalendarVersions calendarVersions,
+                            EventSearchIndex eventSearchIndex, EventNameIndex eventNameIndex, EventMapper eventMapper,
+                            ObjectMapper objectMapper) {
         this.eventBO = eventBO;
+        this.eventReadCache = eventReadCache;
+        this.calendarVersions = calendarVersions;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventNameIndex = eventNameIndex;
         this.eventMapper = eventMapper;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public EventResponseDTO getById(Long eventId) {
+    public EventResponseDTO getById(Long eventId, EventFields fields) {
         ZoneId userZone = getUserZone();
-        return eventBO.getById(eventId)
-                .map(event -> eventMapper.toDto(event, userZone))
+        EventSummaryView event = eventReadCache.getSummaryById(eventId)
                 .orElseThrow(() -> new EventNotFoundException(eventId));
+        List<Long> dayIds = fields.includes(EventFields.Field.DAY_IDS)
+                ? eventReadCache.getDayIds(List.of(event)).getOrDefault(eventId, List.of())
+                : null;
+        return eventMapper.toDto(event, dayIds, userZone, fields);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDTO> getByUserId(Long userId) {
+    public EventPageDTO getByUserId(Long userId, ZonedDateTime from, ZonedDateTime to, String cursor, int limit,
+                                    EventFields fields) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidTimeRangeException("'from' must be before 'to'");
+        }
+        EventCursor after = cursor != null ? EventCursor.decode(cursor) : null;
+
         ZoneId userZone = getUserZone();
-        List<Event> events = eventBO.getByCreatorId(userId);
-        return eventMapper.toDtoList(events, userZone);
+        EventPage page = eventBO.getPageByCreatorId(userId, from, to, after, limit);
+        String nextCursor = page.nextCursor() != null ? page.nextCursor().encode() : null;
+        return new EventPageDTO(toDtoList(page.events(), userZone, fields), nextCursor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long exportByUserId(Long userId, OutputStream out) {
+        // Flushing after every record would send each line as its own chunk
+        ObjectWriter writer = objectMapper.writerFor(EventExportDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Records are separated by the newline written below, not by Jackson's default space
+            generator.setRootValueSeparator(null);
+            long[] written = new long[1];
+            long count = eventBO.forEachByCreatorId(userId, event -> {
+                try {
+                    writer.writeValue(generator, eventMapper.toExportDto(event));
+                    generator.writeRaw('\n');
+                    if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            // Closing the generator flushes the remaining records without closing the stream
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDTO> getByDayId(Long dayId) {
+    public List<EventResponseDTO> getByDayId(Long dayId, EventFields fields) {
         ZoneId userZone = getUserZone();
-        List<Event> events = eventBO.getByDayId(dayId);
-        return eventMapper.toDtoList(events, userZone);
+        List<EventSummaryView> events = eventReadCache.getByDayId(dayId);
+        return toDtoList(events, userZone, fields);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDTO> getByDate(LocalDate date) {
+    public List<EventResponseDTO> getByDay(User user, LocalDate date, EventFields fields) {
         ZoneId userZone = getUserZone();
-        List<Event> events = eventBO.getEventsByDate(date, userZone);
-        return eventMapper.toDtoList(events, userZone);
+        List<EventSummaryView> events = eventReadCache.getByCreatorAndDate(user.getId(), date);
+        return toDtoList(events, userZone, fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCalendarETag(Long userId) {
+        return calendarVersions.getETag(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getDayETag(Long dayId) {
+        Long ownerId = eventReadCache.getDayOwnerId(dayId);
+        return ownerId != null ? calendarVersions.getETag(ownerId) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getAllCalendarsETag() {
+        return calendarVersions.getGlobalETag();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CacheStatsDTO> getCacheStats() {
+        List<CacheStatsDTO> stats = new ArrayList<>();
+        eventReadCache.stats().forEach((name, cache) -> stats.add(
+                new CacheStatsDTO(name, cache.hits(), cache.misses(), cache.evictions(), cache.size())));
+        return stats;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EventResponseDTO> getByDate(LocalDate date, EventFields fields) {
+        ZoneId userZone = getUserZone();
+        List<EventSummaryView> events = eventReadCache.getEventsByDate(date, userZone);
+        return toDtoList(events, userZone, fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EventResponseDTO> getByRange(User user, ZonedDateTime from, ZonedDateTime to, EventFields fields) {
+        validateRange(from, to);
+        List<EventSummaryView> events = eventBO.getEventsInRange(user.getId(), from, to);
+        return toDtoList(events, user.getTimezone(), fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validateRange(ZonedDateTime from, ZonedDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidTimeRangeException("'from' must be before 'to'");
+        }
+        if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new InvalidTimeRangeException("range must not exceed " + MAX_RANGE.toDays() + " days");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventChangesDTO getChanges(User user, String since, int limit) {
+        if (since == null) {
+            EventChangeToken latest = eventBO.getLatestChangeToken(user.getId());
+            return new EventChangesDTO(List.of(), List.of(), latest.encode(), false);
+        }
+        EventChangeSet changes = eventBO.getChangesSince(user.getId(), EventChangeToken.decode(since), limit);
+        return new EventChangesDTO(toDtoList(changes.changed(), user.getTimezone(), EventFields.DEFAULT),
+                changes.deleted(), changes.next().encode(), changes.hasMore());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EventResponseDTO> search(User user, String query, ZonedDateTime from, ZonedDateTime to, int limit) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidTimeRangeException("'from' must be before 'to'");
+        }
+        List<EventSearchIndex.Hit> hits = eventSearchIndex.search(user.getId(), query, from, to, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (EventSearchIndex.Hit hit : hits) {
+            ids.add(hit.eventId());
+        }
+        Map<Long, EventSummaryView> summaries = new HashMap<>();
+        for (EventSummaryView summary : eventBO.getSummariesByIds(ids)) {
+            summaries.put(summary.id(), summary);
+        }
+        // Keep the ranking; an event deleted since it was indexed is skipped
+        List<EventSummaryView> ranked = new ArrayList<>(summaries.size());
+        for (Long id : ids) {
+            EventSummaryView summary = summaries.get(id);
+            if (summary != null) {
+                ranked.add(summary);
+            }
+        }
+        return toDtoList(ranked, user.getTimezone(), EventFields.DEFAULT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> suggestNames(User user, String prefix, int limit) {
+        return eventNameIndex.suggest(user.getId(), prefix, limit);
     }
 
     /**
@@ -80,6 +297,30 @@ public class EventServiceImpl implements EventService {
         return eventMapper.toDto(savedEvent, zoneId);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventBatchResponseDTO createEvents(EventBatchCreateDTO batchCreateDTO, User creator) {
+        List<EventCreateDTO> items = batchCreateDTO.events();
+        List<EventBO.BatchItemResult> outcomes = eventBO.createEvents(items, creator);
+
+        List<EventBatchItemResultDTO> results = new ArrayList<>(outcomes.size());
+        int createdCount = 0;
+        for (EventBO.BatchItemResult outcome : outcomes) {
+            if (outcome.isCreated()) {
+                createdCount++;
+                ZoneId zoneId = items.get(outcome.index()).startTime().getZone();
+                results.add(new EventBatchItemResultDTO(outcome.index(), true,
+                        eventMapper.toDto(outcome.event(), zoneId), null, null));
+            } else {
+                results.add(new EventBatchItemResultDTO(outcome.index(), false, null,
+                        outcome.errorCode().name(), outcome.message()));
+            }
+        }
+        return new EventBatchResponseDTO(createdCount, outcomes.size() - createdCount, results);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -114,6 +355,17 @@ public class EventServiceImpl implements EventService {
         eventBO.deleteById(eventId);
     }
 
+    /**
+     * Maps event summaries to DTOs. Day IDs are fetched for the whole list in one batch,
+     * and only if they were selected.
+     */
+    private List<EventResponseDTO> toDtoList(List<EventSummaryView> events, ZoneId userZone, EventFields fields) {
+        Map<Long, List<Long>> dayIds = fields.includes(EventFields.Field.DAY_IDS)
+                ? eventReadCache.getDayIds(events)
+                : Map.of();
+        return eventMapper.toDtoList(events, dayIds, userZone, fields);
+    }
+
     /**
      * Retrieves the timezone of the current user or defaults to system timezone.
      *
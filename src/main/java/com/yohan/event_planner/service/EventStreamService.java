@@ -0,0 +1,226 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.business.change.EventChange;
+import com.yohan.event_planner.business.change.EventSnapshot;
+import com.yohan.event_planner.dto.EventChangeNotificationDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed changes of a user's events to the server-sent event streams the user has open.
+ * <p>
+ * Streams are held as asynchronous servlet responses, so an idle stream costs no thread, only
+ * its connection and a registry entry. The registry maps each user to an immutable list of their
+ * streams, replaced atomically on subscribe and unsubscribe; lookups on every event write take no lock.
+ * Each stream has its own queue of pending notifications and heartbeats, drained in order by one
+ * virtual thread at a time, so a slow client never holds up the committing request or other clients
+ * and every client receives its events in the order they were committed. A stream whose queue
+ * exceeds {@value #MAX_QUEUED_EVENTS} events is closed, as its client has stopped reading.
+ * <p>
+ * A user may keep {@code events.stream.max-per-user} streams open; opening another one closes
+ * their oldest. Streams are closed after {@code events.stream.timeout}, and a comment is sent every
+ * {@code events.stream.heartbeat} so that proxies keep idle streams open and dead ones are noticed.
+ * Clients reconnect when a stream closes and catch up through the changes endpoint.
+ */
+@Service
+public class EventStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventStreamService.class);
+
+    static final String EVENT_NAME = "event-change";
+
+    /**
+     * Events a stream may have waiting to be written before it is closed.
+     */
+    static final int MAX_QUEUED_EVENTS = 256;
+
+    private final ConcurrentMap<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats;
+    private final long timeoutMillis;
+    private final int maxPerUser;
+
+    /**
+     * Constructs the service and starts sending heartbeats.
+     *
+     * @param timeout    how long a stream stays open before the client has to reconnect
+     * @param maxPerUser the maximum number of open streams per user
+     * @param heartbeat  the interval between heartbeats on every stream
+     */
+    public EventStreamService(@Value("${events.stream.timeout:PT30M}") Duration timeout,
+                              @Value("${events.stream.max-per-user:5}") int maxPerUser,
+                              @Value("${events.stream.heartbeat:PT25S}") Duration heartbeat) {
+        if (maxPerUser < 1) {
+            throw new IllegalArgumentException("Streams per user must be positive");
+        }
+        this.timeoutMillis = timeout.toMillis();
+        this.maxPerUser = maxPerUser;
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("event-stream-heartbeat").daemon().factory());
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream of the given user's event changes.
+     *
+     * @param userId the ID of the user
+     * @return the emitter to return from the request handler
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> unsubscribe(userId, emitter));
+        emitter.onTimeout(() -> unsubscribe(userId, emitter));
+        emitter.onError(e -> unsubscribe(userId, emitter));
+
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, current) -> {
+            List<Subscriber> updated = current != null ? new ArrayList<>(current) : new ArrayList<>();
+            while (updated.size() >= maxPerUser) {
+                evicted.add(updated.remove(0));
+            }
+            updated.add(subscriber);
+            return List.copyOf(updated);
+        });
+        evicted.forEach(evictedSubscriber -> evictedSubscriber.emitter.complete());
+        logger.debug("User ID {} opened an event stream; {} evicted", userId, evicted.size());
+        return emitter;
+    }
+
+    /**
+     * Notifies the owner's open streams of a committed event write. Ordered after the eviction of
+     * cached reads and the calendar version bump, so clients reacting to the notification read the
+     * new state under a new ETag.
+     *
+     * @param change the committed change
+     */
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onEventChange(EventChange change) {
+        List<Subscriber> userSubscribers = subscribers.get(change.creatorId());
+        if (userSubscribers == null) {
+            return;
+        }
+        EventSnapshot state = change.after() != null ? change.after() : change.before();
+        EventChangeNotificationDTO notification = new EventChangeNotificationDTO(change.type(), change.eventId(),
+                state.startTime(), state.endTime(), state.recurring());
+        for (Subscriber subscriber : userSubscribers) {
+            subscriber.enqueue(SseEmitter.event().name(EVENT_NAME).data(notification, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * @return the number of open streams over all users
+     */
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Closes every open stream and stops the background threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.values().forEach(userSubscribers ->
+                userSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        sender.shutdown();
+    }
+
+    private void sendHeartbeats() {
+        subscribers.values().forEach(userSubscribers -> {
+            for (Subscriber subscriber : userSubscribers) {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    private void unsubscribe(Long userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(userId, (id, current) -> {
+            List<Subscriber> updated = new ArrayList<>(current);
+            if (!updated.removeIf(subscriber -> subscriber.emitter == emitter)) {
+                return current;
+            }
+            return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+    }
+
+    /**
+     * An open stream and the events waiting to be written to it.
+     * <p>
+     * {@code pending} counts the queued events; whoever raises it from zero starts the single
+     * drain task, which keeps writing until it brings the count back to zero.
+     */
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean closed;
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            queue.add(event);
+            int queued = pending.getAndIncrement();
+            if (queued == 0) {
+                sender.execute(this::drain);
+            } else if (queued >= MAX_QUEUED_EVENTS) {
+                logger.debug("Closing event stream of user ID {}: {} events pending", userId, queued);
+                close();
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event = queue.poll();
+                if (!closed) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // The client went away; the container completes the emitter, but stop writing to it now
+                        logger.debug("Dropping event stream of user ID {}: {}", userId, e.getMessage());
+                        close();
+                    }
+                }
+            } while (pending.decrementAndGet() != 0);
+        }
+
+        private void close() {
+            closed = true;
+            unsubscribe(userId, emitter);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.yohan.event_planner.service;
 
+import com.yohan.event_planner.dto.CacheStatsDTO;
+import com.yohan.event_planner.dto.PasswordHashingStatsDTO;
 import com.yohan.event_planner.dto.UserCreateDTO;
 import com.yohan.event_planner.dto.UserResponseDTO;
 import com.yohan.event_planner.dto.UserUpdateDTO;
@@ -20,6 +22,15 @@ public interface UserService {
      */
     UserResponseDTO getUserById(Long userId);
 
+    /**
+     * Returns the ETag of the user's profile. It changes with every committed change to the
+     * user's profile or calendar.
+     *
+     * @param userId the user ID
+     * @return the current ETag
+     */
+    String getUserETag(Long userId);
+
     /**
      * Retrieves a list of users matching the given first and last names, case-insensitive.
      *
@@ -60,4 +71,18 @@ public interface UserService {
      * @param userId the user ID to delete
      */
     void deleteById(Long userId);
+
+    /**
+     * Retrieves the hit, miss and eviction counters of the cache of principals loaded by username.
+     *
+     * @return one entry per cache
+     */
+    List<CacheStatsDTO> getCacheStats();
+
+    /**
+     * Retrieves the queue depth and hashing times of the password hashing executor.
+     *
+     * @return the executor's counters
+     */
+    PasswordHashingStatsDTO getPasswordHashingStats();
 }
@@ -1,14 +1,21 @@
 package com.yohan.event_planner.service;
 
 import com.yohan.event_planner.business.UserBO;
+import com.yohan.event_planner.business.cache.ExpiringCache;
+import com.yohan.event_planner.business.change.CalendarVersions;
+import com.yohan.event_planner.dto.CacheStatsDTO;
+import com.yohan.event_planner.dto.PasswordHashingStatsDTO;
 import com.yohan.event_planner.dto.UserCreateDTO;
 import com.yohan.event_planner.dto.UserResponseDTO;
 import com.yohan.event_planner.dto.UserUpdateDTO;
 import com.yohan.event_planner.exception.UserNotFoundException;
 import com.yohan.event_planner.mapper.UserMapper;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.security.BoundedPasswordEncoder;
+import com.yohan.event_planner.security.UserDetailsCache;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -20,10 +27,17 @@ public class UserServiceImpl implements UserService {
 
     private final UserBO userBO;
     private final UserMapper userMapper;
+    private final CalendarVersions calendarVersions;
+    private final UserDetailsCache userDetailsCache;
+    private final BoundedPasswordEncoder passwordEncoder;
 
-    public UserServiceImpl(UserBO userBO, UserMapper userMapper) {
+    public UserServiceImpl(UserBO userBO, UserMapper userMapper, CalendarVersions calendarVersions,
+                           UserDetailsCache userDetailsCache, BoundedPasswordEncoder passwordEncoder) {
         this.userBO = userBO;
         this.userMapper = userMapper;
+        this.calendarVersions = calendarVersions;
+        this.userDetailsCache = userDetailsCache;
+        this.passwordEncoder = passwordEncoder;
     }
 
     /**
@@ -36,6 +50,14 @@ public class UserServiceImpl implements UserService {
         return userMapper.toDto(user);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUserETag(Long userId) {
+        return calendarVersions.getETag(userId);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -100,4 +122,28 @@ public class UserServiceImpl implements UserService {
         }
         userBO.deleteById(userId);
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CacheStatsDTO> getCacheStats() {
+        ExpiringCache.CacheStats stats = userDetailsCache.stats();
+        return List.of(new CacheStatsDTO("userDetails", stats.hits(), stats.misses(), stats.evictions(), stats.size()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PasswordHashingStatsDTO getPasswordHashingStats() {
+        BoundedPasswordEncoder.Stats stats = passwordEncoder.stats();
+        return new PasswordHashingStatsDTO(stats.threads(), stats.activeThreads(), stats.queueDepth(),
+                stats.queueCapacity(), stats.completed(), stats.rejected(),
+                toMillis(stats.meanHashTime()), toMillis(stats.maxHashTime()), toMillis(stats.meanQueueWait()));
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
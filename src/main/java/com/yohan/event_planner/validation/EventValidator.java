@@ -1,12 +1,22 @@
 package com.yohan.event_planner.validation;
 
+import com.yohan.event_planner.business.recurrence.EventSchedule;
 import com.yohan.event_planner.exception.ConflictException;
+import com.yohan.event_planner.exception.InvalidRecurrenceException;
 import com.yohan.event_planner.exception.InvalidTimeException;
 import com.yohan.event_planner.domain.Day;
 import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurrenceFrequency;
+import com.yohan.event_planner.domain.RecurrenceRule;
+import com.yohan.event_planner.repository.EventRepository;
+import com.yohan.event_planner.repository.projection.EventIntervalView;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Validates event-related business rules such as time ordering and schedule conflicts.
@@ -17,6 +27,17 @@ import java.time.ZonedDateTime;
 @Component
 public class EventValidator {
 
+    private final EventRepository eventRepository;
+
+    /**
+     * Constructs the validator.
+     *
+     * @param eventRepository repository used for creator-scoped overlap queries
+     */
+    public EventValidator(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
     /**
      * Validates that the event's start time occurs strictly before its end time.
      *
@@ -31,25 +52,131 @@ public class EventValidator {
     }
 
     /**
-     * Validates that the proposed event time interval does not conflict with existing events
-     * on the specified day, excluding an event by ID if provided (useful for updates).
+     * Validates that the proposed event time interval does not overlap any other event of the
+     * given user, excluding an event by ID if provided (useful for updates).
+     * <p>
+     * One-off events are checked with a single indexed query returning at most the first conflict,
+     * so the check neither loads {@link Day} rows nor their event collections. Recurring events whose series spans the interval are
+     * then tested by computing only their occurrences within the interval.
      *
+     * @param creatorId      the ID of the user who owns the schedule
      * @param startTime      the proposed event start time
      * @param endTime        the proposed event end time
      * @param excludeEventId the event ID to exclude from conflict checking (may be null)
-     * @param day            the {@link Day} whose events are checked for conflicts
      * @throws ConflictException if there is a scheduling conflict with another event
      */
-    public void validateNoConflicts(ZonedDateTime startTime, ZonedDateTime endTime, Long excludeEventId, Day day) {
-        for (Event existing : day.getEvents()) {
-            // Skip the event being updated (if any)
-            if (excludeEventId != null && existing.getId().equals(excludeEventId)) {
-                continue;
-            }
-            // Check for overlap: existing start < new end AND existing end > new start
-            if (existing.getStartTime().isBefore(endTime) && existing.getEndTime().isAfter(startTime)) {
-                throw new ConflictException(existing);
-            }
+    public void validateNoOverlappingEvents(Long creatorId, ZonedDateTime startTime, ZonedDateTime endTime,
+                                            Long excludeEventId) {
+        List<EventIntervalView> conflicts =
+                eventRepository.findOverlapping(creatorId, startTime, endTime, excludeEventId, Limit.of(1));
+        if (!conflicts.isEmpty()) {
+            EventIntervalView conflict = conflicts.get(0);
+            throw new ConflictException(conflict.id(), conflict.name(), conflict.startTime(), conflict.endTime());
+        }
+
+        for (Event series : eventRepository.findRecurringInRange(creatorId, startTime, endTime, excludeEventId)) {
+            EventSchedule.of(series).firstOccurrenceBetween(startTime, endTime)
+                    .ifPresent(occurrence -> {
+                        throw new ConflictException(series.getId(), series.getName(),
+                                occurrence.start(), occurrence.end());
+                    });
+        }
+    }
+
+    /**
+     * Validates that no occurrence of the proposed schedule overlaps any other event of the given user,
+     * excluding an event by ID if provided (useful for updates).
+     * <p>
+     * One-off candidates are checked as in
+     * {@link #validateNoOverlappingEvents(Long, ZonedDateTime, ZonedDateTime, Long)}. For a recurring
+     * candidate, the user's events within the span of the series are streamed and each is tested
+     * against the rule by date arithmetic until the first conflict, so the candidate's occurrences are
+     * never all materialized and the cost does not grow with the length of the series. Other recurring
+     * series are compared rule against rule, up to {@link EventSchedule#MAX_COMPARISON_DAYS} past the
+     * start of the span both series share.
+     *
+     * @param creatorId      the ID of the user who owns the schedule
+     * @param candidate      the proposed schedule
+     * @param excludeEventId the event ID to exclude from conflict checking (may be null)
+     * @throws ConflictException if an occurrence conflicts with another event
+     */
+    public void validateNoOverlappingOccurrences(Long creatorId, EventSchedule candidate, Long excludeEventId) {
+        if (!candidate.isRecurring()) {
+            validateNoOverlappingEvents(creatorId, candidate.getFirstStartUtc(), candidate.getFirstEndUtc(),
+                    excludeEventId);
+            return;
+        }
+
+        ZonedDateTime from = candidate.getFirstStartUtc();
+        ZonedDateTime to = candidate.getSeriesEndUtc().orElse(EventSchedule.OPEN_END);
+
+        try (Stream<EventIntervalView> singles = eventRepository.streamOverlapping(creatorId, from, to,
+                excludeEventId)) {
+            singles.filter(single -> candidate.firstOccurrenceBetween(single.startTime(), single.endTime())
+                            .isPresent())
+                    .findFirst()
+                    .ifPresent(single -> {
+                        throw new ConflictException(single.id(), single.name(), single.startTime(), single.endTime());
+                    });
+        }
+
+        for (Event series : eventRepository.findRecurringInRange(creatorId, from, to, excludeEventId)) {
+            candidate.firstOverlap(EventSchedule.of(series))
+                    .ifPresent(occurrence -> {
+                        throw new ConflictException(series.getId(), series.getName(),
+                                occurrence.start(), occurrence.end());
+                    });
+        }
+    }
+
+    /**
+     * Validates a recurrence rule against the first occurrence it repeats.
+     * <p>
+     * The rule's bounds must be consistent, weekdays may only be given for weekly rules, and an
+     * occurrence must end before the next one can start, so that a series never overlaps itself.
+     *
+     * @param rule  the recurrence rule
+     * @param start the start time of the first occurrence, in the event's timezone
+     * @param end   the end time of the first occurrence
+     * @throws InvalidRecurrenceException if the rule is invalid
+     */
+    public void validateRecurrence(RecurrenceRule rule, ZonedDateTime start, ZonedDateTime end) {
+        if (rule.getUntil() != null && rule.getCount() != null) {
+            throw new InvalidRecurrenceException("until and count cannot both be set");
+        }
+        if (rule.getUntil() != null && rule.getUntil().isBefore(start.toLocalDate())) {
+            throw new InvalidRecurrenceException("until " + rule.getUntil() + " is before the first occurrence");
+        }
+        if (!rule.getByDays().isEmpty() && rule.getFrequency() != RecurrenceFrequency.WEEKLY) {
+            throw new InvalidRecurrenceException("weekdays can only be set on weekly rules");
+        }
+        if (!rule.getByDays().isEmpty() && !rule.getByDays().contains(start.getDayOfWeek())) {
+            throw new InvalidRecurrenceException("the first occurrence must fall on one of the rule's weekdays");
+        }
+
+        long minGapDays = switch (rule.getFrequency()) {
+            case DAILY -> rule.getInterval();
+            case WEEKLY -> minWeeklyGapDays(rule);
+            case MONTHLY -> 28L * rule.getInterval();
+        };
+        if (Duration.between(start, end).compareTo(Duration.ofDays(minGapDays)) > 0) {
+            throw new InvalidRecurrenceException("occurrences would overlap each other");
+        }
+    }
+
+    private long minWeeklyGapDays(RecurrenceRule rule) {
+        List<Integer> days = rule.getByDays().stream()
+                .map(day -> day.getValue())
+                .sorted()
+                .toList();
+        long cycle = 7L * rule.getInterval();
+        if (days.size() <= 1) {
+            return cycle;
+        }
+        long minGap = cycle - (days.get(days.size() - 1) - days.get(0));
+        for (int i = 1; i < days.size(); i++) {
+            minGap = Math.min(minGap, days.get(i) - days.get(i - 1));
         }
+        return minGap;
     }
 }
@@ -0,0 +1,156 @@
+package com.yohan.event_planner.benchmark;
+
+import com.yohan.event_planner.EventPlannerApplication;
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.PasswordVO;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.exception.ConflictException;
+import com.yohan.event_planner.repository.EventRepository;
+import com.yohan.event_planner.repository.UserRepository;
+import com.yohan.event_planner.validation.EventValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conflict check run for every one-off event write,
+ * {@link EventValidator#validateNoOverlappingEvents}, against the embedded database: the
+ * creator-scoped range query on {@code idx_events_creator_start_end} limited to the first
+ * overlap, followed by the query for recurring series spanning the candidate.
+ * <p>
+ * The user's year-long calendar is stored next to an equally full calendar of another user, so
+ * the index has to separate creators as well as times. A conflict-free candidate, which has to
+ * rule out every neighbouring event, is measured alongside one overlapping the last event it spans.
+ * <p>
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.yohan.event_planner.benchmark.ConflictCheckBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConflictCheckBenchmark {
+
+    private static final ZonedDateTime CALENDAR_START = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final int CALENDAR_DAYS = 365;
+
+    /**
+     * Number of events per day in each user's calendar.
+     */
+    @Param({"4", "16", "64"})
+    public int eventsPerDay;
+
+    /**
+     * Number of days the candidate event spans.
+     */
+    @Param({"1", "14"})
+    public int spanDays;
+
+    private ConfigurableApplicationContext context;
+    private EventValidator eventValidator;
+    private Long userId;
+    private ZonedDateTime freeStart;
+    private ZonedDateTime freeEnd;
+    private ZonedDateTime conflictingStart;
+    private ZonedDateTime conflictingEnd;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(EventPlannerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:conflict-check-benchmark;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "jwt.secret=bW9ja1NlY3JldEtleU5vblByb2R1Y3Rpb25Dcml0aWNhbA==",
+                        "jwt.expirationMillis=86400000")
+                .run();
+        eventValidator = context.getBean(EventValidator.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+
+        // Each day is split into (2 * eventsPerDay + 2) slots; events take the odd slots,
+        // leaving a free slot before every event and two free slots at the end of the day.
+        long slotMinutes = 24 * 60 / (2L * eventsPerDay + 2);
+        ZonedDateTime candidateDay = CALENDAR_START.plusDays(CALENDAR_DAYS / 2);
+        ZonedDateTime lastCandidateDay = candidateDay.plusDays(spanDays - 1);
+
+        for (String username : List.of("benchmarkuser", "neighbouruser")) {
+            User user = userRepository.save(new User(username, new PasswordVO("hashedPassword"),
+                    username + "@example.com", ZoneId.of("UTC"), "Bench", "Mark"));
+            List<Event> events = new ArrayList<>();
+            for (int d = 0; d < CALENDAR_DAYS; d++) {
+                ZonedDateTime dayStart = CALENDAR_START.plusDays(d);
+                if (dayStart.isAfter(candidateDay) && dayStart.isBefore(lastCandidateDay)) {
+                    // The days fully covered by a multi-day candidate are kept free
+                    continue;
+                }
+                for (int e = 0; e < eventsPerDay; e++) {
+                    ZonedDateTime start = dayStart.plusMinutes((2L * e + 1) * slotMinutes);
+                    events.add(new Event("Event " + d + "-" + e, start, start.plusMinutes(slotMinutes), user));
+                }
+            }
+            eventRepository.saveAll(events);
+            if (userId == null) {
+                userId = user.getId();
+            }
+        }
+
+        if (spanDays == 1) {
+            // The free slot between the first and second event of the day
+            freeStart = candidateDay.plusMinutes(2 * slotMinutes);
+            freeEnd = freeStart.plusMinutes(slotMinutes);
+        } else {
+            // From after the last event of the first day to before the first event of the last day
+            freeStart = candidateDay.plusMinutes(2L * eventsPerDay * slotMinutes);
+            freeEnd = lastCandidateDay.plusMinutes(slotMinutes);
+        }
+        // Reaches half a slot into the first event of the candidate's last day
+        conflictingStart = freeStart;
+        conflictingEnd = freeEnd.plusMinutes(slotMinutes / 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void conflictFree() {
+        eventValidator.validateNoOverlappingEvents(userId, freeStart, freeEnd, null);
+    }
+
+    @Benchmark
+    public void conflicting(Blackhole blackhole) {
+        try {
+            eventValidator.validateNoOverlappingEvents(userId, conflictingStart, conflictingEnd, null);
+            throw new IllegalStateException("Expected a conflict");
+        } catch (ConflictException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ConflictCheckBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,91 @@
+package com.yohan.event_planner.benchmark;
+
+import com.yohan.event_planner.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request JWT work of the authentication filter before and after tokens were
+ * verified once per request:
+ * <ul>
+ *     <li>{@code rebuildAndParseThreeTimes}: the former path, decoding the key and building a parser
+ *     for each of the three parses made by {@code extractUsername} and {@code isTokenValid}</li>
+ *     <li>{@code parseOnce}: a single parse with the key and parser built up front, the cost of a
+ *     token not yet in the cache</li>
+ *     <li>{@code verifyCached}: {@link JwtService#verify} for a token verified before</li>
+ * </ul>
+ * <p>
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.yohan.event_planner.benchmark.JwtVerificationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "bW9ja1NlY3JldEtleU5vblByb2R1Y3Rpb25Dcml0aWNhbA==";
+    private static final long EXPIRATION_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private JwtService jwtService;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, EXPIRATION_MILLIS, 1000, true);
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        parser = Jwts.parser().verifyWith(key).build();
+        token = jwtService.generateToken("benchmark");
+        jwtService.verify(token);
+    }
+
+    @Benchmark
+    public void rebuildAndParseThreeTimes(Blackhole blackhole) {
+        // extractUsername, then isTokenValid's own extractUsername and isTokenExpired
+        String username = rebuildAndParse().getSubject();
+        boolean valid = username.equals(rebuildAndParse().getSubject())
+                && !rebuildAndParse().getExpiration().before(new Date());
+        blackhole.consume(valid);
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole blackhole) {
+        blackhole.consume(parser.parseSignedClaims(token).getPayload());
+    }
+
+    @Benchmark
+    public void verifyCached(Blackhole blackhole) {
+        blackhole.consume(jwtService.verify(token));
+    }
+
+    private Claims rebuildAndParse() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
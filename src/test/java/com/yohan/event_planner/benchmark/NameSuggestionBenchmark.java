@@ -0,0 +1,101 @@
+package com.yohan.event_planner.benchmark;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.search.EventNameIndex;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the latency distribution of {@link EventNameIndex#suggest} on a built index, for
+ * prefixes of one to three characters typed against a large calendar. Short prefixes match the
+ * most names and are the slowest case; the p99 reported by sample mode is the figure to watch.
+ * <p>
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.yohan.event_planner.benchmark.NameSuggestionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSuggestionBenchmark {
+
+    private static final Long USER_ID = 1L;
+    private static final ZonedDateTime CALENDAR_START = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final String[] WORDS = {
+            "team", "sync", "lunch", "review", "gym", "standup", "planning", "dentist", "call", "retro",
+            "design", "budget", "yoga", "demo", "interview", "coffee", "dinner", "workshop", "training", "run"
+    };
+
+    /**
+     * Number of events in the user's calendar.
+     */
+    @Param({"1000", "10000"})
+    public int events;
+
+    /**
+     * Length of the typed prefix.
+     */
+    @Param({"1", "3"})
+    public int prefixLength;
+
+    private EventNameIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<EventSummaryView> summaries = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            // Two-word names with a numeric suffix on a third of them: a few thousand distinct names
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + (i % 3 == 0 ? " " + random.nextInt(100) : "");
+            ZonedDateTime start = CALENDAR_START.plusHours(i * 7L);
+            summaries.add(new EventSummaryView((long) i + 1, name, null, start, start.plusHours(1), ZoneOffset.UTC,
+                    USER_ID, null));
+        }
+        EventBO eventBO = mock(EventBO.class);
+        when(eventBO.getSummariesByCreatorId(USER_ID)).thenReturn(summaries);
+        index = new EventNameIndex(eventBO, 10, Duration.ofHours(1));
+        index.suggest(USER_ID, "", 10);
+
+        prefixes = new String[WORDS.length];
+        for (int i = 0; i < WORDS.length; i++) {
+            prefixes[i] = WORDS[i].substring(0, Math.min(prefixLength, WORDS[i].length()));
+        }
+    }
+
+    @Benchmark
+    public void suggest(Blackhole blackhole) {
+        String prefix = prefixes[next++ % prefixes.length];
+        blackhole.consume(index.suggest(USER_ID, prefix, 10));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(NameSuggestionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
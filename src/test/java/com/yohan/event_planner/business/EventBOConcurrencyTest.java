@@ -0,0 +1,149 @@
+package com.yohan.event_planner.business;
+
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.PasswordVO;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.EventCreateDTO;
+import com.yohan.event_planner.exception.ConflictException;
+import com.yohan.event_planner.repository.EventRepository;
+import com.yohan.event_planner.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test for the per-user schedule lock taken by {@link EventBO#createEvent}.
+ * <p>
+ * Several threads create heavily overlapping events for the same users against the embedded
+ * database; afterwards no user's stored events may overlap and every successful create must
+ * have been stored. Throughput is logged for contended (shared users) and uncontended
+ * (one user per thread) runs.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:event-bo-concurrency;LOCK_TIMEOUT=10000",
+        "jwt.secret=bW9ja1NlY3JldEtleU5vblByb2R1Y3Rpb25Dcml0aWNhbA==",
+        "jwt.expirationMillis=86400000"
+})
+class EventBOConcurrencyTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventBOConcurrencyTest.class);
+
+    private static final int THREADS = 8;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+    private static final ZonedDateTime BASE = ZonedDateTime.of(2025, 5, 20, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private EventBO eventBO;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void createEvent_concurrentCreatesForSameUsers_neverDoubleBook() throws Exception {
+        List<User> users = createUsers("shared", 2);
+
+        AtomicInteger created = run(users, (thread, attempt) -> users.get(attempt % users.size()));
+
+        int stored = 0;
+        for (User user : users) {
+            List<Event> events = new ArrayList<>(eventRepository.findByCreatorId(user.getId()));
+            events.sort(Comparator.comparing(Event::getStartTime));
+            for (int i = 1; i < events.size(); i++) {
+                assertFalse(events.get(i).getStartTime().isBefore(events.get(i - 1).getEndTime()),
+                        "Overlapping events stored for user " + user.getId() + ": "
+                                + events.get(i - 1).getId() + " and " + events.get(i).getId());
+            }
+            stored += events.size();
+        }
+        assertEquals(created.get(), stored);
+        assertTrue(stored > 0);
+    }
+
+    @Test
+    void createEvent_concurrentCreatesForDifferentUsers_allSucceed() throws Exception {
+        List<User> users = createUsers("solo", THREADS);
+
+        // Each thread writes disjoint slots for its own user, so nothing may be rejected
+        AtomicInteger created = run(users, (thread, attempt) -> users.get(thread));
+
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD, created.get());
+    }
+
+    private interface UserPicker {
+        User pick(int thread, int attempt);
+    }
+
+    private AtomicInteger run(List<User> users, UserPicker picker) throws Exception {
+        boolean shared = users.size() < THREADS;
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                        // Shared runs pick random half-hour offsets so one-hour events collide constantly
+                        int slot = shared ? ThreadLocalRandom.current().nextInt(200) : attempt * 2;
+                        ZonedDateTime startTime = BASE.plusMinutes(30L * slot);
+                        EventCreateDTO dto = new EventCreateDTO("Load " + thread + "-" + attempt,
+                                startTime, startTime.plusHours(1), null);
+                        try {
+                            eventBO.createEvent(dto, picker.pick(thread, attempt));
+                            created.incrementAndGet();
+                        } catch (ConflictException e) {
+                            conflicts.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long began = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+            double seconds = (System.nanoTime() - began) / 1e9;
+            logger.info("{} users, {} threads: {} created, {} conflicts, {} attempts/s",
+                    users.size(), THREADS, created.get(), conflicts.get(),
+                    Math.round(THREADS * ATTEMPTS_PER_THREAD / seconds));
+        } finally {
+            executor.shutdownNow();
+        }
+        return created;
+    }
+
+    private List<User> createUsers(String prefix, int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String username = prefix + i + "user";
+            users.add(userRepository.save(new User(username, new PasswordVO("hashedPassword"),
+                    username + "@example.com", ZoneId.of("UTC"), "Load", "Test")));
+        }
+        return users;
+    }
+}
@@ -1,35 +1,61 @@
 package com.yohan.event_planner.business;
 
+import com.yohan.event_planner.business.availability.TimeSlot;
+import com.yohan.event_planner.business.change.EventChangeSet;
+import com.yohan.event_planner.business.change.EventChangeToken;
+import com.yohan.event_planner.business.change.EventChangeType;
 import com.yohan.event_planner.business.handler.EventPatchHandler;
+import com.yohan.event_planner.business.pagination.EventCursor;
+import com.yohan.event_planner.business.pagination.EventPage;
+import com.yohan.event_planner.business.recurrence.EventSchedule;
 import com.yohan.event_planner.dto.EventCreateDTO;
+import com.yohan.event_planner.dto.RecurrenceRuleDTO;
 import com.yohan.event_planner.dto.EventUpdateDTO;
+import com.yohan.event_planner.exception.ErrorCode;
 import com.yohan.event_planner.exception.EventNotFoundException;
+import com.yohan.event_planner.exception.InvalidTimeException;
+import com.yohan.event_planner.exception.SyncTokenExpiredException;
 import com.yohan.event_planner.mapper.EventMapper;
 import com.yohan.event_planner.domain.Day;
 import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.EventChangeLogEntry;
+import com.yohan.event_planner.domain.RecurrenceFrequency;
+import com.yohan.event_planner.domain.RecurrenceRule;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.repository.EventChangeLogRepository;
 import com.yohan.event_planner.repository.EventRepository;
+import com.yohan.event_planner.repository.projection.EventDayLinkView;
+import com.yohan.event_planner.repository.projection.EventIntervalView;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import com.yohan.event_planner.repository.projection.EventTimeView;
+import com.yohan.event_planner.repository.projection.RecurringSeriesView;
 import com.yohan.event_planner.service.DayService;
 import com.yohan.event_planner.service.EventScheduleService;
 import com.yohan.event_planner.validation.EventValidator;
 import com.yohan.event_planner.util.TestConstants;
 import com.yohan.event_planner.util.TestUtils;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,6 +67,12 @@ class EventBOTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private UserBO userBO;
+
     @Mock
     private DayService dayService;
 
@@ -53,6 +85,12 @@ class EventBOTest {
     @Mock
     private EventMapper eventMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventChangeLogRepository changeLogRepository;
+
     @Mock
     private EventPatchHandler eventPatchHandler; // Not injected but mocked in static method, will be stubbed differently
 
@@ -98,21 +136,53 @@ class EventBOTest {
         verifyNoInteractions(eventRepository);
     }
 
+    // ----- getSummariesByIds / getSummariesByCreatorId -----
+
+    @Test
+    void getSummariesByIds_shouldSkipQuery_whenNoIds() {
+        assertThat(eventBO.getSummariesByIds(List.of())).isEmpty();
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getSummariesByIds_shouldReturnSummaries() {
+        List<EventSummaryView> expectedEvents = List.of(
+                summary(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM));
+        when(eventRepository.findSummariesByIds(List.of(1L, 2L))).thenReturn(expectedEvents);
+
+        assertThat(eventBO.getSummariesByIds(List.of(1L, 2L))).isEqualTo(expectedEvents);
+    }
+
+    @Test
+    void getSummariesByCreatorId_shouldReturnSummaries() {
+        List<EventSummaryView> expectedEvents = List.of(
+                summary(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM));
+        when(eventRepository.findSummariesByCreatorId(TestConstants.USER_ID_1)).thenReturn(expectedEvents);
+
+        assertThat(eventBO.getSummariesByCreatorId(TestConstants.USER_ID_1)).isEqualTo(expectedEvents);
+    }
+
+    @Test
+    void getSummariesByCreatorId_shouldThrowException_whenCreatorIdInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> eventBO.getSummariesByCreatorId(-1L));
+        verifyNoInteractions(eventRepository);
+    }
+
     // ----- getByDayId -----
 
     @Test
-    void getByDayId_shouldReturnEventsList_whenDayExists() {
-        List<Event> expectedEvents = List.of(
-                TestUtils.createEventWithId(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM, testUser),
-                TestUtils.createEventWithId(2L, "Event 2", TestConstants.MAY_20_2025_10AM, TestConstants.MAY_20_2025_NOON, testUser)
+    void getByDayId_shouldReturnSummariesOfLinkedEvents_whenDayExists() {
+        List<EventSummaryView> expectedEvents = List.of(
+                summary(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM),
+                summary(2L, "Event 2", TestConstants.MAY_20_2025_10AM, TestConstants.MAY_20_2025_NOON)
         );
 
-        when(eventRepository.findByDays_Id(TestConstants.USER_ID_1)).thenReturn(expectedEvents);
+        when(eventRepository.findSummariesByDayId(TestConstants.USER_ID_1)).thenReturn(expectedEvents);
 
-        List<Event> actualEvents = eventBO.getByDayId(TestConstants.USER_ID_1);
+        List<EventSummaryView> actualEvents = eventBO.getByDayId(TestConstants.USER_ID_1);
 
         assertThat(actualEvents).isEqualTo(expectedEvents);
-        verify(eventRepository).findByDays_Id(TestConstants.USER_ID_1);
+        verify(eventRepository).findSummariesByDayId(TestConstants.USER_ID_1);
     }
 
     @Test
@@ -121,25 +191,151 @@ class EventBOTest {
         verifyNoInteractions(eventRepository);
     }
 
-    // ----- getByCreatorId -----
+    @Test
+    void getByDayId_shouldQueryCreatorRange_whenSpanMembership() {
+        Day day = TestUtils.createDayWithDate(LocalDate.of(2025, 5, 20), testUser);
+        ZonedDateTime start = ZonedDateTime.of(2025, 5, 20, 0, 0, 0, 0, ZoneOffset.UTC);
+        List<EventSummaryView> expectedEvents = List.of(
+                summary(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM)
+        );
+
+        when(eventScheduleService.isSpanMembership()).thenReturn(true);
+        when(dayService.getDayById(10L)).thenReturn(Optional.of(day));
+        when(eventRepository.findSummariesByCreatorIdAndRange(TestConstants.USER_ID_1, start, start.plusDays(1)))
+                .thenReturn(expectedEvents);
+
+        List<EventSummaryView> actualEvents = eventBO.getByDayId(10L);
+
+        assertThat(actualEvents).isEqualTo(expectedEvents);
+        verify(eventRepository, never()).findSummariesByDayId(any());
+    }
+
+    // ----- getByCreatorAndDate -----
 
     @Test
-    void getByCreatorId_shouldReturnEventsCreatedByUser() {
-        List<Event> expectedEvents = List.of(
-                TestUtils.createEventWithId(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM, testUser)
+    void getByCreatorAndDate_shouldQueryCreatorRangeWithoutDayLookup_whenSpanMembership() {
+        ZonedDateTime start = ZonedDateTime.of(2025, 5, 20, 0, 0, 0, 0, ZoneOffset.UTC);
+        List<EventSummaryView> expectedEvents = List.of(
+                summary(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM)
         );
 
-        when(eventRepository.findByCreatorId(TestConstants.USER_ID_1)).thenReturn(expectedEvents);
+        when(eventScheduleService.isSpanMembership()).thenReturn(true);
+        when(eventRepository.findSummariesByCreatorIdAndRange(TestConstants.USER_ID_1, start, start.plusDays(1)))
+                .thenReturn(expectedEvents);
 
-        List<Event> actualEvents = eventBO.getByCreatorId(TestConstants.USER_ID_1);
+        List<EventSummaryView> actualEvents = eventBO.getByCreatorAndDate(TestConstants.USER_ID_1,
+                LocalDate.of(2025, 5, 20));
 
         assertThat(actualEvents).isEqualTo(expectedEvents);
-        verify(eventRepository).findByCreatorId(TestConstants.USER_ID_1);
+        verifyNoInteractions(dayService);
     }
 
     @Test
-    void getByCreatorId_shouldThrowException_whenCreatorIdInvalid() {
-        assertThrows(IllegalArgumentException.class, () -> eventBO.getByCreatorId(-5L));
+    void getByCreatorAndDate_shouldQueryLinkedEventsByDayDate_whenLinkedMembership() {
+        LocalDate date = LocalDate.of(2025, 5, 20);
+        List<EventSummaryView> expectedEvents = List.of(
+                summary(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM)
+        );
+        when(eventRepository.findSummariesByCreatorIdAndDayDate(TestConstants.USER_ID_1, date))
+                .thenReturn(expectedEvents);
+
+        assertThat(eventBO.getByCreatorAndDate(TestConstants.USER_ID_1, date)).isEqualTo(expectedEvents);
+        verifyNoInteractions(dayService);
+    }
+
+    // ----- getDayIds -----
+
+    @Test
+    void getDayIds_shouldFetchLinksOfStoredEventsInOneQuery_andSkipOccurrences() {
+        EventSummaryView first = summary(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM);
+        EventSummaryView second = summary(2L, "Event 2", TestConstants.MAY_20_2025_1PM, TestConstants.MAY_20_2025_2PM);
+        EventSummaryView occurrence = summary(3L, "Series", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_10AM)
+                .toOccurrence(TestConstants.MAY_20_2025_9AM.plusDays(1), TestConstants.MAY_20_2025_10AM.plusDays(1));
+
+        when(eventRepository.findDayLinks(Set.of(1L, 2L))).thenReturn(List.of(
+                new EventDayLinkView(1L, 10L), new EventDayLinkView(1L, 11L), new EventDayLinkView(2L, 10L)));
+
+        Map<Long, List<Long>> dayIds = eventBO.getDayIds(List.of(first, second, occurrence));
+
+        assertEquals(Map.of(1L, List.of(10L, 11L), 2L, List.of(10L)), dayIds);
+        verify(eventRepository, times(1)).findDayLinks(any());
+    }
+
+    @Test
+    void getDayIds_shouldNotQuery_whenSpanMembershipOrNoStoredEvents() {
+        EventSummaryView occurrence = summary(3L, "Series", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_10AM)
+                .toOccurrence(TestConstants.MAY_20_2025_9AM.plusDays(1), TestConstants.MAY_20_2025_10AM.plusDays(1));
+
+        assertTrue(eventBO.getDayIds(List.of(occurrence)).isEmpty());
+        when(eventScheduleService.isSpanMembership()).thenReturn(true);
+        assertTrue(eventBO.getDayIds(List.of(summary(1L, "Event 1",
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM))).isEmpty());
+
+        verify(eventRepository, never()).findDayLinks(any());
+    }
+
+    // ----- forEachByCreatorId -----
+
+    @Test
+    void forEachByCreatorId_shouldPassEachEventToAction_andDetachItAfterwards() {
+        Event first = TestUtils.createEventWithId(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM, testUser);
+        Event second = TestUtils.createEventWithId(2L, "Event 2", TestConstants.MAY_20_2025_11AM, TestConstants.MAY_20_2025_1PM, testUser);
+        when(eventRepository.streamByCreatorId(TestConstants.USER_ID_1)).thenReturn(Stream.of(first, second));
+        List<Event> seen = new ArrayList<>();
+
+        long count = eventBO.forEachByCreatorId(TestConstants.USER_ID_1, seen::add);
+
+        assertEquals(2, count);
+        assertThat(seen).containsExactly(first, second);
+        InOrder inOrder = inOrder(entityManager);
+        inOrder.verify(entityManager).detach(first);
+        inOrder.verify(entityManager).detach(second);
+    }
+
+    @Test
+    void forEachByCreatorId_shouldThrowException_whenCreatorIdInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> eventBO.forEachByCreatorId(-5L, event -> { }));
+        verifyNoInteractions(eventRepository);
+    }
+
+    // ----- getPageByCreatorId -----
+
+    @Test
+    void getPageByCreatorId_shouldSeekFromLowerBound_andReturnCursorWhenMoreEventsFollow() {
+        EventSummaryView first = summary(1L, "Event 1", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_10AM);
+        EventSummaryView second = summary(2L, "Event 2", TestConstants.MAY_20_2025_11AM, TestConstants.MAY_20_2025_NOON);
+        EventSummaryView third = summary(3L, "Event 3", TestConstants.MAY_20_2025_1PM, TestConstants.MAY_20_2025_2PM);
+        ZonedDateTime from = TestConstants.MAY_20_2025_9AM.withZoneSameInstant(ZoneOffset.UTC);
+
+        when(eventRepository.findSummaryPageByCreatorId(eq(TestConstants.USER_ID_1), eq(from), eq(0L), any(), eq(Limit.of(3))))
+                .thenReturn(List.of(first, second, third));
+
+        EventPage page = eventBO.getPageByCreatorId(TestConstants.USER_ID_1, from, null, null, 2);
+
+        assertEquals(List.of(first, second), page.events());
+        assertEquals(new EventCursor(TestConstants.MAY_20_2025_11AM.withZoneSameInstant(ZoneOffset.UTC), 2L),
+                page.nextCursor());
+    }
+
+    @Test
+    void getPageByCreatorId_shouldStartAfterCursor_andOmitCursorOnLastPage() {
+        EventSummaryView last = summary(3L, "Event 3", TestConstants.MAY_20_2025_1PM, TestConstants.MAY_20_2025_2PM);
+        EventCursor after = new EventCursor(TestConstants.MAY_20_2025_11AM, 2L);
+        ZonedDateTime to = TestConstants.MAY_20_2025_2PM.withZoneSameInstant(ZoneOffset.UTC);
+
+        when(eventRepository.findSummaryPageByCreatorId(TestConstants.USER_ID_1, TestConstants.MAY_20_2025_11AM, 2L, to, Limit.of(3)))
+                .thenReturn(List.of(last));
+
+        EventPage page = eventBO.getPageByCreatorId(TestConstants.USER_ID_1, TestConstants.MAY_20_2025_9AM, to, after, 2);
+
+        assertEquals(List.of(last), page.events());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void getPageByCreatorId_shouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> eventBO.getPageByCreatorId(TestConstants.USER_ID_1, null, null, null, 0));
         verifyNoInteractions(eventRepository);
     }
 
@@ -153,16 +349,207 @@ class EventBOTest {
         ZonedDateTime expectedStart = date.atStartOfDay(zone).withZoneSameInstant(ZoneOffset.UTC);
         ZonedDateTime expectedEnd = expectedStart.plusDays(1).minusNanos(1);
 
-        List<Event> expectedEvents = List.of(
-                TestUtils.createEventWithId(1L, "Event 1", expectedStart, expectedEnd, testUser)
-        );
+        List<EventSummaryView> expectedEvents = List.of(summary(1L, "Event 1", expectedStart, expectedEnd));
 
-        when(eventRepository.findByDateRange(expectedStart, expectedEnd)).thenReturn(expectedEvents);
+        when(eventRepository.findSummariesByDateRange(expectedStart, expectedEnd)).thenReturn(expectedEvents);
 
-        List<Event> actualEvents = eventBO.getEventsByDate(date, zone);
+        List<EventSummaryView> actualEvents = eventBO.getEventsByDate(date, zone);
 
         assertThat(actualEvents).isEqualTo(expectedEvents);
-        verify(eventRepository).findByDateRange(expectedStart, expectedEnd);
+        verify(eventRepository).findSummariesByDateRange(expectedStart, expectedEnd);
+    }
+
+    @Test
+    void getEventsByDate_shouldExpandRecurringEventsToOccurrencesOnDate() {
+        LocalDate date = LocalDate.of(2025, 5, 27);
+        ZoneId zone = ZoneId.of("UTC");
+        ZonedDateTime expectedStart = date.atStartOfDay(zone).withZoneSameInstant(ZoneOffset.UTC);
+        ZonedDateTime expectedEnd = expectedStart.plusDays(1).minusNanos(1);
+
+        EventSummaryView series = series(TestConstants.EVENT_ID_1, TestConstants.MAY_20_2025_9AM,
+                TestConstants.MAY_20_2025_11AM, new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1, null, null, null, null));
+        EventSummaryView single = summary(TestConstants.EVENT_ID_2, "Lunch",
+                TestConstants.MAY_20_2025_NOON.plusWeeks(1), TestConstants.MAY_20_2025_1PM.plusWeeks(1));
+        when(eventRepository.findSummariesByDateRange(expectedStart, expectedEnd)).thenReturn(List.of(single, series));
+
+        List<EventSummaryView> actualEvents = eventBO.getEventsByDate(date, zone);
+
+        assertThat(actualEvents).hasSize(2);
+        EventSummaryView occurrence = actualEvents.get(0);
+        assertEquals(TestConstants.EVENT_ID_1, occurrence.id());
+        assertTrue(occurrence.occurrence());
+        assertEquals(TestConstants.MAY_20_2025_9AM.plusWeeks(1).toInstant(), occurrence.startTime().toInstant());
+        assertEquals(TestConstants.MAY_20_2025_11AM.plusWeeks(1).toInstant(), occurrence.endTime().toInstant());
+        assertSame(single, actualEvents.get(1));
+    }
+
+    // ----- getEventsInRange -----
+
+    @Test
+    void getEventsInRange_shouldQueryCreatorScopedRangeInUtc_andExpandRecurringEvents() {
+        ZonedDateTime from = ZonedDateTime.of(2025, 5, 26, 0, 0, 0, 0, ZoneId.of("America/New_York"));
+        ZonedDateTime to = from.plusWeeks(1);
+        ZonedDateTime fromUtc = from.withZoneSameInstant(ZoneOffset.UTC);
+        ZonedDateTime toUtc = to.withZoneSameInstant(ZoneOffset.UTC);
+
+        EventSummaryView series = series(TestConstants.EVENT_ID_1, TestConstants.MAY_20_2025_9AM,
+                TestConstants.MAY_20_2025_11AM, new RecurrenceRule(RecurrenceFrequency.DAILY, 2, null, null, null, null));
+        EventSummaryView single = summary(TestConstants.EVENT_ID_2, "Lunch",
+                TestConstants.MAY_20_2025_NOON.plusDays(7), TestConstants.MAY_20_2025_1PM.plusDays(7));
+        when(eventRepository.findSummariesByCreatorIdAndRange(TestConstants.USER_ID_1, fromUtc, toUtc))
+                .thenReturn(List.of(series, single));
+
+        List<EventSummaryView> actualEvents = eventBO.getEventsInRange(TestConstants.USER_ID_1, from, to);
+
+        // Daily every other day from May 20: May 26, 28, 30 and Jun 1 fall within the week
+        assertThat(actualEvents).hasSize(5);
+        assertEquals(TestConstants.MAY_20_2025_9AM.plusDays(6).toInstant(), actualEvents.get(0).startTime().toInstant());
+        assertSame(single, actualEvents.get(1));
+        assertEquals(TestConstants.MAY_20_2025_9AM.plusDays(12).toInstant(), actualEvents.get(4).startTime().toInstant());
+        verify(eventRepository, never()).findSummariesByDateRange(any(), any());
+    }
+
+    @Test
+    void getEventsInRange_shouldThrowException_whenCreatorIdInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> eventBO.getEventsInRange(0L,
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM));
+        verifyNoInteractions(eventRepository);
+    }
+
+    // ----- getChangesSince -----
+
+    private static final Long EVENT_ID_3 = 102L;
+
+    @Test
+    void getChangesSince_shouldReduceEntriesToLastChangePerEvent() {
+        EventSummaryView updated = summary(TestConstants.EVENT_ID_1, TestConstants.EVENT_WORKOUT,
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM);
+        when(changeLogRepository.findByCreatorIdAndIdGreaterThanOrderById(TestConstants.USER_ID_1, 10L, Limit.of(6)))
+                .thenReturn(List.of(
+                        changeEntry(11L, TestConstants.EVENT_ID_1, EventChangeType.CREATED),
+                        changeEntry(12L, TestConstants.EVENT_ID_2, EventChangeType.CREATED),
+                        changeEntry(13L, TestConstants.EVENT_ID_1, EventChangeType.UPDATED),
+                        changeEntry(14L, TestConstants.EVENT_ID_2, EventChangeType.DELETED),
+                        changeEntry(15L, EVENT_ID_3, EventChangeType.UPDATED)));
+        // Event 3 was deleted after this run; its summary is gone
+        when(eventRepository.findSummariesByIds(List.of(TestConstants.EVENT_ID_1, EVENT_ID_3)))
+                .thenReturn(List.of(updated));
+
+        EventChangeSet changes = eventBO.getChangesSince(TestConstants.USER_ID_1, new EventChangeToken(10L), 5);
+
+        assertEquals(List.of(updated), changes.changed());
+        assertEquals(List.of(TestConstants.EVENT_ID_2, EVENT_ID_3), changes.deleted());
+        assertEquals(new EventChangeToken(15L), changes.next());
+        assertFalse(changes.hasMore());
+    }
+
+    @Test
+    void getChangesSince_shouldStopAtLimit_andResumeAfterLastEntryRead() {
+        when(changeLogRepository.findByCreatorIdAndIdGreaterThanOrderById(TestConstants.USER_ID_1, 0L, Limit.of(2)))
+                .thenReturn(List.of(
+                        changeEntry(3L, TestConstants.EVENT_ID_1, EventChangeType.DELETED),
+                        changeEntry(4L, TestConstants.EVENT_ID_2, EventChangeType.DELETED)));
+
+        EventChangeSet changes = eventBO.getChangesSince(TestConstants.USER_ID_1, EventChangeToken.START, 1);
+
+        assertEquals(List.of(TestConstants.EVENT_ID_1), changes.deleted());
+        assertEquals(new EventChangeToken(3L), changes.next());
+        assertTrue(changes.hasMore());
+        verify(eventRepository, never()).findSummariesByIds(any());
+    }
+
+    @Test
+    void getChangesSince_shouldKeepToken_whenNothingChanged() {
+        EventChangeToken since = new EventChangeToken(7L);
+        when(changeLogRepository.findByCreatorIdAndIdGreaterThanOrderById(TestConstants.USER_ID_1, 7L, Limit.of(51)))
+                .thenReturn(List.of());
+
+        EventChangeSet changes = eventBO.getChangesSince(TestConstants.USER_ID_1, since, 50);
+
+        assertEquals(new EventChangeSet(List.of(), List.of(), since, false), changes);
+    }
+
+    @Test
+    void getChangesSince_shouldThrowSyncTokenExpired_whenEntriesAfterTokenWerePruned() {
+        when(changeLogRepository.findByCreatorIdAndIdGreaterThanOrderById(TestConstants.USER_ID_1, 7L, Limit.of(51)))
+                .thenReturn(List.of(changeEntry(20L, TestConstants.EVENT_ID_1, EventChangeType.UPDATED)));
+        when(changeLogRepository.findOldestId()).thenReturn(20L);
+
+        SyncTokenExpiredException ex = assertThrows(SyncTokenExpiredException.class,
+                () -> eventBO.getChangesSince(TestConstants.USER_ID_1, new EventChangeToken(7L), 50));
+
+        assertEquals(ErrorCode.SYNC_TOKEN_EXPIRED, ex.getErrorCode());
+        verify(eventRepository, never()).findSummariesByIds(any());
+    }
+
+    @Test
+    void getChangesSince_shouldServeToken_rightBeforeOldestRetainedEntry() {
+        when(changeLogRepository.findByCreatorIdAndIdGreaterThanOrderById(TestConstants.USER_ID_1, 19L, Limit.of(51)))
+                .thenReturn(List.of(changeEntry(20L, TestConstants.EVENT_ID_1, EventChangeType.DELETED)));
+        when(changeLogRepository.findOldestId()).thenReturn(20L);
+
+        EventChangeSet changes = eventBO.getChangesSince(TestConstants.USER_ID_1, new EventChangeToken(19L), 50);
+
+        assertEquals(List.of(TestConstants.EVENT_ID_1), changes.deleted());
+        assertEquals(new EventChangeToken(20L), changes.next());
+    }
+
+    @Test
+    void getLatestChangeToken_shouldStartAtZero_whenLogIsEmpty() {
+        when(changeLogRepository.findLatestIdByCreatorId(TestConstants.USER_ID_1)).thenReturn(null);
+        when(changeLogRepository.findLatestId()).thenReturn(null);
+
+        assertEquals(EventChangeToken.START, eventBO.getLatestChangeToken(TestConstants.USER_ID_1));
+    }
+
+    @Test
+    void getLatestChangeToken_shouldUseLatestChangeOfAnyUser_whenUserHasNoChanges() {
+        when(changeLogRepository.findLatestIdByCreatorId(TestConstants.USER_ID_1)).thenReturn(null);
+        when(changeLogRepository.findLatestId()).thenReturn(42L);
+
+        assertEquals(new EventChangeToken(42L), eventBO.getLatestChangeToken(TestConstants.USER_ID_1));
+    }
+
+    // ----- getBusyIntervals -----
+
+    @Test
+    void getBusyIntervals_shouldMergeStreamedEventsWithRecurringOccurrences() {
+        ZonedDateTime from = TestUtils.zdt(2025, 5, 20, 0, 0);
+        ZonedDateTime to = from.plusDays(2);
+        RecurrenceRule daily = new RecurrenceRule(RecurrenceFrequency.DAILY, 1, null, null, null, null);
+        RecurringSeriesView series = new RecurringSeriesView(TestUtils.zdt(2025, 5, 1, 11, 0),
+                TestUtils.zdt(2025, 5, 1, 12, 0), ZoneOffset.UTC, daily);
+
+        when(eventRepository.findRecurringSeriesInRange(TestConstants.USER_ID_1, from, to)).thenReturn(List.of(series));
+        when(eventRepository.streamTimesInRange(TestConstants.USER_ID_1, from, to)).thenReturn(java.util.stream.Stream.of(
+                new EventTimeView(TestUtils.zdt(2025, 5, 20, 9, 0), TestUtils.zdt(2025, 5, 20, 11, 0)),
+                new EventTimeView(TestUtils.zdt(2025, 5, 21, 15, 0), TestUtils.zdt(2025, 5, 21, 16, 0))));
+
+        List<TimeSlot> busy = eventBO.getBusyIntervals(TestConstants.USER_ID_1, from, to);
+
+        assertEquals(List.of(
+                new TimeSlot(TestUtils.zdt(2025, 5, 20, 9, 0), TestUtils.zdt(2025, 5, 20, 12, 0)),
+                new TimeSlot(TestUtils.zdt(2025, 5, 21, 11, 0), TestUtils.zdt(2025, 5, 21, 12, 0)),
+                new TimeSlot(TestUtils.zdt(2025, 5, 21, 15, 0), TestUtils.zdt(2025, 5, 21, 16, 0))), busy);
+        verify(eventRepository, never()).findSummariesByCreatorIdAndRange(any(), any(), any());
+    }
+
+    @Test
+    void getCombinedBusyIntervals_shouldMergeSourcesOfAllUsers() {
+        ZonedDateTime from = TestUtils.zdt(2025, 5, 20, 0, 0);
+        ZonedDateTime to = from.plusDays(1);
+
+        when(eventRepository.streamTimesInRange(1L, from, to)).thenReturn(java.util.stream.Stream.of(
+                new EventTimeView(TestUtils.zdt(2025, 5, 20, 9, 0), TestUtils.zdt(2025, 5, 20, 10, 0))));
+        when(eventRepository.streamTimesInRange(2L, from, to)).thenReturn(java.util.stream.Stream.of(
+                new EventTimeView(TestUtils.zdt(2025, 5, 20, 9, 30), TestUtils.zdt(2025, 5, 20, 11, 0))));
+        Iterator<TimeSlot> offHours = List.of(new TimeSlot(TestUtils.zdt(2025, 5, 20, 18, 0), to)).iterator();
+
+        List<TimeSlot> busy = eventBO.getCombinedBusyIntervals(List.of(1L, 2L), List.of(offHours), from, to);
+
+        assertEquals(List.of(
+                new TimeSlot(TestUtils.zdt(2025, 5, 20, 9, 0), TestUtils.zdt(2025, 5, 20, 11, 0)),
+                new TimeSlot(TestUtils.zdt(2025, 5, 20, 18, 0), to)), busy);
     }
 
     // ----- save -----
@@ -195,6 +582,24 @@ class EventBOTest {
         verify(eventRepository).delete(event);
     }
 
+    @Test
+    void deleteById_shouldLockScheduleAndRecordTombstone() {
+        Event event = TestUtils.createEventWithId(TestConstants.EVENT_ID_1, TestConstants.EVENT_WORKOUT,
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM, testUser);
+        when(eventRepository.findById(TestConstants.EVENT_ID_1)).thenReturn(Optional.of(event));
+        ArgumentCaptor<EventChangeLogEntry> entryCaptor = ArgumentCaptor.forClass(EventChangeLogEntry.class);
+
+        eventBO.deleteById(TestConstants.EVENT_ID_1);
+
+        InOrder inOrder = inOrder(userBO, eventRepository, changeLogRepository);
+        inOrder.verify(userBO).lockSchedule(TestConstants.USER_ID_1);
+        inOrder.verify(eventRepository).delete(event);
+        inOrder.verify(changeLogRepository).save(entryCaptor.capture());
+        assertEquals(TestConstants.EVENT_ID_1, entryCaptor.getValue().getEventId());
+        assertEquals(TestConstants.USER_ID_1, entryCaptor.getValue().getCreatorId());
+        assertEquals(EventChangeType.DELETED, entryCaptor.getValue().getType());
+    }
+
     @Test
     void deleteById_shouldThrowEventNotFoundException_whenEventDoesNotExist() {
         when(eventRepository.findById(TestConstants.EVENT_ID_1)).thenReturn(Optional.empty());
@@ -227,8 +632,8 @@ class EventBOTest {
         doNothing().when(eventValidator).validateStartBeforeEnd(startUtc, endUtc);
 
         // Use eq() and isNull() for raw values when mixing with matchers
-        doNothing().when(eventValidator).validateNoConflicts(
-                eq(startUtc), eq(endUtc), isNull(Long.class), any(Day.class));
+        doNothing().when(eventValidator).validateNoOverlappingEvents(
+                eq(testUser.getId()), eq(startUtc), eq(endUtc), isNull(Long.class));
 
         Event mappedEvent = TestUtils.createEventWithId(null, dto.name(), dto.startTime(), dto.endTime(), testUser);
         when(eventMapper.toEntity(dto, dto.startTime().getZone(), testUser)).thenReturn(mappedEvent);
@@ -249,13 +654,39 @@ class EventBOTest {
         assertEquals(dto.startTime().getZone(), result.getTimezone());
 
         verify(eventValidator).validateStartBeforeEnd(startUtc, endUtc);
-        verify(eventValidator, times(preparedDays.size())).validateNoConflicts(
-                eq(startUtc), eq(endUtc), isNull(Long.class), any(Day.class));
+        verify(eventValidator).validateNoOverlappingEvents(
+                eq(testUser.getId()), eq(startUtc), eq(endUtc), isNull(Long.class));
         verify(eventRepository).save(mappedEvent);
         verify(eventMapper).toEntity(dto, dto.startTime().getZone(), testUser);
         verify(eventScheduleService).prepareEventDays(startUtc.toLocalDate(), endUtc.toLocalDate(), testUser);
     }
 
+    @Test
+    void createEvent_shouldLockCreatorScheduleBeforeCheckingConflicts() {
+        EventCreateDTO dto = TestConstants.VALID_EVENT_CREATE_DTO;
+        when(eventScheduleService.isSpanMembership()).thenReturn(true);
+        Event mappedEvent = TestUtils.createEventWithId(null, dto.name(), dto.startTime(), dto.endTime(), testUser);
+        when(eventMapper.toEntity(dto, dto.startTime().getZone(), testUser)).thenReturn(mappedEvent);
+        when(eventRepository.save(mappedEvent)).thenReturn(mappedEvent);
+
+        eventBO.createEvent(dto, testUser);
+
+        InOrder inOrder = inOrder(userBO, eventValidator, eventRepository);
+        inOrder.verify(userBO).lockSchedule(testUser.getId());
+        inOrder.verify(eventValidator).validateNoOverlappingEvents(eq(testUser.getId()), any(), any(), isNull());
+        inOrder.verify(eventRepository).save(mappedEvent);
+    }
+
+    @Test
+    void createEvent_shouldNotCheckConflicts_whenScheduleLockFails() {
+        EventCreateDTO dto = TestConstants.VALID_EVENT_CREATE_DTO;
+        doThrow(new PessimisticLockingFailureException("timeout")).when(userBO).lockSchedule(testUser.getId());
+
+        assertThrows(PessimisticLockingFailureException.class, () -> eventBO.createEvent(dto, testUser));
+        verify(eventValidator, never()).validateNoOverlappingEvents(any(), any(), any(), any());
+        verify(eventRepository, never()).save(any());
+    }
+
 
 
 
@@ -276,6 +707,187 @@ class EventBOTest {
         assertThrows(IllegalStateException.class, () -> eventBO.createEvent(dto, testUser));
     }
 
+    @Test
+    void createEvent_shouldCheckOccurrencesAndStoreSeriesEnd_whenRecurring() {
+        RecurrenceRuleDTO recurrenceDto = new RecurrenceRuleDTO(RecurrenceFrequency.DAILY, 1, null, null, 3, null);
+        EventCreateDTO dto = new EventCreateDTO(TestConstants.EVENT_WORKOUT, TestConstants.MAY_20_2025_9AM,
+                TestConstants.MAY_20_2025_11AM, null, recurrenceDto);
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceFrequency.DAILY, 1, null, null, 3, null);
+
+        when(eventScheduleService.prepareEventDays(any(), any(), eq(testUser)))
+                .thenReturn(Set.of(TestUtils.createDayWithDate(LocalDate.of(2025, 5, 20), testUser)));
+        Event mappedEvent = TestUtils.createEventWithId(null, dto.name(), dto.startTime(), dto.endTime(), testUser);
+        mappedEvent.setRecurrence(rule);
+        when(eventMapper.toEntity(dto, dto.startTime().getZone(), testUser)).thenReturn(mappedEvent);
+        when(eventRepository.save(mappedEvent)).thenReturn(mappedEvent);
+
+        Event result = eventBO.createEvent(dto, testUser);
+
+        verify(eventValidator).validateRecurrence(rule, dto.startTime(), dto.endTime());
+        ArgumentCaptor<EventSchedule> scheduleCaptor = ArgumentCaptor.forClass(EventSchedule.class);
+        verify(eventValidator).validateNoOverlappingOccurrences(eq(testUser.getId()), scheduleCaptor.capture(),
+                isNull());
+        assertEquals(rule, scheduleCaptor.getValue().getRule());
+        verify(eventValidator, never()).validateNoOverlappingEvents(any(), any(), any(), any());
+        assertEquals(TestConstants.MAY_20_2025_11AM.plusDays(2).toInstant(), result.getSeriesEndTime().toInstant());
+    }
+
+    @Test
+    void createEvent_shouldNotPrepareDays_whenSpanMembership() {
+        EventCreateDTO dto = TestConstants.VALID_EVENT_CREATE_DTO;
+        Event mappedEvent = TestUtils.createEventWithId(null, dto.name(), dto.startTime(), dto.endTime(), testUser);
+
+        when(eventScheduleService.isSpanMembership()).thenReturn(true);
+        when(eventMapper.toEntity(dto, dto.startTime().getZone(), testUser)).thenReturn(mappedEvent);
+        when(eventRepository.save(mappedEvent)).thenReturn(mappedEvent);
+
+        Event result = eventBO.createEvent(dto, testUser);
+
+        assertThat(result.getDays()).isEmpty();
+        verify(eventScheduleService, never()).prepareEventDays(any(), any(), any());
+    }
+
+    // ----- createEvents -----
+
+    @Test
+    void createEvents_shouldCreateValidItemsAndReportRejectionsPerItem() {
+        EventCreateDTO stored = new EventCreateDTO("Stored clash", TestConstants.MAY_20_2025_1PM,
+                TestConstants.MAY_20_2025_2PM, null);
+        EventCreateDTO overlapping = new EventCreateDTO(TestConstants.EVENT_STUDY, TestConstants.MAY_20_2025_10AM,
+                TestConstants.MAY_20_2025_NOON, null);
+        EventCreateDTO first = new EventCreateDTO(TestConstants.EVENT_WORKOUT, TestConstants.MAY_20_2025_9AM,
+                TestConstants.MAY_20_2025_11AM, null);
+        EventCreateDTO invalid = new EventCreateDTO("Backwards", TestConstants.MAY_20_2025_2PM,
+                TestConstants.MAY_20_2025_1PM, null);
+        List<EventCreateDTO> batch = List.of(stored, overlapping, first, invalid);
+
+        ZonedDateTime invalidStartUtc = invalid.startTime().withZoneSameInstant(ZoneOffset.UTC);
+        ZonedDateTime invalidEndUtc = invalid.endTime().withZoneSameInstant(ZoneOffset.UTC);
+        // Only the backwards item is invalid; the validator is called for every item
+        lenient().doThrow(new InvalidTimeException(invalidStartUtc, invalidEndUtc))
+                .when(eventValidator).validateStartBeforeEnd(invalidStartUtc, invalidEndUtc);
+
+        EventIntervalView existing = new EventIntervalView(TestConstants.EVENT_ID_2, "Existing",
+                TestConstants.MAY_20_2025_1PM, TestConstants.MAY_20_2025_2PM);
+        when(eventRepository.findOverlapping(eq(testUser.getId()), any(), any(), isNull(), eq(Limit.unlimited())))
+                .thenReturn(List.of(existing));
+
+        LocalDate date = TestConstants.MAY_20_2025_9AM.withZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        Day day = TestUtils.createDayWithDate(date, testUser);
+        when(eventScheduleService.prepareDaysForDates(Set.of(date), testUser)).thenReturn(Map.of(date, day));
+
+        Event mapped = TestUtils.createEventWithId(null, first.name(), first.startTime(), first.endTime(), testUser);
+        when(eventMapper.toEntity(first, first.startTime().getZone(), testUser)).thenReturn(mapped);
+        when(eventRepository.saveAll(List.of(mapped))).thenAnswer(invocation -> {
+            TestUtils.setId(mapped, TestConstants.EVENT_ID_1);
+            return List.of(mapped);
+        });
+
+        List<EventBO.BatchItemResult> results = eventBO.createEvents(batch, testUser);
+
+        assertEquals(4, results.size());
+
+        EventBO.BatchItemResult storedResult = results.get(0);
+        assertFalse(storedResult.isCreated());
+        assertEquals(ErrorCode.EVENT_CONFLICT, storedResult.errorCode());
+        assertTrue(storedResult.message().contains(String.valueOf(TestConstants.EVENT_ID_2)));
+
+        EventBO.BatchItemResult overlappingResult = results.get(1);
+        assertFalse(overlappingResult.isCreated());
+        assertEquals(ErrorCode.EVENT_CONFLICT, overlappingResult.errorCode());
+        assertTrue(overlappingResult.message().contains("batch item 2"));
+
+        EventBO.BatchItemResult firstResult = results.get(2);
+        assertTrue(firstResult.isCreated());
+        assertEquals(TestConstants.EVENT_ID_1, firstResult.event().getId());
+        assertThat(firstResult.event().getDays()).containsExactly(day);
+
+        EventBO.BatchItemResult invalidResult = results.get(3);
+        assertFalse(invalidResult.isCreated());
+        assertEquals(ErrorCode.INVALID_EVENT_TIME, invalidResult.errorCode());
+
+        verify(eventRepository, times(1)).findOverlapping(any(), any(), any(), any(), any());
+        verify(eventRepository, never()).save(any());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        verify(changeLogRepository, times(1)).save(any());
+    }
+
+    @Test
+    void createEvents_shouldQueryStoredEventsOverWholeBatchRange() {
+        EventCreateDTO late = new EventCreateDTO(TestConstants.EVENT_STUDY, TestConstants.MAY_20_2025_1PM,
+                TestConstants.MAY_20_2025_2PM, null);
+        EventCreateDTO early = new EventCreateDTO(TestConstants.EVENT_WORKOUT, TestConstants.MAY_20_2025_9AM,
+                TestConstants.MAY_20_2025_10AM, null);
+
+        when(eventRepository.findOverlapping(any(), any(), any(), any(), any())).thenReturn(List.of());
+        when(eventScheduleService.prepareDaysForDates(any(), eq(testUser))).thenAnswer(invocation -> {
+            Set<LocalDate> dates = invocation.getArgument(0);
+            Map<LocalDate, Day> days = new HashMap<>();
+            dates.forEach(date -> days.put(date, TestUtils.createDayWithDate(date, testUser)));
+            return days;
+        });
+        when(eventMapper.toEntity(any(), any(), eq(testUser))).thenAnswer(invocation -> {
+            EventCreateDTO dto = invocation.getArgument(0);
+            return TestUtils.createEventWithId(null, dto.name(), dto.startTime(), dto.endTime(), testUser);
+        });
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<EventBO.BatchItemResult> results = eventBO.createEvents(List.of(late, early), testUser);
+
+        assertTrue(results.stream().allMatch(EventBO.BatchItemResult::isCreated));
+        verify(eventRepository).findOverlapping(testUser.getId(),
+                early.startTime().withZoneSameInstant(ZoneOffset.UTC),
+                late.endTime().withZoneSameInstant(ZoneOffset.UTC),
+                null, Limit.unlimited());
+    }
+
+    @Test
+    void createEvents_shouldSkipDayPreparation_whenEveryItemIsRejected() {
+        EventCreateDTO invalid = new EventCreateDTO("Backwards", TestConstants.MAY_20_2025_2PM,
+                TestConstants.MAY_20_2025_1PM, null);
+        doThrow(new InvalidTimeException(TestConstants.MAY_20_2025_2PM, TestConstants.MAY_20_2025_1PM))
+                .when(eventValidator).validateStartBeforeEnd(any(), any());
+        when(eventRepository.saveAll(List.of())).thenReturn(List.of());
+
+        List<EventBO.BatchItemResult> results = eventBO.createEvents(List.of(invalid), testUser);
+
+        assertEquals(1, results.size());
+        assertEquals(ErrorCode.INVALID_EVENT_TIME, results.get(0).errorCode());
+        verifyNoInteractions(eventScheduleService, eventPublisher, userBO, changeLogRepository);
+        verify(eventRepository, never()).findOverlapping(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void createEvents_shouldRejectRecurringItemOverlappingAcceptedItem() {
+        EventCreateDTO single = new EventCreateDTO("Single", TestConstants.MAY_20_2025_9AM.plusDays(3),
+                TestConstants.MAY_20_2025_11AM.plusDays(3), null);
+        EventCreateDTO daily = new EventCreateDTO("Daily", TestConstants.MAY_20_2025_10AM,
+                TestConstants.MAY_20_2025_NOON, null,
+                new RecurrenceRuleDTO(RecurrenceFrequency.DAILY, 1, null, null, 7, null));
+
+        when(eventScheduleService.prepareDaysForDates(any(), eq(testUser))).thenAnswer(invocation -> {
+            Map<LocalDate, Day> days = new HashMap<>();
+            for (LocalDate date : invocation.<Set<LocalDate>>getArgument(0)) {
+                days.put(date, TestUtils.createDayWithDate(date, testUser));
+            }
+            return days;
+        });
+        when(eventMapper.toEntity(any(EventCreateDTO.class), any(ZoneId.class), eq(testUser)))
+                .thenAnswer(invocation -> {
+                    EventCreateDTO dto = invocation.getArgument(0);
+                    return new Event(dto.name(), dto.startTime(), dto.endTime(), testUser);
+                });
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<EventBO.BatchItemResult> results = eventBO.createEvents(List.of(daily, single), testUser);
+
+        assertFalse(results.get(0).isCreated());
+        assertEquals(ErrorCode.EVENT_CONFLICT, results.get(0).errorCode());
+        assertTrue(results.get(0).message().contains("batch item 1"));
+        assertTrue(results.get(1).isCreated());
+        verify(eventValidator).validateRecurrence(any(), eq(daily.startTime()), eq(daily.endTime()));
+    }
+
     // ----- updateEvent -----
 
     @Test
@@ -296,9 +908,11 @@ class EventBOTest {
         // Stub dayService if needed
         when(dayService.getOrCreateAllDaysBetween(any(), any(), eq(testUser)))
                 .thenReturn(Set.of());
+        when(eventRepository.save(existing)).thenReturn(existing);
 
         eventBO.updateEvent(eventId, updateDTO);
 
+        verify(userBO).lockSchedule(testUser.getId());
         verify(eventRepository).save(existing);
         verify(eventValidator).validateStartBeforeEnd(any(), any());
         verify(dayService).getOrCreateAllDaysBetween(any(), any(), eq(testUser));
@@ -306,6 +920,27 @@ class EventBOTest {
 
 
 
+    @Test
+    void updateEvent_shouldUnlinkDaysWithoutFetchingNewOnes_whenSpanMembership() {
+        Long eventId = TestConstants.EVENT_ID_1;
+        Event existing = TestUtils.createEventWithId(eventId, "Old Name", TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM, testUser);
+        Day linkedDay = TestUtils.createDayWithDate(LocalDate.of(2025, 5, 20), testUser);
+        existing.addDay(linkedDay);
+        EventUpdateDTO updateDTO = TestUtils.createEventUpdateDTO(null, null,
+                TestConstants.MAY_20_2025_1PM, TestConstants.MAY_20_2025_2PM);
+
+        when(eventScheduleService.isSpanMembership()).thenReturn(true);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(existing));
+        when(eventRepository.save(existing)).thenReturn(existing);
+
+        eventBO.updateEvent(eventId, updateDTO);
+
+        assertThat(existing.getDays()).isEmpty();
+        assertThat(linkedDay.getEvents()).doesNotContain(existing);
+        verify(dayService, never()).getOrCreateAllDaysBetween(any(), any(), any());
+        verify(dayService, never()).saveAllDays(any());
+    }
+
     @Test
     void updateEvent_shouldSkipSave_whenPatchMakesNoChanges() {
         Long eventId = TestConstants.EVENT_ID_1;
@@ -329,4 +964,19 @@ class EventBOTest {
                 eventBO.updateEvent(TestConstants.EVENT_ID_1, TestConstants.VALID_EVENT_UPDATE_DTO));
     }
 
-}
\ No newline at end of file
+    private static EventSummaryView summary(Long id, String name, ZonedDateTime start, ZonedDateTime end) {
+        return new EventSummaryView(id, name, null, start, end, ZoneOffset.UTC, TestConstants.USER_ID_1, null);
+    }
+
+    private static EventSummaryView series(Long id, ZonedDateTime start, ZonedDateTime end, RecurrenceRule rule) {
+        return new EventSummaryView(id, TestConstants.EVENT_WORKOUT, null, start, end, ZoneOffset.UTC,
+                TestConstants.USER_ID_1, rule);
+    }
+
+    private static EventChangeLogEntry changeEntry(Long id, Long eventId, EventChangeType type) {
+        EventChangeLogEntry entry = new EventChangeLogEntry(eventId, TestConstants.USER_ID_1, type,
+                TestConstants.MAY_20_2025_9AM);
+        TestUtils.setId(entry, id);
+        return entry;
+    }
+}
@@ -3,6 +3,8 @@ package com.yohan.event_planner.business;
 import com.yohan.event_planner.domain.Role;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.repository.RoleRepository;
+import com.yohan.event_planner.security.TokenGenerations;
+import com.yohan.event_planner.security.UserDetailsCache;
 import com.yohan.event_planner.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,12 +20,16 @@ import static org.mockito.Mockito.*;
 class RoleBOTest {
 
     private RoleRepository roleRepository;
+    private TokenGenerations tokenGenerations;
+    private UserDetailsCache userDetailsCache;
     private RoleBO roleBO;
 
     @BeforeEach
     void setUp() {
         roleRepository = mock(RoleRepository.class);
-        roleBO = new RoleBO(roleRepository);
+        tokenGenerations = mock(TokenGenerations.class);
+        userDetailsCache = mock(UserDetailsCache.class);
+        roleBO = new RoleBO(roleRepository, tokenGenerations, userDetailsCache);
     }
 
     @Test
@@ -121,6 +127,18 @@ class RoleBOTest {
         assertFalse(user.getRoles().contains(role), "User should not contain the role after removal");
     }
 
+    @Test
+    void addUserToRole_givenStoredUser_shouldInvalidateTokenClaims() {
+        Role role = new Role("ROLE_ADMIN");
+        User user = TestUtils.createUserWithId(1L);
+
+        roleBO.addUserToRole(role, user);
+
+        assertEquals(1, user.getTokenGeneration());
+        verify(tokenGenerations).invalidate(1L);
+        verify(userDetailsCache).invalidate(1L);
+    }
+
     @Test
     void addUserToRole_givenNullRole_shouldThrowException() {
         User user = TestUtils.createUserWithId(1L);
@@ -1,5 +1,6 @@
 package com.yohan.event_planner.business;
 
+import com.yohan.event_planner.business.change.CalendarVersions;
 import com.yohan.event_planner.business.handler.UserPatchHandler;
 import com.yohan.event_planner.domain.PasswordVO;
 import com.yohan.event_planner.domain.User;
@@ -8,6 +9,8 @@ import com.yohan.event_planner.exception.UserNotFoundException;
 import com.yohan.event_planner.exception.UsernameException;
 import com.yohan.event_planner.exception.PasswordException;
 import com.yohan.event_planner.repository.UserRepository;
+import com.yohan.event_planner.security.TokenGenerations;
+import com.yohan.event_planner.security.UserDetailsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +35,15 @@ class UserBOTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CalendarVersions calendarVersions;
+
+    @Mock
+    private TokenGenerations tokenGenerations;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @InjectMocks
     private UserBO userBO;
 
@@ -75,6 +87,40 @@ class UserBOTest {
         verifyNoInteractions(userRepository);
     }
 
+    // --- existsById ---
+
+    @Test
+    void existsById_validId_delegatesToRepository() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(userBO.existsById(1L));
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void existsById_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> userBO.existsById(0L));
+        verifyNoInteractions(userRepository);
+    }
+
+    // --- lockSchedule ---
+
+    @Test
+    void lockSchedule_existingUser_locksRow() {
+        when(userRepository.lockById(1L)).thenReturn(Optional.of(1L));
+
+        userBO.lockSchedule(1L);
+
+        verify(userRepository).lockById(1L);
+    }
+
+    @Test
+    void lockSchedule_missingUser_throwsUserNotFoundException() {
+        when(userRepository.lockById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userBO.lockSchedule(99L));
+    }
+
     // --- getUsersByFirstAndLastName ---
 
     @Test
@@ -182,6 +228,29 @@ class UserBOTest {
         verify(userRepository).findById(1L);
         verify(userPatchHandler).applyPatch(existingUser, updatedUser);
         verify(userRepository).save(existingUser);
+        verify(calendarVersions).bump(1L);
+        assertEquals(0, result.getTokenGeneration());
+        verify(tokenGenerations, never()).invalidate(any());
+        verify(userDetailsCache).invalidate(1L);
+    }
+
+    @Test
+    void updateUser_timezoneChanged_invalidatesTokenClaims() throws PasswordException {
+        PasswordVO pw = new PasswordVO("hashedPassword");
+        User existingUser = new User(validUsername, pw, validEmail, zoneId, firstName, lastName);
+        User updatedUser = new User(validUsername, pw, validEmail, ZoneId.of("Asia/Tokyo"), firstName, lastName);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
+        when(userPatchHandler.applyPatch(existingUser, updatedUser)).thenAnswer(invocation -> {
+            existingUser.setTimezone(updatedUser.getTimezone());
+            return true;
+        });
+        when(userRepository.save(existingUser)).thenReturn(existingUser);
+
+        User result = userBO.updateUser(1L, updatedUser);
+
+        assertEquals(1, result.getTokenGeneration());
+        verify(tokenGenerations).invalidate(1L);
     }
 
     @Test
@@ -199,6 +268,8 @@ class UserBOTest {
         verify(userRepository).findById(1L);
         verify(userPatchHandler).applyPatch(existingUser, updatedUser);
         verify(userRepository, never()).save(any());
+        verify(calendarVersions, never()).bump(any());
+        verify(userDetailsCache, never()).invalidate(any());
     }
 
     @Test
@@ -231,8 +302,11 @@ class UserBOTest {
         User result = userBO.setUserEnabled(1L, true);
 
         assertTrue(result.isEnabled());
+        assertEquals(1, result.getTokenGeneration());
         verify(userRepository).findById(1L);
         verify(userRepository).save(user);
+        verify(tokenGenerations).invalidate(1L);
+        verify(userDetailsCache).invalidate(1L);
     }
 
     @Test
@@ -243,4 +317,16 @@ class UserBOTest {
         verify(userRepository).findById(99L);
         verify(userRepository, never()).save(any());
     }
+
+    // --- deleteById ---
+
+    @Test
+    void deleteById_deletesUser_andBumpsVersion() {
+        userBO.deleteById(1L);
+
+        verify(userRepository).deleteById(1L);
+        verify(calendarVersions).bump(1L);
+        verify(tokenGenerations).invalidate(1L);
+        verify(userDetailsCache).invalidate(1L);
+    }
 }
@@ -0,0 +1,52 @@
+package com.yohan.event_planner.business.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreeSlotFinderTest {
+
+    private static final ZonedDateTime FROM = zdt(2025, 5, 20, 8, 0);
+    private static final ZonedDateTime TO = zdt(2025, 5, 20, 18, 0);
+
+    private static TimeSlot slot(int startHour, int endHour) {
+        return new TimeSlot(FROM.withHour(startHour), FROM.withHour(endHour));
+    }
+
+    @Test
+    void findFree_shouldReturnGapsBetweenBusyPeriods() {
+        List<TimeSlot> free = FreeSlotFinder.findFree(List.of(slot(9, 10), slot(12, 13)).iterator(),
+                FROM, TO, Duration.ofMinutes(30), 10);
+
+        assertEquals(List.of(slot(8, 9), slot(10, 12), slot(13, 18)), free);
+    }
+
+    @Test
+    void findFree_shouldSkipGapsShorterThanMinimumDuration() {
+        List<TimeSlot> free = FreeSlotFinder.findFree(List.of(slot(8, 9), slot(10, 17)).iterator(),
+                FROM, TO, Duration.ofMinutes(90), 10);
+
+        assertTrue(free.isEmpty());
+    }
+
+    @Test
+    void findFree_shouldStopAtMaxResults() {
+        List<TimeSlot> free = FreeSlotFinder.findFree(List.of(slot(9, 10), slot(12, 13)).iterator(),
+                FROM, TO, Duration.ofMinutes(30), 2);
+
+        assertEquals(List.of(slot(8, 9), slot(10, 12)), free);
+    }
+
+    @Test
+    void findFree_shouldReturnWholeWindow_whenNothingIsBusy() {
+        List<TimeSlot> free = FreeSlotFinder.findFree(List.<TimeSlot>of().iterator(),
+                FROM, TO, Duration.ofMinutes(30), 10);
+
+        assertEquals(List.of(new TimeSlot(FROM, TO)), free);
+    }
+}
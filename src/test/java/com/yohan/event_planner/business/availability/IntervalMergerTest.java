@@ -0,0 +1,61 @@
+package com.yohan.event_planner.business.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalMergerTest {
+
+    private static final ZonedDateTime FROM = zdt(2025, 5, 20, 0, 0);
+    private static final ZonedDateTime TO = zdt(2025, 5, 21, 0, 0);
+
+    private static TimeSlot slot(int startHour, int endHour) {
+        return new TimeSlot(FROM.plusHours(startHour), FROM.plusHours(endHour));
+    }
+
+    @Test
+    void mergeSorted_shouldCoalesceOverlappingAndAdjacentIntervals() {
+        List<TimeSlot> merged = IntervalMerger.mergeSorted(
+                List.of(List.of(slot(9, 10), slot(10, 11), slot(12, 14), slot(13, 15)).iterator()), FROM, TO);
+
+        assertEquals(List.of(slot(9, 11), slot(12, 15)), merged);
+    }
+
+    @Test
+    void mergeSorted_shouldInterleaveSeveralSources() {
+        List<Iterator<TimeSlot>> sources = List.of(
+                List.of(slot(1, 2), slot(8, 9)).iterator(),
+                List.of(slot(2, 3), slot(20, 21)).iterator(),
+                List.<TimeSlot>of().iterator(),
+                List.of(slot(5, 6), slot(8, 12)).iterator());
+
+        List<TimeSlot> merged = IntervalMerger.mergeSorted(sources, FROM, TO);
+
+        assertEquals(List.of(slot(1, 3), slot(5, 6), slot(8, 12), slot(20, 21)), merged);
+    }
+
+    @Test
+    void mergeSorted_shouldClipToWindowAndDropIntervalsOutsideIt() {
+        List<TimeSlot> merged = IntervalMerger.mergeSorted(
+                List.of(List.of(slot(-3, -1), slot(-2, 2), slot(23, 26)).iterator()), FROM, TO);
+
+        assertEquals(List.of(slot(0, 2), slot(23, 24)), merged);
+    }
+
+    @Test
+    void mergeSorted_shouldReturnUtcIntervals_whenInputsUseOtherZones() {
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+        TimeSlot local = new TimeSlot(FROM.plusHours(9).withZoneSameInstant(tokyo),
+                FROM.plusHours(10).withZoneSameInstant(tokyo));
+
+        List<TimeSlot> merged = IntervalMerger.mergeSorted(List.of(List.of(local).iterator()), FROM, TO);
+
+        assertEquals(List.of(slot(9, 10)), merged);
+    }
+}
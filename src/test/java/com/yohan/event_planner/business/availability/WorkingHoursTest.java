@@ -0,0 +1,68 @@
+package com.yohan.event_planner.business.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkingHoursTest {
+
+    private static List<TimeSlot> collect(Iterator<TimeSlot> iterator) {
+        List<TimeSlot> slots = new ArrayList<>();
+        iterator.forEachRemaining(slots::add);
+        return slots;
+    }
+
+    @Test
+    void offHoursBetween_shouldCoverNightsBetweenWorkingDays() {
+        WorkingHours hours = new WorkingHours(LocalTime.of(9, 0), LocalTime.of(17, 0), ZoneId.of("UTC"), null);
+
+        List<TimeSlot> offHours = collect(hours.offHoursBetween(zdt(2025, 5, 20, 12, 0), zdt(2025, 5, 21, 12, 0)));
+
+        assertEquals(new TimeSlot(zdt(2025, 5, 20, 0, 0).withZoneSameInstant(ZoneId.of("UTC")),
+                zdt(2025, 5, 20, 9, 0).withZoneSameInstant(ZoneId.of("UTC"))), offHours.get(0));
+        assertTrue(offHours.stream().anyMatch(slot -> slot.start().toInstant().equals(zdt(2025, 5, 20, 17, 0).toInstant())
+                && slot.end().toInstant().equals(zdt(2025, 5, 21, 9, 0).toInstant())));
+    }
+
+    @Test
+    void offHoursBetween_shouldTreatNonWorkingWeekdaysAsOffHours() {
+        // 2025-05-23 is a Friday
+        WorkingHours hours = new WorkingHours(LocalTime.of(9, 0), LocalTime.of(17, 0), ZoneId.of("UTC"),
+                Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY));
+
+        List<TimeSlot> offHours = collect(hours.offHoursBetween(zdt(2025, 5, 23, 0, 0), zdt(2025, 5, 27, 0, 0)));
+
+        assertTrue(offHours.stream().anyMatch(slot -> slot.start().toInstant().equals(zdt(2025, 5, 23, 17, 0).toInstant())
+                && slot.end().toInstant().equals(zdt(2025, 5, 26, 9, 0).toInstant())));
+    }
+
+    @Test
+    void offHoursBetween_shouldBeOrderedAndUseLocalTime() {
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        WorkingHours hours = new WorkingHours(LocalTime.of(9, 0), LocalTime.of(17, 0), berlin, null);
+
+        List<TimeSlot> offHours = collect(hours.offHoursBetween(zdt(2025, 5, 20, 0, 0), zdt(2025, 5, 23, 0, 0)));
+
+        for (int i = 1; i < offHours.size(); i++) {
+            assertTrue(offHours.get(i - 1).end().isBefore(offHours.get(i).start()));
+        }
+        ZonedDateTime firstWorkStart = offHours.get(0).end();
+        assertEquals(LocalTime.of(9, 0), firstWorkStart.withZoneSameInstant(berlin).toLocalTime());
+    }
+
+    @Test
+    void constructor_shouldRejectEndNotAfterStart() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new WorkingHours(LocalTime.of(17, 0), LocalTime.of(9, 0), ZoneId.of("UTC"), null));
+    }
+}
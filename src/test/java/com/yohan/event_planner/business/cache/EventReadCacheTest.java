@@ -0,0 +1,208 @@
+package com.yohan.event_planner.business.cache;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.change.EventChange;
+import com.yohan.event_planner.business.change.EventSnapshot;
+import com.yohan.event_planner.domain.Day;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import com.yohan.event_planner.service.DayService;
+import com.yohan.event_planner.util.TestConstants;
+import com.yohan.event_planner.util.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventReadCacheTest {
+
+    private static final Long DAY_20 = 20L;
+    private static final Long DAY_22 = 22L;
+
+    @Mock private EventBO eventBO;
+    @Mock private DayService dayService;
+
+    private EventReadCache cache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EventReadCache(eventBO, dayService, 100, Duration.ofMinutes(5));
+        user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+    }
+
+    private void stubDay(Long dayId, LocalDate date, User owner) {
+        Day day = TestUtils.createDayWithDate(date, owner);
+        TestUtils.setId(day, dayId);
+        when(dayService.getDayById(dayId)).thenReturn(Optional.of(day));
+        when(eventBO.getByDayId(dayId)).thenReturn(List.of());
+    }
+
+    private static EventSummaryView summary(Long id, ZonedDateTime start, ZonedDateTime end) {
+        return new EventSummaryView(id, TestConstants.EVENT_WORKOUT, null, start, end, ZoneOffset.UTC,
+                TestConstants.USER_ID_1, null);
+    }
+
+    private static EventSnapshot snapshot(Long creatorId, ZonedDateTime start, ZonedDateTime end, boolean recurring) {
+        return new EventSnapshot(TestConstants.EVENT_ID_1, creatorId, TestConstants.EVENT_WORKOUT, null,
+                start, end, recurring);
+    }
+
+    @Test
+    void getSummaryById_isServedFromCache_untilEventChanges() {
+        EventSummaryView view = summary(TestConstants.EVENT_ID_1, zdt(2025, 5, 20, 9, 0), zdt(2025, 5, 20, 10, 0));
+        when(eventBO.getSummaryById(TestConstants.EVENT_ID_1)).thenReturn(Optional.of(view));
+
+        assertEquals(Optional.of(view), cache.getSummaryById(TestConstants.EVENT_ID_1));
+        assertEquals(Optional.of(view), cache.getSummaryById(TestConstants.EVENT_ID_1));
+        cache.onEventChange(EventChange.deleted(snapshot(TestConstants.USER_ID_1, view.startTime(), view.endTime(), false)));
+        cache.getSummaryById(TestConstants.EVENT_ID_1);
+
+        verify(eventBO, times(2)).getSummaryById(TestConstants.EVENT_ID_1);
+        assertEquals(1, cache.stats().get("eventSummaries").hits());
+    }
+
+    @Test
+    void getSummaryById_doesNotCacheMissingEvent() {
+        when(eventBO.getSummaryById(TestConstants.EVENT_ID_1)).thenReturn(Optional.empty());
+
+        assertTrue(cache.getSummaryById(TestConstants.EVENT_ID_1).isEmpty());
+        assertTrue(cache.getSummaryById(TestConstants.EVENT_ID_1).isEmpty());
+
+        verify(eventBO, times(2)).getSummaryById(TestConstants.EVENT_ID_1);
+    }
+
+    @Test
+    void getDayIds_queriesOnlyUncachedEvents_andSkipsOccurrences() {
+        EventSummaryView first = summary(1L, zdt(2025, 5, 20, 9, 0), zdt(2025, 5, 20, 10, 0));
+        EventSummaryView second = summary(2L, zdt(2025, 5, 20, 11, 0), zdt(2025, 5, 20, 12, 0));
+        EventSummaryView occurrence = second.toOccurrence(zdt(2025, 5, 21, 11, 0), zdt(2025, 5, 21, 12, 0));
+        when(eventBO.getDayIds(List.of(first))).thenReturn(Map.of(1L, List.of(DAY_20)));
+        when(eventBO.getDayIds(List.of(second))).thenReturn(Map.of());
+
+        assertEquals(Map.of(1L, List.of(DAY_20)), cache.getDayIds(List.of(first)));
+        assertEquals(Map.of(1L, List.of(DAY_20)), cache.getDayIds(List.of(first, second, occurrence)));
+        assertEquals(Map.of(1L, List.of(DAY_20)), cache.getDayIds(List.of(first, second)));
+
+        verify(eventBO).getDayIds(List.of(first));
+        verify(eventBO).getDayIds(List.of(second));
+    }
+
+    @Test
+    void getByDayId_isCachedByUserAndDate() {
+        stubDay(DAY_20, LocalDate.of(2025, 5, 20), user);
+
+        cache.getByDayId(DAY_20);
+        cache.getByDayId(DAY_20);
+
+        verify(dayService, times(1)).getDayById(DAY_20);
+        verify(eventBO, times(1)).getByDayId(DAY_20);
+    }
+
+    @Test
+    void getByCreatorAndDate_sharesEntriesWithGetByDayId() {
+        stubDay(DAY_20, LocalDate.of(2025, 5, 20), user);
+        cache.getByDayId(DAY_20);
+
+        cache.getByCreatorAndDate(TestConstants.USER_ID_1, LocalDate.of(2025, 5, 20));
+
+        verify(eventBO, never()).getByCreatorAndDate(any(), any());
+        assertEquals(1, cache.stats().get("dayEvents").hits());
+    }
+
+    @Test
+    void getByDayId_returnsEmptyForUnknownDay() {
+        when(dayService.getDayById(DAY_20)).thenReturn(Optional.empty());
+
+        assertTrue(cache.getByDayId(DAY_20).isEmpty());
+        verify(eventBO, never()).getByDayId(any());
+    }
+
+    @Test
+    void onEventChange_evictsOnlyTheDaysSpannedBeforeAndAfter() {
+        stubDay(DAY_20, LocalDate.of(2025, 5, 20), user);
+        stubDay(DAY_22, LocalDate.of(2025, 5, 22), user);
+        Long otherUsersDay = 30L;
+        stubDay(otherUsersDay, LocalDate.of(2025, 5, 20), TestUtils.createUserWithId(TestConstants.USER_ID_2));
+        cache.getByDayId(DAY_20);
+        cache.getByDayId(DAY_22);
+        cache.getByDayId(otherUsersDay);
+
+        // Moved from the 19th to the 20th; the 22nd and the other user's 20th are untouched
+        cache.onEventChange(EventChange.updated(
+                snapshot(TestConstants.USER_ID_1, zdt(2025, 5, 19, 9, 0), zdt(2025, 5, 19, 10, 0), false),
+                snapshot(TestConstants.USER_ID_1, zdt(2025, 5, 20, 9, 0), zdt(2025, 5, 20, 10, 0), false)));
+        cache.getByDayId(DAY_20);
+        cache.getByDayId(DAY_22);
+        cache.getByDayId(otherUsersDay);
+
+        verify(eventBO, times(2)).getByDayId(DAY_20);
+        verify(eventBO, times(1)).getByDayId(DAY_22);
+        verify(eventBO, times(1)).getByDayId(otherUsersDay);
+    }
+
+    @Test
+    void onEventChange_dropsResolvedDayIds_soDeletedDaysAreNotServed() {
+        stubDay(DAY_20, LocalDate.of(2025, 5, 20), user);
+        stubDay(DAY_22, LocalDate.of(2025, 5, 22), user);
+        cache.getByDayId(DAY_20);
+        cache.getByDayId(DAY_22);
+
+        // The only event of the 20th is deleted along with its day
+        cache.onEventChange(EventChange.deleted(
+                snapshot(TestConstants.USER_ID_1, zdt(2025, 5, 20, 9, 0), zdt(2025, 5, 20, 10, 0), false)));
+        when(dayService.getDayById(DAY_20)).thenReturn(Optional.empty());
+
+        assertTrue(cache.getByDayId(DAY_20).isEmpty());
+        assertNull(cache.getDayOwnerId(DAY_20));
+        cache.getByDayId(DAY_22);
+        verify(dayService, times(1)).getDayById(DAY_22);
+    }
+
+    @Test
+    void onEventChange_recurringEvent_evictsAllLaterDaysOfItsCreator() {
+        stubDay(DAY_20, LocalDate.of(2025, 5, 20), user);
+        stubDay(DAY_22, LocalDate.of(2025, 5, 22), user);
+        cache.getByDayId(DAY_20);
+        cache.getByDayId(DAY_22);
+
+        cache.onEventChange(EventChange.created(
+                snapshot(TestConstants.USER_ID_1, zdt(2025, 5, 21, 9, 0), zdt(2025, 5, 21, 10, 0), true)));
+        cache.getByDayId(DAY_20);
+        cache.getByDayId(DAY_22);
+
+        verify(eventBO, times(1)).getByDayId(DAY_20);
+        verify(eventBO, times(2)).getByDayId(DAY_22);
+    }
+
+    @Test
+    void onEventChange_evictsDateViewsOverlappingTheEvent() {
+        LocalDate may20 = LocalDate.of(2025, 5, 20);
+        LocalDate may21 = LocalDate.of(2025, 5, 21);
+        when(eventBO.getEventsByDate(any(), any())).thenReturn(List.of());
+        cache.getEventsByDate(may20, ZoneOffset.UTC);
+        cache.getEventsByDate(may21, ZoneOffset.UTC);
+
+        cache.onEventChange(EventChange.created(
+                snapshot(TestConstants.USER_ID_2, zdt(2025, 5, 20, 22, 0), zdt(2025, 5, 20, 23, 0), false)));
+        cache.getEventsByDate(may20, ZoneOffset.UTC);
+        cache.getEventsByDate(may21, ZoneOffset.UTC);
+
+        verify(eventBO, times(2)).getEventsByDate(may20, ZoneOffset.UTC);
+        verify(eventBO, times(1)).getEventsByDate(may21, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,213 @@
+package com.yohan.event_planner.business.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringCacheTest {
+
+    private long now;
+    private AtomicInteger loads;
+    private ExpiringCache<Integer, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        loads = new AtomicInteger();
+        cache = new ExpiringCache<>(2, Duration.ofSeconds(10), () -> now);
+    }
+
+    private String load(Integer key) {
+        loads.incrementAndGet();
+        return "v" + key;
+    }
+
+    @Test
+    void get_loadsOnce_andCountsHitsAndMisses() {
+        assertEquals("v1", cache.get(1, this::load));
+        assertEquals("v1", cache.get(1, this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(new ExpiringCache.CacheStats(1, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    void get_reloadsAfterTtl() {
+        cache.get(1, this::load);
+        now += Duration.ofSeconds(10).toNanos();
+
+        cache.get(1, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(new ExpiringCache.CacheStats(0, 2, 1, 1), cache.stats());
+    }
+
+    @Test
+    void get_evictsLeastRecentlyUsed_whenFull() {
+        // Recency is judged by access time, so every access happens at a later instant
+        cache.get(1, this::load);
+        now++;
+        cache.get(2, this::load);
+        now++;
+        cache.get(1, this::load);
+        now++;
+
+        cache.get(3, this::load);
+        now++;
+        cache.get(1, this::load);
+        now++;
+        cache.get(2, this::load);
+
+        // 2 was evicted by 3, then 3 by 2; 1 stayed cached throughout
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.stats().evictions());
+    }
+
+    @Test
+    void get_servesHitsWhileAnInvalidationHoldsTheLock() throws Exception {
+        cache.get(1, this::load);
+        CountDownLatch invalidating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread invalidator = new Thread(() -> cache.invalidateIf(key -> {
+            invalidating.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }));
+        invalidator.start();
+        try {
+            assertTrue(invalidating.await(5, TimeUnit.SECONDS));
+
+            assertEquals("v1", assertTimeoutPreemptively(Duration.ofSeconds(5), () -> cache.get(1, this::load)));
+        } finally {
+            release.countDown();
+            invalidator.join();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getIfPresent_returnsCachedValueWithoutLoadingOrCounting() {
+        assertNull(cache.getIfPresent(1));
+        cache.get(1, this::load);
+
+        assertEquals("v1", cache.getIfPresent(1));
+        now += Duration.ofSeconds(10).toNanos();
+        assertNull(cache.getIfPresent(1));
+
+        assertEquals(1, loads.get());
+        assertEquals(new ExpiringCache.CacheStats(0, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    void get_doesNotCacheNull() {
+        assertNull(cache.get(1, key -> null));
+
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void get_doesNotStoreLoadOverlappingInvalidation() {
+        String value = cache.get(1, key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertEquals("stale", value);
+        assertEquals("v1", cache.get(1, this::load));
+    }
+
+    @Test
+    void get_storesLoadOverlappingInvalidationOfAnotherKey() {
+        cache.get(2, this::load);
+
+        cache.get(1, key -> {
+            cache.invalidate(2);
+            return load(key);
+        });
+
+        assertEquals("v1", cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+    }
+
+    @Test
+    void get_storesLaterLoad_afterFailedLoadOverlappedInvalidation() {
+        assertThrows(IllegalStateException.class, () -> cache.get(1, key -> {
+            cache.invalidate(key);
+            throw new IllegalStateException("load failed");
+        }));
+
+        cache.get(1, this::load);
+
+        assertEquals("v1", cache.getIfPresent(1));
+    }
+
+    @Test
+    void getAll_storesOnlyKeysNotInvalidatedDuringLoad() {
+        Map<Integer, String> values = cache.getAll(List.of(1, 2), missing -> {
+            cache.invalidate(2);
+            return missing.stream().collect(Collectors.toMap(key -> key, this::load));
+        });
+
+        assertEquals(Map.of(1, "v1", 2, "v2"), values);
+        assertEquals("v1", cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+    }
+
+    @Test
+    void invalidateIf_removesMatchingKeys() {
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+
+        cache.invalidateIf(key -> key % 2 == 0);
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void invalidateIfValue_removesEntriesHoldingMatchingValues() {
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+
+        cache.invalidateIfValue("v2"::equals);
+
+        assertEquals("v1", cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+    }
+
+    @Test
+    void getAll_loadsOnlyMissingKeys_inOneCall() {
+        cache.get(1, this::load);
+        AtomicInteger calls = new AtomicInteger();
+
+        Map<Integer, String> values = cache.getAll(List.of(1, 2), missing -> {
+            calls.incrementAndGet();
+            assertEquals(List.of(2), List.copyOf(missing));
+            return missing.stream().collect(Collectors.toMap(key -> key, this::load));
+        });
+
+        assertEquals(Map.of(1, "v1", 2, "v2"), values);
+        assertEquals(1, calls.get());
+        assertEquals("v2", cache.get(2, key -> fail("should be cached")));
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<>(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<>(1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,112 @@
+package com.yohan.event_planner.business.change;
+
+import com.yohan.event_planner.util.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarVersionsTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+
+    private MutableClock clock;
+    private CalendarVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-05-20T09:00:00Z"));
+        versions = new CalendarVersions(WINDOW, clock);
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @Test
+    void getVersion_startsAtZero() {
+        assertEquals(0, versions.getVersion(TestConstants.USER_ID_1));
+        assertEquals(0, versions.getGlobalVersion());
+    }
+
+    @Test
+    void bump_changesOnlyThatUsersTag_andTheGlobalTag() {
+        String user1 = versions.getETag(TestConstants.USER_ID_1);
+        String user2 = versions.getETag(TestConstants.USER_ID_2);
+        String global = versions.getGlobalETag();
+
+        versions.bump(TestConstants.USER_ID_1);
+
+        assertNotEquals(user1, versions.getETag(TestConstants.USER_ID_1));
+        assertEquals(user2, versions.getETag(TestConstants.USER_ID_2));
+        assertNotEquals(global, versions.getGlobalETag());
+    }
+
+    @Test
+    void getETag_isQuotedAndStableBetweenChanges() {
+        String tag = versions.getETag(TestConstants.USER_ID_1);
+
+        assertTrue(tag.startsWith("\"") && tag.endsWith("\""));
+        assertEquals(tag, versions.getETag(TestConstants.USER_ID_1));
+        assertNotEquals(tag, versions.getETag(TestConstants.USER_ID_2));
+    }
+
+    @Test
+    void onEventChange_bumpsCreatorsVersion() {
+        EventSnapshot snapshot = new EventSnapshot(TestConstants.EVENT_ID_1, TestConstants.USER_ID_2,
+                TestConstants.EVENT_WORKOUT, null, zdt(2025, 5, 20, 9, 0), zdt(2025, 5, 20, 10, 0), false);
+
+        versions.onEventChange(EventChange.created(snapshot));
+
+        assertEquals(1, versions.getVersion(TestConstants.USER_ID_2));
+        assertEquals(0, versions.getVersion(TestConstants.USER_ID_1));
+        assertEquals(1, versions.getGlobalVersion());
+    }
+
+    @Test
+    void getETag_changesOnceTheWindowPasses_soOtherInstancesWritesAreNotMaskedForever() {
+        String tag = versions.getETag(TestConstants.USER_ID_1);
+        String global = versions.getGlobalETag();
+
+        clock.advance(WINDOW.minusSeconds(1));
+        assertEquals(tag, versions.getETag(TestConstants.USER_ID_1));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertNotEquals(tag, versions.getETag(TestConstants.USER_ID_1));
+        assertNotEquals(global, versions.getGlobalETag());
+    }
+}
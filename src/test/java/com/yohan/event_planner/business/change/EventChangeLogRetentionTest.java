@@ -0,0 +1,74 @@
+package com.yohan.event_planner.business.change;
+
+import com.yohan.event_planner.repository.EventChangeLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventChangeLogRetentionTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-30T12:00:00Z");
+    private static final ZonedDateTime CUTOFF = ZonedDateTime.parse("2025-05-31T12:00:00Z");
+
+    @Mock
+    private EventChangeLogRepository changeLogRepository;
+
+    private EventChangeLogRetention retention;
+
+    @BeforeEach
+    void setUp() {
+        retention = new EventChangeLogRetention(changeLogRepository, Duration.ofDays(30),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        retention.shutdown();
+    }
+
+    @Test
+    void prune_deletesEntriesBeforeFirstOneWithinRetention() {
+        when(changeLogRepository.findFirstIdChangedSince(CUTOFF)).thenReturn(40L);
+        when(changeLogRepository.deleteByIdLessThan(40L)).thenReturn(39);
+
+        assertEquals(39, retention.prune());
+        verify(changeLogRepository, never()).findLatestId();
+    }
+
+    @Test
+    void prune_keepsLatestEntry_whenEveryEntryIsExpired() {
+        when(changeLogRepository.findFirstIdChangedSince(CUTOFF)).thenReturn(null);
+        when(changeLogRepository.findLatestId()).thenReturn(90L);
+        when(changeLogRepository.deleteByIdLessThan(90L)).thenReturn(89);
+
+        assertEquals(89, retention.prune());
+    }
+
+    @Test
+    void prune_deletesNothing_whenLogIsEmpty() {
+        when(changeLogRepository.findFirstIdChangedSince(CUTOFF)).thenReturn(null);
+        when(changeLogRepository.findLatestId()).thenReturn(null);
+
+        assertEquals(0, retention.prune());
+        verify(changeLogRepository, never()).deleteByIdLessThan(any());
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveRetention() {
+        assertThrows(IllegalArgumentException.class, () -> new EventChangeLogRetention(changeLogRepository,
+                Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC)));
+    }
+}
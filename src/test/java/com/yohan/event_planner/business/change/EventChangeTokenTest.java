@@ -0,0 +1,30 @@
+package com.yohan.event_planner.business.change;
+
+import com.yohan.event_planner.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventChangeTokenTest {
+
+    @Test
+    void decode_shouldRoundTripEncodedToken() {
+        EventChangeToken token = new EventChangeToken(4242L);
+
+        assertEquals(token, EventChangeToken.decode(token.encode()));
+        assertEquals(EventChangeToken.START, EventChangeToken.decode(EventChangeToken.START.encode()));
+    }
+
+    @Test
+    void encode_shouldProduceUrlSafeToken() {
+        assertTrue(new EventChangeToken(Long.MAX_VALUE).encode().matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void decode_shouldRejectMalformedTokens() {
+        assertThrows(InvalidCursorException.class, () -> EventChangeToken.decode("not a token!"));
+        // "42" and "c:-1"
+        assertThrows(InvalidCursorException.class, () -> EventChangeToken.decode("NDI"));
+        assertThrows(InvalidCursorException.class, () -> EventChangeToken.decode("YzotMQ"));
+    }
+}
@@ -5,11 +5,15 @@ import static com.yohan.event_planner.util.TestUtils.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.yohan.event_planner.business.recurrence.EventSchedule;
 import com.yohan.event_planner.dto.EventUpdateDTO;
+import com.yohan.event_planner.dto.RecurrenceRuleDTO;
 import com.yohan.event_planner.exception.ConflictException;
 import com.yohan.event_planner.exception.InvalidTimeException;
 import com.yohan.event_planner.domain.Day;
 import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurrenceFrequency;
+import com.yohan.event_planner.domain.RecurrenceRule;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.validation.EventValidator;
 import com.yohan.event_planner.service.DayService;
@@ -85,7 +89,7 @@ class EventPatchHandlerTest {
                 creator)).thenReturn(days);
 
         doNothing().when(eventValidator).validateStartBeforeEnd(any(), any());
-        doNothing().when(eventValidator).validateNoConflicts(any(), any(), any(), any());
+        doNothing().when(eventValidator).validateNoOverlappingEvents(any(), any(), any(), any());
 
         EventPatchHandler.PatchResult result = EventPatchHandler.applyPatch(
                 existingEvent, dto, eventValidator, dayService, creator);
@@ -102,7 +106,7 @@ class EventPatchHandlerTest {
 
         // Verify validator calls
         verify(eventValidator).validateStartBeforeEnd(eq(expectedStartUtc), eq(expectedEndUtc));
-        verify(eventValidator).validateNoConflicts(eq(expectedStartUtc), eq(expectedEndUtc), eq(existingEvent.getId()), eq(day1));
+        verify(eventValidator).validateNoOverlappingEvents(eq(creator.getId()), eq(expectedStartUtc), eq(expectedEndUtc), eq(existingEvent.getId()));
         verify(dayService).getOrCreateAllDaysBetween(
                 eq(expectedStartUtc.toLocalDate()),
                 eq(expectedEndUtc.toLocalDate()),
@@ -127,7 +131,7 @@ class EventPatchHandlerTest {
                 creator)).thenReturn(days);
 
         doNothing().when(eventValidator).validateStartBeforeEnd(any(), any());
-        doNothing().when(eventValidator).validateNoConflicts(any(), any(), any(), any());
+        doNothing().when(eventValidator).validateNoOverlappingEvents(any(), any(), any(), any());
 
         EventPatchHandler.PatchResult result = EventPatchHandler.applyPatch(existingEvent, dto, eventValidator, dayService, creator);
 
@@ -138,7 +142,7 @@ class EventPatchHandlerTest {
 
         // Verify validator called
         verify(eventValidator).validateStartBeforeEnd(any(), any());
-        verify(eventValidator).validateNoConflicts(any(), any(), any(), any());
+        verify(eventValidator).validateNoOverlappingEvents(any(), any(), any(), any());
         verify(dayService).getOrCreateAllDaysBetween(any(), any(), any());
     }
 
@@ -179,19 +183,60 @@ class EventPatchHandlerTest {
         ZonedDateTime newEnd = MAY_20_2025_2PM;
         EventUpdateDTO dto = createEventUpdateDTO(null, null, newStart, newEnd);
 
-        Day day1 = createDayWithDate(newStart.toLocalDate(), creator);
-        Set<Day> days = Collections.singleton(day1);
-        when(dayService.getOrCreateAllDaysBetween(any(), any(), any())).thenReturn(days);
-
         doNothing().when(eventValidator).validateStartBeforeEnd(any(), any());
-        doThrow(new ConflictException(existingEvent)).when(eventValidator).validateNoConflicts(any(), any(), any(), eq(day1));
+        doThrow(new ConflictException(existingEvent)).when(eventValidator)
+                .validateNoOverlappingEvents(any(), any(), any(), eq(existingEvent.getId()));
 
         ConflictException ex = assertThrows(ConflictException.class, () ->
                 EventPatchHandler.applyPatch(existingEvent, dto, eventValidator, dayService, creator));
 
+        // Conflicts are detected before any Day rows are fetched or created
+        verifyNoInteractions(dayService);
+
         assertTrue(ex.getMessage().contains("Workout"));
         assertTrue(ex.getMessage().contains("2025-05-20 09:00:00 UTC"));
         assertTrue(ex.getMessage().contains("2025-05-20 11:00:00 UTC"));
     }
 
+
+    @Test
+    void applyPatch_updatesRecurrenceOnly_validatesSeriesWithoutTouchingDays() {
+        RecurrenceRuleDTO recurrence = new RecurrenceRuleDTO(RecurrenceFrequency.WEEKLY, 1, null, null, 4, null);
+        EventUpdateDTO dto = new EventUpdateDTO(null, null, null, null, recurrence);
+        RecurrenceRule expectedRule = new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1, null, null, 4, null);
+
+        EventPatchHandler.PatchResult result = EventPatchHandler.applyPatch(existingEvent, dto, eventValidator, dayService, creator);
+
+        assertTrue(result.isUpdated());
+        assertNull(result.getNewDays());
+        assertEquals(expectedRule, existingEvent.getRecurrence());
+        verify(eventValidator).validateRecurrence(eq(expectedRule), any(), any());
+        verify(eventValidator).validateNoOverlappingOccurrences(eq(creator.getId()), any(EventSchedule.class), eq(EVENT_ID_1));
+        verifyNoInteractions(dayService);
+    }
+
+    @Test
+    void applyPatch_recurrenceConflict_leavesRuleUnchanged() {
+        RecurrenceRuleDTO recurrence = new RecurrenceRuleDTO(RecurrenceFrequency.DAILY, 1, null, null, null, null);
+        EventUpdateDTO dto = new EventUpdateDTO(null, null, null, null, recurrence);
+        doThrow(new ConflictException(EVENT_ID_2, "Other", MAY_20_2025_9AM.plusDays(1), MAY_20_2025_11AM.plusDays(1)))
+                .when(eventValidator).validateNoOverlappingOccurrences(any(), any(), any());
+
+        assertThrows(ConflictException.class,
+                () -> EventPatchHandler.applyPatch(existingEvent, dto, eventValidator, dayService, creator));
+        assertNull(existingEvent.getRecurrence());
+    }
+
+    @Test
+    void applyPatch_timeChangeWithoutDayLinks_returnsEmptyDaysWithoutFetching() {
+        EventUpdateDTO dto = createEventUpdateDTO(null, null, MAY_20_2025_1PM, MAY_20_2025_2PM);
+
+        EventPatchHandler.PatchResult result =
+                EventPatchHandler.applyPatch(existingEvent, dto, eventValidator, dayService, creator, false);
+
+        assertTrue(result.isUpdated());
+        assertEquals(Collections.emptySet(), result.getNewDays());
+        assertEquals(MAY_20_2025_1PM.toInstant(), existingEvent.getStartTime().toInstant());
+        verifyNoInteractions(dayService);
+    }
 }
@@ -0,0 +1,118 @@
+package com.yohan.event_planner.business.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+
+    private IntervalTree<String> tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new IntervalTree<>();
+    }
+
+    @Test
+    void findFirstOverlap_returnsEmpty_whenTreeIsEmpty() {
+        assertTrue(tree.findFirstOverlap(0, 10, null).isEmpty());
+    }
+
+    @Test
+    void findFirstOverlap_returnsOverlappingInterval() {
+        tree.insert(1, 9, 11, "workout");
+        tree.insert(2, 13, 14, "study");
+
+        assertEquals(Optional.of("workout"), tree.findFirstOverlap(10, 12, null));
+        assertEquals(Optional.of("study"), tree.findFirstOverlap(12, 20, null));
+    }
+
+    @Test
+    void findFirstOverlap_treatsTouchingIntervalsAsNonOverlapping() {
+        tree.insert(1, 9, 11, "workout");
+
+        assertTrue(tree.findFirstOverlap(11, 13, null).isEmpty());
+        assertTrue(tree.findFirstOverlap(7, 9, null).isEmpty());
+    }
+
+    @Test
+    void findFirstOverlap_skipsExcludedId() {
+        tree.insert(1, 9, 11, "workout");
+
+        assertTrue(tree.findFirstOverlap(10, 12, 1L).isEmpty());
+    }
+
+    @Test
+    void findFirstOverlap_findsLongIntervalStartingFarBeforeQuery() {
+        tree.insert(1, 0, 1_000, "conference");
+        for (int i = 2; i < 50; i++) {
+            tree.insert(i, i * 10, i * 10 + 5, "short-" + i);
+        }
+
+        assertEquals(Optional.of("conference"), tree.findFirstOverlap(996, 998, null));
+    }
+
+    @Test
+    void insert_replacesIntervalWithSameId() {
+        tree.insert(1, 9, 11, "workout");
+        tree.insert(1, 13, 14, "workout");
+
+        assertEquals(1, tree.size());
+        assertTrue(tree.findFirstOverlap(9, 11, null).isEmpty());
+        assertTrue(tree.findFirstOverlap(13, 14, null).isPresent());
+    }
+
+    @Test
+    void insert_rejectsEmptyInterval() {
+        assertThrows(IllegalArgumentException.class, () -> tree.insert(1, 5, 5, "empty"));
+    }
+
+    @Test
+    void remove_deletesInterval() {
+        tree.insert(1, 9, 11, "workout");
+
+        assertTrue(tree.remove(1));
+        assertFalse(tree.remove(1));
+        assertEquals(0, tree.size());
+        assertTrue(tree.findFirstOverlap(9, 11, null).isEmpty());
+    }
+
+    @Test
+    void findOverlapping_matchesBruteForce() {
+        Random random = new Random(42);
+        List<long[]> intervals = new ArrayList<>();
+        for (int id = 0; id < 500; id++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(300);
+            intervals.add(new long[]{id, start, end});
+            tree.insert(id, start, end, String.valueOf(id));
+        }
+        for (int i = 0; i < 250; i += 2) {
+            tree.remove(i);
+            intervals.set(i, null);
+        }
+
+        for (int q = 0; q < 200; q++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(500);
+
+            List<String> expected = new ArrayList<>();
+            for (long[] interval : intervals) {
+                if (interval != null && interval[1] < end && interval[2] > start) {
+                    expected.add(String.valueOf(interval[0]));
+                }
+            }
+            List<String> actual = tree.findOverlapping(start, end);
+
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+            assertEquals(expected.isEmpty(), tree.findFirstOverlap(start, end, null).isEmpty());
+        }
+    }
+}
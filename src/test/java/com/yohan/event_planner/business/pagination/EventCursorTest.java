@@ -0,0 +1,61 @@
+package com.yohan.event_planner.business.pagination;
+
+import com.yohan.event_planner.exception.InvalidCursorException;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import com.yohan.event_planner.util.TestConstants;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventCursorTest {
+
+    @Test
+    void decode_shouldRoundTripEncodedCursor() {
+        EventCursor cursor = new EventCursor(zdt(2025, 5, 20, 9, 0).plusNanos(123_456_000), 42L);
+
+        EventCursor decoded = EventCursor.decode(cursor.encode());
+
+        assertEquals(cursor.startTime().toInstant(), decoded.startTime().toInstant());
+        assertEquals(42L, decoded.id());
+    }
+
+    @Test
+    void encode_shouldProduceUrlSafeToken() {
+        String token = new EventCursor(zdt(2025, 5, 20, 9, 0), Long.MAX_VALUE).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void after_shouldUseUtcStartAndIdOfEvent() {
+        ZonedDateTime start = ZonedDateTime.of(2025, 5, 20, 11, 0, 0, 0, ZoneId.of("Europe/Berlin"));
+        EventSummaryView event = new EventSummaryView(7L, TestConstants.EVENT_WORKOUT, null, start, start.plusHours(1),
+                start.getZone(), TestConstants.USER_ID_1, null);
+
+        EventCursor cursor = EventCursor.after(event);
+
+        assertEquals(zdt(2025, 5, 20, 9, 0), cursor.startTime());
+        assertEquals(7L, cursor.id());
+    }
+
+    @Test
+    void decode_shouldRejectMalformedTokens() {
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode("not a cursor!"));
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode("YWJj"));
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode("MTox"));
+    }
+
+    @Test
+    void decode_shouldRejectTokensOverflowingInstant() {
+        String raw = Long.MAX_VALUE + ":" + Long.MAX_VALUE + ":1";
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode(token));
+    }
+}
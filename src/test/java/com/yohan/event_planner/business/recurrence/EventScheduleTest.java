@@ -0,0 +1,258 @@
+package com.yohan.event_planner.business.recurrence;
+
+import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurrenceFrequency;
+import com.yohan.event_planner.domain.RecurrenceRule;
+import com.yohan.event_planner.util.TestConstants;
+import com.yohan.event_planner.util.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventScheduleTest {
+
+    // 2025-05-20 is a Tuesday
+    private static final ZonedDateTime TUE_9AM = zdt(2025, 5, 20, 9, 0);
+    private static final ZonedDateTime TUE_10AM = zdt(2025, 5, 20, 10, 0);
+
+    private static RecurrenceRule rule(RecurrenceFrequency frequency, Integer interval, Set<DayOfWeek> byDays,
+                                       LocalDate until, Integer count, Set<LocalDate> exceptions) {
+        return new RecurrenceRule(frequency, interval, byDays, until, count, exceptions);
+    }
+
+    // --- occurrencesBetween tests ---
+
+    @Test
+    void occurrencesBetween_shouldExpandDailyRule() {
+        EventSchedule schedule = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.DAILY, 2, null, null, null, null));
+
+        List<EventSchedule.Occurrence> occurrences =
+                schedule.occurrencesBetween(TUE_9AM, zdt(2025, 5, 27, 0, 0));
+
+        assertEquals(List.of(zdt(2025, 5, 20, 9, 0), zdt(2025, 5, 22, 9, 0), zdt(2025, 5, 24, 9, 0),
+                        zdt(2025, 5, 26, 9, 0)),
+                occurrences.stream().map(EventSchedule.Occurrence::start).toList());
+        assertEquals(zdt(2025, 5, 22, 10, 0), occurrences.get(1).end());
+    }
+
+    @Test
+    void occurrencesBetween_shouldExpandWeeklyRuleOnGivenDays_andSkipExceptions() {
+        EventSchedule schedule = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.WEEKLY, 1, Set.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY), null, null,
+                        Set.of(LocalDate.of(2025, 5, 27))));
+
+        List<ZonedDateTime> starts = schedule.occurrencesBetween(TUE_9AM, zdt(2025, 6, 1, 0, 0)).stream()
+                .map(EventSchedule.Occurrence::start)
+                .toList();
+
+        assertEquals(List.of(zdt(2025, 5, 20, 9, 0), zdt(2025, 5, 22, 9, 0), zdt(2025, 5, 29, 9, 0)), starts);
+    }
+
+    @Test
+    void occurrencesBetween_shouldSkipMonthsWithoutTheDayOfMonth() {
+        ZonedDateTime start = zdt(2025, 1, 31, 9, 0);
+        EventSchedule schedule = EventSchedule.of(start, start.plusHours(1),
+                rule(RecurrenceFrequency.MONTHLY, 1, null, null, null, null));
+
+        List<LocalDate> dates = schedule.occurrencesBetween(start, zdt(2025, 6, 1, 0, 0)).stream()
+                .map(o -> o.start().toLocalDate())
+                .toList();
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 3, 31), LocalDate.of(2025, 5, 31)), dates);
+    }
+
+    @Test
+    void occurrencesBetween_shouldIncludeOccurrenceStartingBeforeWindow() {
+        EventSchedule schedule = EventSchedule.of(zdt(2025, 5, 20, 23, 0), zdt(2025, 5, 21, 1, 0),
+                rule(RecurrenceFrequency.DAILY, 1, null, null, null, null));
+
+        List<EventSchedule.Occurrence> occurrences =
+                schedule.occurrencesBetween(zdt(2025, 5, 22, 0, 0), zdt(2025, 5, 23, 0, 0));
+
+        assertEquals(List.of(zdt(2025, 5, 21, 23, 0), zdt(2025, 5, 22, 23, 0)),
+                occurrences.stream().map(EventSchedule.Occurrence::start).toList());
+    }
+
+    @Test
+    void occurrencesBetween_shouldKeepLocalTimeAcrossDaylightSavingChange() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        ZonedDateTime start = ZonedDateTime.of(2025, 3, 8, 9, 0, 0, 0, newYork);
+        EventSchedule schedule = EventSchedule.of(start, start.plusHours(1),
+                rule(RecurrenceFrequency.DAILY, 1, null, null, 2, null));
+
+        List<ZonedDateTime> starts = schedule.occurrencesBetween(start, start.plusDays(5)).stream()
+                .map(EventSchedule.Occurrence::start)
+                .toList();
+
+        assertEquals(List.of(zdt(2025, 3, 8, 14, 0), zdt(2025, 3, 9, 13, 0)), starts);
+    }
+
+    // --- getSeriesEndUtc tests ---
+
+    @Test
+    void getSeriesEndUtc_shouldUseCountIgnoringExceptions() {
+        EventSchedule schedule = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.DAILY, 1, null, null, 3, Set.of(LocalDate.of(2025, 5, 21))));
+
+        assertEquals(Optional.of(zdt(2025, 5, 22, 10, 0)), schedule.getSeriesEndUtc());
+    }
+
+    @Test
+    void getSeriesEndUtc_shouldUseLastOccurrenceOnOrBeforeUntil() {
+        EventSchedule schedule = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.WEEKLY, 1, null, LocalDate.of(2025, 6, 2), null, null));
+
+        assertEquals(Optional.of(zdt(2025, 5, 27, 10, 0)), schedule.getSeriesEndUtc());
+    }
+
+    @Test
+    void getSeriesEndUtc_shouldFindLastOccurrence_whenOccurrencesAreYearsApart() {
+        EventSchedule schedule = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.MONTHLY, 60, null, LocalDate.of(2040, 1, 1), null, null));
+
+        assertEquals(Optional.of(zdt(2035, 5, 20, 10, 0)), schedule.getSeriesEndUtc());
+        assertEquals(List.of(zdt(2035, 5, 20, 9, 0)),
+                schedule.occurrencesBetween(zdt(2035, 1, 1, 0, 0), zdt(2036, 1, 1, 0, 0)).stream()
+                        .map(EventSchedule.Occurrence::start)
+                        .toList());
+    }
+
+    @Test
+    void getSeriesEndUtc_shouldUseLastMatchingDayOfLastWeek_whenUntilFallsMidWeek() {
+        // Every other week on Tuesday and Thursday; the last week's Thursday is after 'until'
+        EventSchedule schedule = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.WEEKLY, 2, Set.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY),
+                        LocalDate.of(2025, 6, 4), null, null));
+
+        assertEquals(Optional.of(zdt(2025, 6, 3, 10, 0)), schedule.getSeriesEndUtc());
+    }
+
+    @Test
+    void getSeriesEndUtc_shouldBeEmpty_whenSeriesIsUnbounded() {
+        EventSchedule schedule = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.WEEKLY, 1, null, null, null, null));
+
+        assertTrue(schedule.getSeriesEndUtc().isEmpty());
+    }
+
+    @Test
+    void getSeriesEndUtc_shouldBeFirstEnd_whenNotRecurring() {
+        EventSchedule schedule = EventSchedule.single(TUE_9AM, TUE_10AM);
+
+        assertFalse(schedule.isRecurring());
+        assertEquals(Optional.of(TUE_10AM), schedule.getSeriesEndUtc());
+    }
+
+    // --- firstOccurrenceBetween / occursOn tests ---
+
+    @Test
+    void firstOccurrenceBetween_shouldFindOccurrenceFarInTheFuture() {
+        EventSchedule schedule = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.WEEKLY, 1, null, null, null, null));
+
+        Optional<EventSchedule.Occurrence> occurrence =
+                schedule.firstOccurrenceBetween(zdt(2030, 5, 21, 9, 30), zdt(2030, 5, 21, 9, 45));
+
+        assertEquals(Optional.of(new EventSchedule.Occurrence(zdt(2030, 5, 21, 9, 0), zdt(2030, 5, 21, 10, 0))),
+                occurrence);
+    }
+
+    @Test
+    void firstOccurrenceBetween_shouldTreatTouchingIntervalsAsFree() {
+        EventSchedule schedule = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.DAILY, 1, null, null, null, null));
+
+        assertTrue(schedule.firstOccurrenceBetween(zdt(2025, 5, 25, 10, 0), zdt(2025, 5, 26, 9, 0)).isEmpty());
+    }
+
+    @Test
+    void occursOn_shouldRespectPatternBoundsAndExceptions() {
+        EventSchedule schedule = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.WEEKLY, 2, null, null, 3, Set.of(LocalDate.of(2025, 6, 3))));
+
+        assertTrue(schedule.occursOn(LocalDate.of(2025, 5, 20)));
+        assertFalse(schedule.occursOn(LocalDate.of(2025, 5, 27)));
+        assertFalse(schedule.occursOn(LocalDate.of(2025, 6, 3)));
+        assertTrue(schedule.occursOn(LocalDate.of(2025, 6, 17)));
+        assertFalse(schedule.occursOn(LocalDate.of(2025, 7, 1)));
+    }
+
+    // --- firstOverlap tests ---
+
+    @Test
+    void firstOverlap_shouldFindSharedDateOfTwoWeeklyRules() {
+        EventSchedule everyOtherTuesday = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.WEEKLY, 2, null, null, null, Set.of(LocalDate.of(2025, 6, 3))));
+        ZonedDateTime thursday = zdt(2025, 5, 22, 9, 30);
+        EventSchedule tuesdaysAndThursdays = EventSchedule.of(thursday, thursday.plusHours(1),
+                rule(RecurrenceFrequency.WEEKLY, 1, Set.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY), null, null, null));
+
+        Optional<EventSchedule.Occurrence> overlap = everyOtherTuesday.firstOverlap(tuesdaysAndThursdays);
+
+        // 2025-05-27 is an off week of the first rule and 2025-06-03 one of its exceptions
+        assertEquals(Optional.of(new EventSchedule.Occurrence(zdt(2025, 6, 17, 9, 30), zdt(2025, 6, 17, 10, 30))),
+                overlap);
+    }
+
+    @Test
+    void firstOverlap_shouldBeEmpty_whenRulesNeverShareADate() {
+        EventSchedule evenDays = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.DAILY, 2, null, null, null, null));
+        ZonedDateTime nextDay = zdt(2025, 5, 21, 9, 0);
+        EventSchedule oddDays = EventSchedule.of(nextDay, nextDay.plusHours(1),
+                rule(RecurrenceFrequency.DAILY, 2, null, null, null, null));
+
+        assertTrue(evenDays.firstOverlap(oddDays).isEmpty());
+    }
+
+    @Test
+    void firstOverlap_shouldIgnoreExceptionsBeyondComparisonHorizon() {
+        EventSchedule evenDays = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.DAILY, 2, null, null, null, Set.of(LocalDate.of(9000, 1, 1))));
+        ZonedDateTime nextDay = zdt(2025, 5, 21, 9, 0);
+        EventSchedule oddDays = EventSchedule.of(nextDay, nextDay.plusHours(1),
+                rule(RecurrenceFrequency.DAILY, 2, null, null, null, null));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertTrue(evenDays.firstOverlap(oddDays).isEmpty()));
+    }
+
+    @Test
+    void firstOverlap_shouldCompareRecurringRuleWithSingleEvent() {
+        EventSchedule daily = EventSchedule.of(TUE_9AM, TUE_10AM,
+                rule(RecurrenceFrequency.DAILY, 1, null, null, null, null));
+        EventSchedule single = EventSchedule.single(zdt(2026, 1, 5, 9, 45), zdt(2026, 1, 5, 11, 0));
+
+        assertEquals(Optional.of(new EventSchedule.Occurrence(zdt(2026, 1, 5, 9, 45), zdt(2026, 1, 5, 11, 0))),
+                daily.firstOverlap(single));
+        assertTrue(daily.firstOverlap(EventSchedule.single(zdt(2025, 5, 19, 9, 0), zdt(2025, 5, 19, 10, 0)))
+                .isEmpty());
+    }
+
+    // --- of(Event) tests ---
+
+    @Test
+    void of_shouldUseEventTimezoneForLocalRecurrence() {
+        Event event = TestUtils.createEventWithId(TestConstants.EVENT_ID_1, TestConstants.EVENT_WORKOUT,
+                zdt(2025, 3, 8, 14, 0), zdt(2025, 3, 8, 15, 0), TestConstants.TEST_USER);
+        event.setTimezone(ZoneId.of("America/New_York"));
+        event.setRecurrence(rule(RecurrenceFrequency.DAILY, 1, null, null, null, null));
+
+        EventSchedule schedule = EventSchedule.of(event);
+
+        assertEquals(zdt(2025, 3, 9, 13, 0),
+                schedule.occurrencesBetween(zdt(2025, 3, 9, 0, 0), zdt(2025, 3, 10, 0, 0)).get(0).start());
+        assertEquals(ZoneOffset.UTC, schedule.getFirstStartUtc().getZone());
+    }
+}
@@ -0,0 +1,120 @@
+package com.yohan.event_planner.business.search;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.change.EventChange;
+import com.yohan.event_planner.business.change.EventSnapshot;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import com.yohan.event_planner.util.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventNameIndexTest {
+
+    private static final Long USER = TestConstants.USER_ID_1;
+
+    @Mock private EventBO eventBO;
+
+    private EventNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventNameIndex(eventBO, 10, Duration.ofMinutes(5));
+    }
+
+    private static EventSummaryView summary(Long id, String name, ZonedDateTime start) {
+        return new EventSummaryView(id, name, null, start, start.plusHours(1), ZoneOffset.UTC, USER, null);
+    }
+
+    private static EventSnapshot snapshot(Long id, String name, ZonedDateTime start) {
+        return new EventSnapshot(id, USER, name, null, start, start.plusHours(1), false);
+    }
+
+    @Test
+    void key_foldsCaseAccentsAndWhitespace() {
+        assertEquals("cafe ", EventNameIndex.key("  CAFÉ \t "));
+        assertEquals("team sync", EventNameIndex.key("Team   sync"));
+    }
+
+    @Test
+    void suggest_returnsDistinctNamesByFrequencyThenRecency() {
+        when(eventBO.getSummariesByCreatorId(USER)).thenReturn(List.of(
+                summary(1L, "Team sync", zdt(2025, 5, 1, 9, 0)),
+                summary(2L, "team  SYNC", zdt(2025, 5, 8, 9, 0)),
+                summary(3L, "Team lunch", zdt(2025, 5, 20, 12, 0)),
+                summary(4L, "Teeth cleaning", zdt(2025, 5, 2, 9, 0)),
+                summary(5L, "Gym", zdt(2025, 5, 3, 9, 0))));
+
+        assertEquals(List.of("team  SYNC", "Team lunch", "Teeth cleaning"), index.suggest(USER, "te", 10));
+        assertEquals(List.of("team  SYNC", "Team lunch"), index.suggest(USER, "tÉam ", 10));
+        assertEquals(List.of("team  SYNC"), index.suggest(USER, "t", 1));
+        assertEquals(List.of(), index.suggest(USER, "x", 10));
+    }
+
+    @Test
+    void suggest_withEmptyPrefix_returnsTopNames() {
+        when(eventBO.getSummariesByCreatorId(USER)).thenReturn(List.of(
+                summary(1L, "Gym", zdt(2025, 5, 1, 9, 0)),
+                summary(2L, "Gym", zdt(2025, 5, 2, 9, 0)),
+                summary(3L, "Lunch", zdt(2025, 5, 3, 9, 0))));
+
+        assertEquals(List.of("Gym", "Lunch"), index.suggest(USER, "", 10));
+    }
+
+    @Test
+    void onEventChange_tracksCreatesRenamesAndDeletes() {
+        ZonedDateTime start = zdt(2025, 5, 20, 9, 0);
+        when(eventBO.getSummariesByCreatorId(USER)).thenReturn(List.of(summary(1L, "Gym", start)));
+        index.suggest(USER, "", 10);
+
+        index.onEventChange(EventChange.created(snapshot(2L, "Golf", start.plusDays(1))));
+        assertEquals(List.of("Golf", "Gym"), index.suggest(USER, "g", 10));
+
+        index.onEventChange(EventChange.updated(snapshot(1L, "Gym", start), snapshot(1L, "Golf", start)));
+        assertEquals(List.of("Golf"), index.suggest(USER, "g", 10));
+
+        index.onEventChange(EventChange.deleted(snapshot(2L, "Golf", start.plusDays(1))));
+        index.onEventChange(EventChange.deleted(snapshot(1L, "Golf", start)));
+        assertEquals(List.of(), index.suggest(USER, "g", 10));
+        verify(eventBO, times(1)).getSummariesByCreatorId(USER);
+    }
+
+    @Test
+    void onEventChange_removingLatestEvent_fallsBackToPreviousSpelling() {
+        when(eventBO.getSummariesByCreatorId(USER)).thenReturn(List.of(
+                summary(1L, "Standup", zdt(2025, 5, 1, 9, 0)),
+                summary(2L, "standup", zdt(2025, 5, 2, 9, 0)),
+                summary(3L, "Stretch", zdt(2025, 5, 10, 9, 0)),
+                summary(4L, "Stretch", zdt(2025, 5, 11, 9, 0))));
+        assertEquals(List.of("Stretch", "standup"), index.suggest(USER, "st", 10));
+
+        index.onEventChange(EventChange.deleted(snapshot(2L, "standup", zdt(2025, 5, 2, 9, 0))));
+        index.onEventChange(EventChange.created(snapshot(5L, "Standup", zdt(2025, 4, 1, 9, 0))));
+
+        assertEquals(List.of("Stretch", "Standup"), index.suggest(USER, "st", 10));
+    }
+
+    @Test
+    void onEventChange_discardsBuildOverlappingTheWrite() {
+        ZonedDateTime start = zdt(2025, 5, 20, 9, 0);
+        when(eventBO.getSummariesByCreatorId(USER)).thenAnswer(invocation -> {
+            index.onEventChange(EventChange.created(snapshot(2L, "Golf", start)));
+            return List.of(summary(1L, "Gym", start));
+        }).thenReturn(List.of(summary(1L, "Gym", start), summary(2L, "Golf", start)));
+
+        assertEquals(List.of("Gym"), index.suggest(USER, "g", 10));
+        assertEquals(List.of("Golf", "Gym"), index.suggest(USER, "g", 10));
+    }
+}
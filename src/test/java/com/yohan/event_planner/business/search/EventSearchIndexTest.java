@@ -0,0 +1,138 @@
+package com.yohan.event_planner.business.search;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.change.EventChange;
+import com.yohan.event_planner.business.change.EventSnapshot;
+import com.yohan.event_planner.domain.RecurrenceRule;
+import com.yohan.event_planner.domain.RecurrenceFrequency;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
+import com.yohan.event_planner.util.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventSearchIndexTest {
+
+    private static final Long USER = TestConstants.USER_ID_1;
+
+    @Mock private EventBO eventBO;
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex(eventBO, 10, Duration.ofMinutes(5));
+    }
+
+    private static EventSummaryView summary(Long id, String name, String description, ZonedDateTime start) {
+        return new EventSummaryView(id, name, description, start, start.plusHours(1), ZoneOffset.UTC, USER, null);
+    }
+
+    private static EventSnapshot snapshot(Long id, String name, ZonedDateTime start) {
+        return new EventSnapshot(id, USER, name, null, start, start.plusHours(1), false);
+    }
+
+    private static List<Long> ids(List<EventSearchIndex.Hit> hits) {
+        return hits.stream().map(EventSearchIndex.Hit::eventId).toList();
+    }
+
+    private List<Long> search(String query) {
+        return ids(index.search(USER, query, null, null, 10));
+    }
+
+    @Test
+    void search_matchesEveryTerm_ignoringCaseAndAccents() {
+        when(eventBO.getSummariesByCreatorId(USER)).thenReturn(List.of(
+                summary(1L, "Café meeting", "Budget review", zdt(2025, 5, 20, 9, 0)),
+                summary(2L, "Team meeting", null, zdt(2025, 5, 21, 9, 0)),
+                summary(3L, "Lunch", "at the cafe", zdt(2025, 5, 22, 9, 0))));
+
+        assertEquals(List.of(1L), search("CAFE meeting"));
+        assertEquals(List.of(1L, 3L), search("cafe"));
+        assertEquals(List.of(), search("cafe dentist"));
+    }
+
+    @Test
+    void search_ranksNameMatchesAboveDescriptionMatches_thenLaterEventsFirst() {
+        when(eventBO.getSummariesByCreatorId(USER)).thenReturn(List.of(
+                summary(1L, "Planning", "yoga afterwards", zdt(2025, 5, 20, 9, 0)),
+                summary(2L, "Yoga", null, zdt(2025, 5, 19, 9, 0)),
+                summary(3L, "Yoga", null, zdt(2025, 5, 21, 9, 0))));
+
+        assertEquals(List.of(3L, 2L, 1L), search("yoga"));
+        assertEquals(List.of(3L), ids(index.search(USER, "yoga", null, null, 1)));
+    }
+
+    @Test
+    void search_filtersByRange_keepingSeriesThatStartBeforeIt() {
+        RecurrenceRule weekly = new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1, null, null, null, null);
+        when(eventBO.getSummariesByCreatorId(USER)).thenReturn(List.of(
+                summary(1L, "Gym", null, zdt(2025, 5, 1, 9, 0)),
+                summary(2L, "Gym", null, zdt(2025, 6, 1, 9, 0)),
+                new EventSummaryView(3L, "Gym", null, zdt(2025, 4, 1, 9, 0), zdt(2025, 4, 1, 10, 0),
+                        ZoneOffset.UTC, USER, weekly)));
+
+        List<EventSearchIndex.Hit> hits = index.search(USER, "gym", zdt(2025, 5, 15, 0, 0), zdt(2025, 6, 15, 0, 0), 10);
+
+        assertEquals(List.of(2L, 3L), ids(hits));
+    }
+
+    @Test
+    void search_returnsEmpty_withoutBuilding_whenQueryHasNoTerms() {
+        assertTrue(index.search(USER, " ?! ", null, null, 10).isEmpty());
+        verifyNoInteractions(eventBO);
+    }
+
+    @Test
+    void search_buildsIndexOncePerUser() {
+        when(eventBO.getSummariesByCreatorId(USER)).thenReturn(List.of(
+                summary(1L, "Gym", null, zdt(2025, 5, 1, 9, 0))));
+
+        search("gym");
+        search("other");
+
+        verify(eventBO, times(1)).getSummariesByCreatorId(USER);
+    }
+
+    @Test
+    void onEventChange_appliesWritesToBuiltIndex() {
+        ZonedDateTime start = zdt(2025, 5, 20, 9, 0);
+        when(eventBO.getSummariesByCreatorId(USER)).thenReturn(List.of(summary(1L, "Gym", null, start)));
+        search("gym");
+
+        index.onEventChange(EventChange.created(snapshot(2L, "Gym class", start)));
+        index.onEventChange(EventChange.updated(snapshot(1L, "Gym", start), snapshot(1L, "Swim", start)));
+
+        assertEquals(List.of(2L), search("gym"));
+        assertEquals(List.of(1L), search("swim"));
+
+        index.onEventChange(EventChange.deleted(snapshot(2L, "Gym class", start)));
+
+        assertEquals(List.of(), search("gym"));
+        verify(eventBO, times(1)).getSummariesByCreatorId(USER);
+    }
+
+    @Test
+    void onEventChange_discardsBuildOverlappingTheWrite() {
+        ZonedDateTime start = zdt(2025, 5, 20, 9, 0);
+        when(eventBO.getSummariesByCreatorId(USER)).thenAnswer(invocation -> {
+            index.onEventChange(EventChange.created(snapshot(2L, "Gym", start)));
+            return List.of(summary(1L, "Gym", null, start));
+        }).thenReturn(List.of(summary(1L, "Gym", null, start), summary(2L, "Gym", null, start)));
+
+        assertEquals(List.of(1L), search("gym"));
+        assertEquals(List.of(1L, 2L), search("gym"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.yohan.event_planner.business.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongPostingsTest {
+
+    private static LongPostings of(long... ids) {
+        LongPostings postings = new LongPostings();
+        for (long id : ids) {
+            postings.add(id);
+        }
+        return postings;
+    }
+
+    @Test
+    void add_keepsIdsSortedAndUnique() {
+        LongPostings postings = of(9, 3, 7, 1, 5, 3);
+
+        assertArrayEquals(new long[]{1, 3, 5, 7, 9}, postings.toArray());
+        assertFalse(postings.add(7));
+        assertEquals(5, postings.size());
+    }
+
+    @Test
+    void remove_dropsOnlyPresentIds() {
+        LongPostings postings = of(1, 2, 3);
+
+        assertTrue(postings.remove(2));
+        assertFalse(postings.remove(2));
+        assertArrayEquals(new long[]{1, 3}, postings.toArray());
+    }
+
+    @Test
+    void remove_shrinksBackToEmpty() {
+        LongPostings postings = new LongPostings();
+        for (long id = 0; id < 100; id++) {
+            postings.add(id);
+        }
+        for (long id = 0; id < 100; id++) {
+            assertTrue(postings.remove(id));
+        }
+
+        assertTrue(postings.isEmpty());
+        assertEquals(0, postings.toArray().length);
+    }
+
+    @Test
+    void retainAll_intersectsSortedArrays() {
+        LongPostings postings = of(2, 4, 6, 8, 10);
+
+        assertArrayEquals(new long[]{4, 10}, postings.retainAll(new long[]{1, 4, 5, 10, 11}));
+        assertArrayEquals(new long[0], postings.retainAll(new long[]{1, 3}));
+        assertArrayEquals(new long[0], postings.retainAll(new long[0]));
+    }
+}
@@ -0,0 +1,27 @@
+package com.yohan.event_planner.business.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchTokenizerTest {
+
+    @Test
+    void fold_lowerCasesAndStripsDiacritics() {
+        assertEquals("cafe creme", SearchTokenizer.fold("Café Crème"));
+        assertEquals("", SearchTokenizer.fold(null));
+    }
+
+    @Test
+    void tokenize_splitsOnNonAlphanumerics_keepingRepeats() {
+        assertEquals(List.of("team", "sync", "q3", "team"), SearchTokenizer.tokenize("Team-sync (Q3), team!"));
+    }
+
+    @Test
+    void tokenize_returnsEmpty_forBlankOrNull() {
+        assertTrue(SearchTokenizer.tokenize("  -- ").isEmpty());
+        assertTrue(SearchTokenizer.tokenize(null).isEmpty());
+    }
+}
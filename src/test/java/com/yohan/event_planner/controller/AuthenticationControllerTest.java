@@ -1,12 +1,19 @@
 package com.yohan.event_planner.controller;
 
+import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.dto.UserLoginDTO;
+import com.yohan.event_planner.security.CustomUserDetails;
+import com.yohan.event_planner.exception.TooManyAttemptsException;
 import com.yohan.event_planner.security.JwtService;
+import com.yohan.event_planner.security.LoginThrottle;
+import com.yohan.event_planner.util.TestConstants;
+import com.yohan.event_planner.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -14,6 +21,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,7 +31,9 @@ class AuthenticationControllerTest {
 
     private AuthenticationManager authenticationManager;
     private JwtService jwtService;
+    private LoginThrottle loginThrottle;
     private AuthenticationController authenticationController;
+    private MockHttpServletRequest request;
 
     private SecurityContext securityContext;
 
@@ -31,7 +41,10 @@ class AuthenticationControllerTest {
     void setUp() {
         authenticationManager = mock(AuthenticationManager.class);
         jwtService = mock(JwtService.class);
-        authenticationController = new AuthenticationController(authenticationManager, jwtService);
+        loginThrottle = mock(LoginThrottle.class);
+        authenticationController = new AuthenticationController(authenticationManager, jwtService, loginThrottle);
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
 
         securityContext = mock(SecurityContext.class);
         SecurityContextHolder.setContext(securityContext);
@@ -57,7 +70,7 @@ class AuthenticationControllerTest {
         when(jwtService.generateToken(username)).thenReturn(expectedToken);
 
         // Act
-        ResponseEntity<Map<String, String>> response = authenticationController.login(loginDTO);
+        ResponseEntity<Map<String, String>> response = authenticationController.login(loginDTO, request);
 
         // Assert
         // Verify AuthenticationManager.authenticate called with correct UsernamePasswordAuthenticationToken
@@ -92,9 +105,36 @@ class AuthenticationControllerTest {
 
         // Act & Assert
         RuntimeException thrown = assertThrows(RuntimeException.class, () -> {
-            authenticationController.login(loginDTO);
+            authenticationController.login(loginDTO, request);
         });
 
         assertEquals("Bad credentials", thrown.getMessage());
     }
+
+    @Test
+    void login_withUserPrincipal_issuesTokenWithIdentityClaims() {
+        User user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(new CustomUserDetails(user));
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(authentication);
+        when(jwtService.generateToken(user)).thenReturn("jwt-token-456");
+
+        ResponseEntity<Map<String, String>> response =
+                authenticationController.login(new UserLoginDTO(user.getUsername(), "testpass"), request);
+
+        assertEquals("jwt-token-456", response.getBody().get("token"));
+        verify(jwtService, never()).generateToken(anyString());
+    }
+
+    @Test
+    void login_throttled_neverChecksCredentials() {
+        doThrow(new TooManyAttemptsException(Duration.ofSeconds(30)))
+                .when(loginThrottle).check("203.0.113.7", "testuser");
+
+        assertThrows(TooManyAttemptsException.class,
+                () -> authenticationController.login(new UserLoginDTO("testuser", "testpass"), request));
+
+        verifyNoInteractions(authenticationManager, jwtService);
+    }
 }
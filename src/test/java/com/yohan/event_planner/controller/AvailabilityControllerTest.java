@@ -0,0 +1,78 @@
+package com.yohan.event_planner.controller;
+
+import com.yohan.event_planner.dto.CommonSlotsRequestDTO;
+import com.yohan.event_planner.dto.CommonSlotsResponseDTO;
+import com.yohan.event_planner.dto.TimeSlotDTO;
+import com.yohan.event_planner.exception.GlobalExceptionHandler;
+import com.yohan.event_planner.service.AvailabilityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AvailabilityControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @InjectMocks
+    private AvailabilityController availabilityController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(availabilityController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void findCommonSlots_validRequest_returnsSlots() throws Exception {
+        ZonedDateTime start = zdt(2025, 5, 20, 9, 0);
+        when(availabilityService.findCommonSlots(any(CommonSlotsRequestDTO.class)))
+                .thenReturn(new CommonSlotsResponseDTO(Set.of(1L, 2L),
+                        List.of(new TimeSlotDTO(start, start.plusHours(1)))));
+
+        mockMvc.perform(post("/api/availability/common-slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"userIds": [1, 2], "from": "2025-05-20T00:00:00Z", "to": "2025-05-21T00:00:00Z",
+                                 "minDurationMinutes": 30,
+                                 "workingHours": {"start": "09:00", "end": "17:00", "timezone": "UTC"}}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slots.length()").value(1));
+    }
+
+    @Test
+    void findCommonSlots_withoutUsers_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/availability/common-slots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"userIds": [], "from": "2025-05-20T00:00:00Z", "to": "2025-05-21T00:00:00Z",
+                                 "minDurationMinutes": 30}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(availabilityService);
+    }
+}
@@ -1,36 +1,87 @@
 package com.yohan.event_planner.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.dto.CacheStatsDTO;
+import com.yohan.event_planner.dto.EventBatchCreateDTO;
+import com.yohan.event_planner.dto.EventBatchItemResultDTO;
+import com.yohan.event_planner.dto.EventBatchResponseDTO;
+import com.yohan.event_planner.dto.EventChangesDTO;
+import com.yohan.event_planner.dto.EventCreateDTO;
+import com.yohan.event_planner.dto.EventFields;
+import com.yohan.event_planner.dto.EventPageDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.exception.EventNotFoundException;
 import com.yohan.event_planner.exception.GlobalExceptionHandler;
+import com.yohan.event_planner.exception.InvalidTimeRangeException;
+import com.yohan.event_planner.security.AuthenticatedUserProvider;
 import com.yohan.event_planner.service.EventService;
+import com.yohan.event_planner.service.EventStreamService;
+import com.yohan.event_planner.util.TestConstants;
+import com.yohan.event_planner.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
 public class EventControllerTest {
 
+    private static final String ETAG = "\"e-u100-3\"";
+
     private MockMvc mockMvc;
 
     @Mock
     private EventService eventService;
 
+    @Mock
+    private EventStreamService eventStreamService;
+
+    @Mock
+    private AuthenticatedUserProvider authenticatedUserProvider;
+
     @InjectMocks
     private EventController eventController;
 
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders
@@ -51,7 +102,7 @@ public class EventControllerTest {
                 null
         );
 
-        when(eventService.getById(eventId)).thenReturn(responseDTO);
+        when(eventService.getById(eq(eventId), any())).thenReturn(responseDTO);
 
         mockMvc.perform(get("/api/events/{id}", eventId)   // <== note /api prefix here
                         .accept(MediaType.APPLICATION_JSON))
@@ -63,11 +114,341 @@ public class EventControllerTest {
     @Test
     void getById_nonExistingEvent_returnsNotFound() throws Exception {
         Long eventId = 999L;
-        when(eventService.getById(eventId)).thenThrow(new EventNotFoundException(eventId));
+        when(eventService.getById(eq(eventId), any())).thenThrow(new EventNotFoundException(eventId));
 
         mockMvc.perform(get("/api/events/{id}", eventId)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("Event with ID " + eventId + " not found"));
     }
+
+    @Test
+    void exportEvents_whenCallerIsNotAdmin_returns403() throws Exception {
+        // Standalone MockMvc skips method security, so route the request through its interceptor
+        ProxyFactory factory = new ProxyFactory(eventController);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(AuthorizationManagerBeforeMethodInterceptor.preAuthorize());
+        MockMvc securedMockMvc = MockMvcBuilders
+                .standaloneSetup(factory.getProxy())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "user", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        SecurityContextHolder.setContext(context);
+        try {
+            securedMockMvc.perform(get("/api/events/user/{userId}/export", TestConstants.USER_ID_2))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.errorCode").value("ACCESS_DENIED"));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void exportEvents_streamsNdjsonWrittenByService() throws Exception {
+        when(eventService.exportByUserId(eq(TestConstants.USER_ID_1), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/events/user/{userId}/export", TestConstants.USER_ID_1))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void createEvents_validBatch_returnsPerItemResultsForAuthenticatedUser() throws Exception {
+        User user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+        EventBatchCreateDTO request = new EventBatchCreateDTO(List.of(TestConstants.VALID_EVENT_CREATE_DTO));
+        EventBatchResponseDTO response = new EventBatchResponseDTO(0, 1, List.of(
+                new EventBatchItemResultDTO(0, false, null, "EVENT_CONFLICT", "Conflict")));
+
+        when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+        when(eventService.createEvents(any(EventBatchCreateDTO.class), eq(user))).thenReturn(response);
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rejectedCount").value(1))
+                .andExpect(jsonPath("$.results[0].index").value(0))
+                .andExpect(jsonPath("$.results[0].errorCode").value("EVENT_CONFLICT"));
+    }
+
+    @Test
+    void createEvents_emptyBatch_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EventBatchCreateDTO(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).createEvents(any(), any());
+    }
+
+    @Test
+    void getMyEvents_returnsPageWithNextCursor() throws Exception {
+        EventResponseDTO event = new EventResponseDTO(1L, "Test Event", TestConstants.MAY_20_2025_9AM,
+                TestConstants.MAY_20_2025_10AM, 100L, null);
+        when(eventService.getCalendarETag(100L)).thenReturn(ETAG);
+        when(eventService.getByUserId(eq(100L), eq(null), any(), eq("abc"), eq(20), any()))
+                .thenReturn(new EventPageDTO(List.of(event), "next"));
+
+        mockMvc.perform(get("/api/events/user/{userId}", 100L)
+                        .param("to", "2025-06-01T00:00:00Z")
+                        .param("cursor", "abc")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(jsonPath("$.events[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void getMyEvents_matchingETag_returnsNotModifiedWithoutQuerying() throws Exception {
+        when(eventService.getCalendarETag(100L)).thenReturn(ETAG);
+
+        mockMvc.perform(get("/api/events/user/{userId}", 100L).header("If-None-Match", ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(content().string(""));
+
+        verify(eventService, never()).getByUserId(any(), any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void getEventsByDay_matchingETag_returnsNotModifiedWithoutQuerying() throws Exception {
+        when(eventService.getDayETag(20L)).thenReturn(ETAG);
+
+        mockMvc.perform(get("/api/events/day/{dayId}", 20L).header("If-None-Match", ETAG))
+                .andExpect(status().isNotModified());
+
+        verify(eventService, never()).getByDayId(any(), any());
+    }
+
+    @Test
+    void getEventsByDay_unknownDay_returnsListWithoutETag() throws Exception {
+        when(eventService.getDayETag(20L)).thenReturn(null);
+        when(eventService.getByDayId(20L, EventFields.DEFAULT)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/events/day/{dayId}", 20L).header("If-None-Match", ETAG))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void getEventsByDayDate_returnsAuthenticatedUsersEventsWithCalendarETag() throws Exception {
+        User user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+        EventResponseDTO event = new EventResponseDTO(1L, "Test Event", TestConstants.MAY_20_2025_9AM,
+                TestConstants.MAY_20_2025_10AM, TestConstants.USER_ID_1, null);
+        when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+        when(eventService.getCalendarETag(TestConstants.USER_ID_1)).thenReturn(ETAG);
+        when(eventService.getByDay(user, LocalDate.of(2025, 5, 20), EventFields.DEFAULT)).thenReturn(List.of(event));
+
+        mockMvc.perform(get("/api/events/day").param("date", "2025-05-20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @Test
+    void getEventsByDate_staleETag_returnsEventsWithCurrentETag() throws Exception {
+        when(eventService.getAllCalendarsETag()).thenReturn(ETAG);
+        when(eventService.getByDate(LocalDate.of(2025, 5, 20), EventFields.DEFAULT)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/events/date").param("date", "2025-05-20").header("If-None-Match", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG));
+    }
+
+    @Test
+    void getMyEvents_limitOutOfBounds_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/events/user/{userId}", 100L).param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).getByUserId(any(), any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void getEventsInRange_returnsAuthenticatedUsersEvents() throws Exception {
+        User user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+        EventResponseDTO event = new EventResponseDTO(1L, "Test Event", TestConstants.MAY_20_2025_9AM,
+                TestConstants.MAY_20_2025_10AM, TestConstants.USER_ID_1, null);
+        when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+        when(eventService.getCalendarETag(TestConstants.USER_ID_1)).thenReturn(ETAG);
+        when(eventService.getByRange(eq(user), any(), any(), any())).thenReturn(List.of(event));
+
+        mockMvc.perform(get("/api/events/range")
+                        .param("from", "2025-05-19T00:00:00Z")
+                        .param("to", "2025-05-26T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(jsonPath("$[0].id").value(1));
+
+        verify(eventService).getByRange(user, ZonedDateTime.parse("2025-05-19T00:00:00Z"),
+                ZonedDateTime.parse("2025-05-26T00:00:00Z"), EventFields.DEFAULT);
+    }
+
+    @Test
+    void getEventsInRange_invalidRangeWithMatchingETag_returnsBadRequest() throws Exception {
+        doThrow(new InvalidTimeRangeException("'from' must be before 'to'"))
+                .when(eventService).validateRange(any(), any());
+
+        mockMvc.perform(get("/api/events/range")
+                        .param("from", "2025-05-26T00:00:00Z")
+                        .param("to", "2025-05-19T00:00:00Z")
+                        .header("If-None-Match", ETAG))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).getByRange(any(), any(), any(), any());
+    }
+
+    @Test
+    void getEventsInRange_invalidFieldsWithMatchingETag_returnsBadRequest() throws Exception {
+
+        mockMvc.perform(get("/api/events/range")
+                        .param("from", "2025-05-19T00:00:00Z")
+                        .param("to", "2025-05-26T00:00:00Z")
+                        .param("fields", "bogus")
+                        .header("If-None-Match", ETAG))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).getCalendarETag(any());
+    }
+
+    @Test
+    void getEventsInRange_missingBound_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/events/range").param("from", "2025-05-19T00:00:00Z"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).getByRange(any(), any(), any(), any());
+    }
+
+    @Test
+    void getEventsInRange_withFields_passesSelection() throws Exception {
+        User user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+        when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+        when(eventService.getByRange(eq(user), any(), any(), any())).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/events/range")
+                        .param("from", "2025-05-19T00:00:00Z")
+                        .param("to", "2025-05-26T00:00:00Z")
+                        .param("fields", "name,dayCoverage"))
+                .andExpect(status().isOk());
+
+        verify(eventService).getByRange(user, ZonedDateTime.parse("2025-05-19T00:00:00Z"),
+                ZonedDateTime.parse("2025-05-26T00:00:00Z"),
+                new EventFields(EnumSet.of(EventFields.Field.NAME, EventFields.Field.DAY_COVERAGE)));
+    }
+
+    @Test
+    void getChanges_returnsAuthenticatedUsersChanges() throws Exception {
+        User user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+        EventResponseDTO event = new EventResponseDTO(1L, "Test Event", TestConstants.MAY_20_2025_9AM,
+                TestConstants.MAY_20_2025_10AM, TestConstants.USER_ID_1, null);
+        when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+        when(eventService.getChanges(user, "abc", 500))
+                .thenReturn(new EventChangesDTO(List.of(event), List.of(2L), "def", false));
+
+        mockMvc.perform(get("/api/events/changes").param("since", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(1))
+                .andExpect(jsonPath("$.deleted[0]").value(2))
+                .andExpect(jsonPath("$.nextToken").value("def"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getChanges_limitOutOfBounds_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/events/changes").param("limit", "1001"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).getChanges(any(), any(), anyInt());
+    }
+
+    @Test
+    void searchEvents_returnsAuthenticatedUsersMatches() throws Exception {
+        User user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+        EventResponseDTO event = new EventResponseDTO(1L, "Team meeting", TestConstants.MAY_20_2025_9AM,
+                TestConstants.MAY_20_2025_10AM, TestConstants.USER_ID_1, null);
+        when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+        when(eventService.search(user, "team meeting", TestConstants.MAY_20_2025_9AM, null, 5))
+                .thenReturn(List.of(event));
+
+        mockMvc.perform(get("/api/events/search")
+                        .param("q", "team meeting")
+                        .param("from", TestConstants.MAY_20_2025_9AM.toString())
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").value("Team meeting"));
+    }
+
+    @Test
+    void searchEvents_blankQuery_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/events/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).search(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void suggestEventNames_returnsAuthenticatedUsersNames() throws Exception {
+        User user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+        when(authenticatedUserProvider.getCurrentUser()).thenReturn(user);
+        when(eventService.suggestNames(user, "te", 10)).thenReturn(List.of("Team sync", "Team lunch"));
+
+        mockMvc.perform(get("/api/events/names").param("prefix", "te"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("Team sync"))
+                .andExpect(jsonPath("$[1]").value("Team lunch"));
+    }
+
+    @Test
+    void suggestEventNames_limitOutOfBounds_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/events/names").param("prefix", "te").param("limit", "51"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).suggestNames(any(), any(), anyInt());
+    }
+
+    @Test
+    void streamChanges_subscribesAuthenticatedUser() throws Exception {
+        when(authenticatedUserProvider.getCurrentUser()).thenReturn(TestUtils.createUserWithId(TestConstants.USER_ID_1));
+        when(eventStreamService.subscribe(TestConstants.USER_ID_1)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/events/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(eventStreamService).subscribe(TestConstants.USER_ID_1);
+    }
+
+    @Test
+    void getEvent_unknownField_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", 1L).param("fields", "name,location"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_FIELDS"));
+
+        verify(eventService, never()).getById(any(), any());
+    }
+
+    @Test
+    void getCacheStats_returnsCountersPerCache() throws Exception {
+        when(eventService.getCacheStats()).thenReturn(List.of(new CacheStatsDTO("dayEvents", 5, 2, 1, 3)));
+
+        mockMvc.perform(get("/api/events/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("dayEvents"))
+                .andExpect(jsonPath("$[0].hits").value(5))
+                .andExpect(jsonPath("$[0].misses").value(2));
+    }
 }
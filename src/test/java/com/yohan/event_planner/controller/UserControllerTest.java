@@ -1,19 +1,30 @@
 package com.yohan.event_planner.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yohan.event_planner.dto.CacheStatsDTO;
+import com.yohan.event_planner.dto.FreeBusyResponseDTO;
+import com.yohan.event_planner.dto.PasswordHashingStatsDTO;
+import com.yohan.event_planner.dto.TimeSlotDTO;
 import com.yohan.event_planner.dto.UserCreateDTO;
 import com.yohan.event_planner.dto.UserResponseDTO;
 import com.yohan.event_planner.dto.UserUpdateDTO;
+import com.yohan.event_planner.exception.PasswordHashingBusyException;
 import com.yohan.event_planner.exception.UserNotFoundException;
 import com.yohan.event_planner.domain.Role;
+import com.yohan.event_planner.service.AvailabilityService;
 import com.yohan.event_planner.service.RoleService;
 import com.yohan.event_planner.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -27,13 +38,15 @@ class UserControllerTest {
     private MockMvc mockMvc;
     private UserService userService;
     private RoleService roleService;
+    private AvailabilityService availabilityService;
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
         userService = mock(UserService.class);
         roleService = mock(RoleService.class);
-        UserController userController = new UserController(userService, roleService);
+        availabilityService = mock(AvailabilityService.class);
+        UserController userController = new UserController(userService, roleService, availabilityService);
         mockMvc = MockMvcBuilders.standaloneSetup(userController)
                 .setControllerAdvice(new com.yohan.event_planner.exception.GlobalExceptionHandler())
                 .build();
@@ -108,15 +121,27 @@ class UserControllerTest {
     @Test
     void getUser_ExistingId_ReturnsUser() throws Exception {
         UserResponseDTO responseDTO = new UserResponseDTO(1L, "validUser", "valid@example.com", "John", "Doe", "America/New_York");
+        when(userService.getUserETag(1L)).thenReturn("\"e-u1-0\"");
         when(userService.getUserById(1L)).thenReturn(responseDTO);
 
         mockMvc.perform(get("/api/users/{id}", 1L))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"e-u1-0\""))
                 .andExpect(content().json(userResponseJson(1L, "validUser", "valid@example.com", "John", "Doe", "America/New_York")));
 
         verify(userService).getUserById(1L);
     }
 
+    @Test
+    void getUser_MatchingETag_ReturnsNotModified() throws Exception {
+        when(userService.getUserETag(1L)).thenReturn("\"e-u1-0\"");
+
+        mockMvc.perform(get("/api/users/{id}", 1L).header("If-None-Match", "\"e-u1-0\""))
+                .andExpect(status().isNotModified());
+
+        verify(userService, never()).getUserById(any());
+    }
+
     @Test
     void getUser_NotFound_ReturnsNotFound() throws Exception {
         when(userService.getUserById(999L)).thenThrow(new UserNotFoundException(999L));
@@ -176,4 +201,76 @@ class UserControllerTest {
 
         verify(userService).deleteById(999L);
     }
+
+    @Test
+    void getFreeBusy_shouldReturnBusyPeriods() throws Exception {
+        ZonedDateTime from = ZonedDateTime.of(2025, 5, 20, 0, 0, 0, 0, ZoneOffset.UTC);
+        ZonedDateTime to = from.plusDays(1);
+        FreeBusyResponseDTO response = new FreeBusyResponseDTO(1L, from, to,
+                List.of(new TimeSlotDTO(from.plusHours(9), from.plusHours(11))));
+        when(availabilityService.getFreeBusy(1L, from, to)).thenReturn(response);
+
+        mockMvc.perform(get("/api/users/1/freebusy")
+                        .param("from", "2025-05-20T00:00:00Z")
+                        .param("to", "2025-05-21T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(1))
+                .andExpect(jsonPath("$.busy.length()").value(1));
+    }
+
+    @Test
+    void getFreeBusy_shouldReturnBadRequest_whenDateTimeIsMalformed() throws Exception {
+        mockMvc.perform(get("/api/users/1/freebusy")
+                        .param("from", "yesterday")
+                        .param("to", "2025-05-21T00:00:00Z"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_FAILED"));
+
+        verifyNoInteractions(availabilityService);
+    }
+
+    @Test
+    void getCacheStats_returnsCountersPerCache() throws Exception {
+        when(userService.getCacheStats()).thenReturn(List.of(new CacheStatsDTO("userDetails", 5, 2, 1, 3)));
+
+        mockMvc.perform(get("/api/users/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("userDetails"))
+                .andExpect(jsonPath("$[0].hits").value(5))
+                .andExpect(jsonPath("$[0].evictions").value(1));
+    }
+
+    @Test
+    void getCacheStats_whenAccessIsDenied_returns403() throws Exception {
+        when(userService.getCacheStats()).thenThrow(new AccessDeniedException("Access Denied"));
+
+        mockMvc.perform(get("/api/users/cache/stats"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.errorCode").value("ACCESS_DENIED"));
+    }
+
+    @Test
+    void getPasswordHashingStats_returnsExecutorCounters() throws Exception {
+        when(userService.getPasswordHashingStats())
+                .thenReturn(new PasswordHashingStatsDTO(2, 1, 3, 32, 10, 4, 80.0, 120.0, 15.0));
+
+        mockMvc.perform(get("/api/users/password-hashing/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queueDepth").value(3))
+                .andExpect(jsonPath("$.meanHashMillis").value(80.0));
+    }
+
+    @Test
+    void createUser_whenPasswordHashingIsBusy_returns503WithRetryAfter() throws Exception {
+        when(roleService.getRoleByName("ROLE_USER")).thenReturn(Optional.of(new Role("ROLE_USER")));
+        when(userService.createUser(any(UserCreateDTO.class)))
+                .thenThrow(new PasswordHashingBusyException(Duration.ofMillis(1500)));
+
+        mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(validUserCreateJson()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.errorCode").value("PASSWORD_HASHING_BUSY"));
+    }
 }
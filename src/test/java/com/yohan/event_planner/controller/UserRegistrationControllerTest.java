@@ -6,17 +6,21 @@ import com.yohan.event_planner.dto.UserCreateDTO;
 import com.yohan.event_planner.dto.UserRegistrationResponseDTO;
 import com.yohan.event_planner.exception.EmailException;
 import com.yohan.event_planner.exception.RoleNotFoundException;
+import com.yohan.event_planner.exception.TooManyAttemptsException;
 import com.yohan.event_planner.exception.UsernameException;
 import com.yohan.event_planner.repository.RoleRepository;
 import com.yohan.event_planner.repository.UserRepository;
+import com.yohan.event_planner.security.LoginThrottle;
 import com.yohan.event_planner.util.TestConstants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.util.Optional;
 
@@ -34,6 +38,9 @@ class UserRegistrationControllerTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
     @InjectMocks
     private UserRegistrationController controller;
 
@@ -65,7 +72,7 @@ class UserRegistrationControllerTest {
 
         when(passwordEncoder.encode(dto.password())).thenReturn("hashed-password");
 
-        ResponseEntity<?> response = controller.registerUser(dto);
+        ResponseEntity<?> response = controller.registerUser(dto, new MockHttpServletRequest());
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertTrue(response.getBody() instanceof UserRegistrationResponseDTO);
@@ -102,7 +109,7 @@ class UserRegistrationControllerTest {
 
         when(userRepository.findByUsername(dto.username())).thenReturn(Optional.of(TestConstants.TEST_USER));
 
-        UsernameException ex = assertThrows(UsernameException.class, () -> controller.registerUser(dto));
+        UsernameException ex = assertThrows(UsernameException.class, () -> controller.registerUser(dto, new MockHttpServletRequest()));
         assertEquals(dto.username(), ex.getMessage().contains(dto.username()) ? dto.username() : "");
     }
 
@@ -113,7 +120,7 @@ class UserRegistrationControllerTest {
         when(userRepository.findByUsername(dto.username())).thenReturn(Optional.empty());
         when(userRepository.findByEmail(dto.email())).thenReturn(Optional.of(TestConstants.TEST_USER));
 
-        EmailException ex = assertThrows(EmailException.class, () -> controller.registerUser(dto));
+        EmailException ex = assertThrows(EmailException.class, () -> controller.registerUser(dto, new MockHttpServletRequest()));
         assertEquals(dto.email(), ex.getMessage().contains(dto.email()) ? dto.email() : "");
     }
 
@@ -130,7 +137,20 @@ class UserRegistrationControllerTest {
         // Simulate missing role to trigger RoleNotFoundException
         when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.empty());
 
-        RoleNotFoundException ex = assertThrows(RoleNotFoundException.class, () -> controller.registerUser(dto));
+        RoleNotFoundException ex = assertThrows(RoleNotFoundException.class, () -> controller.registerUser(dto, new MockHttpServletRequest()));
         assertTrue(ex.getMessage().contains("ROLE_USER"));
     }
+
+    @Test
+    void registerUser_shouldThrow_whenThrottled() {
+        UserCreateDTO dto = validUserCreateDTO();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        doThrow(new TooManyAttemptsException(Duration.ofSeconds(3)))
+                .when(loginThrottle).check("203.0.113.7", dto.username());
+
+        assertThrows(TooManyAttemptsException.class, () -> controller.registerUser(dto, request));
+
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
 }
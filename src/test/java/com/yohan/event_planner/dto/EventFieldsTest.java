@@ -0,0 +1,36 @@
+package com.yohan.event_planner.dto;
+
+import com.yohan.event_planner.dto.EventFields.Field;
+import com.yohan.event_planner.exception.InvalidFieldsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventFieldsTest {
+
+    @Test
+    void parse_nullOrBlank_returnsDefault() {
+        assertEquals(EventFields.DEFAULT, EventFields.parse(null));
+        assertEquals(EventFields.DEFAULT, EventFields.parse(" "));
+        assertTrue(EventFields.DEFAULT.includes(Field.DAY_IDS));
+        assertFalse(EventFields.DEFAULT.includes(Field.DAY_COVERAGE));
+    }
+
+    @Test
+    void parse_selection_alwaysIncludesId() {
+        EventFields fields = EventFields.parse("name, startTime,,dayCoverage");
+
+        assertEquals(EnumSet.of(Field.ID, Field.NAME, Field.START_TIME, Field.DAY_COVERAGE), fields.fields());
+        assertFalse(fields.includes(Field.DAY_IDS));
+    }
+
+    @Test
+    void parse_unknownField_throws() {
+        InvalidFieldsException ex = assertThrows(InvalidFieldsException.class,
+                () -> EventFields.parse("name,location"));
+
+        assertEquals("Unknown field: location", ex.getMessage());
+    }
+}
@@ -0,0 +1,46 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.util.TestConstants;
+import com.yohan.event_planner.util.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticatedUserProviderTest {
+
+    private final AuthenticatedUserProvider provider = new AuthenticatedUserProvider();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getCurrentUser_returnsUserFromPrincipal() {
+        User user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new CustomUserDetails(user), null, List.of()));
+
+        assertSame(user, provider.getCurrentUser());
+    }
+
+    @Test
+    void getCurrentUser_throws_whenNotAuthenticated() {
+        assertThrows(AuthenticationCredentialsNotFoundException.class, provider::getCurrentUser);
+    }
+
+    @Test
+    void getCurrentUser_throws_whenPrincipalIsNotCustomUserDetails() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("anonymous", null, List.of()));
+
+        assertThrows(AuthenticationCredentialsNotFoundException.class, provider::getCurrentUser);
+    }
+}
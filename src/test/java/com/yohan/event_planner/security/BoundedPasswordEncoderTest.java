@@ -0,0 +1,124 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    /**
+     * Encodes by reversing, optionally blocking until released, and records the hashing thread.
+     */
+    private static class FakeEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private volatile String thread;
+
+        FakeEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            thread = Thread.currentThread().getName();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new StringBuilder(rawPassword).reverse().toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (encodedPassword == null) {
+                throw new IllegalArgumentException("No encoded password");
+            }
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private BoundedPasswordEncoder encoder;
+    private ExecutorService callers;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.close();
+        }
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_runOnHashingThread_andReportTimes() {
+        FakeEncoder delegate = new FakeEncoder(new CountDownLatch(0));
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(2));
+
+        assertEquals("cba", encoder.encode("abc"));
+        assertTrue(encoder.matches("abc", "cba"));
+        assertFalse(encoder.matches("abc", "abc"));
+
+        assertTrue(delegate.thread.startsWith("password-hashing-"));
+        BoundedPasswordEncoder.Stats stats = encoder.stats();
+        assertEquals(3, stats.completed());
+        assertEquals(0, stats.rejected());
+        assertFalse(stats.maxHashTime().isNegative());
+        assertTrue(stats.maxHashTime().compareTo(stats.meanHashTime()) >= 0);
+    }
+
+    @Test
+    void matches_rethrowsDelegateFailure() {
+        encoder = new BoundedPasswordEncoder(new FakeEncoder(new CountDownLatch(0)), 1, 1, Duration.ofSeconds(2));
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.matches("abc", null));
+    }
+
+    @Test
+    void encode_rejectsAtOnce_whenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        FakeEncoder delegate = new FakeEncoder(release);
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(3));
+        callers = Executors.newFixedThreadPool(2);
+
+        Future<String> running = callers.submit(() -> encoder.encode("first"));
+        assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+        Future<String> queued = callers.submit(() -> encoder.encode("second"));
+        while (encoder.stats().queueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        PasswordHashingBusyException ex = assertThrows(PasswordHashingBusyException.class,
+                () -> encoder.encode("third"));
+        assertEquals(Duration.ofSeconds(3), ex.getRetryAfter());
+        assertEquals(1, encoder.stats().rejected());
+        assertEquals(1, encoder.stats().activeThreads());
+
+        release.countDown();
+        assertEquals("tsrif", running.get(5, TimeUnit.SECONDS));
+        assertEquals("dnoces", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveBounds() {
+        PasswordEncoder delegate = new FakeEncoder(new CountDownLatch(0));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoundedPasswordEncoder(delegate, 0, 1, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoundedPasswordEncoder(delegate, 1, 0, Duration.ofSeconds(1)));
+    }
+}
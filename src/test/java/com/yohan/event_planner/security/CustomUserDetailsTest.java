@@ -2,9 +2,12 @@ package com.yohan.event_planner.security;
 
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.domain.PasswordVO;
+import com.yohan.event_planner.domain.Role;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
 
 import java.time.ZoneId;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -90,4 +93,21 @@ class CustomUserDetailsTest {
 
         assertTrue(details.getAuthorities().isEmpty());
     }
+
+    @Test
+    void getAuthorities_grantsOneAuthorityPerRole() {
+        User user = new User(
+                "testuser",
+                new PasswordVO("hashedPass"),
+                "test@example.com",
+                ZoneId.of("UTC"),
+                "Test",
+                "User"
+        );
+        user.getRoles().add(new Role("ROLE_ADMIN"));
+        CustomUserDetails details = new CustomUserDetails(user);
+
+        assertEquals(List.of("ROLE_ADMIN"),
+                details.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
 }
@@ -0,0 +1,158 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.service.CustomUserDetailsService;
+import com.yohan.event_planner.util.TestConstants;
+import com.yohan.event_planner.util.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock private JwtService jwtService;
+    @Mock private CustomUserDetailsService userDetailsService;
+    @Mock private TokenGenerations tokenGenerations;
+
+    private JwtAuthFilter filter;
+    private MockHttpServletRequest request;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        filter = new JwtAuthFilter(jwtService, userDetailsService, tokenGenerations);
+        request = new MockHttpServletRequest();
+        chain = new MockFilterChain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validToken_authenticatesRequest_verifyingTokenOnce() throws Exception {
+        CustomUserDetails details = new CustomUserDetails(TestUtils.createUserWithId(TestConstants.USER_ID_1));
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        when(jwtService.verify(TOKEN)).thenReturn(Optional.of(
+                new VerifiedToken(details.getUsername(), Instant.now(), Instant.now().plusSeconds(60))));
+        when(userDetailsService.loadUserByUsername(details.getUsername())).thenReturn(details);
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertSame(details, authentication.getPrincipal());
+        assertNotNull(chain.getRequest());
+        verify(jwtService, times(1)).verify(TOKEN);
+        verifyNoMoreInteractions(jwtService);
+    }
+
+    private static VerifiedToken identityToken(long generation) {
+        return new VerifiedToken("alice", Instant.now(), Instant.now().plusSeconds(60), TestConstants.USER_ID_1,
+                List.of("ROLE_ADMIN"), ZoneId.of("Asia/Tokyo"), generation);
+    }
+
+    @Test
+    void currentIdentityClaims_authenticateWithoutLoadingUser() throws Exception {
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        when(jwtService.verify(TOKEN)).thenReturn(Optional.of(identityToken(3L)));
+        when(tokenGenerations.isCurrent(TestConstants.USER_ID_1, 3L)).thenReturn(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertEquals(TestConstants.USER_ID_1, principal.getUser().getId());
+        assertEquals("alice", principal.getUsername());
+        assertEquals(ZoneId.of("Asia/Tokyo"), principal.getUser().getTimezone());
+        assertEquals(List.of("ROLE_ADMIN"),
+                authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void staleIdentityClaims_loadUserById() throws Exception {
+        CustomUserDetails details = new CustomUserDetails(TestUtils.createUserWithId(TestConstants.USER_ID_1));
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        when(jwtService.verify(TOKEN)).thenReturn(Optional.of(identityToken(2L)));
+        when(tokenGenerations.isCurrent(TestConstants.USER_ID_1, 2L)).thenReturn(false);
+        when(userDetailsService.loadUserById(TestConstants.USER_ID_1)).thenReturn(details);
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertSame(details, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    }
+
+    @Test
+    void staleIdentityClaims_ofDisabledUser_leaveRequestUnauthenticated() throws Exception {
+        User user = TestUtils.createUserWithId(TestConstants.USER_ID_1);
+        user.setEnabled(false);
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        when(jwtService.verify(TOKEN)).thenReturn(Optional.of(identityToken(2L)));
+        when(tokenGenerations.isCurrent(TestConstants.USER_ID_1, 2L)).thenReturn(false);
+        when(userDetailsService.loadUserById(TestConstants.USER_ID_1)).thenReturn(new CustomUserDetails(user));
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void tokenOfDeletedUser_leavesRequestUnauthenticated() throws Exception {
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        when(jwtService.verify(TOKEN)).thenReturn(Optional.of(identityToken(2L)));
+        when(tokenGenerations.isCurrent(TestConstants.USER_ID_1, 2L)).thenReturn(false);
+        when(userDetailsService.loadUserById(TestConstants.USER_ID_1)).thenThrow(new UsernameNotFoundException("gone"));
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void invalidToken_leavesRequestUnauthenticated() throws Exception {
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        when(jwtService.verify(TOKEN)).thenReturn(Optional.empty());
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void missingBearerHeader_skipsVerification() throws Exception {
+        request.addHeader("Authorization", "Basic abc");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(jwtService, userDetailsService);
+    }
+}
@@ -1,5 +1,8 @@
 package com.yohan.event_planner.security;
 
+import com.yohan.event_planner.domain.Role;
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.util.TestConstants;
 import com.yohan.event_planner.util.TestUtils;
 import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +10,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -16,11 +27,43 @@ class JwtServiceTest {
     private final String base64Secret = "bW9ja1NlY3JldEtleU5vblByb2R1Y3Rpb25Dcml0aWNhbA==";
     private final long expirationMillis = 1000 * 60 * 60 * 24; // 24 hours
 
+    private MutableClock clock;
+
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
-        TestUtils.setPrivateField(jwtService, "jwtSecret", base64Secret);
-        TestUtils.setPrivateField(jwtService, "jwtExpirationMillis", expirationMillis);
+        jwtService = new JwtService(base64Secret, expirationMillis, 100, true);
+        clock = new MutableClock(Instant.parse("2025-05-20T09:00:00Z"));
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
     }
 
     @Test
@@ -44,7 +87,7 @@ class JwtServiceTest {
 
     @Test
     void isTokenValid_shouldReturnFalseForExpiredToken() throws InterruptedException {
-        TestUtils.setPrivateField(jwtService, "jwtExpirationMillis", 1L); // expire immediately
+        jwtService = new JwtService(base64Secret, 1L, 100, true); // expire immediately
         String token = jwtService.generateToken("carol");
         Thread.sleep(5); // ensure expiration
         assertFalse(jwtService.isTokenValid(token, "carol"));
@@ -52,7 +95,7 @@ class JwtServiceTest {
 
     @Test
     void isTokenExpired_shouldReturnTrueForExpiredToken() throws InterruptedException {
-        TestUtils.setPrivateField(jwtService, "jwtExpirationMillis", 1L);
+        jwtService = new JwtService(base64Secret, 1L, 100, true);
         String token = jwtService.generateToken("dave");
         Thread.sleep(5);
         assertTrue(jwtService.isTokenExpired(token));
@@ -77,4 +120,97 @@ class JwtServiceTest {
         String malformed = "not.a.valid.jwt";
         assertThrows(RuntimeException.class, () -> jwtService.extractUsername(malformed));
     }
+
+    @Test
+    void verify_returnsClaimsOfValidToken() {
+        JwtService service = new JwtService(base64Secret, expirationMillis, 100, true, clock);
+        String token = service.generateToken("grace");
+
+        Optional<VerifiedToken> verified = service.verify(token);
+
+        assertTrue(verified.isPresent());
+        assertEquals("grace", verified.get().username());
+        assertEquals(clock.instant(), verified.get().issuedAt());
+        assertEquals(clock.instant().plusMillis(expirationMillis), verified.get().expiresAt());
+    }
+
+    @Test
+    void verify_returnsSameClaimsFromCache() {
+        String token = jwtService.generateToken("heidi");
+
+        assertSame(jwtService.verify(token).orElseThrow(), jwtService.verify(token).orElseThrow());
+    }
+
+    @Test
+    void verify_rejectsCachedTokenOnceExpired() {
+        JwtService service = new JwtService(base64Secret, 60_000L, 100, true, clock);
+        String token = service.generateToken("ivan");
+        assertTrue(service.verify(token).isPresent());
+
+        clock.advance(Duration.ofSeconds(60));
+
+        assertTrue(service.verify(token).isEmpty());
+        assertFalse(service.isTokenValid(token, "ivan"));
+    }
+
+    @Test
+    void verify_returnsEmptyForTamperedOrMalformedToken() {
+        String token = jwtService.generateToken("judy");
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        assertTrue(jwtService.verify(forged).isEmpty());
+        assertTrue(jwtService.verify("not.a.valid.jwt").isEmpty());
+        assertTrue(jwtService.verify("").isEmpty());
+    }
+
+    @Test
+    void verify_rejectsTokenSignedWithAnotherKey() {
+        JwtService other = new JwtService("b3RoZXJTZWNyZXRLZXlOb25Qcm9kdWN0aW9uQ3JpdGljYWw=", expirationMillis, 100, true);
+
+        assertTrue(jwtService.verify(other.generateToken("mallory")).isEmpty());
+    }
+
+    @Test
+    void generateTokenForUser_carriesIdentityClaims() {
+        User user = userWithId(TestConstants.USER_ID_1);
+        user.setTimezone(ZoneId.of("Asia/Tokyo"));
+        user.getRoles().add(new Role("ROLE_USER"));
+        user.getRoles().add(new Role("ROLE_ADMIN"));
+        user.incrementTokenGeneration();
+
+        VerifiedToken verified = jwtService.verify(jwtService.generateToken(user)).orElseThrow();
+
+        assertTrue(verified.hasIdentity());
+        assertEquals(user.getUsername(), verified.username());
+        assertEquals(TestConstants.USER_ID_1, verified.userId());
+        assertEquals(List.of("ROLE_ADMIN", "ROLE_USER"), verified.roles());
+        assertEquals(ZoneId.of("Asia/Tokyo"), verified.timezone());
+        assertEquals(1L, verified.generation());
+    }
+
+    @Test
+    void generateTokenForUser_withoutClaimsAuthentication_carriesSubjectOnly() {
+        JwtService service = new JwtService(base64Secret, expirationMillis, 100, false);
+        User user = userWithId(TestConstants.USER_ID_1);
+
+        VerifiedToken verified = service.verify(service.generateToken(user)).orElseThrow();
+
+        assertFalse(verified.hasIdentity());
+        assertEquals(user.getUsername(), verified.username());
+    }
+
+    @Test
+    void verify_ignoresIdentityClaims_whenClaimsAuthenticationDisabled() {
+        String token = jwtService.generateToken(userWithId(TestConstants.USER_ID_1));
+        JwtService service = new JwtService(base64Secret, expirationMillis, 100, false);
+
+        assertFalse(service.verify(token).orElseThrow().hasIdentity());
+    }
+
+    private static User userWithId(Long id) {
+        User user = TestUtils.createUserWithPassword("alice");
+        TestUtils.setId(user, id);
+        return user;
+    }
 }
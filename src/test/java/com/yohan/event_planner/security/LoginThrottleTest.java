@@ -0,0 +1,56 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.exception.TooManyAttemptsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private long now;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        throttle = new LoginThrottle(
+                new TokenBucketLimiter(3, Duration.ofSeconds(1), 16, () -> now),
+                new TokenBucketLimiter(2, Duration.ofSeconds(30), 16, () -> now));
+    }
+
+    @Test
+    void check_limitsUsername_acrossClientIpsAndCase() {
+        throttle.check("203.0.113.1", "alice");
+        throttle.check("203.0.113.2", "Alice");
+
+        TooManyAttemptsException ex = assertThrows(TooManyAttemptsException.class,
+                () -> throttle.check("203.0.113.3", "ALICE"));
+        assertEquals(Duration.ofSeconds(30), ex.getRetryAfter());
+    }
+
+    @Test
+    void check_limitsClientIp_acrossUsernames() {
+        throttle.check("203.0.113.1", "alice");
+        throttle.check("203.0.113.1", "bob");
+        throttle.check("203.0.113.1", "carol");
+
+        assertThrows(TooManyAttemptsException.class, () -> throttle.check("203.0.113.1", "dave"));
+        assertDoesNotThrow(() -> throttle.check("203.0.113.2", "dave"));
+    }
+
+    @Test
+    void check_refusedByClientIp_leavesUsernameUntouched() {
+        for (int i = 0; i < 3; i++) {
+            throttle.check("203.0.113.1", "user" + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertThrows(TooManyAttemptsException.class, () -> throttle.check("203.0.113.1", "alice"));
+        }
+
+        throttle.check("203.0.113.2", "alice");
+        throttle.check("203.0.113.3", "alice");
+    }
+}
@@ -0,0 +1,90 @@
+package com.yohan.event_planner.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hammers a {@link TokenBucketLimiter} from many threads at once, checking that no token is
+ * handed out twice and that the number of tracked keys stays bounded.
+ */
+class TokenBucketLimiterConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Test
+    void tryAcquire_sharedKey_grantsExactlyBurst() throws Exception {
+        // Refill slower than the test runs, so only the burst is available
+        TokenBucketLimiter limiter = new TokenBucketLimiter(100, Duration.ofHours(1), 1024);
+        AtomicInteger granted = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < 1_000; i++) {
+                if (limiter.tryAcquire("shared").isZero()) {
+                    granted.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(100, granted.get());
+    }
+
+    @Test
+    void tryAcquire_manyDistinctKeys_staysBounded_andGrantsEachKeyItsBurst() throws Exception {
+        int maxKeys = 10_000;
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, Duration.ofHours(1), maxKeys);
+        AtomicInteger refused = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < 20_000; i++) {
+                String key = "client-" + thread + "-" + i;
+                // Two attempts per key fit its burst, whatever sweeps run in between
+                if (!limiter.tryAcquire(key).isZero() | !limiter.tryAcquire(key).isZero()) {
+                    refused.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(0, refused.get());
+        // Each of the 16 stripes is swept by one thread at a time; inserts by the others while its
+        // sweep finishes may leave the stripe a few keys over its share
+        assertTrue(limiter.size() <= maxKeys + 16 * THREADS, "size " + limiter.size());
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
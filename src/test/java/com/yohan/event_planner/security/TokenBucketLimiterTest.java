@@ -0,0 +1,87 @@
+package com.yohan.event_planner.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketLimiterTest {
+
+    private long now;
+    private TokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        limiter = new TokenBucketLimiter(3, Duration.ofSeconds(10), 16, () -> now);
+    }
+
+    @Test
+    void tryAcquire_allowsBurst_thenReportsWait() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, limiter.tryAcquire("alice"));
+        }
+
+        assertEquals(Duration.ofSeconds(10), limiter.tryAcquire("alice"));
+        now += Duration.ofSeconds(4).toNanos();
+        assertEquals(Duration.ofSeconds(6), limiter.tryAcquire("alice"));
+    }
+
+    @Test
+    void tryAcquire_refillsOneTokenPerInterval_upToBurst() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("alice");
+        }
+
+        now += Duration.ofSeconds(10).toNanos();
+        assertEquals(Duration.ZERO, limiter.tryAcquire("alice"));
+        assertFalse(limiter.tryAcquire("alice").isZero());
+
+        // Idle far longer than needed to refill, yet no more than the burst
+        now += Duration.ofHours(1).toNanos();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, limiter.tryAcquire("alice"));
+        }
+        assertFalse(limiter.tryAcquire("alice").isZero());
+    }
+
+    @Test
+    void tryAcquire_keepsKeysApart() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("alice");
+        }
+
+        assertFalse(limiter.tryAcquire("alice").isZero());
+        assertEquals(Duration.ZERO, limiter.tryAcquire("bob"));
+    }
+
+    @Test
+    void tryAcquire_staysBounded_droppingFullBucketsFirst() {
+        limiter = new TokenBucketLimiter(1, Duration.ofSeconds(10), 16 * 10, () -> now);
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("flood-" + i);
+        }
+        assertTrue(limiter.size() <= 16 * 10, "size " + limiter.size());
+
+        // The flood's buckets are full again, so they make room before any active bucket
+        now += Duration.ofSeconds(10).toNanos();
+        limiter.tryAcquire("active");
+        for (int i = 0; i < 40; i++) {
+            limiter.tryAcquire("new-" + i);
+        }
+
+        assertFalse(limiter.tryAcquire("active").isZero());
+        for (int i = 0; i < 40; i++) {
+            assertFalse(limiter.tryAcquire("new-" + i).isZero());
+        }
+    }
+
+    @Test
+    void constructor_rejectsInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(0, Duration.ofSeconds(1), 16));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(1, Duration.ZERO, 16));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(1, Duration.ofSeconds(1), 15));
+    }
+}
@@ -0,0 +1,58 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.repository.UserRepository;
+import com.yohan.event_planner.util.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenGenerationsTest {
+
+    @Mock private UserRepository userRepository;
+
+    private TokenGenerations generations;
+
+    @BeforeEach
+    void setUp() {
+        generations = new TokenGenerations(userRepository, 10, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void isCurrent_comparesWithStoredGeneration_readingItOnce() {
+        when(userRepository.findTokenGenerationById(TestConstants.USER_ID_1)).thenReturn(Optional.of(2L));
+
+        assertTrue(generations.isCurrent(TestConstants.USER_ID_1, 2L));
+        assertFalse(generations.isCurrent(TestConstants.USER_ID_1, 1L));
+
+        verify(userRepository, times(1)).findTokenGenerationById(TestConstants.USER_ID_1);
+    }
+
+    @Test
+    void isCurrent_isFalse_whenUserIsGone() {
+        when(userRepository.findTokenGenerationById(TestConstants.USER_ID_1)).thenReturn(Optional.empty());
+
+        assertFalse(generations.isCurrent(TestConstants.USER_ID_1, 0L));
+    }
+
+    @Test
+    void invalidate_rereadsStoredGeneration() {
+        when(userRepository.findTokenGenerationById(TestConstants.USER_ID_1))
+                .thenReturn(Optional.of(0L))
+                .thenReturn(Optional.of(1L));
+        assertTrue(generations.isCurrent(TestConstants.USER_ID_1, 0L));
+
+        generations.invalidate(TestConstants.USER_ID_1);
+
+        assertFalse(generations.isCurrent(TestConstants.USER_ID_1, 0L));
+        assertTrue(generations.isCurrent(TestConstants.USER_ID_1, 1L));
+    }
+}
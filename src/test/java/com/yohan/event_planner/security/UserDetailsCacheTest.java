@@ -0,0 +1,76 @@
+package com.yohan.event_planner.security;
+
+import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.util.TestConstants;
+import com.yohan.event_planner.util.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDetailsCacheTest {
+
+    private UserDetailsCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserDetailsCache(10, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private CustomUserDetails load(String username, Long id) {
+        loads.incrementAndGet();
+        User user = TestUtils.createUserWithPassword(username);
+        TestUtils.setId(user, id);
+        return new CustomUserDetails(user);
+    }
+
+    @Test
+    void get_loadsOnce_andCountsHitsAndMisses() {
+        cache.get("alice", name -> load(name, TestConstants.USER_ID_1));
+        cache.get("alice", name -> load(name, TestConstants.USER_ID_1));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void invalidate_removesOnlyThatUser_underAnyUsername() {
+        cache.get("alice", name -> load(name, TestConstants.USER_ID_1));
+        cache.get("bob", name -> load(name, TestConstants.USER_ID_2));
+
+        cache.invalidate(TestConstants.USER_ID_1);
+        cache.get("alice", name -> load(name, TestConstants.USER_ID_1));
+        cache.get("bob", name -> load(name, TestConstants.USER_ID_2));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void invalidate_withinTransaction_invalidatesAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate(TestConstants.USER_ID_1);
+
+        // Loaded before the write commits, so the old user may have been read
+        cache.get("alice", name -> load(name, TestConstants.USER_ID_1));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.get("alice", name -> load(name, TestConstants.USER_ID_1));
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,136 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.UserBO;
+import com.yohan.event_planner.business.availability.TimeSlot;
+import com.yohan.event_planner.dto.CommonSlotsRequestDTO;
+import com.yohan.event_planner.dto.CommonSlotsResponseDTO;
+import com.yohan.event_planner.dto.FreeBusyResponseDTO;
+import com.yohan.event_planner.dto.TimeSlotDTO;
+import com.yohan.event_planner.dto.WorkingHoursDTO;
+import com.yohan.event_planner.exception.InvalidTimeRangeException;
+import com.yohan.event_planner.exception.UserNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AvailabilityServiceImplTest {
+
+    private EventBO eventBO;
+    private UserBO userBO;
+    private AvailabilityServiceImpl availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        eventBO = mock(EventBO.class);
+        userBO = mock(UserBO.class);
+        availabilityService = new AvailabilityServiceImpl(eventBO, userBO);
+    }
+
+    @Test
+    void getFreeBusy_shouldReturnBusyPeriodsInUtc() {
+        ZonedDateTime from = zdt(2025, 5, 20, 0, 0);
+        ZonedDateTime to = zdt(2025, 5, 21, 0, 0);
+        when(userBO.existsById(1L)).thenReturn(true);
+        when(eventBO.getBusyIntervals(1L, from, to))
+                .thenReturn(List.of(new TimeSlot(from.plusHours(9), from.plusHours(11))));
+
+        FreeBusyResponseDTO result = availabilityService.getFreeBusy(1L,
+                from.withZoneSameInstant(ZoneId.of("America/New_York")), to);
+
+        assertEquals(from, result.from());
+        assertEquals(List.of(new TimeSlotDTO(from.plusHours(9), from.plusHours(11))), result.busy());
+    }
+
+    @Test
+    void getFreeBusy_shouldThrow_whenWindowIsEmpty() {
+        ZonedDateTime from = zdt(2025, 5, 20, 0, 0);
+
+        assertThrows(InvalidTimeRangeException.class, () -> availabilityService.getFreeBusy(1L, from, from));
+        verifyNoInteractions(eventBO);
+    }
+
+    @Test
+    void getFreeBusy_shouldThrow_whenWindowIsTooLong() {
+        ZonedDateTime from = zdt(2025, 1, 1, 0, 0);
+
+        assertThrows(InvalidTimeRangeException.class,
+                () -> availabilityService.getFreeBusy(1L, from, from.plus(AvailabilityServiceImpl.MAX_WINDOW).plusDays(1)));
+        verifyNoInteractions(eventBO);
+    }
+
+    @Test
+    void getFreeBusy_shouldThrow_whenUserDoesNotExist() {
+        when(userBO.existsById(1L)).thenReturn(false);
+
+        assertThrows(UserNotFoundException.class,
+                () -> availabilityService.getFreeBusy(1L, zdt(2025, 5, 20, 0, 0), zdt(2025, 5, 21, 0, 0)));
+        verifyNoInteractions(eventBO);
+    }
+
+    // --- findCommonSlots ---
+
+    @Test
+    void findCommonSlots_shouldReturnGapsInCombinedBusyPeriods() {
+        ZonedDateTime from = zdt(2025, 5, 20, 9, 0);
+        ZonedDateTime to = zdt(2025, 5, 20, 17, 0);
+        CommonSlotsRequestDTO request = new CommonSlotsRequestDTO(Set.of(1L, 2L), from, to, 60, null, null);
+        when(userBO.existsById(anyLong())).thenReturn(true);
+        when(eventBO.getCombinedBusyIntervals(eq(Set.of(1L, 2L)), eq(List.of()), eq(from), eq(to)))
+                .thenReturn(List.of(new TimeSlot(from.plusHours(1), from.plusHours(3)),
+                        new TimeSlot(from.plusMinutes(210), from.plusHours(8))));
+
+        CommonSlotsResponseDTO result = availabilityService.findCommonSlots(request);
+
+        assertEquals(List.of(new TimeSlotDTO(from, from.plusHours(1))), result.slots());
+    }
+
+    @Test
+    void findCommonSlots_shouldMergeOffHoursAsBusySource_whenWorkingHoursGiven() {
+        ZonedDateTime from = zdt(2025, 5, 20, 0, 0);
+        ZonedDateTime to = zdt(2025, 5, 21, 0, 0);
+        WorkingHoursDTO workingHours = new WorkingHoursDTO(LocalTime.of(9, 0), LocalTime.of(17, 0), "UTC", null);
+        CommonSlotsRequestDTO request = new CommonSlotsRequestDTO(Set.of(1L), from, to, 30, workingHours, 5);
+        when(userBO.existsById(1L)).thenReturn(true);
+        when(eventBO.getCombinedBusyIntervals(any(), anyList(), eq(from), eq(to))).thenAnswer(invocation -> {
+            List<Iterator<TimeSlot>> extra = invocation.getArgument(1);
+            assertEquals(1, extra.size());
+            return List.of(new TimeSlot(from, from.plusHours(9)), new TimeSlot(from.plusHours(17), to));
+        });
+
+        CommonSlotsResponseDTO result = availabilityService.findCommonSlots(request);
+
+        assertEquals(List.of(new TimeSlotDTO(from.plusHours(9), from.plusHours(17))), result.slots());
+    }
+
+    @Test
+    void findCommonSlots_shouldThrow_whenWorkingHoursAreInverted() {
+        WorkingHoursDTO workingHours = new WorkingHoursDTO(LocalTime.of(17, 0), LocalTime.of(9, 0), "UTC", null);
+        CommonSlotsRequestDTO request = new CommonSlotsRequestDTO(Set.of(1L),
+                zdt(2025, 5, 20, 0, 0), zdt(2025, 5, 21, 0, 0), 30, workingHours, null);
+
+        assertThrows(InvalidTimeRangeException.class, () -> availabilityService.findCommonSlots(request));
+        verifyNoInteractions(eventBO);
+    }
+
+    @Test
+    void findCommonSlots_shouldThrow_whenAnyUserDoesNotExist() {
+        CommonSlotsRequestDTO request = new CommonSlotsRequestDTO(Set.of(1L),
+                zdt(2025, 5, 20, 0, 0), zdt(2025, 5, 21, 0, 0), 30, null, null);
+        when(userBO.existsById(1L)).thenReturn(false);
+
+        assertThrows(UserNotFoundException.class, () -> availabilityService.findCommonSlots(request));
+        verifyNoInteractions(eventBO);
+    }
+}
@@ -3,11 +3,15 @@ package com.yohan.event_planner.service;
 import com.yohan.event_planner.domain.User;
 import com.yohan.event_planner.domain.PasswordVO;
 import com.yohan.event_planner.repository.UserRepository;
+import com.yohan.event_planner.security.UserDetailsCache;
+import com.yohan.event_planner.util.TestConstants;
+import com.yohan.event_planner.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.util.Optional;
 
@@ -17,12 +21,14 @@ import static org.mockito.Mockito.*;
 class CustomUserDetailsServiceTest {
 
     private UserRepository userRepository;
+    private UserDetailsCache userDetailsCache;
     private CustomUserDetailsService userDetailsService;
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
-        userDetailsService = new CustomUserDetailsService(userRepository);
+        userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(5));
+        userDetailsService = new CustomUserDetailsService(userRepository, userDetailsCache);
     }
 
     @Test
@@ -57,4 +63,32 @@ class CustomUserDetailsServiceTest {
         assertThrows(UsernameNotFoundException.class,
                 () -> userDetailsService.loadUserByUsername("missinguser"));
     }
+
+    @Test
+    void loadUserByUsername_cachesUser_untilInvalidated() {
+        User testUser = TestUtils.createUserWithPassword("testuser");
+        TestUtils.setId(testUser, TestConstants.USER_ID_1);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        var first = userDetailsService.loadUserByUsername("testuser");
+        var second = userDetailsService.loadUserByUsername("testuser");
+        userDetailsCache.invalidate(TestConstants.USER_ID_1);
+        userDetailsService.loadUserByUsername("testuser");
+
+        assertSame(first, second);
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+
+    @Test
+    void loadUserByUsername_userNotFound_isNotCached() {
+        when(userRepository.findByUsername("missinguser")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("missinguser"));
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("missinguser"));
+
+        verify(userRepository, times(2)).findByUsername("missinguser");
+        assertEquals(0, userDetailsCache.stats().size());
+    }
 }
@@ -30,23 +30,26 @@ class DayServiceImplTest {
     }
 
     @Test
-    void getOrCreateAllDaysBetween_shouldSaveMissingDays_whenSomeMissing() {
+    void getOrCreateAllDaysBetween_shouldUpsertEveryDateInRange() {
         LocalDate start = LocalDate.of(2025, 5, 24);
         LocalDate end = LocalDate.of(2025, 5, 26);
-        LocalDate missingDate = start.plusDays(1);
+        List<Day> days = List.of(new Day(start, user), new Day(start.plusDays(1), user), new Day(end, user));
 
-        Day existing = new Day(start, user);
-        Day newDay = new Day(missingDate, user);
-
-        // Use mutable list here
-        when(dayRepository.findAllByDateInAndCreator(anySet(), eq(user))).thenReturn(new ArrayList<>(List.of(existing)));
-        when(dayRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(dayRepository.upsertAll(user, List.of(start, start.plusDays(1), end))).thenReturn(days);
 
         Set<Day> result = dayService.getOrCreateAllDaysBetween(start, end, user);
 
-        assertEquals(3, result.size());
-        assertTrue(result.stream().anyMatch(d -> d.getDate().equals(missingDate)));
-        verify(dayRepository).saveAll(any());
+        assertEquals(new HashSet<>(days), result);
+        verify(dayRepository, never()).findAllByDateInAndCreator(any(), any());
+        verify(dayRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void getOrCreateDays_shouldSkipRepository_whenNoDatesGiven() {
+        List<Day> result = dayService.getOrCreateDays(Set.of(), user);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(dayRepository);
     }
 
     @Test
@@ -73,32 +76,18 @@ class DayServiceImplTest {
     }
 
     @Test
-    void getOrCreateDay_shouldReturnExistingDay_ifFound() {
+    void getOrCreateDay_shouldUpsertSingleDate() {
         LocalDate date = LocalDate.of(2025, 5, 20);
-        Day existing = new Day(date, user);
+        Day day = new Day(date, user);
 
-        when(dayRepository.findByDateAndCreator(date, user)).thenReturn(Optional.of(existing));
+        when(dayRepository.upsertAll(user, List.of(date))).thenReturn(List.of(day));
 
         Day result = dayService.getOrCreateDay(date, user);
 
-        assertEquals(existing, result);
+        assertEquals(day, result);
         verify(dayRepository, never()).save(any());
     }
 
-    @Test
-    void getOrCreateDay_shouldSaveAndReturnNewDay_ifNotFound() {
-        LocalDate date = LocalDate.of(2025, 5, 21);
-        Day newDay = new Day(date, user);
-
-        when(dayRepository.findByDateAndCreator(date, user)).thenReturn(Optional.empty());
-        when(dayRepository.save(any(Day.class))).thenReturn(newDay);
-
-        Day result = dayService.getOrCreateDay(date, user);
-
-        assertEquals(newDay, result);
-        verify(dayRepository).save(any(Day.class));
-    }
-
     @Test
     void saveDay_shouldSaveAndReturnDay() {
         Day day = new Day(LocalDate.now(), user);
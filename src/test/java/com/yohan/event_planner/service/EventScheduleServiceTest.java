@@ -20,73 +20,67 @@ class EventScheduleServiceTest {
     @BeforeEach
     void setUp() {
         dayService = mock(DayService.class);
-        eventScheduleService = new EventScheduleService(dayService);
+        eventScheduleService = new EventScheduleService(dayService, DayMembershipMode.LINKED);
 
         user = new User();
     }
 
     @Test
-    void prepareEventDays_shouldReturnSingleSavedDay_whenStartEqualsEndAndDayMissing() {
+    void prepareEventDays_shouldReturnSingleDay_whenStartEqualsEnd() {
         LocalDate date = LocalDate.of(2025, 5, 20);
-        Day savedDay = new Day(date, user);
+        Day day = new Day(date, user);
 
-        when(dayService.getExistingDaysByDates(Set.of(date), user)).thenReturn(new ArrayList<>());
-        when(dayService.saveAllDays(any())).thenReturn(List.of(savedDay));
+        when(dayService.getOrCreateDays(Set.of(date), user)).thenReturn(List.of(day));
 
         Set<Day> result = eventScheduleService.prepareEventDays(date, date, user);
 
-        assertEquals(1, result.size());
-        assertTrue(result.contains(savedDay));
+        assertEquals(Set.of(day), result);
     }
 
     @Test
-    void prepareEventDays_shouldReturnAllExistingDays_whenAllExist() {
+    void prepareEventDays_shouldUpsertEveryDateInRange() {
         LocalDate start = LocalDate.of(2025, 5, 20);
         LocalDate end = LocalDate.of(2025, 5, 22);
-        Day day1 = new Day(start, user);
-        Day day2 = new Day(start.plusDays(1), user);
-        Day day3 = new Day(end, user);
-        List<Day> existingDays = new ArrayList<>(List.of(day1, day2, day3));
+        List<Day> days = List.of(new Day(start, user), new Day(start.plusDays(1), user), new Day(end, user));
 
-        when(dayService.getExistingDaysByDates(anySet(), eq(user))).thenReturn(existingDays);
+        when(dayService.getOrCreateDays(Set.of(start, start.plusDays(1), end), user)).thenReturn(days);
 
         Set<Day> result = eventScheduleService.prepareEventDays(start, end, user);
 
-        assertEquals(3, result.size());
-        assertTrue(result.containsAll(existingDays));
+        assertEquals(new HashSet<>(days), result);
+        verify(dayService, never()).getExistingDaysByDates(any(), any());
         verify(dayService, never()).saveAllDays(any());
     }
 
     @Test
-    void prepareEventDays_shouldReturnMixedExistingAndSavedDays_whenSomeAreMissing() {
-        LocalDate start = LocalDate.of(2025, 5, 20);
-        LocalDate end = LocalDate.of(2025, 5, 22);
-        Day existingDay = new Day(start, user);
-        Day savedDay1 = new Day(start.plusDays(1), user);
-        Day savedDay2 = new Day(end, user);
-
-        when(dayService.getExistingDaysByDates(anySet(), eq(user)))
-                .thenReturn(new ArrayList<>(List.of(existingDay)));
-        when(dayService.saveAllDays(any()))
-                .thenReturn(List.of(savedDay1, savedDay2));
+    void prepareEventDays_shouldReturnEmptySet_whenStartAfterEnd() {
+        LocalDate start = LocalDate.of(2025, 5, 22);
+        LocalDate end = LocalDate.of(2025, 5, 20);
 
         Set<Day> result = eventScheduleService.prepareEventDays(start, end, user);
 
-        assertEquals(3, result.size());
-        assertTrue(result.contains(existingDay));
-        assertTrue(result.contains(savedDay1));
-        assertTrue(result.contains(savedDay2));
+        assertTrue(result.isEmpty());
+        verify(dayService).getOrCreateDays(eq(Collections.emptySet()), eq(user));
     }
 
     @Test
-    void prepareEventDays_shouldReturnEmptySet_whenStartAfterEnd() {
-        LocalDate start = LocalDate.of(2025, 5, 22);
-        LocalDate end = LocalDate.of(2025, 5, 20);
+    void prepareDaysForDates_shouldKeyUpsertedDaysByDate() {
+        LocalDate monday = LocalDate.of(2025, 5, 19);
+        LocalDate wednesday = LocalDate.of(2025, 5, 21);
+        Day mondayDay = new Day(monday, user);
+        Day wednesdayDay = new Day(wednesday, user);
 
-        Set<Day> result = eventScheduleService.prepareEventDays(start, end, user);
+        when(dayService.getOrCreateDays(Set.of(monday, wednesday), user))
+                .thenReturn(List.of(wednesdayDay, mondayDay));
 
-        assertTrue(result.isEmpty());
-        verify(dayService).getExistingDaysByDates(eq(Collections.emptySet()), eq(user));
-        verify(dayService, never()).saveAllDays(any());
+        Map<LocalDate, Day> result = eventScheduleService.prepareDaysForDates(Set.of(monday, wednesday), user);
+
+        assertEquals(Map.of(monday, mondayDay, wednesday, wednesdayDay), result);
+    }
+
+    @Test
+    void isSpanMembership_shouldReflectConfiguredMode() {
+        assertFalse(eventScheduleService.isSpanMembership());
+        assertTrue(new EventScheduleService(dayService, DayMembershipMode.SPAN).isSpanMembership());
     }
 }
@@ -1,13 +1,36 @@
 package com.yohan.event_planner.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.yohan.event_planner.business.EventBO;
+import com.yohan.event_planner.business.cache.EventReadCache;
+import com.yohan.event_planner.business.cache.ExpiringCache;
+import com.yohan.event_planner.business.change.CalendarVersions;
+import com.yohan.event_planner.business.change.EventChangeSet;
+import com.yohan.event_planner.business.change.EventChangeToken;
+import com.yohan.event_planner.business.search.EventNameIndex;
+import com.yohan.event_planner.business.search.EventSearchIndex;
+import com.yohan.event_planner.business.pagination.EventCursor;
+import com.yohan.event_planner.business.pagination.EventPage;
+import com.yohan.event_planner.dto.EventBatchCreateDTO;
+import com.yohan.event_planner.dto.EventBatchResponseDTO;
+import com.yohan.event_planner.dto.EventChangesDTO;
 import com.yohan.event_planner.dto.EventCreateDTO;
+import com.yohan.event_planner.dto.CacheStatsDTO;
+import com.yohan.event_planner.dto.EventExportDTO;
+import com.yohan.event_planner.dto.EventFields;
+import com.yohan.event_planner.dto.EventPageDTO;
 import com.yohan.event_planner.dto.EventResponseDTO;
 import com.yohan.event_planner.dto.EventUpdateDTO;
+import com.yohan.event_planner.exception.ErrorCode;
 import com.yohan.event_planner.exception.EventNotFoundException;
+import com.yohan.event_planner.exception.InvalidCursorException;
+import com.yohan.event_planner.exception.InvalidTimeRangeException;
 import com.yohan.event_planner.mapper.EventMapper;
 import com.yohan.event_planner.domain.Event;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.repository.projection.EventSummaryView;
 import com.yohan.event_planner.util.TestConstants;
 import com.yohan.event_planner.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,24 +39,43 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class EventServiceImplTest {
 
     @Mock private EventBO eventBO;
+    @Mock private EventReadCache eventReadCache;
+    @Mock private CalendarVersions calendarVersions;
+    @Mock private EventSearchIndex eventSearchIndex;
+    @Mock private EventNameIndex eventNameIndex;
     @Mock private EventMapper eventMapper;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
     @InjectMocks private EventServiceImpl eventService;
 
     private User testUser;
     private Event testEvent;
+    private EventSummaryView testSummary;
+    private Map<Long, List<Long>> testDayIds;
     private ZoneId systemZone;
 
     @BeforeEach
@@ -45,77 +87,353 @@ class EventServiceImplTest {
                 TestConstants.MAY_20_2025_9AM,
                 TestConstants.MAY_20_2025_11AM,
                 testUser);
+        testSummary = new EventSummaryView(testEvent.getId(), testEvent.getName(), null, testEvent.getStartTime(),
+                testEvent.getEndTime(), testEvent.getTimezone(), testUser.getId(), null);
+        testDayIds = Map.of(testEvent.getId(), List.of(10L));
         systemZone = ZoneId.systemDefault();
     }
 
     @Test
-    void getById_existingEvent_returnsDto() {
-        when(eventBO.getById(TestConstants.EVENT_ID_1)).thenReturn(Optional.of(testEvent));
-        when(eventMapper.toDto(testEvent, systemZone)).thenReturn(
-                new EventResponseDTO(testEvent.getId(), testEvent.getName(), testEvent.getStartTime(), testEvent.getEndTime(), testUser.getId(), List.of()));
+    void getById_existingEvent_returnsDtoFromCache() {
+        when(eventReadCache.getSummaryById(TestConstants.EVENT_ID_1)).thenReturn(Optional.of(testSummary));
+        when(eventReadCache.getDayIds(List.of(testSummary))).thenReturn(testDayIds);
+        when(eventMapper.toDto(testSummary, List.of(10L), systemZone, EventFields.DEFAULT)).thenReturn(
+                new EventResponseDTO(testEvent.getId(), testEvent.getName(), testEvent.getStartTime(), testEvent.getEndTime(), testUser.getId(), List.of(10L)));
 
-        EventResponseDTO dto = eventService.getById(TestConstants.EVENT_ID_1);
+        EventResponseDTO dto = eventService.getById(TestConstants.EVENT_ID_1, EventFields.DEFAULT);
 
         assertNotNull(dto);
         assertEquals(testEvent.getId(), dto.id());
-        verify(eventBO).getById(TestConstants.EVENT_ID_1);
-        verify(eventMapper).toDto(testEvent, systemZone);
+        verify(eventReadCache).getSummaryById(TestConstants.EVENT_ID_1);
+        verify(eventBO, never()).getById(any());
+    }
+
+    @Test
+    void getById_withoutDayIds_skipsDayLinks() {
+        EventFields fields = EventFields.parse("name");
+        when(eventReadCache.getSummaryById(TestConstants.EVENT_ID_1)).thenReturn(Optional.of(testSummary));
+        when(eventMapper.toDto(testSummary, null, systemZone, fields)).thenReturn(
+                new EventResponseDTO(testEvent.getId(), testEvent.getName(), null, null, null, null));
+
+        eventService.getById(TestConstants.EVENT_ID_1, fields);
+
+        verify(eventReadCache, never()).getDayIds(any());
     }
 
     @Test
     void getById_nonExistingEvent_throwsException() {
-        when(eventBO.getById(TestConstants.EVENT_ID_1)).thenReturn(Optional.empty());
+        when(eventReadCache.getSummaryById(TestConstants.EVENT_ID_1)).thenReturn(Optional.empty());
 
-        assertThrows(EventNotFoundException.class, () -> eventService.getById(TestConstants.EVENT_ID_1));
+        assertThrows(EventNotFoundException.class, () -> eventService.getById(TestConstants.EVENT_ID_1, EventFields.DEFAULT));
 
-        verify(eventBO).getById(TestConstants.EVENT_ID_1);
-        verify(eventMapper, never()).toDto(any(), any());
+        verify(eventReadCache).getSummaryById(TestConstants.EVENT_ID_1);
+        verify(eventMapper, never()).toDto(any(EventSummaryView.class), any(), any(), any());
     }
 
     @Test
-    void getByUserId_returnsDtoList() {
-        List<Event> events = List.of(testEvent);
-        when(eventBO.getByCreatorId(TestConstants.USER_ID_1)).thenReturn(events);
-        when(eventMapper.toDtoList(events, systemZone)).thenReturn(List.of(
+    void getByUserId_returnsPageWithEncodedNextCursor() {
+        List<EventSummaryView> events = List.of(testSummary);
+        EventCursor next = new EventCursor(testEvent.getStartTime(), testEvent.getId());
+        when(eventBO.getPageByCreatorId(TestConstants.USER_ID_1, null, null, null, 1))
+                .thenReturn(new EventPage(events, next));
+        when(eventReadCache.getDayIds(events)).thenReturn(testDayIds);
+        when(eventMapper.toDtoList(events, testDayIds, systemZone, EventFields.DEFAULT)).thenReturn(List.of(
                 new EventResponseDTO(testEvent.getId(), testEvent.getName(), testEvent.getStartTime(), testEvent.getEndTime(), testUser.getId(), List.of())
         ));
 
-        List<EventResponseDTO> dtos = eventService.getByUserId(TestConstants.USER_ID_1);
+        EventPageDTO page = eventService.getByUserId(TestConstants.USER_ID_1, null, null, null, 1, EventFields.DEFAULT);
 
-        assertEquals(1, dtos.size());
-        verify(eventBO).getByCreatorId(TestConstants.USER_ID_1);
-        verify(eventMapper).toDtoList(events, systemZone);
+        assertEquals(1, page.events().size());
+        assertEquals(next.encode(), page.nextCursor());
+        verify(eventMapper).toDtoList(events, testDayIds, systemZone, EventFields.DEFAULT);
+    }
+
+    @Test
+    void getByUserId_decodesCursor_andReturnsNullCursorOnLastPage() {
+        EventCursor after = new EventCursor(TestConstants.MAY_20_2025_9AM.withZoneSameInstant(ZoneOffset.UTC), 5L);
+        when(eventBO.getPageByCreatorId(eq(TestConstants.USER_ID_1), isNull(), isNull(), eq(after), eq(50)))
+                .thenReturn(new EventPage(List.of(), null));
+        when(eventReadCache.getDayIds(List.of())).thenReturn(Map.of());
+        when(eventMapper.toDtoList(List.of(), Map.of(), systemZone, EventFields.DEFAULT)).thenReturn(List.of());
+
+        EventPageDTO page = eventService.getByUserId(TestConstants.USER_ID_1, null, null, after.encode(), 50, EventFields.DEFAULT);
+
+        assertTrue(page.events().isEmpty());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void getByUserId_throws_whenRangeIsEmpty() {
+        assertThrows(InvalidTimeRangeException.class, () -> eventService.getByUserId(TestConstants.USER_ID_1,
+                TestConstants.MAY_20_2025_11AM, TestConstants.MAY_20_2025_9AM, null, 50, EventFields.DEFAULT));
+        verifyNoInteractions(eventBO);
+    }
+
+    @Test
+    void getByUserId_throws_whenCursorIsMalformed() {
+        assertThrows(InvalidCursorException.class,
+                () -> eventService.getByUserId(TestConstants.USER_ID_1, null, null, "%%%", 50, EventFields.DEFAULT));
+        verifyNoInteractions(eventBO);
+    }
+
+    @Test
+    void exportByUserId_writesOneJsonLinePerEvent() {
+        Event second = TestUtils.createEventWithId(2L, "Second", TestConstants.MAY_20_2025_1PM,
+                TestConstants.MAY_20_2025_2PM, testUser);
+        when(eventBO.forEachByCreatorId(eq(TestConstants.USER_ID_1), any())).thenAnswer(invocation -> {
+            Consumer<Event> action = invocation.getArgument(1);
+            action.accept(testEvent);
+            action.accept(second);
+            return 2L;
+        });
+        when(eventMapper.toExportDto(any(Event.class))).thenAnswer(invocation -> {
+            Event event = invocation.getArgument(0);
+            return new EventExportDTO(event.getId(), event.getName(), null, event.getStartTime(),
+                    event.getEndTime(), "UTC", TestConstants.USER_ID_1, null);
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = eventService.exportByUserId(TestConstants.USER_ID_1, out);
+
+        assertEquals(2, count);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":" + TestConstants.EVENT_ID_1 + ",\"name\":\"" + TestConstants.EVENT_WORKOUT + "\""));
+        assertTrue(lines[1].startsWith("{\"id\":2,\"name\":\"Second\""));
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+    }
+
+    @Test
+    void exportByUserId_flushesOnlyEveryIntervalAndAtEnd() throws IOException {
+        int events = EventServiceImpl.EXPORT_FLUSH_INTERVAL + 1;
+        when(eventBO.forEachByCreatorId(eq(TestConstants.USER_ID_1), any())).thenAnswer(invocation -> {
+            Consumer<Event> action = invocation.getArgument(1);
+            for (int i = 0; i < events; i++) {
+                action.accept(testEvent);
+            }
+            return (long) events;
+        });
+        when(eventMapper.toExportDto(any(Event.class))).thenReturn(new EventExportDTO(testEvent.getId(),
+                testEvent.getName(), null, testEvent.getStartTime(), testEvent.getEndTime(), "UTC",
+                TestConstants.USER_ID_1, null));
+        OutputStream out = spy(new ByteArrayOutputStream());
+
+        assertEquals(events, eventService.exportByUserId(TestConstants.USER_ID_1, out));
+
+        verify(out, times(2)).flush();
+    }
+
+    @Test
+    void exportByUserId_leavesStreamOpen() throws IOException {
+        when(eventBO.forEachByCreatorId(eq(TestConstants.USER_ID_1), any())).thenReturn(0L);
+        OutputStream out = mock(OutputStream.class);
+
+        assertEquals(0, eventService.exportByUserId(TestConstants.USER_ID_1, out));
+
+        verify(out, never()).close();
     }
 
     @Test
     void getByDayId_returnsDtoList() {
-        List<Event> events = List.of(testEvent);
-        when(eventBO.getByDayId(10L)).thenReturn(events);
-        when(eventMapper.toDtoList(events, systemZone)).thenReturn(List.of(
+        List<EventSummaryView> events = List.of(testSummary);
+        when(eventReadCache.getByDayId(10L)).thenReturn(events);
+        when(eventReadCache.getDayIds(events)).thenReturn(testDayIds);
+        when(eventMapper.toDtoList(events, testDayIds, systemZone, EventFields.DEFAULT)).thenReturn(List.of(
                 new EventResponseDTO(testEvent.getId(), testEvent.getName(), testEvent.getStartTime(), testEvent.getEndTime(), testUser.getId(), List.of())
         ));
 
-        List<EventResponseDTO> dtos = eventService.getByDayId(10L);
+        List<EventResponseDTO> dtos = eventService.getByDayId(10L, EventFields.DEFAULT);
 
         assertEquals(1, dtos.size());
-        verify(eventBO).getByDayId(10L);
-        verify(eventMapper).toDtoList(events, systemZone);
+        verify(eventReadCache).getByDayId(10L);
+        verify(eventReadCache, times(1)).getDayIds(events);
+        verify(eventMapper).toDtoList(events, testDayIds, systemZone, EventFields.DEFAULT);
+    }
+
+    @Test
+    void getByDayId_withoutDayIds_skipsDayLinkQuery() {
+        List<EventSummaryView> events = List.of(testSummary);
+        EventFields fields = EventFields.parse("name,dayCoverage");
+        when(eventReadCache.getByDayId(10L)).thenReturn(events);
+        when(eventMapper.toDtoList(events, Map.of(), systemZone, fields)).thenReturn(List.of());
+
+        eventService.getByDayId(10L, fields);
+
+        verify(eventReadCache, never()).getDayIds(any());
+        verify(eventMapper).toDtoList(events, Map.of(), systemZone, fields);
+    }
+
+    @Test
+    void getByDay_readsUsersDateThroughCache() {
+        List<EventSummaryView> events = List.of(testSummary);
+        LocalDate date = LocalDate.of(2025, 5, 20);
+        EventFields fields = EventFields.parse("name");
+        when(eventReadCache.getByCreatorAndDate(testUser.getId(), date)).thenReturn(events);
+        when(eventMapper.toDtoList(events, Map.of(), systemZone, fields)).thenReturn(List.of());
+
+        eventService.getByDay(testUser, date, fields);
+
+        verify(eventReadCache).getByCreatorAndDate(testUser.getId(), date);
+        verify(eventMapper).toDtoList(events, Map.of(), systemZone, fields);
+    }
+
+    @Test
+    void getCacheStats_mapsCountersOfEachCache() {
+        Map<String, ExpiringCache.CacheStats> stats = new LinkedHashMap<>();
+        stats.put("eventSummaries", new ExpiringCache.CacheStats(5, 2, 1, 3));
+        when(eventReadCache.stats()).thenReturn(stats);
+
+        assertEquals(List.of(new CacheStatsDTO("eventSummaries", 5, 2, 1, 3)), eventService.getCacheStats());
+    }
+
+    @Test
+    void getByRange_returnsDtosInUsersTimezone() {
+        ZonedDateTime from = TestConstants.MAY_20_2025_9AM;
+        ZonedDateTime to = from.plusWeeks(1);
+        List<EventSummaryView> events = List.of(testSummary);
+        List<EventResponseDTO> dtos = List.of(new EventResponseDTO(testEvent.getId(), testEvent.getName(),
+                testEvent.getStartTime(), testEvent.getEndTime(), testUser.getId(), List.of()));
+        when(eventBO.getEventsInRange(testUser.getId(), from, to)).thenReturn(events);
+        when(eventReadCache.getDayIds(events)).thenReturn(testDayIds);
+        when(eventMapper.toDtoList(events, testDayIds, testUser.getTimezone(), EventFields.DEFAULT)).thenReturn(dtos);
+
+        assertEquals(dtos, eventService.getByRange(testUser, from, to, EventFields.DEFAULT));
+    }
+
+    @Test
+    void getByRange_throws_whenRangeIsEmpty() {
+        assertThrows(InvalidTimeRangeException.class, () -> eventService.getByRange(testUser,
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_9AM, EventFields.DEFAULT));
+        verifyNoInteractions(eventBO);
+    }
+
+    @Test
+    void getByRange_throws_whenRangeIsTooLong() {
+        ZonedDateTime from = TestConstants.MAY_20_2025_9AM;
+        assertThrows(InvalidTimeRangeException.class, () -> eventService.getByRange(testUser,
+                from, from.plus(EventServiceImpl.MAX_RANGE).plusSeconds(1), EventFields.DEFAULT));
+        verifyNoInteractions(eventBO);
+    }
+
+    @Test
+    void getChanges_withoutToken_returnsLatestTokenOnly() {
+        when(eventBO.getLatestChangeToken(testUser.getId())).thenReturn(new EventChangeToken(9L));
+
+        EventChangesDTO changes = eventService.getChanges(testUser, null, 500);
+
+        assertEquals(new EventChangesDTO(List.of(), List.of(), new EventChangeToken(9L).encode(), false), changes);
+        verify(eventBO, never()).getChangesSince(any(), any(), anyInt());
+    }
+
+    @Test
+    void getChanges_withToken_returnsChangedEventsAndTombstones() {
+        List<EventSummaryView> events = List.of(testSummary);
+        List<EventResponseDTO> dtos = List.of(new EventResponseDTO(testEvent.getId(), testEvent.getName(),
+                testEvent.getStartTime(), testEvent.getEndTime(), testUser.getId(), List.of()));
+        when(eventBO.getChangesSince(testUser.getId(), new EventChangeToken(9L), 500)).thenReturn(
+                new EventChangeSet(events, List.of(TestConstants.EVENT_ID_2), new EventChangeToken(12L), true));
+        when(eventReadCache.getDayIds(events)).thenReturn(testDayIds);
+        when(eventMapper.toDtoList(events, testDayIds, testUser.getTimezone(), EventFields.DEFAULT)).thenReturn(dtos);
+
+        EventChangesDTO changes = eventService.getChanges(testUser, new EventChangeToken(9L).encode(), 500);
+
+        assertEquals(new EventChangesDTO(dtos, List.of(TestConstants.EVENT_ID_2),
+                new EventChangeToken(12L).encode(), true), changes);
+    }
+
+    @Test
+    void getChanges_throws_whenTokenIsMalformed() {
+        assertThrows(InvalidCursorException.class, () -> eventService.getChanges(testUser, "bogus!", 500));
+        verifyNoInteractions(eventBO);
+    }
+
+    @Test
+    void search_returnsEventsInRankingOrder_skippingDeletedOnes() {
+        EventSummaryView other = new EventSummaryView(TestConstants.EVENT_ID_2, "Workout plan", null,
+                TestConstants.MAY_20_2025_1PM, TestConstants.MAY_20_2025_2PM, ZoneId.of("UTC"), testUser.getId(), null);
+        List<EventSearchIndex.Hit> hits = List.of(
+                new EventSearchIndex.Hit(TestConstants.EVENT_ID_2, 2.0, other.startTime().toInstant()),
+                new EventSearchIndex.Hit(99L, 1.5, testSummary.startTime().toInstant()),
+                new EventSearchIndex.Hit(TestConstants.EVENT_ID_1, 1.0, testSummary.startTime().toInstant()));
+        List<EventSummaryView> ranked = List.of(other, testSummary);
+        List<EventResponseDTO> dtos = List.of();
+        when(eventSearchIndex.search(testUser.getId(), "workout", null, null, 20)).thenReturn(hits);
+        when(eventBO.getSummariesByIds(List.of(TestConstants.EVENT_ID_2, 99L, TestConstants.EVENT_ID_1)))
+                .thenReturn(List.of(testSummary, other));
+        when(eventReadCache.getDayIds(ranked)).thenReturn(testDayIds);
+        when(eventMapper.toDtoList(ranked, testDayIds, testUser.getTimezone(), EventFields.DEFAULT)).thenReturn(dtos);
+
+        assertSame(dtos, eventService.search(testUser, "workout", null, null, 20));
+    }
+
+    @Test
+    void search_skipsLookup_whenNothingMatches() {
+        when(eventSearchIndex.search(testUser.getId(), "nothing", null, null, 20)).thenReturn(List.of());
+
+        assertTrue(eventService.search(testUser, "nothing", null, null, 20).isEmpty());
+        verifyNoInteractions(eventBO, eventMapper);
+    }
+
+    @Test
+    void search_throws_whenRangeIsEmpty() {
+        assertThrows(InvalidTimeRangeException.class, () -> eventService.search(testUser, "workout",
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_9AM, 20));
+        verifyNoInteractions(eventSearchIndex);
+    }
+
+    @Test
+    void suggestNames_delegatesToNameIndex() {
+        when(eventNameIndex.suggest(testUser.getId(), "wor", 10)).thenReturn(List.of(TestConstants.EVENT_WORKOUT));
+
+        assertEquals(List.of(TestConstants.EVENT_WORKOUT), eventService.suggestNames(testUser, "wor", 10));
+        verifyNoInteractions(eventBO);
     }
 
     @Test
     void getByDate_returnsDtoList() {
         LocalDate date = LocalDate.of(2025, 5, 20);
-        List<Event> events = List.of(testEvent);
-        when(eventBO.getEventsByDate(date, systemZone)).thenReturn(events);
-        when(eventMapper.toDtoList(events, systemZone)).thenReturn(List.of(
+        List<EventSummaryView> events = List.of(testSummary);
+        when(eventReadCache.getEventsByDate(date, systemZone)).thenReturn(events);
+        when(eventReadCache.getDayIds(events)).thenReturn(testDayIds);
+        when(eventMapper.toDtoList(events, testDayIds, systemZone, EventFields.DEFAULT)).thenReturn(List.of(
                 new EventResponseDTO(testEvent.getId(), testEvent.getName(), testEvent.getStartTime(), testEvent.getEndTime(), testUser.getId(), List.of())
         ));
 
-        List<EventResponseDTO> dtos = eventService.getByDate(date);
+        List<EventResponseDTO> dtos = eventService.getByDate(date, EventFields.DEFAULT);
 
         assertEquals(1, dtos.size());
-        verify(eventBO).getEventsByDate(date, systemZone);
-        verify(eventMapper).toDtoList(events, systemZone);
+        verify(eventReadCache).getEventsByDate(date, systemZone);
+        verify(eventMapper).toDtoList(events, testDayIds, systemZone, EventFields.DEFAULT);
+    }
+
+    @Test
+    void getCalendarETag_returnsUsersVersionTag() {
+        when(calendarVersions.getETag(testUser.getId())).thenReturn("\"e-u1-3\"");
+
+        assertEquals("\"e-u1-3\"", eventService.getCalendarETag(testUser.getId()));
+    }
+
+    @Test
+    void getDayETag_returnsOwnersVersionTag() {
+        when(eventReadCache.getDayOwnerId(20L)).thenReturn(testUser.getId());
+        when(calendarVersions.getETag(testUser.getId())).thenReturn("\"e-u1-3\"");
+
+        assertEquals("\"e-u1-3\"", eventService.getDayETag(20L));
+    }
+
+    @Test
+    void getDayETag_unknownDay_returnsNull() {
+        when(eventReadCache.getDayOwnerId(20L)).thenReturn(null);
+
+        assertNull(eventService.getDayETag(20L));
+        verifyNoInteractions(calendarVersions);
+    }
+
+    @Test
+    void getAllCalendarsETag_returnsGlobalVersionTag() {
+        when(calendarVersions.getGlobalETag()).thenReturn("\"e-g7\"");
+
+        assertEquals("\"e-g7\"", eventService.getAllCalendarsETag());
     }
 
     @Test
@@ -134,6 +452,31 @@ class EventServiceImplTest {
         verify(eventMapper).toDto(testEvent, createDTO.startTime().getZone());
     }
 
+    @Test
+    void createEvents_mapsEachOutcomeAndCountsResults() {
+        EventCreateDTO created = TestConstants.VALID_EVENT_CREATE_DTO;
+        EventCreateDTO rejected = new EventCreateDTO(TestConstants.EVENT_STUDY,
+                TestConstants.MAY_20_2025_10AM, TestConstants.MAY_20_2025_NOON, null);
+        List<EventCreateDTO> items = List.of(created, rejected);
+        when(eventBO.createEvents(items, testUser)).thenReturn(List.of(
+                new EventBO.BatchItemResult(0, testEvent, null, null),
+                new EventBO.BatchItemResult(1, null, ErrorCode.EVENT_CONFLICT, "Conflict")
+        ));
+        EventResponseDTO createdDto = new EventResponseDTO(testEvent.getId(), testEvent.getName(),
+                testEvent.getStartTime(), testEvent.getEndTime(), testUser.getId(), List.of());
+        when(eventMapper.toDto(testEvent, created.startTime().getZone())).thenReturn(createdDto);
+
+        EventBatchResponseDTO response = eventService.createEvents(new EventBatchCreateDTO(items), testUser);
+
+        assertEquals(1, response.createdCount());
+        assertEquals(1, response.rejectedCount());
+        assertTrue(response.results().get(0).created());
+        assertEquals(createdDto, response.results().get(0).event());
+        assertFalse(response.results().get(1).created());
+        assertEquals(ErrorCode.EVENT_CONFLICT.name(), response.results().get(1).errorCode());
+        assertEquals("Conflict", response.results().get(1).message());
+    }
+
     @Test
     void updateEvent_existingEvent_returnsUpdatedDto() {
         EventUpdateDTO updateDTO = TestConstants.VALID_EVENT_UPDATE_DTO;
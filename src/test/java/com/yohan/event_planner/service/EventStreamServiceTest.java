@@ -0,0 +1,140 @@
+package com.yohan.event_planner.service;
+
+import com.yohan.event_planner.business.change.EventChange;
+import com.yohan.event_planner.business.change.EventSnapshot;
+import com.yohan.event_planner.util.TestConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import static com.yohan.event_planner.util.TestUtils.zdt;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class EventStreamServiceTest {
+
+    private EventStreamService service;
+    private MockMvc mockMvc;
+
+    @RestController
+    class StreamController {
+
+        @GetMapping("/stream/{userId}")
+        SseEmitter stream(@PathVariable Long userId) {
+            return service.subscribe(userId);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        service = new EventStreamService(Duration.ofMinutes(5), 2, Duration.ofHours(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private MockHttpServletResponse open(Long userId) throws Exception {
+        return mockMvc.perform(get("/stream/{userId}", userId))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static EventChange created(Long creatorId) {
+        return created(creatorId, TestConstants.EVENT_ID_1);
+    }
+
+    private static EventChange created(Long creatorId, Long eventId) {
+        return EventChange.created(new EventSnapshot(eventId, creatorId, TestConstants.EVENT_WORKOUT,
+                null, zdt(2025, 5, 20, 9, 0), zdt(2025, 5, 20, 10, 0), false));
+    }
+
+    /**
+     * Waits for the first event to be written completely; events end with an empty line.
+     */
+    private static String awaitEvent(MockHttpServletResponse response) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String content = response.getContentAsString();
+        while (!content.contains("\n\n") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    @Test
+    void onEventChange_pushesNotificationToOwnersStreamsOnly() throws Exception {
+        MockHttpServletResponse owner = open(TestConstants.USER_ID_1);
+        MockHttpServletResponse other = open(TestConstants.USER_ID_2);
+
+        service.onEventChange(created(TestConstants.USER_ID_1));
+
+        String content = awaitEvent(owner);
+        assertTrue(content.contains("event:" + EventStreamService.EVENT_NAME));
+        assertTrue(content.contains("\"type\":\"CREATED\""));
+        assertTrue(content.contains("\"eventId\":" + TestConstants.EVENT_ID_1));
+        assertFalse(other.getContentAsString().contains("event-change"));
+    }
+
+    @Test
+    void onEventChange_deliversNotificationsInCommitOrder() throws Exception {
+        MockHttpServletResponse owner = open(TestConstants.USER_ID_1);
+        int changes = 100;
+
+        for (long eventId = 1; eventId <= changes; eventId++) {
+            service.onEventChange(created(TestConstants.USER_ID_1, eventId));
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String content = owner.getContentAsString();
+        while (content.split("\n\n").length < changes && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = owner.getContentAsString();
+        }
+        List<Long> received = Pattern.compile("\"eventId\":(\\d+)").matcher(content).results()
+                .map(match -> Long.valueOf(match.group(1)))
+                .toList();
+        assertEquals(LongStream.rangeClosed(1, changes).boxed().toList(), received);
+    }
+
+    @Test
+    void onEventChange_withoutSubscribers_isNoOp() {
+        assertDoesNotThrow(() -> service.onEventChange(created(TestConstants.USER_ID_1)));
+        assertEquals(0, service.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_closesOldestStream_whenUserHasTooMany() throws Exception {
+        MockHttpServletResponse oldest = open(TestConstants.USER_ID_1);
+        open(TestConstants.USER_ID_1);
+        MockHttpServletResponse newest = open(TestConstants.USER_ID_1);
+
+        service.onEventChange(created(TestConstants.USER_ID_1));
+
+        assertEquals(2, service.getSubscriberCount());
+        assertTrue(awaitEvent(newest).contains("event-change"));
+        assertFalse(oldest.getContentAsString().contains("event-change"));
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveStreamLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new EventStreamService(Duration.ofMinutes(5), 0, Duration.ofSeconds(25)));
+    }
+}
@@ -6,16 +6,24 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.ZoneId;
+import java.util.List;
 
 import com.yohan.event_planner.business.UserBO;
+import com.yohan.event_planner.business.cache.ExpiringCache;
+import com.yohan.event_planner.business.change.CalendarVersions;
 import com.yohan.event_planner.domain.PasswordVO;
+import com.yohan.event_planner.dto.CacheStatsDTO;
+import com.yohan.event_planner.dto.PasswordHashingStatsDTO;
 import com.yohan.event_planner.dto.UserCreateDTO;
 import com.yohan.event_planner.dto.UserResponseDTO;
 import com.yohan.event_planner.exception.EmailException;
 import com.yohan.event_planner.exception.UsernameException;
 import com.yohan.event_planner.mapper.UserMapper;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.security.BoundedPasswordEncoder;
+import com.yohan.event_planner.security.UserDetailsCache;
 
 import com.yohan.event_planner.util.TestConstants;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +38,15 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private CalendarVersions calendarVersions;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private BoundedPasswordEncoder passwordEncoder;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -124,4 +141,30 @@ class UserServiceImplTest {
                 () -> userService.createUser(validCreateDTO));
         assertTrue(ex.getMessage().contains("test@example.com"));
     }
+
+    @Test
+    void getUserETag_returnsUsersVersionTag() {
+        when(calendarVersions.getETag(1L)).thenReturn("\"e-u1-2\"");
+
+        assertEquals("\"e-u1-2\"", userService.getUserETag(1L));
+    }
+
+    @Test
+    void getCacheStats_reportsUserDetailsCache() {
+        when(userDetailsCache.stats()).thenReturn(new ExpiringCache.CacheStats(5, 2, 1, 3));
+
+        List<CacheStatsDTO> stats = userService.getCacheStats();
+
+        assertEquals(List.of(new CacheStatsDTO("userDetails", 5, 2, 1, 3)), stats);
+    }
+
+    @Test
+    void getPasswordHashingStats_reportsExecutorCounters() {
+        when(passwordEncoder.stats()).thenReturn(new BoundedPasswordEncoder.Stats(2, 1, 3, 32, 10, 4,
+                Duration.ofMillis(80), Duration.ofMillis(120), Duration.ofMillis(15)));
+
+        PasswordHashingStatsDTO stats = userService.getPasswordHashingStats();
+
+        assertEquals(new PasswordHashingStatsDTO(2, 1, 3, 32, 10, 4, 80.0, 120.0, 15.0), stats);
+    }
 }
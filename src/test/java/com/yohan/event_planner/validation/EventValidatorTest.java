@@ -1,27 +1,41 @@
 package com.yohan.event_planner.validation;
 
+import com.yohan.event_planner.business.recurrence.EventSchedule;
 import com.yohan.event_planner.exception.ConflictException;
+import com.yohan.event_planner.exception.InvalidRecurrenceException;
 import com.yohan.event_planner.exception.InvalidTimeException;
-import com.yohan.event_planner.domain.Day;
 import com.yohan.event_planner.domain.Event;
+import com.yohan.event_planner.domain.RecurrenceFrequency;
+import com.yohan.event_planner.domain.RecurrenceRule;
 import com.yohan.event_planner.domain.User;
+import com.yohan.event_planner.repository.EventRepository;
+import com.yohan.event_planner.repository.projection.EventIntervalView;
 import com.yohan.event_planner.util.TestConstants;
 import com.yohan.event_planner.util.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class EventValidatorTest {
 
     private EventValidator validator;
+    private EventRepository eventRepository;
     private User testUser;
 
     @BeforeEach
     void setUp() {
-        validator = new EventValidator();
+        eventRepository = mock(EventRepository.class);
+        validator = new EventValidator(eventRepository);
         testUser = TestConstants.TEST_USER;
     }
 
@@ -55,104 +69,140 @@ class EventValidatorTest {
         assertTrue(ex.getMessage().contains("Start time"));
     }
 
-    // --- validateNoConflicts tests ---
+    // --- validateNoOverlappingEvents tests ---
 
     @Test
-    void validateNoConflicts_shouldNotThrow_whenDayHasNoEvents() {
-        ZonedDateTime start = TestConstants.MAY_20_2025_9AM;
-        ZonedDateTime end = TestConstants.MAY_20_2025_11AM;
-        Day day = new Day();
-        day.setDate(TestConstants.MAY_20_2025_9AM.toLocalDate());
-        day.setArchived(false);
-        // No events added => empty set
-        assertDoesNotThrow(() -> validator.validateNoConflicts(start, end, null, day));
+    void validateNoOverlappingEvents_shouldNotThrow_whenNoOverlapExists() {
+        when(eventRepository.findOverlapping(TestConstants.USER_ID_1,
+                TestConstants.MAY_20_2025_1PM, TestConstants.MAY_20_2025_2PM, null, Limit.of(1)))
+                .thenReturn(List.of());
+
+        assertDoesNotThrow(() -> validator.validateNoOverlappingEvents(TestConstants.USER_ID_1,
+                TestConstants.MAY_20_2025_1PM, TestConstants.MAY_20_2025_2PM, null));
     }
 
     @Test
-    void validateNoConflicts_shouldNotThrow_whenNoEventsOverlap() {
-        ZonedDateTime start = TestConstants.MAY_20_2025_1PM;
-        ZonedDateTime end = TestConstants.MAY_20_2025_2PM;
+    void validateNoOverlappingEvents_shouldThrowConflictException_whenOverlapExists() {
+        EventIntervalView conflict = new EventIntervalView(TestConstants.EVENT_ID_1, TestConstants.EVENT_WORKOUT,
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM);
+        when(eventRepository.findOverlapping(TestConstants.USER_ID_1,
+                TestConstants.MAY_20_2025_10AM, TestConstants.MAY_20_2025_NOON, TestConstants.EVENT_ID_2, Limit.of(1)))
+                .thenReturn(List.of(conflict));
 
-        Day day = new Day();
-        day.setDate(TestConstants.MAY_20_2025_9AM.toLocalDate());
-
-        Event existingEvent = TestUtils.createEventWithId(
-                TestConstants.EVENT_ID_1,
-                TestConstants.EVENT_WORKOUT,
-                TestConstants.MAY_20_2025_9AM,
-                TestConstants.MAY_20_2025_11AM,
-                testUser
-        );
+        ConflictException ex = assertThrows(ConflictException.class,
+                () -> validator.validateNoOverlappingEvents(TestConstants.USER_ID_1,
+                        TestConstants.MAY_20_2025_10AM, TestConstants.MAY_20_2025_NOON, TestConstants.EVENT_ID_2));
+        assertTrue(ex.getMessage().contains(TestConstants.EVENT_WORKOUT));
+        assertTrue(ex.getMessage().contains(String.valueOf(TestConstants.EVENT_ID_1)));
+    }
 
-        day.getEvents().add(existingEvent);
+    @Test
+    void validateNoOverlappingEvents_shouldThrowConflictException_whenRecurringOccurrenceOverlaps() {
+        Event series = TestUtils.createEventWithId(TestConstants.EVENT_ID_1, TestConstants.EVENT_WORKOUT,
+                TestConstants.MAY_20_2025_9AM.minusWeeks(2), TestConstants.MAY_20_2025_11AM.minusWeeks(2), testUser);
+        series.setRecurrence(new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1, null, null, null, null));
+        when(eventRepository.findRecurringInRange(TestConstants.USER_ID_1,
+                TestConstants.MAY_20_2025_10AM, TestConstants.MAY_20_2025_NOON, null))
+                .thenReturn(List.of(series));
 
-        assertDoesNotThrow(() -> validator.validateNoConflicts(start, end, null, day));
+        ConflictException ex = assertThrows(ConflictException.class,
+                () -> validator.validateNoOverlappingEvents(TestConstants.USER_ID_1,
+                        TestConstants.MAY_20_2025_10AM, TestConstants.MAY_20_2025_NOON, null));
+        assertTrue(ex.getMessage().contains(TestConstants.EVENT_WORKOUT));
     }
 
     @Test
-    void validateNoConflicts_shouldThrowConflictException_whenNewEventOverlapsExisting() {
-        ZonedDateTime start = TestConstants.MAY_20_2025_10AM;
-        ZonedDateTime end = TestConstants.MAY_20_2025_NOON;
-
-        Day day = new Day();
-        day.setDate(TestConstants.MAY_20_2025_9AM.toLocalDate());
+    void validateNoOverlappingEvents_shouldNotThrow_whenRecurringSeriesSkipsTheDate() {
+        Event series = TestUtils.createEventWithId(TestConstants.EVENT_ID_1, TestConstants.EVENT_WORKOUT,
+                TestConstants.MAY_20_2025_9AM.minusWeeks(1), TestConstants.MAY_20_2025_11AM.minusWeeks(1), testUser);
+        series.setRecurrence(new RecurrenceRule(RecurrenceFrequency.WEEKLY, 2, null, null, null, null));
+        when(eventRepository.findRecurringInRange(TestConstants.USER_ID_1,
+                TestConstants.MAY_20_2025_10AM, TestConstants.MAY_20_2025_NOON, null))
+                .thenReturn(List.of(series));
+
+        assertDoesNotThrow(() -> validator.validateNoOverlappingEvents(TestConstants.USER_ID_1,
+                TestConstants.MAY_20_2025_10AM, TestConstants.MAY_20_2025_NOON, null));
+    }
 
-        Event existingEvent = TestUtils.createEventWithId(
-                TestConstants.EVENT_ID_1,
-                TestConstants.EVENT_WORKOUT,
-                TestConstants.MAY_20_2025_9AM,
-                TestConstants.MAY_20_2025_11AM,
-                testUser
-        );
+    // --- validateNoOverlappingOccurrences tests ---
 
-        day.getEvents().add(existingEvent);
+    @Test
+    void validateNoOverlappingOccurrences_shouldThrowConflictException_whenSingleEventFallsOnOccurrence() {
+        RecurrenceRule daily = new RecurrenceRule(RecurrenceFrequency.DAILY, 1, null, null, 10, null);
+        EventSchedule candidate = EventSchedule.of(TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_10AM, daily);
+        EventIntervalView later = new EventIntervalView(TestConstants.EVENT_ID_2, TestConstants.EVENT_WORKOUT,
+                TestConstants.MAY_20_2025_9AM.plusDays(4).plusMinutes(30),
+                TestConstants.MAY_20_2025_11AM.plusDays(4));
+        when(eventRepository.streamOverlapping(eq(TestConstants.USER_ID_1), any(), any(), isNull()))
+                .thenReturn(Stream.of(later));
 
         ConflictException ex = assertThrows(ConflictException.class,
-                () -> validator.validateNoConflicts(start, end, null, day));
-        assertTrue(ex.getMessage().contains(existingEvent.getName()));
+                () -> validator.validateNoOverlappingOccurrences(TestConstants.USER_ID_1, candidate, null));
+        assertTrue(ex.getMessage().contains(String.valueOf(TestConstants.EVENT_ID_2)));
     }
 
     @Test
-    void validateNoConflicts_shouldNotThrow_whenOverlapWithExcludedEventId() {
-        ZonedDateTime start = TestConstants.MAY_20_2025_10AM;
-        ZonedDateTime end = TestConstants.MAY_20_2025_NOON;
+    void validateNoOverlappingOccurrences_shouldNotThrow_whenEventsFallBetweenOccurrences() {
+        RecurrenceRule daily = new RecurrenceRule(RecurrenceFrequency.DAILY, 1, null, null, 10, null);
+        EventSchedule candidate = EventSchedule.of(TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_10AM, daily);
+        EventIntervalView afternoon = new EventIntervalView(TestConstants.EVENT_ID_2, TestConstants.EVENT_WORKOUT,
+                TestConstants.MAY_20_2025_1PM.plusDays(4), TestConstants.MAY_20_2025_2PM.plusDays(4));
+        when(eventRepository.streamOverlapping(eq(TestConstants.USER_ID_1), any(), any(), isNull()))
+                .thenReturn(Stream.of(afternoon));
+
+        assertDoesNotThrow(() -> validator.validateNoOverlappingOccurrences(TestConstants.USER_ID_1, candidate, null));
+    }
 
-        Day day = new Day();
-        day.setDate(TestConstants.MAY_20_2025_9AM.toLocalDate());
+    @Test
+    void validateNoOverlappingOccurrences_shouldCheckSingleEventsAcrossWholeOpenEndedSeries() {
+        RecurrenceRule weekly = new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1, null, null, null, null);
+        EventSchedule candidate = EventSchedule.of(TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_10AM, weekly);
+        // About ten years out, well past the rule-against-rule comparison horizon
+        EventIntervalView distant = new EventIntervalView(TestConstants.EVENT_ID_2, TestConstants.EVENT_WORKOUT,
+                TestConstants.MAY_20_2025_9AM.plusWeeks(522).plusMinutes(30),
+                TestConstants.MAY_20_2025_11AM.plusWeeks(522));
+        when(eventRepository.streamOverlapping(TestConstants.USER_ID_1, candidate.getFirstStartUtc(),
+                EventSchedule.OPEN_END, null))
+                .thenReturn(Stream.of(distant));
+
+        ConflictException ex = assertThrows(ConflictException.class,
+                () -> validator.validateNoOverlappingOccurrences(TestConstants.USER_ID_1, candidate, null));
+        assertTrue(ex.getMessage().contains(String.valueOf(TestConstants.EVENT_ID_2)));
+    }
 
-        Event existingEvent = TestUtils.createEventWithId(
-                TestConstants.EVENT_ID_1,
-                TestConstants.EVENT_WORKOUT,
-                TestConstants.MAY_20_2025_9AM,
-                TestConstants.MAY_20_2025_11AM,
-                testUser
-        );
+    // --- validateRecurrence tests ---
 
-        day.getEvents().add(existingEvent);
+    @Test
+    void validateRecurrence_shouldNotThrow_whenRuleIsValid() {
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1,
+                Set.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY), LocalDate.of(2025, 12, 31), null, null);
 
-        // excludeEventId equals existingEvent id should skip conflict
-        assertDoesNotThrow(() -> validator.validateNoConflicts(start, end, TestConstants.EVENT_ID_1, day));
+        assertDoesNotThrow(() -> validator.validateRecurrence(rule,
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM));
     }
 
     @Test
-    void validateNoConflicts_shouldNotThrow_whenEventsTouchButDoNotOverlap() {
-        // existing event: 9-11AM, new event: 11AM-1PM (should NOT conflict)
-        ZonedDateTime start = TestConstants.MAY_20_2025_11AM;
-        ZonedDateTime end = TestConstants.MAY_20_2025_1PM;
+    void validateRecurrence_shouldThrow_whenUntilAndCountAreBothSet() {
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceFrequency.DAILY, 1, null, LocalDate.of(2025, 12, 31), 5, null);
 
-        Day day = new Day();
-        day.setDate(TestConstants.MAY_20_2025_9AM.toLocalDate());
+        assertThrows(InvalidRecurrenceException.class, () -> validator.validateRecurrence(rule,
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM));
+    }
 
-        Event existingEvent = TestUtils.createEventWithId(
-                TestConstants.EVENT_ID_1,
-                TestConstants.EVENT_WORKOUT,
-                TestConstants.MAY_20_2025_9AM,
-                TestConstants.MAY_20_2025_11AM,
-                testUser
-        );
+    @Test
+    void validateRecurrence_shouldThrow_whenFirstOccurrenceIsNotOnRuleWeekday() {
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1, Set.of(DayOfWeek.MONDAY), null, null, null);
 
-        day.getEvents().add(existingEvent);
+        assertThrows(InvalidRecurrenceException.class, () -> validator.validateRecurrence(rule,
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM));
+    }
+
+    @Test
+    void validateRecurrence_shouldThrow_whenOccurrencesWouldOverlapEachOther() {
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceFrequency.WEEKLY, 1,
+                Set.of(DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY), null, null, null);
 
-        assertDoesNotThrow(() -> validator.validateNoConflicts(start, end, null, day));
+        assertThrows(InvalidRecurrenceException.class, () -> validator.validateRecurrence(rule,
+                TestConstants.MAY_20_2025_9AM, TestConstants.MAY_20_2025_11AM.plusDays(1)));
     }
 }